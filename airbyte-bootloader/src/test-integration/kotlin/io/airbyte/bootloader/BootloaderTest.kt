@@ -240,6 +240,7 @@ internal class BootloaderTest {
         actorDefinitionVersionResolver,
         airbyteCompatibleConnectorsValidator,
         connectorRolloutService,
+        true,
       )
     val declarativeManifestImageVersionsProvider: DeclarativeManifestImageVersionsProvider = LocalDeclarativeManifestImageVersionsProvider()
     val declarativeSourceUpdater =
@@ -423,6 +424,7 @@ internal class BootloaderTest {
         actorDefinitionVersionResolver,
         airbyteCompatibleConnectorsValidator,
         connectorRolloutService,
+        true,
       )
     val declarativeManifestImageVersionsProvider: DeclarativeManifestImageVersionsProvider = LocalDeclarativeManifestImageVersionsProvider()
     val declarativeSourceUpdater =
@@ -25,7 +25,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -145,6 +144,18 @@ public class CatalogDiffHelpers {
         .collect(Collectors.toMap(CatalogDiffHelpers::extractStreamDescriptor, s -> s));
   }
 
+  /**
+   * Index the streams of a configured catalog by descriptor. If a descriptor appears more than once,
+   * its first stream wins.
+   */
+  private static Map<StreamDescriptor, ConfiguredAirbyteStream> configuredStreamDescriptorToMap(final ConfiguredAirbyteCatalog configuredCatalog) {
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToStream = new HashMap<>();
+    configuredCatalog.getStreams().forEach(configuredStream -> descriptorToStream.putIfAbsent(
+        new StreamDescriptor().withName(configuredStream.getStream().getName()).withNamespace(configuredStream.getStream().getNamespace()),
+        configuredStream));
+    return descriptorToStream;
+  }
+
   public static StreamDescriptor extractStreamDescriptor(final AirbyteStream airbyteStream) {
     return new StreamDescriptor().withName(airbyteStream.getName())
         .withNamespace(airbyteStream.getNamespace());
@@ -173,17 +184,15 @@ public class CatalogDiffHelpers {
     Sets.difference(descriptorToStreamNew.keySet(), descriptorToStreamOld.keySet())
         .forEach(descriptor -> streamTransforms.add(
             StreamTransform.createAddStreamTransform(descriptor)));
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToConfiguredStream = configuredStreamDescriptorToMap(configuredCatalog);
     Sets.intersection(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
         .forEach(descriptor -> {
           final AirbyteStream streamOld = descriptorToStreamOld.get(descriptor);
           final AirbyteStream streamNew = descriptorToStreamNew.get(descriptor);
 
-          final Optional<ConfiguredAirbyteStream> stream = configuredCatalog.getStreams().stream()
-              .filter(s -> Objects.equals(s.getStream().getNamespace(), descriptor.getNamespace())
-                  && s.getStream().getName().equals(descriptor.getName()))
-              .findFirst();
+          final Optional<ConfiguredAirbyteStream> stream = Optional.ofNullable(descriptorToConfiguredStream.get(descriptor));
 
-          if (!streamOld.equals(streamNew) && stream.isPresent()) {
+          if (stream.isPresent() && !streamOld.equals(streamNew)) {
             // getStreamDiff only checks for differences in the stream's field name or field type
             // but there are a number of reasons the streams might be different (such as a source-defined
             // primary key or cursor changing). These should not be expressed as "stream updates".
@@ -210,20 +219,13 @@ public class CatalogDiffHelpers {
     }
 
     final Set<FieldTransform> fieldTransforms = new HashSet<>();
-    final Map<List<String>, JsonNode> fieldNameToTypeOld = getFullyQualifiedFieldNamesWithTypes(
-        streamOld.getJsonSchema())
-            .stream()
-            .collect(
-                HashMap::new,
-                CatalogDiffHelpers::collectInHashMap,
-                CatalogDiffHelpers::combineAccumulator);
-    final Map<List<String>, JsonNode> fieldNameToTypeNew = getFullyQualifiedFieldNamesWithTypes(
-        streamNew.getJsonSchema())
-            .stream()
-            .collect(
-                HashMap::new,
-                CatalogDiffHelpers::collectInHashMap,
-                CatalogDiffHelpers::combineAccumulator);
+    if (streamOld.getJsonSchema().equals(streamNew.getJsonSchema())) {
+      // the stream changed but not its fields, no need to look for them
+      return new UpdateStreamTransform(fieldTransforms, attributeTransforms);
+    }
+
+    final Map<List<String>, JsonNode> fieldNameToTypeOld = getFieldNamesToTypes(streamOld.getJsonSchema());
+    final Map<List<String>, JsonNode> fieldNameToTypeNew = getFieldNamesToTypes(streamNew.getJsonSchema());
 
     Sets.difference(fieldNameToTypeOld.keySet(), fieldNameToTypeNew.keySet())
         .forEach(fieldName -> {
@@ -248,6 +250,18 @@ public class CatalogDiffHelpers {
     return new UpdateStreamTransform(fieldTransforms, attributeTransforms);
   }
 
+  /**
+   * Map the fully qualified name of the fields of a schema to their schema.
+   */
+  private static Map<List<String>, JsonNode> getFieldNamesToTypes(final JsonNode jsonSchema) {
+    return getFullyQualifiedFieldNamesWithTypes(jsonSchema)
+        .stream()
+        .collect(
+            HashMap::new,
+            CatalogDiffHelpers::collectInHashMap,
+            CatalogDiffHelpers::combineAccumulator);
+  }
+
   @VisibleForTesting
   static final JsonNode DUPLICATED_SCHEMA = Jsons.jsonNode("Duplicated Schema");
 
@@ -262,6 +262,60 @@ class CatalogDiffHelpersTest {
     Assertions.assertThat(actualDiff).containsExactlyElementsOf(expectedDiff);
   }
 
+  @Test
+  void testCatalogDiffUsesTheFirstConfiguredStreamOfADescriptor() throws IOException {
+    final JsonNode schema = Jsons.deserialize(readResource(VALID_SCHEMA_JSON));
+    final AirbyteStream stream = new AirbyteStream(USERS, schema, List.of(SyncMode.FULL_REFRESH)).withSourceDefinedPrimaryKey(ID_PK);
+    final AirbyteStream refreshedStream = new AirbyteStream(USERS, schema, List.of(SyncMode.FULL_REFRESH)).withSourceDefinedPrimaryKey(DATE_PK);
+
+    final AirbyteCatalog initialCatalog = new AirbyteCatalog().withStreams(List.of(ProtocolConverters.toProtocol(stream)));
+    final AirbyteCatalog refreshedCatalog = new AirbyteCatalog().withStreams(List.of(ProtocolConverters.toProtocol(refreshedStream)));
+    // Only the dedup stream, which comes first, makes the primary key change breaking
+    final ConfiguredAirbyteCatalog configuredCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream(stream, SyncMode.INCREMENTAL, DestinationSyncMode.APPEND_DEDUP).withPrimaryKey(ID_PK),
+        new ConfiguredAirbyteStream(stream, SyncMode.INCREMENTAL, DestinationSyncMode.APPEND).withPrimaryKey(ID_PK)));
+
+    final Set<StreamTransform> actualDiff = CatalogDiffHelpers.getCatalogDiff(initialCatalog, refreshedCatalog, configuredCatalog);
+
+    final List<StreamTransform> expectedDiff = List.of(
+        StreamTransform.createUpdateStreamTransform(new StreamDescriptor().withName(USERS),
+            new UpdateStreamTransform(Set.of(), Set.of(StreamAttributeTransform.createUpdatePrimaryKeyTransform(ID_PK, DATE_PK, true)))));
+
+    Assertions.assertThat(actualDiff).containsExactlyElementsOf(expectedDiff);
+  }
+
+  @Test
+  void testCatalogDiffOfStreamsWithEqualSchemasHasNoFieldTransforms() throws IOException {
+    // Equal but distinct schemas, as read from two catalogs
+    final AirbyteStream usersStream = new AirbyteStream(USERS, Jsons.deserialize(readResource(VALID_SCHEMA_JSON)), List.of(SyncMode.FULL_REFRESH))
+        .withSourceDefinedPrimaryKey(ID_PK);
+    final AirbyteStream salesStream = new AirbyteStream(SALES, Jsons.deserialize(readResource(VALID_SCHEMA_JSON)), List.of(SyncMode.FULL_REFRESH));
+    final AirbyteStream refreshedUsersStream =
+        new AirbyteStream(USERS, Jsons.deserialize(readResource(VALID_SCHEMA_JSON)), List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL))
+            .withSourceDefinedPrimaryKey(COMPOSITE_PK);
+    final AirbyteStream refreshedSalesStream =
+        new AirbyteStream(SALES, Jsons.deserialize(readResource(VALID_SCHEMA_JSON)), List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL));
+
+    final AirbyteCatalog initialCatalog = new AirbyteCatalog().withStreams(List.of(
+        ProtocolConverters.toProtocol(usersStream),
+        ProtocolConverters.toProtocol(salesStream)));
+    final AirbyteCatalog refreshedCatalog = new AirbyteCatalog().withStreams(List.of(
+        ProtocolConverters.toProtocol(refreshedUsersStream),
+        ProtocolConverters.toProtocol(refreshedSalesStream)));
+    final ConfiguredAirbyteCatalog configuredCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream(usersStream, SyncMode.FULL_REFRESH, DestinationSyncMode.APPEND),
+        new ConfiguredAirbyteStream(salesStream, SyncMode.FULL_REFRESH, DestinationSyncMode.APPEND)));
+
+    final Set<StreamTransform> actualDiff = CatalogDiffHelpers.getCatalogDiff(initialCatalog, refreshedCatalog, configuredCatalog);
+
+    // The sales stream only changed its supported sync modes, which is not a stream update
+    final List<StreamTransform> expectedDiff = List.of(
+        StreamTransform.createUpdateStreamTransform(new StreamDescriptor().withName(USERS),
+            new UpdateStreamTransform(Set.of(), Set.of(StreamAttributeTransform.createUpdatePrimaryKeyTransform(ID_PK, COMPOSITE_PK, false)))));
+
+    Assertions.assertThat(actualDiff).containsExactlyElementsOf(expectedDiff);
+  }
+
   private static Stream<Arguments> testCatalogDiffWithSourceDefinedPrimaryKeyChangeMethodSource() {
     return Stream.of(
         // Should be breaking in DE-DUP mode if the previous PK is not the new source-defined PK
@@ -30,7 +30,9 @@ import io.airbyte.commons.converters.StateConverter;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.config.BasicSchedule;
+import io.airbyte.config.ConnectionListItem;
 import io.airbyte.config.Schedule;
+import io.airbyte.config.ScheduleData;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.State;
 import io.airbyte.config.StateWrapper;
@@ -302,8 +304,17 @@ public class ApiPojoConverters {
   }
 
   public io.airbyte.api.model.generated.ConnectionScheduleType toApiConnectionScheduleType(final StandardSync standardSync) {
-    if (standardSync.getScheduleType() != null) {
-      switch (standardSync.getScheduleType()) {
+    return toApiConnectionScheduleType(standardSync.getScheduleType(), standardSync.getManual());
+  }
+
+  public io.airbyte.api.model.generated.ConnectionScheduleType toApiConnectionScheduleType(final ConnectionListItem connectionListItem) {
+    return toApiConnectionScheduleType(connectionListItem.getScheduleType(), connectionListItem.getManual());
+  }
+
+  private io.airbyte.api.model.generated.ConnectionScheduleType toApiConnectionScheduleType(final StandardSync.ScheduleType scheduleType,
+                                                                                           final Boolean manual) {
+    if (scheduleType != null) {
+      switch (scheduleType) {
         case MANUAL -> {
           return io.airbyte.api.model.generated.ConnectionScheduleType.MANUAL;
         }
@@ -313,9 +324,9 @@ public class ApiPojoConverters {
         case CRON -> {
           return io.airbyte.api.model.generated.ConnectionScheduleType.CRON;
         }
-        default -> throw new RuntimeException("Unexpected scheduleType " + standardSync.getScheduleType());
+        default -> throw new RuntimeException("Unexpected scheduleType " + scheduleType);
       }
-    } else if (standardSync.getManual()) {
+    } else if (manual) {
       // Legacy schema, manual sync.
       return io.airbyte.api.model.generated.ConnectionScheduleType.MANUAL;
     } else {
@@ -325,34 +336,47 @@ public class ApiPojoConverters {
   }
 
   public io.airbyte.api.model.generated.ConnectionScheduleData toApiConnectionScheduleData(final StandardSync standardSync) {
-    if (standardSync.getScheduleType() != null) {
-      switch (standardSync.getScheduleType()) {
+    return toApiConnectionScheduleData(standardSync.getScheduleType(), standardSync.getScheduleData(), standardSync.getManual(),
+        standardSync.getSchedule());
+  }
+
+  public io.airbyte.api.model.generated.ConnectionScheduleData toApiConnectionScheduleData(final ConnectionListItem connectionListItem) {
+    return toApiConnectionScheduleData(connectionListItem.getScheduleType(), connectionListItem.getScheduleData(), connectionListItem.getManual(),
+        connectionListItem.getSchedule());
+  }
+
+  private io.airbyte.api.model.generated.ConnectionScheduleData toApiConnectionScheduleData(final StandardSync.ScheduleType scheduleType,
+                                                                                           final ScheduleData scheduleData,
+                                                                                           final Boolean manual,
+                                                                                           final Schedule schedule) {
+    if (scheduleType != null) {
+      switch (scheduleType) {
         case MANUAL -> {
           return null;
         }
         case BASIC_SCHEDULE -> {
           return new ConnectionScheduleData()
               .basicSchedule(new ConnectionScheduleDataBasicSchedule()
-                  .timeUnit(this.toApiBasicScheduleTimeUnit(standardSync.getScheduleData().getBasicSchedule().getTimeUnit()))
-                  .units(standardSync.getScheduleData().getBasicSchedule().getUnits()));
+                  .timeUnit(this.toApiBasicScheduleTimeUnit(scheduleData.getBasicSchedule().getTimeUnit()))
+                  .units(scheduleData.getBasicSchedule().getUnits()));
         }
         case CRON -> {
           return new ConnectionScheduleData()
               .cron(new ConnectionScheduleDataCron()
-                  .cronExpression(standardSync.getScheduleData().getCron().getCronExpression())
-                  .cronTimeZone(standardSync.getScheduleData().getCron().getCronTimeZone()));
+                  .cronExpression(scheduleData.getCron().getCronExpression())
+                  .cronTimeZone(scheduleData.getCron().getCronTimeZone()));
         }
-        default -> throw new RuntimeException("Unexpected scheduleType " + standardSync.getScheduleType());
+        default -> throw new RuntimeException("Unexpected scheduleType " + scheduleType);
       }
-    } else if (standardSync.getManual()) {
+    } else if (manual) {
       // Legacy schema, manual sync.
       return null;
     } else {
       // Legacy schema, basic schedule.
       return new ConnectionScheduleData()
           .basicSchedule(new ConnectionScheduleDataBasicSchedule()
-              .timeUnit(this.toApiBasicScheduleTimeUnit(standardSync.getSchedule().getTimeUnit()))
-              .units(standardSync.getSchedule().getUnits()));
+              .timeUnit(this.toApiBasicScheduleTimeUnit(schedule.getTimeUnit()))
+              .units(schedule.getUnits()));
     }
   }
 
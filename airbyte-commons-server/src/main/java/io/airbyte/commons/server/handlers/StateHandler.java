@@ -46,6 +46,13 @@ public class StateHandler {
     return StateConverter.toApi(connectionId, newInternalState.orElse(null));
   }
 
+  public void createOrUpdateStatePartial(final ConnectionStateCreateOrUpdate connectionStateCreateOrUpdate) throws IOException {
+    final UUID connectionId = connectionStateCreateOrUpdate.getConnectionId();
+
+    final StateWrapper convertedCreateOrUpdate = StateConverter.toInternal(connectionStateCreateOrUpdate.getConnectionState());
+    statePersistence.upsertStates(connectionId, convertedCreateOrUpdate);
+  }
+
   public ConnectionState createOrUpdateStateSafe(final ConnectionStateCreateOrUpdate connectionStateCreateOrUpdate) throws IOException {
     if (jobHistoryHandler.getLatestRunningSyncJob(connectionStateCreateOrUpdate.getConnectionId()).isPresent()) {
       throw new SyncIsRunningException("State cannot be updated while a sync is running for this connection.");
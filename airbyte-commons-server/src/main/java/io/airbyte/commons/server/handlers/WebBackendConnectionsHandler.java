@@ -64,11 +64,11 @@ import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConnectionListItem;
 import io.airbyte.config.Field;
 import io.airbyte.config.JobStatusSummary;
 import io.airbyte.config.RefreshStream.RefreshType;
 import io.airbyte.config.StandardSourceDefinition;
-import io.airbyte.config.StandardSync;
 import io.airbyte.config.helpers.FieldGenerator;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
@@ -203,10 +203,11 @@ public class WebBackendConnectionsHandler {
         // passing 'false' so that deleted connections are not included
         false);
 
-    final List<StandardSync> standardSyncs = connectionService.listWorkspaceStandardSyncs(query);
-    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
-    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
-    final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
+    // The list view doesn't need the catalogs, which can be large, so only a summary of each connection is read
+    final List<ConnectionListItem> connections = connectionService.listWorkspaceConnectionListItems(query);
+    final List<UUID> sourceIds = connections.stream().map(ConnectionListItem::getSourceId).toList();
+    final List<UUID> destinationIds = connections.stream().map(ConnectionListItem::getDestinationId).toList();
+    final List<UUID> connectionIds = connections.stream().map(ConnectionListItem::getConnectionId).toList();
 
     // Fetching all the related objects we need for the final output
     final Map<UUID, SourceSnippetRead> sourceReadById = getSourceSnippetReadById(sourceIds);
@@ -220,15 +221,15 @@ public class WebBackendConnectionsHandler {
 
     final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
 
-    for (final StandardSync standardSync : standardSyncs) {
+    for (final ConnectionListItem connection : connections) {
       connectionItems.add(
           buildWebBackendConnectionListItem(
-              standardSync,
+              connection,
               sourceReadById,
               destinationReadById,
               latestJobByConnectionId,
               runningJobByConnectionId,
-              Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.getSourceId()))));
+              Optional.ofNullable(newestFetchEventsByActorId.get(connection.getSourceId()))));
     }
 
     return new WebBackendConnectionReadList().connections(connectionItems);
@@ -296,7 +297,7 @@ public class WebBackendConnectionsHandler {
   }
 
   private WebBackendConnectionListItem buildWebBackendConnectionListItem(
-                                                                         final StandardSync standardSync,
+                                                                         final ConnectionListItem connection,
                                                                          final Map<UUID, SourceSnippetRead> sourceReadById,
                                                                          final Map<UUID, DestinationSnippetRead> destinationReadById,
                                                                          final Map<UUID, JobStatusSummary> latestJobByConnectionId,
@@ -304,14 +305,13 @@ public class WebBackendConnectionsHandler {
                                                                          final Optional<ActorCatalogFetchEvent> latestFetchEvent)
       throws JsonValidationException, IOException, ConfigNotFoundException, io.airbyte.config.persistence.ConfigNotFoundException {
 
-    final SourceSnippetRead source = sourceReadById.get(standardSync.getSourceId());
-    final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
-    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
-    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
-    final ConnectionRead connectionRead = apiPojoConverters.internalToConnectionRead(standardSync);
-    final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
+    final SourceSnippetRead source = sourceReadById.get(connection.getSourceId());
+    final DestinationSnippetRead destination = destinationReadById.get(connection.getDestinationId());
+    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(connection.getConnectionId()));
+    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(connection.getConnectionId()));
+    final Optional<UUID> currentCatalogId = Optional.ofNullable(connection.getSourceCatalogId());
 
-    final SchemaChange schemaChange = getSchemaChange(connectionRead, currentCatalogId, latestFetchEvent);
+    final SchemaChange schemaChange = getSchemaChange(connection.getBreakingChange(), currentCatalogId, latestFetchEvent);
 
     // find any scheduled or past breaking changes to the connectors
     final ActorDefinitionVersionRead sourceActorDefinitionVersionRead = actorDefinitionVersionHandler
@@ -320,18 +320,18 @@ public class WebBackendConnectionsHandler {
         .getActorDefinitionVersionForDestinationId(new DestinationIdRequestBody().destinationId(destination.getDestinationId()));
 
     final WebBackendConnectionListItem listItem = new WebBackendConnectionListItem()
-        .connectionId(standardSync.getConnectionId())
-        .status(apiPojoConverters.toApiStatus(standardSync.getStatus()))
-        .name(standardSync.getName())
-        .scheduleType(apiPojoConverters.toApiConnectionScheduleType(standardSync))
-        .scheduleData(apiPojoConverters.toApiConnectionScheduleData(standardSync))
+        .connectionId(connection.getConnectionId())
+        .status(apiPojoConverters.toApiStatus(connection.getStatus()))
+        .name(connection.getName())
+        .scheduleType(apiPojoConverters.toApiConnectionScheduleType(connection))
+        .scheduleData(apiPojoConverters.toApiConnectionScheduleData(connection))
         .source(source)
         .destination(destination)
         .isSyncing(latestRunningSyncJob.isPresent())
         .schemaChange(schemaChange)
         .sourceActorDefinitionVersion(sourceActorDefinitionVersionRead)
         .destinationActorDefinitionVersion(destinationActorDefinitionVersionRead)
-        .tags(standardSync.getTags().stream().map(this::buildTag).toList());
+        .tags(connection.getTags().stream().map(this::buildTag).toList());
 
     latestSyncJob.ifPresent(job -> {
       listItem.setLatestSyncJobCreatedAt(job.createdAt());
@@ -358,11 +358,22 @@ public class WebBackendConnectionsHandler {
                                       final ConnectionRead connectionRead,
                                       final Optional<UUID> currentSourceCatalogId,
                                       final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
-    if (connectionRead == null || currentSourceCatalogId.isEmpty()) {
+    if (connectionRead == null) {
       return SchemaChange.NO_CHANGE;
     }
 
-    if (connectionRead.getBreakingChange() != null && connectionRead.getBreakingChange()) {
+    return getSchemaChange(connectionRead.getBreakingChange(), currentSourceCatalogId, mostRecentFetchEvent);
+  }
+
+  private static SchemaChange getSchemaChange(
+                                              final Boolean breakingChange,
+                                              final Optional<UUID> currentSourceCatalogId,
+                                              final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
+    if (currentSourceCatalogId.isEmpty()) {
+      return SchemaChange.NO_CHANGE;
+    }
+
+    if (breakingChange != null && breakingChange) {
       return SchemaChange.BREAKING;
     }
 
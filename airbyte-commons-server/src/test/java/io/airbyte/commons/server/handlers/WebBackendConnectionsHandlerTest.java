@@ -329,8 +329,8 @@ class WebBackendConnectionsHandlerTest {
     final StandardSync brokenStandardSync =
         ConnectionHelpers.generateSyncWithSourceAndDestinationId(source.getSourceId(), destination.getDestinationId(), true, Status.INACTIVE);
 
-    when(connectionService.listWorkspaceStandardSyncs(new StandardSyncQuery(sourceRead.getWorkspaceId(), List.of(), List.of(), false)))
-        .thenReturn(Collections.singletonList(standardSync));
+    when(connectionService.listWorkspaceConnectionListItems(new StandardSyncQuery(sourceRead.getWorkspaceId(), List.of(), List.of(), false)))
+        .thenReturn(Collections.singletonList(ConnectionHelpers.generateConnectionListItem(standardSync)));
     when(sourceService.getSourceAndDefinitionsFromSourceIds(Collections.singletonList(source.getSourceId())))
         .thenReturn(Collections.singletonList(new SourceAndDefinition(source, sourceDefinition)));
     when(destinationService.getDestinationAndDefinitionsFromDestinationIds(Collections.singletonList(destination.getDestinationId())))
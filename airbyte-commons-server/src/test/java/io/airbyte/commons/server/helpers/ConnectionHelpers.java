@@ -34,6 +34,7 @@ import io.airbyte.commons.text.Names;
 import io.airbyte.config.BasicSchedule;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
 import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.ConnectionListItem;
 import io.airbyte.config.DestinationSyncMode;
 import io.airbyte.config.FieldType;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
@@ -145,6 +146,22 @@ public class ConnectionHelpers {
         .withNotifySchemaChangesByEmail(true);
   }
 
+  public static ConnectionListItem generateConnectionListItem(final StandardSync standardSync) {
+    return new ConnectionListItem(
+        standardSync.getConnectionId(),
+        standardSync.getName(),
+        standardSync.getSourceId(),
+        standardSync.getDestinationId(),
+        standardSync.getStatus(),
+        standardSync.getScheduleType(),
+        standardSync.getScheduleData(),
+        standardSync.getManual(),
+        standardSync.getSchedule(),
+        standardSync.getSourceCatalogId(),
+        standardSync.getBreakingChange(),
+        standardSync.getTags());
+  }
+
   public static ConnectionSchedule generateBasicConnectionSchedule() {
     return new ConnectionSchedule()
         .timeUnit(ConnectionSchedule.TimeUnitEnum.fromValue(BASIC_SCHEDULE_TIME_UNIT))
@@ -4,9 +4,12 @@
 
 package io.airbyte.commons.logging
 
+import com.fasterxml.jackson.core.JsonToken
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.module.SimpleModule
 import com.fasterxml.jackson.module.kotlin.readValue
+import com.google.common.io.CountingInputStream
+import io.airbyte.commons.logging.logback.COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION
 import io.airbyte.commons.logging.logback.STRUCTURED_LOG_FILE_EXTENSION
 import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClientFactory
@@ -16,8 +19,12 @@ import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micrometer.core.instrument.Counter
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
+import java.io.ByteArrayInputStream
+import java.io.SequenceInputStream
 import java.util.regex.Pattern
+import java.util.zip.GZIPInputStream
 
 private val logger = KotlinLogging.logger {}
 
@@ -28,8 +35,30 @@ private val LOG_LINE_PATTERN =
   )
 private val TIMESTAMP_PATTERN = "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}).*".toPattern()
 
+/**
+ * Size of the first read from the end of a structured log file when tailing logs.  The window is doubled until it
+ * holds enough events or covers the whole file.
+ */
+internal const val TAIL_READ_WINDOW_BYTES = 256 * 1024
+
+private val ARRAY_START = '['.code.toByte()
+private val ARRAY_END = ']'.code.toByte()
+private val OBJECT_START = '{'.code.toByte()
+private val OBJECT_END = '}'.code.toByte()
+private val QUOTE = '"'.code.toByte()
+private val ESCAPE = '\\'.code.toByte()
+
+// nesting of the events, directly in the `events` array of the root object
+private const val EVENTS_ARRAY_DEPTH = 2
+
 /**
  * Client that retrieves operation job logs from storage.
+ *
+ * When [tailModeEnabled] is set, structured logs are read from the newest file backwards and only the end of each
+ * file is fetched, so that the last `numLines` events are returned without downloading the whole job log.
+ * Otherwise, the first `numLines` events are returned.
+ *
+ * Structured log files written with compression enabled are decompressed transparently.
  */
 @Singleton
 class LogClient(
@@ -37,6 +66,7 @@ class LogClient(
   val mapper: ObjectMapper,
   private val logEventLayout: LogEventLayout,
   private val metricClient: MetricClient,
+  @Value("\${airbyte.logging.client.tail-mode-enabled:false}") private val tailModeEnabled: Boolean = false,
 ) {
   private val client = storageClientFactory.create(DocumentType.LOGS)
 
@@ -60,7 +90,7 @@ class LogClient(
     numLines: Int,
   ): LogEvents {
     logger.debug { "Tailing $numLines line(s) from logs from path '$logPath' using ${client.storageType} storage client..." }
-    val files = client.list(id = logPath).filter { it.endsWith(STRUCTURED_LOG_FILE_EXTENSION) }
+    val files = client.list(id = logPath).filter { isStructuredLogFile(file = it) }
     logger.debug { "Found ${files.size} files from path '$logPath' using ${client.storageType} storage client." }
 
     val instrumentedFiles =
@@ -89,10 +119,10 @@ class LogClient(
     val events =
       if (timer != null) {
         timer.recordCallable {
-          readStructuredLogs(files = instrumentedFiles, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
+          readEvents(files = instrumentedFiles, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
         } ?: emptyList()
       } else {
-        readStructuredLogs(files = instrumentedFiles, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
+        readEvents(files = instrumentedFiles, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
       }
     return LogEvents(events = events)
   }
@@ -140,7 +170,7 @@ class LogClient(
         attributes = arrayOf(MetricAttribute(MetricTags.LOG_CLIENT_TYPE, client.storageType.name.lowercase())),
       )
 
-    val isStructured = files.all { it.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION) }
+    val isStructured = files.all { isStructuredLogFile(file = it) }
 
     /*
      * This logic is here to handle logs created before the introduction of structured logs.  If any of the log files
@@ -148,7 +178,7 @@ class LogClient(
      * as structured events.
      */
     return if (isStructured) {
-      formatStructuredLogs(events = readStructuredLogs(files = files, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter))
+      formatStructuredLogs(events = readEvents(files = files, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter))
     } else {
       handleUnstructuredLogs(files = files, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
     }
@@ -156,6 +186,147 @@ class LogClient(
 
   private fun formatStructuredLogs(events: List<LogEvent>): List<String> = events.map { logEventLayout.doLayout(logEvent = it) }
 
+  private fun readEvents(
+    files: List<String>,
+    numLines: Int,
+    lineCounter: Counter?,
+    byteCounter: Counter?,
+  ): List<LogEvent> =
+    if (tailModeEnabled) {
+      tailStructuredLogs(files = files, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
+    } else {
+      readStructuredLogs(files = files, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
+    }
+
+  private fun tailStructuredLogs(
+    files: List<String>,
+    numLines: Int,
+    lineCounter: Counter?,
+    byteCounter: Counter?,
+  ): List<LogEvent> {
+    val tail = ArrayDeque<List<LogEvent>>()
+    var remaining = numLines
+    // File names start with their creation time, so the newest file sorts last.
+    for (file in files.sortedDescending()) {
+      if (remaining <= 0) {
+        break
+      }
+      val events = tailEvents(file = file, maxEvents = remaining, byteCounter = byteCounter)
+      tail.addFirst(events)
+      remaining -= events.size
+    }
+    val events = tail.flatten().sortedBy { it.timestamp }
+    lineCounter?.increment(events.size.toDouble())
+    return events
+  }
+
+  /**
+   * Returns at most the last [maxEvents] events of a structured log file, reading a growing window of bytes from
+   * the end of the file until it contains enough events.
+   */
+  private fun tailEvents(
+    file: String,
+    maxEvents: Int,
+    byteCounter: Counter?,
+  ): List<LogEvent> {
+    if (isCompressedLogFile(file = file)) {
+      // Compressed files cannot be decoded from an arbitrary offset, but they are small enough to be read whole
+      return readLogEvents(file = file, byteCounter = byteCounter).events.takeLast(maxEvents)
+    }
+
+    val size = client.size(id = file) ?: return emptyList()
+    var window = TAIL_READ_WINDOW_BYTES.toLong()
+    var offset = size
+    var fragment = ByteArray(0)
+    while (true) {
+      val start = maxOf(0L, size - window)
+      val chunk = client.readRange(id = file, offset = start, length = (offset - start).toInt()) ?: return emptyList()
+      byteCounter?.increment(chunk.size.toDouble())
+      fragment = chunk + fragment
+      offset = start
+
+      val events =
+        if (offset == 0L) {
+          objectMapper.readValue(fragment, LogEvents::class.java).events
+        } else {
+          extractTrailingEvents(fragment = fragment)
+        }
+      if (offset == 0L || events.size >= maxEvents) {
+        return events.takeLast(maxEvents)
+      }
+      window = minOf(window * 2, Int.MAX_VALUE.toLong())
+    }
+  }
+
+  /**
+   * Extracts the complete events found at the end of a fragment of a structured log file.  The end of the fragment
+   * is the end of the file, so the fragment is scanned once backwards from there, where no string is open, to find
+   * the first event that starts within the fragment: the first object opened directly in the `events` array.
+   */
+  private fun extractTrailingEvents(fragment: ByteArray): List<LogEvent> {
+    var depth = 0
+    var inString = false
+    var firstEvent = -1
+    var index = fragment.size - 1
+    while (index >= 0) {
+      val byte = fragment[index]
+      if (byte == QUOTE) {
+        if (!isEscaped(fragment = fragment, index = index)) {
+          inString = !inString
+        }
+      } else if (!inString) {
+        if (byte == OBJECT_END || byte == ARRAY_END) {
+          depth++
+        } else if (byte == OBJECT_START || byte == ARRAY_START) {
+          depth--
+          if (depth < EVENTS_ARRAY_DEPTH) {
+            // the start of the events array
+            break
+          } else if (byte == OBJECT_START && depth == EVENTS_ARRAY_DEPTH) {
+            firstEvent = index
+          }
+        }
+      }
+      index--
+    }
+    return if (firstEvent >= 0) parseEvents(fragment = fragment, start = firstEvent) ?: emptyList() else emptyList()
+  }
+
+  /**
+   * Whether the quote at [index] is escaped, i.e. preceded by an odd number of backslashes.
+   */
+  private fun isEscaped(
+    fragment: ByteArray,
+    index: Int,
+  ): Boolean {
+    var backslashes = 0
+    while (index - backslashes - 1 >= 0 && fragment[index - backslashes - 1] == ESCAPE) {
+      backslashes++
+    }
+    return backslashes % 2 == 1
+  }
+
+  private fun parseEvents(
+    fragment: ByteArray,
+    start: Int,
+  ): List<LogEvent>? =
+    runCatching {
+      val input =
+        SequenceInputStream(
+          ByteArrayInputStream(byteArrayOf(ARRAY_START)),
+          ByteArrayInputStream(fragment, start, fragment.size - start),
+        )
+      objectMapper.factory.createParser(input).use { parser ->
+        check(parser.nextToken() == JsonToken.START_ARRAY)
+        val events = mutableListOf<LogEvent>()
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          events.add(objectMapper.readValue(parser, LogEvent::class.java))
+        }
+        check(parser.currentToken() == JsonToken.END_ARRAY)
+        events
+      }
+    }.getOrNull()
+
   private fun readStructuredLogs(
     files: List<String>,
     numLines: Int,
@@ -166,11 +337,8 @@ class LogClient(
     val logLines =
       files
         .asSequence()
-        .map { file ->
-          val events = client.read(id = file)
-          byteCounter?.increment(events?.length?.toDouble() ?: 0.0)
-          extractEvents(events = events)
-        }.flatMap { it.events }
+        .map { file -> readLogEvents(file = file, byteCounter = byteCounter) }
+        .flatMap { it.events }
         .takeWhile { _ ->
           count++
           lineCounter?.increment()
@@ -192,8 +360,8 @@ class LogClient(
     run {
       files.forEach { file ->
         val fileLines =
-          if (file.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION)) {
-            val logEvents = extractEvents(events = client.read(id = file))
+          if (isStructuredLogFile(file = file)) {
+            val logEvents = readLogEvents(file = file, byteCounter = null)
             logEvents.events.map(logEventLayout::doLayout)
           } else {
             extractLogLines(fileContents = client.read(id = file))
@@ -213,7 +381,19 @@ class LogClient(
     return orderLogLines(lines = lines)
   }
 
-  private fun extractEvents(events: String?): LogEvents = events?.let { objectMapper.readValue(it) } ?: LogEvents(events = emptyList())
+  private fun readLogEvents(
+    file: String,
+    byteCounter: Counter?,
+  ): LogEvents =
+    client.readStream(id = file)?.let { CountingInputStream(it) }?.use { stream ->
+      val content = if (isCompressedLogFile(file = file)) GZIPInputStream(stream) else stream
+      objectMapper.readValue<LogEvents>(content).also { byteCounter?.increment(stream.count.toDouble()) }
+    } ?: LogEvents(events = emptyList())
+
+  private fun isStructuredLogFile(file: String): Boolean =
+    file.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION) || isCompressedLogFile(file = file)
+
+  private fun isCompressedLogFile(file: String): Boolean = file.endsWith(suffix = COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION)
 
   private fun extractLogLines(fileContents: String?): List<String> {
     val fileLines = mutableListOf<String>()
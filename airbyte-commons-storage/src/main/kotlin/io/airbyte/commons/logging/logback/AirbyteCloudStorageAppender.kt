@@ -22,6 +22,7 @@ import io.airbyte.commons.storage.S3StorageClient
 import io.airbyte.commons.storage.S3StorageConfig
 import io.airbyte.commons.storage.StorageBucketConfig
 import io.airbyte.commons.storage.StorageClient
+import io.airbyte.commons.storage.writeStream
 import java.net.InetAddress
 import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
@@ -31,6 +32,7 @@ import java.util.concurrent.LinkedBlockingQueue
 import java.util.concurrent.ScheduledFuture
 import java.util.concurrent.ScheduledThreadPoolExecutor
 import java.util.concurrent.TimeUnit
+import java.util.zip.GZIPOutputStream
 
 /**
  * Builds the ID of the uploaded file.  This is typically the path in blob storage.
@@ -39,6 +41,7 @@ import java.util.concurrent.TimeUnit
  * @param timestamp A timestamp as a string for uniqueness
  * @param hostname The hostname of the machine executing this method
  * @param uniqueIdentifier A random UUID as a string for uniqueness
+ * @param extension The file extension, which identifies the format of the file
  * @return The field ID.
  */
 fun createFileId(
@@ -46,9 +49,10 @@ fun createFileId(
   timestamp: String = LocalDateTime.now().format(DATE_FORMAT),
   hostname: String = InetAddress.getLocalHost().hostName,
   uniqueIdentifier: String = UUID.randomUUID().toString(),
+  extension: String = STRUCTURED_LOG_FILE_EXTENSION,
 ): String {
   // Remove the leading/trailing "/" from the base storage ID if present to avoid duplicates in the storage ID
-  return "${baseId.trim('/')}/${timestamp}_${hostname}_${uniqueIdentifier.replace("-", "")}$STRUCTURED_LOG_FILE_EXTENSION"
+  return "${baseId.trim('/')}/${timestamp}_${hostname}_${uniqueIdentifier.replace("-", "")}$extension"
 }
 
 object AirbyteCloudStorageAppenderExecutorServiceHelper {
@@ -99,6 +103,9 @@ object AirbyteCloudStorageAppenderExecutorServiceHelper {
  * Custom Logback [AppenderBase] that uploads log events to remove storage.  Log data
  * is uploaded on a scheduled cadence that produces a new remote storage file each time.
  * This is necessary because most cloud storage systems do not support an append mode.
+ *
+ * When [compressed] is set, each file is gzip-compressed and uses the [COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION]
+ * extension.
  */
 class AirbyteCloudStorageAppender(
   val baseStorageId: String,
@@ -106,9 +113,11 @@ class AirbyteCloudStorageAppender(
   val storageClient: StorageClient = buildStorageClient(storageConfig = buildStorageConfig(), documentType = documentType),
   val period: Long = 60L,
   val unit: TimeUnit = TimeUnit.SECONDS,
+  val compressed: Boolean = false,
 ) : AppenderBase<ILoggingEvent>() {
   private val buffer = LinkedBlockingQueue<ILoggingEvent>()
-  private var currentStorageId: String = createFileId(baseId = baseStorageId)
+  private val fileExtension = if (compressed) COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION else STRUCTURED_LOG_FILE_EXTENSION
+  private var currentStorageId: String = createFileId(baseId = baseStorageId, extension = fileExtension)
   private val encoder = AirbyteLogEventEncoder()
   private val uploadLock = Any()
   private lateinit var uploadTask: ScheduledFuture<*>
@@ -141,11 +150,19 @@ class AirbyteCloudStorageAppender(
         buffer.drainTo(events)
 
         if (events.isNotEmpty()) {
-          val document = encoder.bulkEncode(loggingEvents = events)
-          storageClient.write(id = currentStorageId, document = document)
+          storageClient.writeStream(id = currentStorageId) { outputStream ->
+            if (compressed) {
+              // Finish rather than close the gzip stream, the storage stream is closed once the events are written
+              val gzipOutputStream = GZIPOutputStream(outputStream)
+              encoder.bulkEncode(loggingEvents = events, outputStream = gzipOutputStream)
+              gzipOutputStream.finish()
+            } else {
+              encoder.bulkEncode(loggingEvents = events, outputStream = outputStream)
+            }
+          }
 
           // Move to next file to avoid overwriting in log storage that doesn't support append mode
-          this.currentStorageId = createFileId(baseId = baseStorageId)
+          this.currentStorageId = createFileId(baseId = baseStorageId, extension = fileExtension)
         }
       }
     } catch (t: Throwable) {
@@ -214,6 +231,7 @@ internal fun buildStorageClient(
 }
 
 const val STRUCTURED_LOG_FILE_EXTENSION = ".json"
+const val COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION = "$STRUCTURED_LOG_FILE_EXTENSION.gz"
 private val DATE_FORMAT: DateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
 
 internal fun buildBucketConfig(storageConfig: Map<EnvVar, String>): StorageBucketConfig =
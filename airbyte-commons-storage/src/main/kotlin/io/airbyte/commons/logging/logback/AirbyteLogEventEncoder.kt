@@ -6,11 +6,13 @@ package io.airbyte.commons.logging.logback
 
 import ch.qos.logback.classic.spi.ILoggingEvent
 import ch.qos.logback.core.encoder.EncoderBase
+import com.fasterxml.jackson.core.JsonGenerator
 import com.fasterxml.jackson.databind.module.SimpleModule
 import io.airbyte.commons.jackson.MoreMappers
 import io.airbyte.commons.logging.LogEvents
 import io.airbyte.commons.logging.StackTraceElementSerializer
 import io.airbyte.commons.logging.toLogEvent
+import java.io.OutputStream
 
 val EMPTY_BYTES: ByteArray = ByteArray(0)
 val NEW_LINE = "\n".toByteArray()
@@ -35,6 +37,23 @@ class AirbyteLogEventEncoder : EncoderBase<ILoggingEvent>() {
   fun bulkEncode(loggingEvents: List<ILoggingEvent>): String =
     objectMapper.writeValueAsString(LogEvents(events = loggingEvents.map(ILoggingEvent::toLogEvent)))
 
+  /**
+   * Writes the list of [ILoggingEvent] events as a [io.airbyte.commons.logging.LogEvents] document to the provided
+   * [OutputStream].  The stream is not closed.
+   *
+   * @param loggingEvents A list of [ILoggingEvent] events.
+   * @param outputStream The stream that receives the JSON representation of the document.
+   */
+  fun bulkEncode(
+    loggingEvents: List<ILoggingEvent>,
+    outputStream: OutputStream,
+  ) {
+    objectMapper
+      .writer()
+      .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+      .writeValue(outputStream, LogEvents(events = loggingEvents.map(ILoggingEvent::toLogEvent)))
+  }
+
   override fun encode(loggingEvent: ILoggingEvent): ByteArray = objectMapper.writeValueAsBytes(loggingEvent.toLogEvent()) + NEW_LINE
 
   override fun start() {
@@ -134,6 +134,8 @@ class AirbyteLogbackCustomConfigurer :
       AirbyteCloudStorageAppender(
         baseStorageId = discriminatorValue,
         documentType = documentType,
+        // Only job logs are read back by the LogClient, which knows how to decompress them
+        compressed = documentType == DocumentType.LOGS && EnvVar.CLOUD_STORAGE_APPENDER_COMPRESSION_ENABLED.fetchNotNull(default = "false").toBoolean(),
       )
     appender.context = context
     appender.name = "$appenderName-$discriminatorValue"
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.storage
+
+import software.amazon.awssdk.core.sync.RequestBody
+import software.amazon.awssdk.services.s3.S3Client
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload
+import software.amazon.awssdk.services.s3.model.CompletedPart
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest
+import software.amazon.awssdk.services.s3.model.PutObjectRequest
+import software.amazon.awssdk.services.s3.model.UploadPartRequest
+import java.io.ByteArrayInputStream
+import java.io.IOException
+import java.io.OutputStream
+import java.util.Objects
+
+/**
+ * Default size of the parts uploaded by the [S3MultipartOutputStream].  S3 requires every part but the last one to
+ * be at least 5 MiB.
+ */
+internal const val DEFAULT_S3_PART_SIZE = 8 * 1024 * 1024
+
+/**
+ * Initial capacity of the buffer of the [S3MultipartOutputStream].  The buffer grows up to the part size as the
+ * document is written, so that small documents don't hold a whole part in memory.
+ */
+private const val INITIAL_BUFFER_SIZE = 8 * 1024
+
+/**
+ * [OutputStream] that uploads a document to S3 in parts of [partSize] bytes, so that at most one part is held in
+ * memory.  Documents that fit in a single part are uploaded with a single PUT when the stream is closed, and only
+ * hold a buffer of about their own size.
+ *
+ * If a part fails to upload, or the stream is aborted, the multipart upload is aborted and no document is stored.
+ */
+internal class S3MultipartOutputStream(
+  private val s3Client: S3Client,
+  private val bucket: String,
+  private val key: String,
+  private val partSize: Int = DEFAULT_S3_PART_SIZE,
+) : OutputStream(),
+  AbortableOutputStream {
+  private var buffer = ByteArray(0)
+  private val completedParts = mutableListOf<CompletedPart>()
+  private var position = 0
+  private var uploadId: String? = null
+  private var closed = false
+
+  override fun write(b: Int) {
+    ensureOpen()
+    if (position == partSize) {
+      uploadPart()
+    }
+    ensureCapacity(position + 1)
+    buffer[position++] = b.toByte()
+  }
+
+  override fun write(
+    b: ByteArray,
+    off: Int,
+    len: Int,
+  ) {
+    Objects.checkFromIndexSize(off, len, b.size)
+    ensureOpen()
+    var offset = off
+    var remaining = len
+    while (remaining > 0) {
+      if (position == partSize) {
+        uploadPart()
+      }
+      val count = minOf(remaining, partSize - position)
+      ensureCapacity(position + count)
+      System.arraycopy(b, offset, buffer, position, count)
+      position += count
+      offset += count
+      remaining -= count
+    }
+  }
+
+  override fun close() {
+    if (closed) {
+      return
+    }
+    closed = true
+
+    val currentUploadId = uploadId
+    if (currentUploadId == null) {
+      s3Client.putObject(
+        PutObjectRequest
+          .builder()
+          .bucket(bucket)
+          .key(key)
+          .build(),
+        RequestBody.fromInputStream(ByteArrayInputStream(buffer, 0, position), position.toLong()),
+      )
+      return
+    }
+
+    try {
+      if (position > 0) {
+        uploadPart()
+      }
+      s3Client.completeMultipartUpload(
+        CompleteMultipartUploadRequest
+          .builder()
+          .bucket(bucket)
+          .key(key)
+          .uploadId(currentUploadId)
+          .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+          .build(),
+      )
+    } catch (e: Exception) {
+      abortUpload()
+      throw e
+    }
+  }
+
+  override fun abort() {
+    if (closed) {
+      return
+    }
+    closed = true
+    buffer = ByteArray(0)
+    abortUpload()
+  }
+
+  private fun uploadPart() {
+    val currentUploadId =
+      uploadId ?: s3Client
+        .createMultipartUpload(
+          CreateMultipartUploadRequest
+            .builder()
+            .bucket(bucket)
+            .key(key)
+            .build(),
+        ).uploadId()
+        .also { uploadId = it }
+    val partNumber = completedParts.size + 1
+
+    try {
+      val response =
+        s3Client.uploadPart(
+          UploadPartRequest
+            .builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(currentUploadId)
+            .partNumber(partNumber)
+            .build(),
+          RequestBody.fromInputStream(ByteArrayInputStream(buffer, 0, position), position.toLong()),
+        )
+      completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build())
+      position = 0
+    } catch (e: Exception) {
+      closed = true
+      abortUpload()
+      throw e
+    }
+  }
+
+  private fun ensureCapacity(capacity: Int) {
+    if (buffer.size < capacity) {
+      buffer = buffer.copyOf(minOf(partSize, maxOf(capacity, buffer.size * 2, INITIAL_BUFFER_SIZE)))
+    }
+  }
+
+  private fun abortUpload() {
+    uploadId?.let { id ->
+      runCatching {
+        s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest
+            .builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(id)
+            .build(),
+        )
+      }
+    }
+  }
+
+  private fun ensureOpen() {
+    if (closed) {
+      throw IOException("Stream for s3://$bucket/$key is closed")
+    }
+  }
+}
@@ -6,6 +6,7 @@ package io.airbyte.commons.storage
 
 import com.azure.storage.blob.BlobServiceClient
 import com.azure.storage.blob.BlobServiceClientBuilder
+import com.azure.storage.blob.models.BlobRange
 import com.google.auth.oauth2.ServiceAccountCredentials
 import com.google.cloud.storage.BlobId
 import com.google.cloud.storage.BlobInfo
@@ -34,15 +35,28 @@ import software.amazon.awssdk.services.s3.model.ListObjectsV2Request
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException
 import software.amazon.awssdk.services.s3.model.PutObjectRequest
 import java.io.ByteArrayInputStream
+import java.io.FilterOutputStream
+import java.io.InputStream
+import java.io.OutputStream
 import java.net.URI
+import java.nio.ByteBuffer
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
 import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import java.util.UUID
 import kotlin.io.path.createParentDirectories
 import kotlin.io.path.deleteIfExists
 import kotlin.io.path.exists
+import kotlin.io.path.fileSize
+import kotlin.io.path.inputStream
 import kotlin.io.path.isDirectory
 import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.name
+import kotlin.io.path.outputStream
 import kotlin.io.path.pathString
 import kotlin.io.path.relativeTo
 
@@ -134,6 +148,15 @@ interface StorageClient {
     document: String,
   )
 
+  /**
+   * Opens a stream that writes a document with a given id.  The document is stored once the stream is closed.  If a
+   * document already exists at this id it will be overwritten.
+   *
+   * @param id of the document to write
+   * @return the stream to write the document to, which must be closed by the caller
+   */
+  fun writeStream(id: String): OutputStream
+
   /**
    * Reads document with a given id.
    *
@@ -142,6 +165,37 @@ interface StorageClient {
    */
   fun read(id: String): String?
 
+  /**
+   * Opens a stream that reads the document with a given id.
+   *
+   * @param id of the document to read
+   * @return the stream of the document, which must be closed by the caller, or null if the document does not exist
+   */
+  fun readStream(id: String): InputStream?
+
+  /**
+   * Returns the size of the document with a given id.
+   *
+   * @param id of the document
+   * @return the size of the document in bytes, or null if the document does not exist
+   */
+  fun size(id: String): Long?
+
+  /**
+   * Reads a range of bytes of the document with a given id.
+   *
+   * @param id of the document to read
+   * @param offset position of the first byte to read
+   * @param length maximum number of bytes to read
+   * @return the bytes read, fewer than [length] if the document ends before the end of the range, or
+   * null if the document does not exist
+   */
+  fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray?
+
   /**
    * Deletes the document with provided id.
    *
@@ -159,6 +213,60 @@ interface StorageClient {
   fun key(id: String): String = prependIfMissing(prefix = documentType.prefix.toString(), id = id)
 }
 
+/**
+ * Writes a document with a given id from [block], which is given the stream to write the document to.  The document
+ * is only stored if [block] returns normally: if it throws, the write is aborted, any document already stored at this
+ * id is left unchanged, and the exception is rethrown.
+ *
+ * @param id of the document to write
+ * @param block that writes the document to the stream, which it must not close
+ */
+fun StorageClient.writeStream(
+  id: String,
+  block: (OutputStream) -> Unit,
+) {
+  val outputStream = writeStream(id = id)
+  try {
+    block(outputStream)
+  } catch (e: Throwable) {
+    // A stream that cannot be aborted is left open rather than closed, which would store the document
+    if (outputStream is AbortableOutputStream) {
+      runCatching { outputStream.abort() }.onFailure { e.addSuppressed(it) }
+    }
+    throw e
+  }
+  outputStream.close()
+}
+
+/**
+ * [OutputStream] of a document that is stored when the stream is closed, and that can be aborted instead.
+ */
+internal interface AbortableOutputStream {
+  /**
+   * Releases the stream without storing the document, leaving any document already stored at its id unchanged.
+   */
+  fun abort()
+}
+
+/**
+ * [OutputStream] of an Azure or GCS blob, which is only committed when the stream is closed.  Aborting it leaves the
+ * uploaded data uncommitted, which the storage discards once it expires.
+ */
+private class CommitOnCloseOutputStream(
+  out: OutputStream,
+) : FilterOutputStream(out),
+  AbortableOutputStream {
+  override fun write(
+    b: ByteArray,
+    off: Int,
+    len: Int,
+  ) {
+    out.write(b, off, len)
+  }
+
+  override fun abort() {}
+}
+
 /**
  * Constructs a [AzureStorageClient] implementation of the [StorageClient].
  *
@@ -207,6 +315,15 @@ class AzureStorageClient(
       .upload(document.byteInputStream(StandardCharsets.UTF_8))
   }
 
+  override fun writeStream(id: String): OutputStream =
+    CommitOnCloseOutputStream(
+      azureClient
+        .getBlobContainerClient(bucketName)
+        .getBlobClient(key(id))
+        .blockBlobClient
+        .getBlobOutputStream(true),
+    )
+
   override fun read(id: String): String? =
     azureClient
       .getBlobContainerClient(bucketName)
@@ -216,6 +333,38 @@ class AzureStorageClient(
       ?.downloadContent()
       ?.toString()
 
+  override fun readStream(id: String): InputStream? =
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      .takeIf { it.exists() }
+      ?.openInputStream()
+
+  override fun size(id: String): Long? =
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      .takeIf { it.exists() }
+      ?.properties
+      ?.blobSize
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? {
+    val blobClient =
+      azureClient
+        .getBlobContainerClient(bucketName)
+        .getBlobClient(key(id))
+        .takeIf { it.exists() }
+        ?: return null
+    if (length == 0) {
+      return ByteArray(0)
+    }
+    return blobClient.openInputStream(BlobRange(offset, length.toLong()), null).use { it.readAllBytes() }
+  }
+
   override fun delete(id: String): Boolean =
     azureClient
       .getBlobContainerClient(bucketName)
@@ -273,6 +422,11 @@ class GcsStorageClient(
     gcsClient.create(blobInfo, document.toByteArray(StandardCharsets.UTF_8))
   }
 
+  override fun writeStream(id: String): OutputStream {
+    val blobInfo = BlobInfo.newBuilder(blobId(id)).build()
+    return CommitOnCloseOutputStream(Channels.newOutputStream(gcsClient.writer(blobInfo)))
+  }
+
   override fun read(id: String): String? {
     val blobId = blobId(key(id))
 
@@ -282,6 +436,38 @@ class GcsStorageClient(
       ?.let { gcsClient.readAllBytes(it.blobId).toString(StandardCharsets.UTF_8) }
   }
 
+  override fun readStream(id: String): InputStream? =
+    gcsClient
+      .get(blobId(id))
+      ?.takeIf { it.exists() }
+      ?.let { Channels.newInputStream(gcsClient.reader(it.blobId)) }
+
+  override fun size(id: String): Long? =
+    gcsClient
+      .get(blobId(id))
+      ?.takeIf { it.exists() }
+      ?.size
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? {
+    val blob =
+      gcsClient
+        .get(blobId(id))
+        ?.takeIf { it.exists() }
+        ?: return null
+    val buffer = ByteBuffer.allocate(length)
+    gcsClient.reader(blob.blobId).use { reader ->
+      reader.seek(offset)
+      while (buffer.hasRemaining() && reader.read(buffer) >= 0) {
+        continue
+      }
+    }
+    return buffer.array().copyOf(buffer.position())
+  }
+
   override fun delete(id: String): Boolean = gcsClient.delete(BlobId.of(bucketName, key(id)))
 
   @VisibleForTesting
@@ -314,7 +500,7 @@ class LocalStorageClient(
       toPath(id)
         .takeIf { it.exists() }
         ?.listDirectoryEntries()
-        ?.filter { !it.isDirectory() }
+        ?.filter { !it.isDirectory() && !isTempFile(it) }
         ?.map { toId(it) }
         ?: emptyList()
     return res.sorted()
@@ -329,11 +515,48 @@ class LocalStorageClient(
     IOs.writeFile(path, document)
   }
 
+  /**
+   * Writes the document to a temporary file next to it, which replaces the document when the stream is closed, so
+   * that readers never see a partially written document.
+   */
+  override fun writeStream(id: String): OutputStream {
+    val path = toPath(id).also { it.createParentDirectories() }
+    // Not created with createTempFile, which would restrict the permissions of the document to the owner.
+    val tempPath = path.resolveSibling(".${path.fileName}.${UUID.randomUUID()}$LOCAL_TEMP_FILE_SUFFIX")
+    return AtomicFileOutputStream(tempPath, path)
+  }
+
   override fun read(id: String): String? =
     toPath(id)
       .takeIf { it.exists() }
       ?.let { IOs.readFile(it) }
 
+  override fun readStream(id: String): InputStream? =
+    toPath(id)
+      .takeIf { it.exists() }
+      ?.inputStream()
+
+  override fun size(id: String): Long? =
+    toPath(id)
+      .takeIf { it.exists() }
+      ?.fileSize()
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? {
+    val path = toPath(id).takeIf { it.exists() } ?: return null
+    val buffer = ByteBuffer.allocate(length)
+    FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+      channel.position(offset)
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        continue
+      }
+    }
+    return buffer.array().copyOf(buffer.position())
+  }
+
   override fun delete(id: String): Boolean =
     toPath(id)
       .deleteIfExists()
@@ -345,6 +568,61 @@ class LocalStorageClient(
   private fun toId(abspath: Path): String = abspath.relativeTo(Path.of(config.root, type.prefix.toString())).pathString
 }
 
+private const val LOCAL_TEMP_FILE_SUFFIX = ".tmp"
+
+/**
+ * Whether a file is a document that [LocalStorageClient.writeStream] is still writing.
+ */
+private fun isTempFile(path: Path): Boolean = path.name.startsWith(".") && path.name.endsWith(LOCAL_TEMP_FILE_SUFFIX)
+
+/**
+ * [OutputStream] that writes to [tempPath] and atomically moves it to [path] when closed.  The temporary file is
+ * deleted instead if writing it fails, or if the stream is aborted.
+ */
+private class AtomicFileOutputStream(
+  private val tempPath: Path,
+  private val path: Path,
+) : FilterOutputStream(tempPath.outputStream(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)),
+  AbortableOutputStream {
+  private var closed = false
+
+  override fun write(
+    b: ByteArray,
+    off: Int,
+    len: Int,
+  ) {
+    out.write(b, off, len)
+  }
+
+  override fun close() {
+    if (closed) {
+      return
+    }
+    closed = true
+
+    try {
+      super.close()
+      Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)
+    } catch (e: Exception) {
+      tempPath.deleteIfExists()
+      throw e
+    }
+  }
+
+  override fun abort() {
+    if (closed) {
+      return
+    }
+    closed = true
+
+    try {
+      super.close()
+    } finally {
+      tempPath.deleteIfExists()
+    }
+  }
+}
+
 /**
  * Constructs a [MinioStorageClient] implementation of the [StorageClient].
  *
@@ -440,6 +718,8 @@ abstract class AbstractS3StorageClient internal constructor(
     s3Client.putObject(request, RequestBody.fromString(document))
   }
 
+  override fun writeStream(id: String): OutputStream = S3MultipartOutputStream(s3Client = s3Client, bucket = bucketName, key = key(id))
+
   override fun read(id: String): String? =
     try {
       s3Client
@@ -454,6 +734,57 @@ abstract class AbstractS3StorageClient internal constructor(
       null
     }
 
+  override fun readStream(id: String): InputStream? =
+    try {
+      s3Client.getObject(
+        GetObjectRequest
+          .builder()
+          .bucket(bucketName)
+          .key(key(id))
+          .build(),
+      )
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+
+  override fun size(id: String): Long? =
+    try {
+      s3Client
+        .headObject(
+          HeadObjectRequest
+            .builder()
+            .bucket(bucketName)
+            .key(key(id))
+            .build(),
+        ).contentLength()
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? {
+    if (length == 0) {
+      return size(id)?.let { ByteArray(0) }
+    }
+    return try {
+      s3Client
+        .getObjectAsBytes(
+          GetObjectRequest
+            .builder()
+            .bucket(bucketName)
+            .key(key(id))
+            // HTTP ranges are inclusive of the last byte
+            .range("bytes=$offset-${offset + length - 1}")
+            .build(),
+        ).asByteArray()
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+  }
+
   override fun delete(id: String): Boolean {
     val exists =
       try {
@@ -8,6 +8,7 @@ import ch.qos.logback.classic.Level
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.module.SimpleModule
 import io.airbyte.commons.jackson.MoreMappers
+import io.airbyte.commons.logging.logback.COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION
 import io.airbyte.commons.logging.logback.STRUCTURED_LOG_FILE_EXTENSION
 import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClient
@@ -23,15 +24,18 @@ import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
+import java.io.ByteArrayOutputStream
 import java.time.Instant
 import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.format.DateTimeFormatter
 import java.util.concurrent.Callable
+import java.util.zip.GZIPOutputStream
 import kotlin.io.path.createTempFile
 import kotlin.io.path.pathString
 
@@ -121,7 +125,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        every { readStream(any()) } answers { logFile.toFile().inputStream() }
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -201,7 +205,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        every { readStream(any()) } answers { logFile.toFile().inputStream() }
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -313,10 +317,10 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns fileList
-        every { read("file1$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents1)
-        every { read("file2$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents2)
-        every { read("file3$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents3)
-        every { read("file4$STRUCTURED_LOG_FILE_EXTENSION") } returns objectMapper.writeValueAsString(logEvents4)
+        every { readStream("file1$STRUCTURED_LOG_FILE_EXTENSION") } answers { objectMapper.writeValueAsBytes(logEvents1).inputStream() }
+        every { readStream("file2$STRUCTURED_LOG_FILE_EXTENSION") } answers { objectMapper.writeValueAsBytes(logEvents2).inputStream() }
+        every { readStream("file3$STRUCTURED_LOG_FILE_EXTENSION") } answers { objectMapper.writeValueAsBytes(logEvents3).inputStream() }
+        every { readStream("file4$STRUCTURED_LOG_FILE_EXTENSION") } answers { objectMapper.writeValueAsBytes(logEvents4).inputStream() }
         every { this@mockk.storageType } returns storageType
       }
     val storageClientFactory =
@@ -636,7 +640,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        every { readStream(any()) } answers { logFile.toFile().inputStream() }
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -658,6 +662,130 @@ internal class LogClientTest {
     verify(exactly = 1) { storageClient.list(logPath) }
   }
 
+  @Test
+  fun testGetCompressedStructuredLogs() {
+    val logPath = "log-path"
+    val logEvents1 = buildLogEvents(numLines = 4, startingTimestamp = 0L)
+    val logEvents2 = buildLogEvents(numLines = 4, startingTimestamp = 60 * 1000L)
+    val compressedFile = "20241011135643_host_1$COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION"
+    val uncompressedFile = "20241011135743_host_2$STRUCTURED_LOG_FILE_EXTENSION"
+    val compressedDocument =
+      ByteArrayOutputStream().also { output ->
+        GZIPOutputStream(output).use { objectMapper.writeValue(it, logEvents1) }
+      }
+
+    val storageClient =
+      mockk<StorageClient> {
+        every { list(any()) } returns listOf(compressedFile, uncompressedFile, "unrelated-file")
+        every { readStream(compressedFile) } answers { compressedDocument.toByteArray().inputStream() }
+        every { readStream(uncompressedFile) } answers { objectMapper.writeValueAsBytes(logEvents2).inputStream() }
+        every { storageType } returns StorageType.GCS
+      }
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+      )
+
+    val logs = logClient.getLogs(logPath = logPath, numLines = 100)
+
+    assertEquals(logEvents1.events + logEvents2.events, logs.events)
+  }
+
+  @Test
+  fun testTailModeReturnsLastEventsAcrossFiles() {
+    val logPath = "log-path"
+    val startingInstant = Instant.now()
+    val documents =
+      mapOf(
+        "20241011135643_host_1$STRUCTURED_LOG_FILE_EXTENSION" to buildLogEvents(numLines = 4, startingTimestamp = startingInstant.toEpochMilli()),
+        "20241011135743_host_2$STRUCTURED_LOG_FILE_EXTENSION" to
+          buildLogEvents(numLines = 4, startingTimestamp = startingInstant.toEpochMilli() + (60 * 1000)),
+        "20241011135843_host_3$STRUCTURED_LOG_FILE_EXTENSION" to
+          buildLogEvents(numLines = 4, startingTimestamp = startingInstant.toEpochMilli() + (120 * 1000)),
+      )
+    val storageClient = buildRangeStorageClient(documents = documents.mapValues { objectMapper.writeValueAsBytes(it.value) })
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+        tailModeEnabled = true,
+      )
+
+    val logs = logClient.getLogs(logPath = logPath, numLines = 6)
+
+    val expected = documents.values.flatMap { it.events }.takeLast(6)
+    assertEquals(expected, logs.events)
+    verify(exactly = 0) { storageClient.readRange("20241011135643_host_1$STRUCTURED_LOG_FILE_EXTENSION", any(), any()) }
+    verify(exactly = 0) { storageClient.readStream(any()) }
+  }
+
+  @Test
+  fun testTailModeReadsOnlyTheEndOfLargeFiles() {
+    val logPath = "log-path"
+    val numLines = 150
+    val file = "20241011135643_host_1$STRUCTURED_LOG_FILE_EXTENSION"
+    val logEvents =
+      LogEvents(
+        events =
+          buildLogEvents(numLines = 20000, startingTimestamp = 0L).events.map {
+            // Stack traces add nested objects and arrays, and messages quoted JSON, that must not be mistaken for the start of an event
+            if (it.timestamp % 100000 == 50000L) {
+              it.copy(throwable = RuntimeException(it.message))
+            } else {
+              it.copy(message = "${it.message} {\"events\":[{\"message\":\"\\\\\"},{\"}]}")
+            }
+          },
+      )
+    val document = objectMapper.writeValueAsBytes(logEvents)
+    val storageClient = buildRangeStorageClient(documents = mapOf(file to document))
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+        tailModeEnabled = true,
+      )
+
+    val logs = logClient.tailCloudLogs(logPath = logPath, numLines = numLines)
+
+    assertTrue(document.size > TAIL_READ_WINDOW_BYTES)
+    assertEquals(numLines, logs.size)
+    assertEquals(logEventLayout.doLayout(logEvents.events[logEvents.events.size - numLines]), logs.first())
+    assertEquals(logEventLayout.doLayout(logEvents.events.last()), logs.last())
+    verify(exactly = 1) { storageClient.readRange(file, document.size.toLong() - TAIL_READ_WINDOW_BYTES, TAIL_READ_WINDOW_BYTES) }
+    verify(exactly = 0) { storageClient.readRange(file, 0L, any()) }
+  }
+
+  private fun buildRangeStorageClient(documents: Map<String, ByteArray>): StorageClient =
+    mockk<StorageClient> {
+      every { list(any()) } returns documents.keys.toList()
+      every { size(any()) } answers { documents[firstArg()]?.size?.toLong() }
+      every { readRange(any(), any(), any()) } answers {
+        val document = documents[firstArg()]
+        val offset = secondArg<Long>().toInt()
+        document?.copyOfRange(offset, minOf(document.size, offset + thirdArg<Int>()))
+      }
+      every { storageType } returns StorageType.S3
+    }
+
   private fun buildLogEvents(
     numLines: Int,
     startingTimestamp: Long,
@@ -22,14 +22,18 @@ import io.airbyte.commons.storage.S3StorageClient
 import io.airbyte.commons.storage.StorageClient
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.slot
 import io.mockk.verify
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
+import java.io.ByteArrayOutputStream
 import java.io.IOException
 import java.nio.file.Files
 import java.util.UUID
 import java.util.concurrent.TimeUnit
+import java.util.zip.GZIPInputStream
 import kotlin.io.path.Path
 
 private class AirbyteCloudStorageAppenderTest {
@@ -160,7 +164,11 @@ private class AirbyteCloudStorageAppenderTest {
   @Test
   fun testStorageUpload() {
     val baseStorageId = "/path/to/logs"
-    val storageClient = mockk<StorageClient>()
+    val document = ByteArrayOutputStream()
+    val storageClient =
+      mockk<StorageClient> {
+        every { writeStream(any<String>()) } returns document
+      }
     val className = "io.airbyte.TestClass"
     val context = emptyMap<String, String>()
     val methodName = "testMethod"
@@ -207,7 +215,61 @@ private class AirbyteCloudStorageAppenderTest {
 
     Thread.sleep(TimeUnit.SECONDS.toMillis(period * 2))
 
-    verify(exactly = 1) { storageClient.write(any<String>(), any<String>()) }
+    verify(exactly = 1) { storageClient.writeStream(any<String>()) }
+    assertTrue(document.toString(Charsets.UTF_8).contains(logMessage))
+  }
+
+  @Test
+  fun testCompressedStorageUpload() {
+    val baseStorageId = "/path/to/logs"
+    val document = ByteArrayOutputStream()
+    val storageId = slot<String>()
+    val storageClient =
+      mockk<StorageClient> {
+        every { writeStream(capture(storageId)) } returns document
+      }
+    val logMessage = "test message"
+    val event =
+      mockk<ILoggingEvent> {
+        every { callerData } returns arrayOf(StackTraceElement("io.airbyte.TestClass", "testMethod", "TestClass.kt", 12345))
+        every { formattedMessage } returns logMessage
+        every { level } returns Level.INFO
+        every { loggerName } returns PLATFORM_LOGGER_NAME
+        every { mdcPropertyMap } returns emptyMap<String, String>()
+        every { threadName } returns "Test Thread"
+        every { throwableProxy } returns null
+        every { timeStamp } returns 0L
+      }
+    val period = 1L
+    val statusManager =
+      mockk<StatusManager> {
+        every { add(any<Status>()) } returns Unit
+      }
+    val loggingContext =
+      mockk<Context> {
+        every { getStatusManager() } returns statusManager
+      }
+
+    val appender =
+      AirbyteCloudStorageAppender(
+        documentType = DocumentType.LOGS,
+        storageClient = storageClient,
+        baseStorageId = baseStorageId,
+        period = period,
+        unit = TimeUnit.SECONDS,
+        compressed = true,
+      )
+    appender.context = loggingContext
+    appender.start()
+
+    appender.doAppend(event)
+
+    Thread.sleep(TimeUnit.SECONDS.toMillis(period * 2))
+
+    verify(exactly = 1) { storageClient.writeStream(any<String>()) }
+    assertTrue(storageId.captured.endsWith(COMPRESSED_STRUCTURED_LOG_FILE_EXTENSION))
+    val decompressed = GZIPInputStream(document.toByteArray().inputStream()).use { it.readAllBytes().toString(Charsets.UTF_8) }
+    assertTrue(decompressed.contains(logMessage))
   }
 
   @Test
@@ -215,7 +277,7 @@ private class AirbyteCloudStorageAppenderTest {
     val baseStorageId = "/path/to/logs"
     val storageClient =
       mockk<StorageClient> {
-        every { write(any<String>(), any<String>()) } throws IOException("test")
+        every { writeStream(any<String>()) } throws IOException("test")
       }
     val className = "io.airbyte.TestClass"
     val context = emptyMap<String, String>()
@@ -263,7 +325,7 @@ private class AirbyteCloudStorageAppenderTest {
 
     Thread.sleep(TimeUnit.SECONDS.toMillis(period * 2))
 
-    verify(exactly = 1) { storageClient.write(any<String>(), any<String>()) }
+    verify(exactly = 1) { storageClient.writeStream(any<String>()) }
     verify(exactly = 1) { statusManager.add(any<ErrorStatus>()) }
   }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.storage
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Test
+import software.amazon.awssdk.core.sync.RequestBody
+import software.amazon.awssdk.services.s3.S3Client
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse
+import software.amazon.awssdk.services.s3.model.PutObjectRequest
+import software.amazon.awssdk.services.s3.model.S3Exception
+import software.amazon.awssdk.services.s3.model.UploadPartRequest
+import software.amazon.awssdk.services.s3.model.UploadPartResponse
+
+private const val BUCKET = "bucket"
+private const val OBJECT_KEY = "/state/key"
+private const val UPLOAD_ID = "upload-id"
+private const val PART_SIZE = 4
+
+internal class S3MultipartOutputStreamTest {
+  @Test
+  fun `small documents are uploaded with a single put`() {
+    val body = slot<RequestBody>()
+    val s3Client: S3Client =
+      mockk {
+        every { putObject(any<PutObjectRequest>(), capture(body)) } returns mockk()
+      }
+
+    S3MultipartOutputStream(s3Client = s3Client, bucket = BUCKET, key = OBJECT_KEY, partSize = PART_SIZE).use {
+      it.write("abc".toByteArray())
+    }
+
+    verify(exactly = 1) { s3Client.putObject(PutObjectRequest.builder().bucket(BUCKET).key(OBJECT_KEY).build(), any<RequestBody>()) }
+    verify(exactly = 0) { s3Client.createMultipartUpload(any<CreateMultipartUploadRequest>()) }
+    assertEquals("abc", body.captured.readContent())
+  }
+
+  @Test
+  fun `large documents are uploaded in parts`() {
+    val partRequests = mutableListOf<UploadPartRequest>()
+    val partBodies = mutableListOf<String>()
+    val completeRequest = slot<CompleteMultipartUploadRequest>()
+    val s3Client: S3Client =
+      mockk {
+        every { createMultipartUpload(any<CreateMultipartUploadRequest>()) } returns CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build()
+        every { uploadPart(capture(partRequests), any<RequestBody>()) } answers {
+          partBodies.add(secondArg<RequestBody>().readContent())
+          UploadPartResponse.builder().eTag("etag-${partRequests.size}").build()
+        }
+        every { completeMultipartUpload(capture(completeRequest)) } returns mockk()
+      }
+
+    S3MultipartOutputStream(s3Client = s3Client, bucket = BUCKET, key = OBJECT_KEY, partSize = PART_SIZE).use {
+      it.write("abcdef".toByteArray())
+      it.write('g'.code)
+      it.write("hijkl".toByteArray())
+    }
+
+    assertEquals(listOf("abcd", "efgh", "ijkl"), partBodies)
+    assertEquals(listOf(1, 2, 3), partRequests.map { it.partNumber() })
+    assertEquals(UPLOAD_ID, completeRequest.captured.uploadId())
+    assertEquals(listOf("etag-1", "etag-2", "etag-3"), completeRequest.captured.multipartUpload().parts().map { it.eTag() })
+    verify(exactly = 0) { s3Client.putObject(any<PutObjectRequest>(), any<RequestBody>()) }
+  }
+
+  @Test
+  fun `failed part uploads abort the upload`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createMultipartUpload(any<CreateMultipartUploadRequest>()) } returns CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build()
+        every { uploadPart(any<UploadPartRequest>(), any<RequestBody>()) } throws S3Exception.builder().message("failed").build()
+        every { abortMultipartUpload(any<AbortMultipartUploadRequest>()) } returns mockk()
+      }
+
+    val stream = S3MultipartOutputStream(s3Client = s3Client, bucket = BUCKET, key = OBJECT_KEY, partSize = PART_SIZE)
+    assertThrows(S3Exception::class.java) { stream.write("abcdef".toByteArray()) }
+    stream.close()
+
+    verify(exactly = 1) {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(BUCKET).key(OBJECT_KEY).uploadId(UPLOAD_ID).build())
+    }
+    verify(exactly = 0) { s3Client.completeMultipartUpload(any<CompleteMultipartUploadRequest>()) }
+  }
+
+  @Test
+  fun `aborted streams store no document`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createMultipartUpload(any<CreateMultipartUploadRequest>()) } returns CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build()
+        every { uploadPart(any<UploadPartRequest>(), any<RequestBody>()) } returns UploadPartResponse.builder().eTag("etag").build()
+        every { abortMultipartUpload(any<AbortMultipartUploadRequest>()) } returns mockk()
+      }
+
+    val small = S3MultipartOutputStream(s3Client = s3Client, bucket = BUCKET, key = OBJECT_KEY, partSize = PART_SIZE)
+    small.write("abc".toByteArray())
+    small.abort()
+    small.close()
+    val large = S3MultipartOutputStream(s3Client = s3Client, bucket = BUCKET, key = OBJECT_KEY, partSize = PART_SIZE)
+    large.write("abcdef".toByteArray())
+    large.abort()
+    large.close()
+
+    verify(exactly = 1) {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(BUCKET).key(OBJECT_KEY).uploadId(UPLOAD_ID).build())
+    }
+    verify(exactly = 0) { s3Client.putObject(any<PutObjectRequest>(), any<RequestBody>()) }
+    verify(exactly = 0) { s3Client.completeMultipartUpload(any<CompleteMultipartUploadRequest>()) }
+  }
+
+  private fun RequestBody.readContent(): String =
+    contentStreamProvider()
+      .newStream()
+      .use { it.readAllBytes() }
+      .toString(Charsets.UTF_8)
+}
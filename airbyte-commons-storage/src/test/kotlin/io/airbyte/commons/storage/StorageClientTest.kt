@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Assertions.assertNotNull
 import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertThrows
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.io.TempDir
@@ -50,6 +51,8 @@ import java.nio.file.Path
 import kotlin.io.path.createTempDirectory
 import kotlin.io.path.createTempFile
 import kotlin.io.path.exists
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.name
 import kotlin.io.path.pathString
 import com.google.cloud.storage.Bucket as GcsBucket
 
@@ -386,6 +389,75 @@ internal class LocalStorageClientTest {
     }
   }
 
+  @Test
+  fun `stream docs`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+
+    assertNull(client.readStream(KEY), "key $KEY should not exist")
+
+    client.writeStream("job/0/$KEY").use { it.write(DOC1.toByteArray()) }
+    with(client.readStream("job/0/$KEY")) {
+      assertNotNull(this, "key $KEY should exist")
+      assertEquals(DOC1, this?.use { it.readAllBytes().toString(StandardCharsets.UTF_8) })
+    }
+    assertEquals(DOC1, client.read("job/0/$KEY"))
+  }
+
+  @Test
+  fun `streamed docs are only visible once the stream is closed`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+    client.write(KEY, DOC1)
+
+    client.writeStream(KEY).use {
+      it.write(DOC2.toByteArray())
+      assertEquals(DOC1, client.read(KEY))
+      assertEquals(listOf(KEY), client.list("/"))
+    }
+    assertEquals(DOC2, client.read(KEY))
+    assertEquals(listOf(KEY), client.list("/"))
+  }
+
+  @Test
+  fun `streamed docs are left unchanged when writing them fails`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+    client.write(KEY, DOC1)
+
+    assertThrows(IllegalStateException::class.java) {
+      client.writeStream(KEY) {
+        it.write(DOC2.toByteArray())
+        throw IllegalStateException("failed")
+      }
+    }
+    assertEquals(DOC1, client.read(KEY))
+    assertEquals(listOf(KEY), client.toPath(KEY).parent.listDirectoryEntries().map { it.name })
+  }
+
+  @Test
+  fun `read range`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+
+    assertNull(client.size(KEY), "key $KEY should not exist")
+    assertNull(client.readRange(KEY, 0, 10), "key $KEY should not exist")
+
+    client.write(KEY, DOC1)
+    assertEquals(DOC1.length.toLong(), client.size(KEY))
+    assertEquals(DOC1.substring(2, 5), client.readRange(KEY, 2, 3)?.toString(StandardCharsets.UTF_8))
+    // ranges past the end of the document are truncated
+    assertEquals(DOC1.substring(2), client.readRange(KEY, 2, DOC1.length)?.toString(StandardCharsets.UTF_8))
+  }
+
   @Test
   fun `list docs`() {
     val root = createTempDirectory(prefix = "local-test")
@@ -704,6 +776,81 @@ internal class S3StorageClientTest {
     }
   }
 
+  @Test
+  fun `read missing doc as stream`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createBucket(any<CreateBucketRequest>()) } returns mockk<CreateBucketResponse>()
+        every { headBucket(any<HeadBucketRequest>()) } throws NoSuchBucketException.builder().build()
+        every { getObject(any<GetObjectRequest>()) } throws NoSuchKeyException.builder().build()
+      }
+    val client = S3StorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    assertNull(client.readStream(KEY), "key $KEY should be null")
+  }
+
+  @Test
+  fun `write doc as stream`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createBucket(any<CreateBucketRequest>()) } returns mockk<CreateBucketResponse>()
+        every { headBucket(any<HeadBucketRequest>()) } throws NoSuchBucketException.builder().build()
+        every { putObject(any<PutObjectRequest>(), any<RequestBody>()) } returns mockk()
+      }
+    val client = S3StorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    client.writeStream(KEY).use { it.write(DOC1.toByteArray()) }
+
+    val request =
+      PutObjectRequest
+        .builder()
+        .bucket(buckets.state)
+        .key(client.key(KEY))
+        .build()
+    verify { s3Client.putObject(request, any<RequestBody>()) }
+  }
+
+  @Test
+  fun `read range of existing doc`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createBucket(any<CreateBucketRequest>()) } returns mockk<CreateBucketResponse>()
+        every { headBucket(any<HeadBucketRequest>()) } throws NoSuchBucketException.builder().build()
+      }
+    val client = S3StorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    val request =
+      GetObjectRequest
+        .builder()
+        .bucket(buckets.state)
+        .key(client.key(KEY))
+        .range("bytes=2-4")
+        .build()
+
+    every { s3Client.getObjectAsBytes(request) } returns
+      mockk<ResponseBytes<GetObjectResponse>> {
+        every { asByteArray() } returns DOC1.substring(2, 5).toByteArray()
+      }
+
+    with(client.readRange(KEY, 2, 3)) {
+      assertNotNull(this, "key $KEY should not be null")
+      assertEquals(DOC1.substring(2, 5), this?.toString(StandardCharsets.UTF_8))
+    }
+  }
+
+  @Test
+  fun `size of missing doc`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createBucket(any<CreateBucketRequest>()) } returns mockk<CreateBucketResponse>()
+        every { headBucket(any<HeadBucketRequest>()) } throws NoSuchBucketException.builder().build()
+        every { headObject(any<HeadObjectRequest>()) } throws NoSuchKeyException.builder().build()
+      }
+    val client = S3StorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    assertNull(client.size(KEY), "key $KEY should be null")
+  }
+
   @Test
   fun `write doc`() {
     val s3Client: S3Client =
@@ -12,33 +12,61 @@ import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import kotlin.Pair;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
  * configured catalog.
+ * <p>
+ * Records are validated by a pool of worker threads fed by a bounded queue. When the queue is full,
+ * the calling thread validates the record itself, which slows down the replication instead of
+ * buffering an unbounded number of records in memory.
  */
 public class RecordSchemaValidator implements Closeable {
 
+  // Number of records that may wait for validation per worker thread.
+  @VisibleForTesting
+  static final int QUEUE_CAPACITY_PER_THREAD = 1000;
+
   private final JsonSchemaValidator validator;
   private final ExecutorService validationExecutor;
   private final Map<AirbyteStreamNameNamespacePair, JsonNode> streams;
+  private final int sampleRate;
+  private final long maxRecordsPerStream;
+  private final ConcurrentMap<AirbyteStreamNameNamespacePair, AtomicLong> streamRecordCounts = new ConcurrentHashMap<>();
 
   /**
-   * Creates a RecordSchemaValidator.
+   * Creates a RecordSchemaValidator that validates every record on a single worker thread.
    *
    * @param streamNamesToSchemas Name of streams.
    */
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas) {
-    this(streamNamesToSchemas, Executors.newFixedThreadPool(1));
+    this(streamNamesToSchemas, 1, 1, 0);
+  }
+
+  /**
+   * Creates a RecordSchemaValidator.
+   *
+   * @param streamNamesToSchemas Name of streams.
+   * @param parallelism number of threads validating records.
+   * @param sampleRate only every sampleRate-th record of a stream is validated. 1 validates every
+   *        record.
+   * @param maxRecordsPerStream maximum number of records validated per stream. 0 means no limit.
+   */
+  public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                               final int parallelism,
+                               final int sampleRate,
+                               final long maxRecordsPerStream) {
+    this(streamNamesToSchemas, newValidationExecutor(parallelism), new JsonSchemaValidator(), sampleRate, maxRecordsPerStream);
   }
 
   @VisibleForTesting
@@ -50,11 +78,22 @@ public class RecordSchemaValidator implements Closeable {
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
                                final ExecutorService validationExecutor,
                                final JsonSchemaValidator jsonSchemaValidator) {
+    this(streamNamesToSchemas, validationExecutor, jsonSchemaValidator, 1, 0);
+  }
+
+  @VisibleForTesting
+  RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                        final ExecutorService validationExecutor,
+                        final JsonSchemaValidator jsonSchemaValidator,
+                        final int sampleRate,
+                        final long maxRecordsPerStream) {
     // streams is Map of a stream source namespace + name mapped to the stream schema
     // for easy access when we check each record's schema
     this.streams = streamNamesToSchemas;
     this.validationExecutor = validationExecutor;
     this.validator = jsonSchemaValidator;
+    this.sampleRate = Math.max(1, sampleRate);
+    this.maxRecordsPerStream = Math.max(0, maxRecordsPerStream);
     // initialize schema validator to avoid creating validators each time.
     for (final AirbyteStreamNameNamespacePair stream : streamNamesToSchemas.keySet()) {
       // We must choose a JSON validator version for validating the schema
@@ -77,11 +116,18 @@ public class RecordSchemaValidator implements Closeable {
   public void validateSchema(
                              final AirbyteRecordMessage message,
                              final AirbyteStreamNameNamespacePair airbyteStream,
-                             final ConcurrentMap<AirbyteStreamNameNamespacePair, Pair<Set<String>, Integer>> validationErrors) {
+                             final ConcurrentMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors) {
+    if (!isSampled(airbyteStream)) {
+      return;
+    }
     validationExecutor.execute(() -> {
-      Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
+      final Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
       if (!errorMessages.isEmpty()) {
-        updateValidationErrors(errorMessages, airbyteStream, validationErrors);
+        StreamValidationErrors streamErrors = validationErrors.get(airbyteStream);
+        if (streamErrors == null) {
+          streamErrors = validationErrors.computeIfAbsent(airbyteStream, k -> new StreamValidationErrors());
+        }
+        streamErrors.add(errorMessages);
       }
     });
   }
@@ -94,26 +140,41 @@ public class RecordSchemaValidator implements Closeable {
                                             final AirbyteRecordMessage message,
                                             final AirbyteStreamNameNamespacePair airbyteStream,
                                             final ConcurrentMap<AirbyteStreamNameNamespacePair, Set<String>> validationErrors) {
+    if (!isSampled(airbyteStream)) {
+      return;
+    }
     validationExecutor.execute(() -> {
       final Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
       if (!errorMessages.isEmpty()) {
-        validationErrors.computeIfAbsent(airbyteStream, k -> new HashSet<>()).addAll(errorMessages);
+        Set<String> streamErrors = validationErrors.get(airbyteStream);
+        if (streamErrors == null) {
+          streamErrors = validationErrors.computeIfAbsent(airbyteStream, k -> ConcurrentHashMap.newKeySet());
+        }
+        streamErrors.addAll(errorMessages);
       }
     });
   }
 
-  private void updateValidationErrors(final Set<String> errorMessages,
-                                      final AirbyteStreamNameNamespacePair airbyteStream,
-                                      final ConcurrentMap<AirbyteStreamNameNamespacePair, Pair<Set<String>, Integer>> validationErrors) {
-    validationErrors.compute(airbyteStream, (k, v) -> {
-      if (v == null) {
-        return new Pair<>(errorMessages, 1);
-      } else {
-        final var updatedErrorMessages = Stream.concat(v.getFirst().stream(), errorMessages.stream()).collect(Collectors.toSet());
-        final var updatedCount = v.getSecond() + 1;
-        return new Pair<>(updatedErrorMessages, updatedCount);
-      }
-    });
+  /**
+   * Returns whether the next record of the stream should be validated, according to the sample rate
+   * and the per stream budget.
+   */
+  private boolean isSampled(final AirbyteStreamNameNamespacePair airbyteStream) {
+    if (sampleRate == 1 && maxRecordsPerStream == 0) {
+      return true;
+    }
+    final long recordIndex = streamRecordCounts.computeIfAbsent(airbyteStream, k -> new AtomicLong()).getAndIncrement();
+    if (recordIndex % sampleRate != 0) {
+      return false;
+    }
+    return maxRecordsPerStream == 0 || recordIndex / sampleRate < maxRecordsPerStream;
+  }
+
+  private static ExecutorService newValidationExecutor(final int parallelism) {
+    final int threads = Math.max(1, parallelism);
+    return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD),
+        new ThreadPoolExecutor.CallerRunsPolicy());
   }
 
   /**
@@ -151,4 +212,28 @@ public class RecordSchemaValidator implements Closeable {
     return node;
   }
 
+  /**
+   * Validation errors of a stream: the distinct error messages and the number of invalid records.
+   * Workers update it without locking, so concurrent validations of the same stream don't contend.
+   */
+  public static final class StreamValidationErrors {
+
+    private final Set<String> messages = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger count = new AtomicInteger();
+
+    void add(final Set<String> errorMessages) {
+      messages.addAll(errorMessages);
+      count.incrementAndGet();
+    }
+
+    public Set<String> getMessages() {
+      return messages;
+    }
+
+    public int getCount() {
+      return count.get();
+    }
+
+  }
+
 }
@@ -21,7 +21,13 @@ import io.airbyte.featureflag.DestinationTimeoutSeconds;
 import io.airbyte.featureflag.FieldSelectionEnabled;
 import io.airbyte.featureflag.PrintLongRecordPks;
 import io.airbyte.featureflag.RemoveValidationLimit;
+import io.airbyte.featureflag.ReplicationBatchSize;
 import io.airbyte.featureflag.ReplicationBufferOverride;
+import io.airbyte.featureflag.ReplicationMessageProcessorParallelism;
+import io.airbyte.featureflag.ReplicationRecordPassthrough;
+import io.airbyte.featureflag.SchemaValidationMaxRecordsPerStream;
+import io.airbyte.featureflag.SchemaValidationParallelism;
+import io.airbyte.featureflag.SchemaValidationSampleRate;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.featureflag.SingleContainerTest;
 import io.airbyte.mappers.application.RecordMapper;
@@ -41,7 +47,6 @@ import io.airbyte.workers.internal.AirbyteDestination;
 import io.airbyte.workers.internal.AirbyteMapper;
 import io.airbyte.workers.internal.AirbyteMessageBufferedWriterFactory;
 import io.airbyte.workers.internal.AirbyteSource;
-import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.AnalyticsMessageTracker;
 import io.airbyte.workers.internal.ContainerIOHandle;
 import io.airbyte.workers.internal.DestinationTimeoutMonitor;
@@ -154,7 +159,7 @@ public class ReplicationWorkerFactory {
     final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = createHeartbeatTimeoutChaperone(heartbeatMonitor,
         replicationInputFeatureFlagReader, replicationInput, sourceLauncherConfig.getDockerImage(), metricClient);
     final DestinationTimeoutMonitor destinationTimeout = createDestinationTimeout(replicationInputFeatureFlagReader, replicationInput, metricClient);
-    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
+    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput, replicationInputFeatureFlagReader);
 
     log.info("Setting up source with image {}.", replicationInput.getSourceLauncherConfig().getDockerImage());
     final boolean printLongRecordPks = replicationInputFeatureFlagReader.read(PrintLongRecordPks.INSTANCE);
@@ -217,11 +222,12 @@ public class ReplicationWorkerFactory {
         new SourceIdRequestBody(replicationInput.getSourceId())).getSourceDefinitionId();
     final HeartbeatMonitor heartbeatMonitor = createHeartbeatMonitor(sourceDefinitionId, airbyteApiClient.getSourceDefinitionApi());
     final DestinationTimeoutMonitor destinationTimeout = createDestinationTimeout(replicationInputFeatureFlagReader, replicationInput, metricClient);
-    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
+    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput, replicationInputFeatureFlagReader);
 
     log.info("Setting up source with image {}.", replicationInput.getSourceLauncherConfig().getDockerImage());
     final boolean printLongRecordPks = replicationInputFeatureFlagReader.read(PrintLongRecordPks.INSTANCE);
     final var invalidLineConfig = new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(printLongRecordPks);
+    final boolean recordPassthrough = isRecordPassthroughEnabled(replicationInput);
 
     // reset jobs use an empty source to induce resetting all data in destination.
     final boolean singleConnectorTest = replicationInputFeatureFlagReader.read(SingleContainerTest.INSTANCE);
@@ -231,14 +237,15 @@ public class ReplicationWorkerFactory {
                 ? new EmptyAirbyteSource(replicationInput.getNamespaceDefinition() == JobSyncConfig.NamespaceDefinitionType.CUSTOMFORMAT)
                 : new LocalContainerAirbyteSource(
                     heartbeatMonitor,
-                    getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig),
+                    getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig)
+                        .withRecordPassthrough(recordPassthrough),
                     new MessageMetricsTracker(metricClient),
                     ContainerIOHandle.source()));
 
     log.info("Setting up destination with image {}.", replicationInput.getDestinationLauncherConfig().getDockerImage());
     final AirbyteMessageBufferedWriterFactory messageWriterFactory =
         new VersionedAirbyteMessageBufferedWriterFactory(serDeProvider, migratorFactory, destinationLauncherConfig.getProtocolVersion(),
-            Optional.of(replicationInput.getCatalog()));
+            Optional.of(replicationInput.getCatalog()), recordPassthrough);
 
     final var airbyteDestination =
         singleConnectorTest ? new InMemoryDummyAirbyteDestination()
@@ -260,8 +267,10 @@ public class ReplicationWorkerFactory {
     final SyncPersistence syncPersistence = createSyncPersistence(syncPersistenceFactory, replicationInput, sourceLauncherConfig);
     final AirbyteMessageTracker messageTracker = createMessageTracker(syncPersistence, replicationInput);
     final int bufferSize = replicationInputFeatureFlagReader.read(ReplicationBufferOverride.INSTANCE);
+    final int batchSize = replicationInputFeatureFlagReader.read(ReplicationBatchSize.INSTANCE);
     final BufferConfiguration bufferConfiguration =
-        bufferSize > 0 ? BufferConfiguration.withBufferSize(bufferSize) : BufferConfiguration.withDefaultConfiguration();
+        (bufferSize > 0 ? BufferConfiguration.withBufferSize(bufferSize) : BufferConfiguration.withDefaultConfiguration())
+            .withMaxBatchSize(Math.max(batchSize, BufferConfiguration.DEFAULT_MAX_BATCH_SIZE));
 
     return ReplicationWorkerKFactory.create(
         jobRunConfig.getJobId(),
@@ -290,7 +299,17 @@ public class ReplicationWorkerFactory {
         bufferConfiguration,
         replicationInput,
         recordMapper,
-        destinationCatalogGenerator);
+        destinationCatalogGenerator,
+        getMessageProcessorParallelism(replicationInput));
+  }
+
+  /**
+   * Running the mappers on several workers only pays off when the connection has mappers.
+   */
+  private int getMessageProcessorParallelism(final ReplicationInput replicationInput) {
+    final boolean hasMappers = replicationInput.getCatalog().getStreams().stream()
+        .anyMatch(stream -> !stream.getMappers().isEmpty());
+    return hasMappers ? Math.max(replicationInputFeatureFlagReader.read(ReplicationMessageProcessorParallelism.INSTANCE), 1) : 1;
   }
 
   /**
@@ -357,8 +376,12 @@ public class ReplicationWorkerFactory {
   /**
    * Create RecordSchemaValidator.
    */
-  private static RecordSchemaValidator createRecordSchemaValidator(final ReplicationInput replicationInput) {
-    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()));
+  private static RecordSchemaValidator createRecordSchemaValidator(final ReplicationInput replicationInput,
+                                                                   final ReplicationInputFeatureFlagReader replicationInputFeatureFlagReader) {
+    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        replicationInputFeatureFlagReader.read(SchemaValidationParallelism.INSTANCE),
+        replicationInputFeatureFlagReader.read(SchemaValidationSampleRate.INSTANCE),
+        replicationInputFeatureFlagReader.read(SchemaValidationMaxRecordsPerStream.INSTANCE));
   }
 
   private static FieldSelector createFieldSelector(final RecordSchemaValidator recordSchemaValidator,
@@ -479,10 +502,24 @@ public class ReplicationWorkerFactory {
         sourceLauncherConfig.getAttemptId().intValue(), replicationInput.getCatalog());
   }
 
-  private AirbyteStreamFactory getStreamFactory(final IntegrationLauncherConfig launcherConfig,
-                                                final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
-                                                final MdcScope.Builder mdcScopeBuilder,
-                                                final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
+  /**
+   * Records can only be passed through to the destination as read from the source if the platform
+   * does not modify their data, i.e. if neither field selection nor mappers are configured.
+   */
+  private boolean isRecordPassthroughEnabled(final ReplicationInput replicationInput) {
+    if (!replicationInputFeatureFlagReader.read(ReplicationRecordPassthrough.INSTANCE)) {
+      return false;
+    }
+    final boolean fieldSelectionEnabled =
+        replicationInput.getWorkspaceId() != null && replicationInputFeatureFlagReader.read(FieldSelectionEnabled.INSTANCE);
+    final boolean mappersConfigured = replicationInput.getCatalog().getStreams().stream().anyMatch(stream -> !stream.getMappers().isEmpty());
+    return !fieldSelectionEnabled && !mappersConfigured;
+  }
+
+  private VersionedAirbyteStreamFactory<?> getStreamFactory(final IntegrationLauncherConfig launcherConfig,
+                                                            final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
+                                                            final MdcScope.Builder mdcScopeBuilder,
+                                                            final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
     return new VersionedAirbyteStreamFactory<>(serDeProvider, migratorFactory, launcherConfig.getProtocolVersion(),
         Optional.of(launcherConfig.getConnectionId()), Optional.of(configuredAirbyteCatalog), mdcScopeBuilder,
         invalidLineFailureConfiguration, gsonPksExtractor, metricClient);
@@ -61,7 +61,8 @@ public class ReplicationWorkerKFactory {
                                           final BufferConfiguration bufferConfiguration,
                                           final ReplicationInput replicationInput,
                                           final RecordMapper recordMapper,
-                                          final DestinationCatalogGenerator destinationCatalogGenerator) {
+                                          final DestinationCatalogGenerator destinationCatalogGenerator,
+                                          final int messageProcessorParallelism) {
 
     final ReplicationContextProvider replicationContextProvider = new ReplicationContextProvider(jobId, attempt, airbyteApiClient);
     final ReplicationContextProvider.Context context = replicationContextProvider.provideContext(replicationInput);
@@ -75,7 +76,8 @@ public class ReplicationWorkerKFactory {
         getReplicationWorkerHelper(mapper, messageTracker, syncPersistence, fieldSelector, msgEventPublisher, analyticsMessageTracker,
             streamStatusCompletionTracker, streamStatusTrackerFactory, recordMapper, destinationCatalogGenerator, context, replicationWorkerState),
         replicationWorkerState,
-        streamStatusCompletionTracker);
+        streamStatusCompletionTracker,
+        messageProcessorParallelism);
 
     return new ReplicationWorkerK(
         source,
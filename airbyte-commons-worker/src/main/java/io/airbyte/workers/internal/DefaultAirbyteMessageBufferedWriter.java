@@ -22,7 +22,7 @@ public class DefaultAirbyteMessageBufferedWriter implements AirbyteMessageBuffer
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
-    writer.write(Jsons.serialize(message));
+    writer.write(PassthroughAirbyteMessage.unchangedLine(message).orElseGet(() -> Jsons.serialize(message)));
     writer.newLine();
   }
 
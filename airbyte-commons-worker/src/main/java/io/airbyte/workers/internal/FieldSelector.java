@@ -12,6 +12,7 @@ import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
 import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.RecordSchemaValidator.StreamValidationErrors;
 import io.airbyte.workers.WorkerMetricReporter;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
@@ -25,7 +26,6 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import kotlin.Pair;
 import kotlin.text.Regex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,7 +43,7 @@ public class FieldSelector {
    * validationErrors must be a ConcurrentHashMap as they are updated and read in different threads
    * concurrently for performance.
    */
-  private final ConcurrentMap<AirbyteStreamNameNamespacePair, Pair<Set<String>, Integer>> validationErrors = new ConcurrentHashMap<>();
+  private final ConcurrentMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors = new ConcurrentHashMap<>();
   private final ConcurrentMap<AirbyteStreamNameNamespacePair, Set<String>> uncountedValidationErrors = new ConcurrentHashMap<>();
   private final Map<AirbyteStreamNameNamespacePair, List<String>> streamToSelectedFields = new HashMap<>();
   private final Map<AirbyteStreamNameNamespacePair, Set<String>> streamToAllFields = new HashMap<>();
@@ -109,6 +109,7 @@ public class FieldSelector {
     final JsonNode data = record.getData();
     if (data.isObject()) {
       ((ObjectNode) data).retain(selectedFields);
+      SizedAirbyteMessage.invalidateRecordDataSize(airbyteMessage);
     } else {
       throw new RuntimeException(String.format("Unexpected data in record: %s", data));
     }
@@ -128,9 +129,9 @@ public class FieldSelector {
       });
     } else {
       log.info("Schema validation was performed to a max of 10 records with errors per stream.");
-      validationErrors.forEach((stream, errorPair) -> {
-        log.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getFirst());
-        metricReporter.trackSchemaValidationErrors(stream, errorPair.getFirst());
+      validationErrors.forEach((stream, errors) -> {
+        log.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errors.getMessages());
+        metricReporter.trackSchemaValidationErrors(stream, errors.getMessages());
       });
     }
     unexpectedFields.forEach((stream, unexpectedFieldNames) -> {
@@ -207,7 +208,7 @@ public class FieldSelector {
     final AirbyteRecordMessage record = message.getRecord();
     final AirbyteStreamNameNamespacePair messageStream = AirbyteStreamNameNamespacePair.fromRecordMessage(record);
     // avoid noise by validating only if the stream has less than 10 records with validation errors
-    final boolean streamHasLessThenTenErrs = validationErrors.get(messageStream) == null || validationErrors.get(messageStream).getSecond() < 10;
+    final boolean streamHasLessThenTenErrs = validationErrors.get(messageStream) == null || validationErrors.get(messageStream).getCount() < 10;
     if (streamHasLessThenTenErrs) {
       recordSchemaValidator.validateSchema(record, messageStream, validationErrors);
       final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, streamToAllFields.get(messageStream));
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * RECORD message that keeps the line it was read from.
+ * <p>
+ * When a record travels from the source to the destination without the platform touching it, the
+ * destination writer can emit the original line as-is instead of serializing the message again. The
+ * envelope fields (stream, namespace) and the identity of the data node are captured at read time;
+ * if any of them changed, e.g. because of namespace mapping, the line is considered stale and the
+ * writer falls back to regular serialization.
+ * <p>
+ * In-place mutations of the data node (field selection, mappers) are not detected, which is why the
+ * stream factory only produces these messages when those features are off for the connection.
+ */
+public class PassthroughAirbyteMessage extends SizedAirbyteMessage {
+
+  private final String serializedLine;
+  private final JsonNode sourceData;
+  private final String sourceStream;
+  private final String sourceNamespace;
+
+  public PassthroughAirbyteMessage(final AirbyteMessage message, final String serializedLine, final long recordDataSize) {
+    super(message, recordDataSize);
+    this.serializedLine = serializedLine;
+    final AirbyteRecordMessage record = message.getRecord();
+    this.sourceData = record.getData();
+    this.sourceStream = record.getStream();
+    this.sourceNamespace = record.getNamespace();
+  }
+
+  /**
+   * Get the line this message was read from, if the message has not been changed since.
+   *
+   * @return the original line, empty if the message must be serialized again.
+   */
+  @JsonIgnore
+  public Optional<String> getUnchangedLine() {
+    final AirbyteRecordMessage record = getRecord();
+    if (getType() != Type.RECORD || record == null) {
+      return Optional.empty();
+    }
+    final boolean unchanged = record.getData() == sourceData
+        && Objects.equals(record.getStream(), sourceStream)
+        && Objects.equals(record.getNamespace(), sourceNamespace);
+    return unchanged ? Optional.of(serializedLine) : Optional.empty();
+  }
+
+  /**
+   * Get the original line of a message if it can be written as-is.
+   *
+   * @param message message to write
+   * @return the original line, empty if the message is not a passthrough message or if it changed.
+   */
+  public static Optional<String> unchangedLine(final AirbyteMessage message) {
+    if (message instanceof final PassthroughAirbyteMessage passthroughMessage) {
+      return passthroughMessage.getUnchangedLine();
+    }
+    return Optional.empty();
+  }
+
+}
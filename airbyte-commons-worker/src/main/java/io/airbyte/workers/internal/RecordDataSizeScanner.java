@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+/**
+ * Measures the size of the {@code record.data} value of a serialized RECORD message without
+ * deserializing or allocating anything.
+ * <p>
+ * The line is scanned once. Only the top level object and the record object are inspected for
+ * keys, the data value is measured by counting its characters, ignoring the whitespace outside of
+ * strings so that the result matches the length of the compact serialization of the data.
+ */
+final class RecordDataSizeScanner {
+
+  static final long NOT_FOUND = -1;
+
+  private static final String RECORD_KEY = "record";
+  private static final String DATA_KEY = "data";
+
+  private RecordDataSizeScanner() {}
+
+  /**
+   * Get the size of the record data of a serialized RECORD message.
+   *
+   * @param line serialized message
+   * @return size of the data, {@link #NOT_FOUND} if the line doesn't have an object or array data.
+   */
+  static long dataSize(final String line) {
+    final int length = line.length();
+    int depth = 0;
+    boolean inRecord = false;
+    boolean expectRecordValue = false;
+    boolean expectDataValue = false;
+    char previous = 0;
+
+    int i = 0;
+    while (i < length) {
+      final char c = line.charAt(i);
+      if (c == '"') {
+        final int end = endOfString(line, i);
+        if (end < 0) {
+          return NOT_FOUND;
+        }
+        if (previous == ':') {
+          if (expectDataValue) {
+            return NOT_FOUND;
+          }
+          expectRecordValue = false;
+        } else if ((previous == '{' || previous == ',') && (depth == 1 || depth == 2 && inRecord)) {
+          expectRecordValue = depth == 1 && isKey(line, i, end, RECORD_KEY);
+          expectDataValue = depth == 2 && isKey(line, i, end, DATA_KEY);
+        }
+        previous = c;
+        i = end + 1;
+        continue;
+      }
+      if (Character.isWhitespace(c)) {
+        i++;
+        continue;
+      }
+
+      if (previous == ':') {
+        if (expectDataValue) {
+          return c == '{' || c == '[' ? containerSize(line, i) : NOT_FOUND;
+        }
+        if (expectRecordValue) {
+          inRecord = c == '{';
+          expectRecordValue = false;
+        }
+      }
+
+      if (c == '{' || c == '[') {
+        depth++;
+      } else if (c == '}' || c == ']') {
+        depth--;
+        if (depth <= 1) {
+          inRecord = false;
+        }
+      }
+      previous = c;
+      i++;
+    }
+    return NOT_FOUND;
+  }
+
+  private static long containerSize(final String line, final int start) {
+    final int length = line.length();
+    long size = 0;
+    int depth = 0;
+
+    int i = start;
+    while (i < length) {
+      final char c = line.charAt(i);
+      if (c == '"') {
+        final int end = endOfString(line, i);
+        if (end < 0) {
+          return NOT_FOUND;
+        }
+        size += end - i + 1;
+        i = end + 1;
+        continue;
+      }
+      if (!Character.isWhitespace(c)) {
+        size++;
+        if (c == '{' || c == '[') {
+          depth++;
+        } else if (c == '}' || c == ']') {
+          depth--;
+          if (depth == 0) {
+            return size;
+          }
+        }
+      }
+      i++;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Index of the closing quote of the string starting at the given index, -1 if the string is not
+   * terminated.
+   */
+  private static int endOfString(final String line, final int openingQuote) {
+    final int length = line.length();
+    int i = openingQuote + 1;
+    while (i < length) {
+      final char c = line.charAt(i);
+      if (c == '\\') {
+        i += 2;
+      } else if (c == '"') {
+        return i;
+      } else {
+        i++;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isKey(final String line, final int openingQuote, final int closingQuote, final String key) {
+    return closingQuote - openingQuote - 1 == key.length() && line.regionMatches(openingQuote + 1, key, 0, key.length());
+  }
+
+}
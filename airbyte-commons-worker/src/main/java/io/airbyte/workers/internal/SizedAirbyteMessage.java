@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import java.util.OptionalLong;
+
+/**
+ * RECORD message that carries the estimated size of its data, measured on the line it was read
+ * from.
+ * <p>
+ * The stats trackers need the size of every record. Measuring it on the line that was read avoids
+ * serializing the record data a second time only to count its characters. The size is an estimate
+ * in the same sense as {@link io.airbyte.commons.json.Jsons#getEstimatedByteSize}.
+ * <p>
+ * Components that change the record data before it is tracked, such as the {@link FieldSelector},
+ * must call {@link #invalidateRecordDataSize()} so that the size gets computed from the data again.
+ */
+public class SizedAirbyteMessage extends AirbyteMessage {
+
+  private long recordDataSize;
+
+  public SizedAirbyteMessage(final AirbyteMessage message, final long recordDataSize) {
+    this.recordDataSize = recordDataSize;
+
+    setType(message.getType());
+    setRecord(message.getRecord());
+    message.getAdditionalProperties().forEach(this::setAdditionalProperty);
+  }
+
+  @JsonIgnore
+  public OptionalLong getRecordDataSize() {
+    return recordDataSize >= 0 ? OptionalLong.of(recordDataSize) : OptionalLong.empty();
+  }
+
+  public void invalidateRecordDataSize() {
+    this.recordDataSize = RecordDataSizeScanner.NOT_FOUND;
+  }
+
+  /**
+   * Get the record data size of a message if it is known.
+   *
+   * @param message message to get the size of
+   * @return the size, empty if it has to be computed from the record data.
+   */
+  public static OptionalLong recordDataSize(final AirbyteMessage message) {
+    if (message instanceof final SizedAirbyteMessage sizedMessage) {
+      return sizedMessage.getRecordDataSize();
+    }
+    return OptionalLong.empty();
+  }
+
+  /**
+   * Forget the record data size of a message, if any, because its data changed.
+   *
+   * @param message message that changed
+   */
+  public static void invalidateRecordDataSize(final AirbyteMessage message) {
+    if (message instanceof final SizedAirbyteMessage sizedMessage) {
+      sizedMessage.invalidateRecordDataSize();
+    }
+  }
+
+}
@@ -22,19 +22,44 @@ public class VersionedAirbyteMessageBufferedWriter<T> extends DefaultAirbyteMess
   private final AirbyteMessageSerializer<T> serializer;
   private final AirbyteMessageVersionedMigrator<T> migrator;
   private final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog;
+  private final boolean recordPassthrough;
 
   public VersionedAirbyteMessageBufferedWriter(final BufferedWriter writer,
                                                final AirbyteMessageSerializer<T> serializer,
                                                final AirbyteMessageVersionedMigrator<T> migrator,
                                                final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    this(writer, serializer, migrator, configuredAirbyteCatalog, false);
+  }
+
+  /**
+   * Create a writer.
+   *
+   * @param recordPassthrough if true, unchanged {@link PassthroughAirbyteMessage} are written as
+   *        read from the source. Must only be set if the messages do not need to be downgraded.
+   */
+  public VersionedAirbyteMessageBufferedWriter(final BufferedWriter writer,
+                                               final AirbyteMessageSerializer<T> serializer,
+                                               final AirbyteMessageVersionedMigrator<T> migrator,
+                                               final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog,
+                                               final boolean recordPassthrough) {
     super(writer);
     this.serializer = serializer;
     this.migrator = migrator;
     this.configuredAirbyteCatalog = configuredAirbyteCatalog;
+    this.recordPassthrough = recordPassthrough;
   }
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
+    if (recordPassthrough) {
+      final Optional<String> line = PassthroughAirbyteMessage.unchangedLine(message);
+      if (line.isPresent()) {
+        writer.write(line.get());
+        writer.newLine();
+        return;
+      }
+    }
+
     final T downgradedMessage = migrator.downgrade(message, configuredAirbyteCatalog);
     writer.write(serializer.serialize(downgradedMessage));
     writer.newLine();
@@ -24,15 +24,25 @@ public class VersionedAirbyteMessageBufferedWriterFactory implements AirbyteMess
   private final AirbyteProtocolVersionedMigratorFactory migratorFactory;
   private final Version protocolVersion;
   private final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog;
+  private final boolean recordPassthrough;
 
   public VersionedAirbyteMessageBufferedWriterFactory(final AirbyteMessageSerDeProvider serDeProvider,
                                                       final AirbyteProtocolVersionedMigratorFactory migratorFactory,
                                                       final Version protocolVersion,
                                                       final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    this(serDeProvider, migratorFactory, protocolVersion, configuredAirbyteCatalog, false);
+  }
+
+  public VersionedAirbyteMessageBufferedWriterFactory(final AirbyteMessageSerDeProvider serDeProvider,
+                                                      final AirbyteProtocolVersionedMigratorFactory migratorFactory,
+                                                      final Version protocolVersion,
+                                                      final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog,
+                                                      final boolean recordPassthrough) {
     this.serDeProvider = serDeProvider;
     this.migratorFactory = migratorFactory;
     this.protocolVersion = protocolVersion;
     this.configuredAirbyteCatalog = configuredAirbyteCatalog;
+    this.recordPassthrough = recordPassthrough;
   }
 
   @Override
@@ -46,7 +56,8 @@ public class VersionedAirbyteMessageBufferedWriterFactory implements AirbyteMess
         bufferedWriter,
         serDeProvider.getSerializer(protocolVersion).orElseThrow(),
         migratorFactory.getAirbyteMessageMigrator(protocolVersion),
-        configuredAirbyteCatalog);
+        configuredAirbyteCatalog,
+        recordPassthrough && !needMigration);
   }
 
 }
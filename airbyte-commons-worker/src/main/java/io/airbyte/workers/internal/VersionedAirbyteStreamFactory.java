@@ -91,6 +91,7 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   private Version protocolVersion;
 
   private boolean shouldDetectVersion = false;
+  private boolean recordPassthrough = false;
 
   private final InvalidLineFailureConfiguration invalidLineFailureConfiguration;
   private final GsonPksExtractor gsonPksExtractor;
@@ -194,7 +195,7 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
     detectAndInitialiseMigrators(bufferedReader);
-    final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+    final boolean needMigration = needsMigration();
     logger.info(
         "Reading messages from protocol version {}{}",
         protocolVersion.serialize(),
@@ -203,6 +204,10 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return addLineReadLogic(bufferedReader);
   }
 
+  private boolean needsMigration() {
+    return !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+  }
+
   private void detectAndInitialiseMigrators(final BufferedReader bufferedReader) {
     if (shouldDetectVersion) {
       final Optional<Version> versionMaybe;
@@ -283,6 +288,17 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return this;
   }
 
+  /**
+   * Keep the original line of RECORD messages so that it can be written to the destination without
+   * being serialized again. Only takes effect if the messages do not need to be upgraded.
+   *
+   * @see PassthroughAirbyteMessage
+   */
+  public VersionedAirbyteStreamFactory<T> withRecordPassthrough(final boolean recordPassthrough) {
+    this.recordPassthrough = recordPassthrough;
+    return this;
+  }
+
   protected final void initializeForProtocolVersion(final Version protocolVersion) {
     this.deserializer = (AirbyteMessageDeserializer<AirbyteMessage>) serDeProvider.getDeserializer(protocolVersion).orElseThrow();
     this.migrator = migratorFactory.getAirbyteMessageMigrator(protocolVersion);
@@ -321,6 +337,9 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
    * 2. validate the message.
    * <p>
    * 3. upgrade the message to the platform version, if needed.
+   * <p>
+   * RECORD messages that don't need to be upgraded keep the size of their data measured on the line,
+   * see {@link SizedAirbyteMessage}.
    */
   protected Stream<AirbyteMessage> toAirbyteMessage(final String line) {
     logLargeRecordWarning(line);
@@ -334,6 +353,13 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
         return m.stream();
       }
 
+      if (m.get().getType() == AirbyteMessage.Type.RECORD && !needsMigration()) {
+        final long recordDataSize = RecordDataSizeScanner.dataSize(line);
+        return Stream.of(recordPassthrough
+            ? new PassthroughAirbyteMessage(m.get(), line, recordDataSize)
+            : new SizedAirbyteMessage(m.get(), recordDataSize));
+      }
+
       return upgradeMessage(m.get());
     }
 
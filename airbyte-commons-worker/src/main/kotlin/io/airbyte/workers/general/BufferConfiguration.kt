@@ -5,16 +5,29 @@
 package io.airbyte.workers.general
 
 import io.airbyte.commons.concurrency.ClosableLinkedBlockingQueue
+import java.time.Duration
 
 data class BufferConfiguration(
   val sourceMaxBufferSize: Int = DEFAULT_SOURCE_MAX_BUFFER_SIZE,
   val destinationMaxBufferSize: Int = DEFAULT_DESTINATION_MAX_BUFFER_SIZE,
   val pollTimeoutDuration: Int = DEFAULT_POLL_TIME_OUT_DURATION_SECONDS,
+  val maxBatchSize: Int = DEFAULT_MAX_BATCH_SIZE,
+  val maxBatchBytes: Long = DEFAULT_MAX_BATCH_BYTES,
+  val maxBatchLatency: Duration = DEFAULT_MAX_BATCH_LATENCY,
 ) {
+  /**
+   * Returns a copy of this configuration that hands messages over between the replication stages in
+   * batches of up to [maxBatchSize] messages. A batch size of 1 disables batching.
+   */
+  fun withMaxBatchSize(maxBatchSize: Int): BufferConfiguration = copy(maxBatchSize = maxBatchSize)
+
   companion object {
     const val DEFAULT_SOURCE_MAX_BUFFER_SIZE = 1000
     const val DEFAULT_DESTINATION_MAX_BUFFER_SIZE = 1000
     const val DEFAULT_POLL_TIME_OUT_DURATION_SECONDS = ClosableLinkedBlockingQueue.DEFAULT_POLL_TIME_OUT_DURATION_SECONDS
+    const val DEFAULT_MAX_BATCH_SIZE = 1
+    const val DEFAULT_MAX_BATCH_BYTES = 4L * 1024 * 1024
+    val DEFAULT_MAX_BATCH_LATENCY: Duration = Duration.ofMillis(50)
 
     // Helpers for Java due to the lack of named parameters
 
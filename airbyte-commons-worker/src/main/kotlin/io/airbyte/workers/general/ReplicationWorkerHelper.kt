@@ -421,7 +421,7 @@ class ReplicationWorkerHelper(
     val adapter = AirbyteJsonRecordAdapter(sourceRawMessage)
     applyTransformationMappers(adapter)
     if (!adapter.shouldInclude()) {
-      messageTracker.syncStatsTracker.updateFilteredOutRecordsStats(sourceRawMessage.record)
+      messageTracker.acceptFilteredOutFromSource(sourceRawMessage)
       return null
     }
     return sourceRawMessage
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.buffered.worker
+
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.channels.ClosedSendChannelException
+import java.time.Duration
+
+/**
+ * Queue handing over messages in batches, which amortizes the cost of the channel handoff when
+ * messages are small.
+ *
+ * The producer accumulates messages in a pending batch. The batch is sent once it reaches
+ * [maxBatchSize] messages or [maxBatchBytes] bytes, once its oldest message is older than
+ * [maxBatchLatency], or right away if the channel is empty, i.e. if the consumer is waiting. A
+ * consumer that runs out of batches takes over the pending batch. Batches therefore only grow when
+ * the consumer falls behind, and an idle pipeline doesn't add latency.
+ *
+ * The channel capacity is expressed in batches so that the number of buffered messages stays
+ * bounded by [capacity], as configured in the [io.airbyte.workers.general.BufferConfiguration].
+ *
+ * Like every [ClosableChannelQueue], this queue supports a single producer and a single consumer.
+ *
+ * @param capacity maximum number of messages buffered in the channel.
+ * @param sizeOf estimated size of a message in bytes.
+ */
+class BatchingClosableChannelQueue<T>(
+  capacity: Int,
+  private val maxBatchSize: Int,
+  private val maxBatchBytes: Long,
+  maxBatchLatency: Duration,
+  private val sizeOf: (T) -> Long,
+) : ClosableChannelQueue<T> {
+  private val channel = Channel<List<T>>(maxOf(1, capacity / maxBatchSize))
+  private val maxBatchLatencyNanos = maxBatchLatency.toNanos()
+
+  // Producer state, shared with the consumer when it takes over the pending batch.
+  private val lock = Any()
+  private var pending = ArrayList<T>(maxBatchSize)
+  private var pendingBytes = 0L
+  private var pendingSince = 0L
+
+  // Consumer state.
+  private var current: List<T> = emptyList()
+  private var currentIndex = 0
+
+  @OptIn(ExperimentalCoroutinesApi::class)
+  override suspend fun send(e: T) {
+    val batch =
+      synchronized(lock) {
+        if (channel.isClosedForSend) {
+          throw ClosedSendChannelException("Channel was closed")
+        }
+        if (pending.isEmpty()) {
+          pendingSince = System.nanoTime()
+        }
+        pending.add(e)
+        pendingBytes += sizeOf(e)
+
+        when {
+          pending.size >= maxBatchSize || pendingBytes >= maxBatchBytes -> takePending()
+          System.nanoTime() - pendingSince >= maxBatchLatencyNanos -> takePending()
+          // The consumer is waiting, no need to batch. The channel is empty and only this producer
+          // sends to it, so this can't fail.
+          channel.isEmpty && channel.trySend(pending).isSuccess -> {
+            resetPending()
+            null
+          }
+          else -> null
+        }
+      }
+    batch?.let { channel.send(it) }
+  }
+
+  override suspend fun receive(): T? {
+    if (currentIndex < current.size) {
+      return current[currentIndex++]
+    }
+
+    val next =
+      synchronized(lock) { channel.tryReceive().getOrNull() ?: takePending() }
+        ?: channel.receiveCatching().getOrNull()
+        ?: synchronized(lock) { takePending() }
+        ?: return null
+
+    current = next
+    currentIndex = 1
+    return next[0]
+  }
+
+  override fun close() {
+    synchronized(lock) {
+      // Hand over what's left. If the channel is full, the consumer takes the pending batch over once
+      // it has drained the channel.
+      if (pending.isNotEmpty() && channel.trySend(pending).isSuccess) {
+        resetPending()
+      }
+      channel.close()
+    }
+  }
+
+  override fun isClosedForSending(): Boolean = channel.isClosedForSend
+
+  override fun isClosedForReceiving(): Boolean =
+    currentIndex >= current.size && synchronized(lock) { pending.isEmpty() } && channel.isClosedForReceive
+
+  /**
+   * Must be called while holding the lock.
+   */
+  private fun takePending(): List<T>? {
+    if (pending.isEmpty()) {
+      return null
+    }
+    val batch = pending
+    resetPending()
+    return batch
+  }
+
+  private fun resetPending() {
+    pending = ArrayList(maxBatchSize)
+    pendingBytes = 0
+  }
+}
@@ -6,20 +6,39 @@ package io.airbyte.workers.general.buffered.worker
 
 import kotlinx.coroutines.channels.Channel
 
-class ClosableChannelQueue<T>(
+/**
+ * Queue connecting two stages of the replication. Each queue has a single producer and a single
+ * consumer.
+ */
+interface ClosableChannelQueue<T> {
+  suspend fun receive(): T?
+
+  suspend fun send(e: T)
+
+  fun close()
+
+  fun isClosedForSending(): Boolean
+
+  fun isClosedForReceiving(): Boolean
+}
+
+/**
+ * Queue handing over messages one at a time.
+ */
+class DefaultClosableChannelQueue<T>(
   capacity: Int,
-) {
+) : ClosableChannelQueue<T> {
   private val channel = Channel<T>(capacity)
 
-  suspend fun receive(): T? = channel.receiveCatching().getOrNull()
+  override suspend fun receive(): T? = channel.receiveCatching().getOrNull()
 
-  suspend fun send(e: T) = channel.send(e)
+  override suspend fun send(e: T) = channel.send(e)
 
-  fun close() {
+  override fun close() {
     channel.close()
   }
 
-  fun isClosedForSending(): Boolean = channel.isClosedForSend
+  override fun isClosedForSending(): Boolean = channel.isClosedForSend
 
-  fun isClosedForReceiving(): Boolean = channel.isClosedForReceive
+  override fun isClosedForReceiving(): Boolean = channel.isClosedForReceive
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.buffered.worker
+
+import io.airbyte.protocol.models.v0.AirbyteMessage
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage
+import io.github.oshai.kotlinlogging.KotlinLogging
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.joinAll
+import org.slf4j.MDC
+import java.util.Objects
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * [MessageProcessor] that applies the mappers on several workers.
+ *
+ * Messages go through three stages:
+ * - bookkeeping, in order, on the coroutine reading from the source queue;
+ * - mappers, on [parallelism] workers. RECORDs are sharded by stream so that the records of a stream
+ *   are mapped in order by the same worker;
+ * - completion, in order, on the coroutine writing to the destination queue. It waits for the
+ *   messages in the order they were read, so the destination receives them in the same order as
+ *   with the [MessageProcessor]. In particular, a STATE acts as a barrier: it is only sent once every
+ *   record read before it has been mapped and sent.
+ */
+class ParallelMessageProcessor(
+  private val replicationWorkerState: ReplicationWorkerState,
+  private val replicationWorkerHelper: ReplicationWorkerHelperK,
+  private val sourceQueue: ClosableChannelQueue<AirbyteMessage>,
+  private val destinationQueue: ClosableChannelQueue<AirbyteMessage>,
+  private val parallelism: Int,
+  private val mapperDispatcher: CoroutineDispatcher = Dispatchers.Default,
+) {
+  private class Task(
+    val message: AirbyteMessage,
+  ) {
+    val included = CompletableDeferred<Boolean>()
+  }
+
+  suspend fun run() {
+    logger.info { "ParallelMessageProcessor started with $parallelism workers." }
+    try {
+      coroutineScope {
+        val mdc = MDC.getCopyOfContextMap() ?: emptyMap()
+        val shards = List(parallelism) { Channel<Task>(SHARD_CAPACITY) }
+        val inFlight = Channel<Task>(parallelism * SHARD_CAPACITY)
+
+        val workers =
+          shards.map { shard ->
+            AsyncUtils.runLaunch(mapperDispatcher, this, mdc) {
+              for (task in shard) {
+                task.included.completeWith(runCatching { replicationWorkerHelper.applyMappers(task.message) })
+              }
+            }
+          }
+        val sequencer =
+          AsyncUtils.runLaunch(mapperDispatcher, this, mdc) {
+            for (task in inFlight) {
+              val processedMessageOpt = replicationWorkerHelper.completeMessageFromSource(task.message, task.included.await())
+              if (processedMessageOpt.isPresent && !destinationQueue.isClosedForSending()) {
+                val processedMessage = processedMessageOpt.get()
+                if (processedMessage.type == Type.RECORD || processedMessage.type == Type.STATE) {
+                  destinationQueue.send(processedMessage)
+                }
+              }
+            }
+          }
+
+        try {
+          while (!replicationWorkerState.shouldAbort && !sourceQueue.isClosedForReceiving() && !destinationQueue.isClosedForSending()) {
+            val message = sourceQueue.receive() ?: continue
+            val task = Task(replicationWorkerHelper.trackMessageFromSource(message))
+            if (task.message.type == Type.RECORD) {
+              shards[shardOf(task.message.record)].send(task)
+            } else {
+              task.included.complete(true)
+            }
+            inFlight.send(task)
+          }
+        } finally {
+          shards.forEach { it.close() }
+          inFlight.close()
+        }
+        workers.joinAll()
+        sequencer.join()
+      }
+    } finally {
+      sourceQueue.close()
+      destinationQueue.close()
+      logger.info { "ParallelMessageProcessor finished." }
+    }
+  }
+
+  private fun shardOf(record: AirbyteRecordMessage): Int = Math.floorMod(Objects.hash(record.namespace, record.stream), parallelism)
+
+  companion object {
+    private const val SHARD_CAPACITY = 1000
+  }
+}
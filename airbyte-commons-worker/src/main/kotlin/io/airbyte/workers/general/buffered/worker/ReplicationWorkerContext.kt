@@ -14,4 +14,5 @@ data class ReplicationWorkerContext(
   val replicationWorkerHelper: ReplicationWorkerHelperK,
   val replicationWorkerState: ReplicationWorkerState,
   val streamStatusCompletionTracker: StreamStatusCompletionTracker,
+  val messageProcessorParallelism: Int,
 )
@@ -9,7 +9,6 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.google.common.annotations.VisibleForTesting
 import io.airbyte.commons.io.LineGobbler
 import io.airbyte.config.FailureReason
-import io.airbyte.config.MapperConfig
 import io.airbyte.config.PerformanceMetrics
 import io.airbyte.config.ReplicationAttemptSummary
 import io.airbyte.config.ReplicationOutput
@@ -19,6 +18,7 @@ import io.airbyte.config.SyncStats
 import io.airbyte.config.WorkerDestinationConfig
 import io.airbyte.config.adapters.AirbyteJsonRecordAdapter
 import io.airbyte.config.adapters.AirbyteRecord
+import io.airbyte.mappers.application.CompiledMappers
 import io.airbyte.mappers.application.RecordMapper
 import io.airbyte.mappers.transformations.DestinationCatalogGenerator
 import io.airbyte.metrics.lib.ApmTraceUtils
@@ -67,7 +67,7 @@ class ReplicationWorkerHelperK(
   private val context: ReplicationContextProvider.Context,
   destinationCatalogGenerator: DestinationCatalogGenerator,
 ) {
-  private val streamMappers: Map<StreamDescriptor, List<MapperConfig>>
+  private val streamMappers: Map<StreamDescriptor, CompiledMappers>
   private val destinationConfig: WorkerDestinationConfig
   private val mappersConfigured: Boolean
 
@@ -77,7 +77,10 @@ class ReplicationWorkerHelperK(
     streamStatusCompletionTracker.startTracking(context.configuredCatalog, context.supportRefreshes)
 
     val catalogWithoutInvalidMappers = destinationCatalogGenerator.generateDestinationCatalog(context.configuredCatalog)
-    streamMappers = catalogWithoutInvalidMappers.catalog.streams.associate { stream -> stream.streamDescriptor to stream.mappers }
+    streamMappers =
+      catalogWithoutInvalidMappers.catalog.streams
+        .filter { stream -> stream.mappers.isNotEmpty() }
+        .associate { stream -> stream.streamDescriptor to recordMapper.compile(stream.mappers) }
     destinationConfig =
       WorkerUtils.syncToWorkerDestinationConfig(context.replicationInput).apply {
         catalog = mapper.mapCatalog(catalog)
@@ -202,39 +205,70 @@ class ReplicationWorkerHelperK(
 
   @VisibleForTesting
   fun internalProcessMessageFromSource(sourceRawMessage: AirbyteMessage): AirbyteMessage? {
+    trackMessageFromSourceInternal(sourceRawMessage)
+    return if (applyMappers(sourceRawMessage)) {
+      sourceRawMessage
+    } else {
+      messageTracker.acceptFilteredOutFromSource(sourceRawMessage)
+      null
+    }
+  }
+
+  /**
+   * First step of [processMessageFromSource] when the steps are run separately: attaches the state id
+   * and does the bookkeeping (field selection, schema validation, stats, stream statuses). Messages
+   * must go through this step in the order they were read, from a single coroutine.
+   */
+  fun trackMessageFromSource(sourceRawMessage: AirbyteMessage): AirbyteMessage =
+    attachIdToStateMessageFromSource(sourceRawMessage).also { trackMessageFromSourceInternal(it) }
+
+  /**
+   * Second step of [processMessageFromSource]: applies the transformation mappers to a RECORD. This
+   * step only touches the message itself, so it can run concurrently for different messages.
+   *
+   * @return false if the record was filtered out by a mapper.
+   */
+  fun applyMappers(message: AirbyteMessage): Boolean {
+    if (message.type != RECORD || !mappersConfigured) {
+      return true
+    }
+    val adapter = AirbyteJsonRecordAdapter(message)
+    applyTransformationMappers(adapter)
+    return adapter.shouldInclude()
+  }
+
+  /**
+   * Last step of [processMessageFromSource]. Like [trackMessageFromSource], it must be called in order.
+   */
+  fun completeMessageFromSource(
+    message: AirbyteMessage,
+    included: Boolean,
+  ): Optional<AirbyteMessage> {
+    if (!included) {
+      messageTracker.acceptFilteredOutFromSource(message)
+      return Optional.empty()
+    }
+    return Optional.of(mapper.mapMessage(message))
+  }
+
+  private fun trackMessageFromSourceInternal(sourceRawMessage: AirbyteMessage) {
     updateRecordsCount()
     fieldSelector.filterSelectedFields(sourceRawMessage)
     fieldSelector.validateSchema(sourceRawMessage)
     messageTracker.acceptFromSource(sourceRawMessage)
     streamStatusTracker.track(sourceRawMessage)
-    return when (sourceRawMessage.type) {
-      RECORD -> processRecordMessage(sourceRawMessage)
-      STATE -> sourceRawMessage
+    when (sourceRawMessage.type) {
+      RECORD, STATE -> {}
       else -> {
         if (isAnalyticsMessage(sourceRawMessage)) {
           analyticsTracker.addMessage(sourceRawMessage, AirbyteMessageOrigin.SOURCE)
         } else {
           handleControlMessage(sourceRawMessage, AirbyteMessageOrigin.SOURCE)
         }
-        sourceRawMessage
       }
     }
   }
 
-  private fun processRecordMessage(sourceRawMessage: AirbyteMessage): AirbyteMessage? {
-    if (mappersConfigured) {
-      val adapter = AirbyteJsonRecordAdapter(sourceRawMessage)
-      applyTransformationMappers(adapter)
-      return if (!adapter.shouldInclude()) {
-        messageTracker.syncStatsTracker.updateFilteredOutRecordsStats(sourceRawMessage.record)
-        null
-      } else {
-        sourceRawMessage
-      }
-    }
-    return sourceRawMessage
-  }
-
   private fun handleControlMessage(
     rawMessage: AirbyteMessage,
     origin: AirbyteMessageOrigin,
@@ -264,9 +298,7 @@ class ReplicationWorkerHelperK(
       ?.let { Optional.of(it) } ?: Optional.empty()
 
   private fun applyTransformationMappers(message: AirbyteRecord) {
-    streamMappers[message.streamDescriptor]?.takeIf { it.isNotEmpty() }?.let { mappers ->
-      recordMapper.applyMappers(message, mappers)
-    }
+    streamMappers[message.streamDescriptor]?.map(message)
   }
 
   private fun getTotalStats(
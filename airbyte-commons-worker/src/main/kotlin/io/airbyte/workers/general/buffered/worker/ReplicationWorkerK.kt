@@ -15,6 +15,7 @@ import io.airbyte.workers.RecordSchemaValidator
 import io.airbyte.workers.exception.WorkerException
 import io.airbyte.workers.internal.AirbyteDestination
 import io.airbyte.workers.internal.AirbyteSource
+import io.airbyte.workers.internal.SizedAirbyteMessage
 import io.airbyte.workers.internal.syncpersistence.SyncPersistence
 import io.github.oshai.kotlinlogging.KotlinLogging
 import kotlinx.coroutines.Dispatchers
@@ -37,11 +38,22 @@ class ReplicationWorkerK(
   private val recordSchemaValidator: RecordSchemaValidator,
   private val context: ReplicationWorkerContext,
 ) {
-  private val messagesFromSourceQueue: ClosableChannelQueue<AirbyteMessage> = ClosableChannelQueue(context.bufferConfiguration.sourceMaxBufferSize)
+  private val messagesFromSourceQueue: ClosableChannelQueue<AirbyteMessage> = createQueue(context.bufferConfiguration.sourceMaxBufferSize)
   private val messagesForDestinationQueue: ClosableChannelQueue<AirbyteMessage> =
-    ClosableChannelQueue(context.bufferConfiguration.destinationMaxBufferSize)
+    createQueue(context.bufferConfiguration.destinationMaxBufferSize)
   private val dedicatedDispatcher = Executors.newFixedThreadPool(4).asCoroutineDispatcher()
 
+  private fun createQueue(capacity: Int): ClosableChannelQueue<AirbyteMessage> =
+    with(context.bufferConfiguration) {
+      if (maxBatchSize > 1) {
+        BatchingClosableChannelQueue(capacity, maxBatchSize, maxBatchBytes, maxBatchLatency) {
+          SizedAirbyteMessage.recordDataSize(it).orElse(0L)
+        }
+      } else {
+        DefaultClosableChannelQueue(capacity)
+      }
+    }
+
   /**
    * Helper function to track failures.
    */
@@ -108,12 +120,22 @@ class ReplicationWorkerK(
                         ).run()
                       },
                       AsyncUtils.runLaunch(dispatcher, this, mdc) {
-                        MessageProcessor(
-                          context.replicationWorkerState,
-                          context.replicationWorkerHelper,
-                          messagesFromSourceQueue,
-                          messagesForDestinationQueue,
-                        ).run()
+                        if (context.messageProcessorParallelism > 1) {
+                          ParallelMessageProcessor(
+                            context.replicationWorkerState,
+                            context.replicationWorkerHelper,
+                            messagesFromSourceQueue,
+                            messagesForDestinationQueue,
+                            context.messageProcessorParallelism,
+                          ).run()
+                        } else {
+                          MessageProcessor(
+                            context.replicationWorkerState,
+                            context.replicationWorkerHelper,
+                            messagesFromSourceQueue,
+                            messagesForDestinationQueue,
+                          ).run()
+                        }
                       },
                       AsyncUtils.runLaunch(dispatcher, this, mdc) {
                         DestinationWriter(
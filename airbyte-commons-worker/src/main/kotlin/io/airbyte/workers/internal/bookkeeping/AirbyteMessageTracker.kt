@@ -13,6 +13,7 @@ import io.airbyte.protocol.models.v0.AirbyteMessage
 import io.airbyte.protocol.models.v0.AirbyteTraceMessage
 import io.airbyte.workers.context.ReplicationInputFeatureFlagReader
 import io.airbyte.workers.helper.FailureHelper
+import io.airbyte.workers.internal.SizedAirbyteMessage
 import io.airbyte.workers.internal.stateaggregator.DefaultStateAggregator
 import io.airbyte.workers.internal.stateaggregator.StateAggregator
 import io.github.oshai.kotlinlogging.KotlinLogging
@@ -47,13 +48,34 @@ class AirbyteMessageTracker(
 
     when (msg.type) {
       AirbyteMessage.Type.TRACE -> handleEmittedTrace(msg.trace, AirbyteMessageOrigin.SOURCE)
-      AirbyteMessage.Type.RECORD -> syncStatsTracker.updateStats(msg.record)
+      AirbyteMessage.Type.RECORD -> {
+        val recordDataSize = SizedAirbyteMessage.recordDataSize(msg)
+        if (recordDataSize.isPresent) {
+          syncStatsTracker.updateStats(msg.record, recordDataSize.asLong)
+        } else {
+          syncStatsTracker.updateStats(msg.record)
+        }
+      }
       AirbyteMessage.Type.STATE -> syncStatsTracker.updateSourceStatesStats(msg.state)
       AirbyteMessage.Type.CONTROL -> logger.debug { "Control message not currently tracked." }
       else -> logger.warn { "Invalid message type for message: $msg" }
     }
   }
 
+  /**
+   * Accepts a RECORD emitted from a source that got filtered out before reaching the destination.
+   *
+   * @param msg filtered out record message.
+   */
+  fun acceptFilteredOutFromSource(msg: AirbyteMessage) {
+    val recordDataSize = SizedAirbyteMessage.recordDataSize(msg)
+    if (recordDataSize.isPresent) {
+      syncStatsTracker.updateFilteredOutRecordsStats(msg.record, recordDataSize.asLong)
+    } else {
+      syncStatsTracker.updateFilteredOutRecordsStats(msg.record)
+    }
+  }
+
   /**
    * Accepts an AirbyteMessage emitted from a destination and tracks any metadata about it that is
    * required by the Platform.
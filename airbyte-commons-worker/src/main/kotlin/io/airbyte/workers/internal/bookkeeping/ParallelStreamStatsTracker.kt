@@ -42,6 +42,13 @@ class ParallelStreamStatsTracker(
 ) : SyncStatsTracker {
   private val streamTrackers: MutableMap<AirbyteStreamNameNamespacePair, StreamStatsTracker> = ConcurrentHashMap()
   private val syncStatsCounters = SyncStatsCounters()
+
+  // Totals of the streams with a name, which are the ones reported as stream stats, see [getAllStreamSyncStats].
+  private val streamTotals = StreamStatsTotalCounters()
+
+  // Totals of the stats tracked for global and legacy states, which don't have a stream name.
+  private val unnamedStreamTotals = StreamStatsTotalCounters()
+
   private var expectedEstimateType: Type? = null
   private var replicationInputFeatureFlagReader: ReplicationInputFeatureFlagReader? = null
 
@@ -55,11 +62,26 @@ class ParallelStreamStatsTracker(
     getOrCreateStreamStatsTracker(getNameNamespacePair(recordMessage)).updateFilteredOutRecordsStats(recordMessage)
   }
 
+  override fun updateFilteredOutRecordsStats(
+    recordMessage: AirbyteRecordMessage,
+    recordDataSize: Long,
+  ) {
+    getOrCreateStreamStatsTracker(getNameNamespacePair(recordMessage)).updateFilteredOutRecordsStats(recordMessage, recordDataSize)
+  }
+
   override fun updateStats(recordMessage: AirbyteRecordMessage) {
     getOrCreateStreamStatsTracker(getNameNamespacePair(recordMessage))
       .trackRecord(recordMessage)
   }
 
+  override fun updateStats(
+    recordMessage: AirbyteRecordMessage,
+    recordDataSize: Long,
+  ) {
+    getOrCreateStreamStatsTracker(getNameNamespacePair(recordMessage))
+      .trackRecord(recordMessage, recordDataSize)
+  }
+
   override fun updateEstimates(estimate: AirbyteEstimateTraceMessage) {
     if (hasEstimatesErrors) {
       return
@@ -216,44 +238,45 @@ class ParallelStreamStatsTracker(
   /**
    * Return [SyncStats] for the sync. SyncStats is the sum of the stats of all the streams.
    *
+   * The sums are maintained as the streams are updated, so this doesn't go through every stream.
+   *
    * @param hasReplicationCompleted defines whether a stream has completed. If the stream has
    *        completed, emitted counts/bytes will be used as committed counts/bytes.
    * TODO make internal?
    */
   fun getTotalStats(hasReplicationCompleted: Boolean = false): SyncStats {
     // For backwards compatibility with existing code which treats null and 0 differently,
-    // if [getAllStreamSyncStats] is empty then treat it as a null itself.
-    // [sumOf] methods handle null values as 0, which is a change that we don't want to make at this time.
-    val streamSyncStats = getAllStreamSyncStats(hasReplicationCompleted).takeIf { it.isNotEmpty() }
-    val bytesCommitted = streamSyncStats?.sumOf { it.stats.bytesCommitted }
-    val recordsFilteredOut = streamSyncStats?.sumOf { it.stats.recordsFilteredOut }
-    val bytesFilteredOut = streamSyncStats?.sumOf { it.stats.bytesFilteredOut }
-    val recordsCommitted = streamSyncStats?.sumOf { it.stats.recordsCommitted }
-    val bytesEmitted = streamSyncStats?.sumOf { it.stats.bytesEmitted }
-    val recordsEmitted = streamSyncStats?.sumOf { it.stats.recordsEmitted }
-    val estimatedBytes =
-      if (!hasEstimatesErrors && expectedEstimateType == Type.SYNC) {
-        syncStatsCounters.estimatedBytesCount.get()
+    // if there are no stream stats then treat the totals as null.
+    // Summing no stream would return 0, which is a change that we don't want to make at this time.
+    val hasStreamStats = streamTotals.streamCount.sum() > 0
+    val recordsFilteredOut = streamTotals.filteredOutRecords.sum().takeIf { hasStreamStats }
+    val bytesFilteredOut = streamTotals.filteredOutBytesCount.sum().takeIf { hasStreamStats }
+    val bytesEmitted = streamTotals.emittedBytesCount.sum().takeIf { hasStreamStats }
+    val recordsEmitted = streamTotals.emittedRecordsCount.sum().takeIf { hasStreamStats }
+    val bytesCommitted =
+      if (hasReplicationCompleted) {
+        bytesEmitted?.minus(bytesFilteredOut ?: 0)
       } else {
-        streamSyncStats
-          ?.mapNotNull { it.stats.estimatedBytes }
-          // mapNotNull with return an empty list if there are no non-null results
-          // we want to treat an empty list as null for backwards compatability reasons,
-          // specifically around treating a 0 and null differently
-          ?.takeIf { it.isNotEmpty() }
-          ?.sumOf { it }
+        streamTotals.committedBytesCount.sum().takeIf { hasStreamStats }
       }
-    val estimatedRecords =
-      if (!hasEstimatesErrors && expectedEstimateType == Type.SYNC) {
-        syncStatsCounters.estimatedRecordCount.get()
+    val recordsCommitted =
+      if (hasReplicationCompleted) {
+        recordsEmitted?.minus(recordsFilteredOut ?: 0)
       } else {
-        streamSyncStats
-          ?.mapNotNull { it.stats.estimatedRecords }
-          // mapNotNull with return an empty list if there are no non-null results
-          // we want to treat an empty list as null for backwards compatability reasons,
-          // specifically around treating a 0 and null differently
-          ?.takeIf { it.isNotEmpty() }
-          ?.sumOf { it }
+        streamTotals.committedRecordsCount.sum().takeIf { hasStreamStats }
+      }
+    val estimatedBytes =
+      when {
+        !hasEstimatesErrors && expectedEstimateType == Type.SYNC -> syncStatsCounters.estimatedBytesCount.get()
+        // stream estimates are null when there are estimate errors
+        hasEstimatesErrors -> null
+        else -> streamTotals.estimatedBytesCount.sum().takeIf { hasStreamStats }
+      }
+    val estimatedRecords =
+      when {
+        !hasEstimatesErrors && expectedEstimateType == Type.SYNC -> syncStatsCounters.estimatedRecordCount.get()
+        hasEstimatesErrors -> null
+        else -> streamTotals.estimatedRecordsCount.sum().takeIf { hasStreamStats }
       }
 
     return SyncStats()
@@ -355,25 +378,26 @@ class ParallelStreamStatsTracker(
         }
     }
 
-  override fun getTotalRecordsEmitted(): Long = getTotalStats().recordsEmitted ?: 0
+  override fun getTotalRecordsEmitted(): Long = streamTotals.emittedRecordsCount.sum()
 
-  override fun getTotalRecordsFilteredOut(): Long = getTotalStats().recordsFilteredOut ?: 0
+  override fun getTotalRecordsFilteredOut(): Long = streamTotals.filteredOutRecords.sum()
 
-  override fun getTotalBytesFilteredOut(): Long = getTotalStats().bytesFilteredOut ?: 0
+  override fun getTotalBytesFilteredOut(): Long = streamTotals.filteredOutBytesCount.sum()
 
   override fun getTotalRecordsEstimated(): Long = getTotalStats().estimatedRecords ?: 0
 
-  override fun getTotalBytesEmitted(): Long = getTotalStats().bytesEmitted ?: 0
+  override fun getTotalBytesEmitted(): Long = streamTotals.emittedBytesCount.sum()
 
   override fun getTotalBytesEstimated(): Long = getTotalStats().estimatedBytes ?: 0
 
-  override fun getTotalBytesCommitted(): Long? = getTotalStats().bytesCommitted
+  override fun getTotalBytesCommitted(): Long? = streamTotals.committedBytesCount.sum().takeIf { streamTotals.streamCount.sum() > 0 }
 
-  override fun getTotalRecordsCommitted(): Long? = getTotalStats().recordsCommitted
+  override fun getTotalRecordsCommitted(): Long? = streamTotals.committedRecordsCount.sum().takeIf { streamTotals.streamCount.sum() > 0 }
 
-  override fun getTotalSourceStateMessagesEmitted(): Long = streamTrackers.values.sumOf { it.streamStats.sourceStateCount.get() }
+  override fun getTotalSourceStateMessagesEmitted(): Long = streamTotals.sourceStateCount.sum() + unnamedStreamTotals.sourceStateCount.sum()
 
-  override fun getTotalDestinationStateMessagesEmitted(): Long = streamTrackers.values.sumOf { it.streamStats.destinationStateCount.get() }
+  override fun getTotalDestinationStateMessagesEmitted(): Long =
+    streamTotals.destinationStateCount.sum() + unnamedStreamTotals.destinationStateCount.sum()
 
   override fun getMaxSecondsToReceiveSourceStateMessage(): Long =
     streamTrackers.values
@@ -409,6 +433,46 @@ class ParallelStreamStatsTracker(
 
   override fun getUnreliableStateTimingMetrics() = hasSourceStateErrors()
 
+  /**
+   * Read the counters of every stream once, and sum the totals from what was read so that they match
+   * the per stream stats. Going through the totals maintained along with the streams could see
+   * records the per stream stats missed.
+   */
+  override fun getStatsSnapshot(hasReplicationCompleted: Boolean): SyncStatsSnapshot {
+    val perStreamStats = getPerStreamStatsWithoutEstimates(hasReplicationCompleted)
+    val hasStreamStats = perStreamStats.isNotEmpty()
+    val totalStats =
+      SyncStats()
+        .withRecordsEmitted(perStreamStats.sumOf { it.stats.recordsEmitted })
+        .withRecordsFilteredOut(perStreamStats.sumOf { it.stats.recordsFilteredOut })
+        .withBytesEmitted(perStreamStats.sumOf { it.stats.bytesEmitted })
+        .withBytesFilteredOut(perStreamStats.sumOf { it.stats.bytesFilteredOut })
+        // same as getTotalStats, there are no committed totals without stream stats
+        .withRecordsCommitted(perStreamStats.sumOf { it.stats.recordsCommitted }.takeIf { hasStreamStats })
+        .withBytesCommitted(perStreamStats.sumOf { it.stats.bytesCommitted }.takeIf { hasStreamStats })
+        .withSourceStateMessagesEmitted(getTotalSourceStateMessagesEmitted())
+        .withDestinationStateMessagesEmitted(getTotalDestinationStateMessagesEmitted())
+        .withMaxSecondsBeforeSourceStateMessageEmitted(getMaxSecondsToReceiveSourceStateMessage())
+        .withMeanSecondsBeforeSourceStateMessageEmitted(getMeanSecondsToReceiveSourceStateMessage())
+        .withMaxSecondsBetweenStateMessageEmittedandCommitted(getMaxSecondsBetweenStateMessageEmittedAndCommitted())
+        .withMeanSecondsBetweenStateMessageEmittedandCommitted(getMeanSecondsBetweenStateMessageEmittedAndCommitted())
+    return SyncStatsSnapshot(totalStats = totalStats, perStreamStats = perStreamStats)
+  }
+
+  /**
+   * Same as [getPerStreamStats], reading each stream once.
+   */
+  private fun getPerStreamStatsWithoutEstimates(hasReplicationCompleted: Boolean): List<StreamSyncStats> =
+    getAllStreamSyncStats(hasReplicationCompleted).map { streamSyncStats ->
+      streamSyncStats.apply {
+        stats
+          .withEstimatedBytes(null)
+          .withEstimatedRecords(null)
+          .withSourceStateMessagesEmitted(null)
+          .withDestinationStateMessagesEmitted(null)
+      }
+    }
+
   override fun setReplicationFeatureFlagReader(replicationInputFeatureFlagReader: ReplicationInputFeatureFlagReader) {
     this.replicationInputFeatureFlagReader = replicationInputFeatureFlagReader
   }
@@ -418,10 +482,7 @@ class ParallelStreamStatsTracker(
   }
 
   private fun hasSourceStateErrors(): Boolean =
-    streamTrackers.any {
-      it.value.streamStats.unreliableStateOperations
-        .get()
-    }
+    streamTotals.unreliableStateOperations.get() || unnamedStreamTotals.unreliableStateOperations.get()
 
   /**
    * Converts a [StreamStatsTracker] into a [StreamSyncStats].
@@ -485,6 +546,7 @@ class ParallelStreamStatsTracker(
         nameNamespacePair = pair,
         metricClient = metricClient,
         useFileTransfer = useFileTransfer,
+        totalStats = if (pair.name != null) streamTotals else unnamedStreamTotals,
       ).also { streamTrackers[pair] = it }
     }
   }
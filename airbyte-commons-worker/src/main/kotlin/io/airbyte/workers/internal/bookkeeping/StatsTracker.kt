@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.concurrent.atomic.AtomicBoolean
 import java.util.concurrent.atomic.AtomicLong
 import java.util.concurrent.atomic.LongAccumulator
+import java.util.concurrent.atomic.LongAdder
 
 /**
  * Track Stats for a specific stream.
@@ -59,6 +60,27 @@ data class StreamStatsCounters(
   val unreliableStateOperations: AtomicBoolean = AtomicBoolean(false),
 )
 
+/**
+ * Totals of the [StreamStatsCounters] of several streams, updated along with the counters of each
+ * stream so that they can be read without going through every stream.
+ *
+ * The counters are [LongAdder]s since all the streams of a sync update them concurrently.
+ */
+data class StreamStatsTotalCounters(
+  val streamCount: LongAdder = LongAdder(),
+  val emittedRecordsCount: LongAdder = LongAdder(),
+  val filteredOutRecords: LongAdder = LongAdder(),
+  val filteredOutBytesCount: LongAdder = LongAdder(),
+  val emittedBytesCount: LongAdder = LongAdder(),
+  val committedRecordsCount: LongAdder = LongAdder(),
+  val committedBytesCount: LongAdder = LongAdder(),
+  val estimatedRecordsCount: LongAdder = LongAdder(),
+  val estimatedBytesCount: LongAdder = LongAdder(),
+  val sourceStateCount: LongAdder = LongAdder(),
+  val destinationStateCount: LongAdder = LongAdder(),
+  val unreliableStateOperations: AtomicBoolean = AtomicBoolean(false),
+)
+
 /**
  * Data class for tracking Emitted stats.
  *
@@ -99,22 +121,39 @@ private val logger = KotlinLogging.logger { }
  * add the current (State, EmittedStatsCounters) to a list. When we see a state message back from
  * the destination, we pop the corresponding EmittedStatsCounters and update the global committed
  * records count.
+ * <p>
+ * Every update of the stream counters is also applied to totalStats when provided.
  */
 class StreamStatsTracker(
   val nameNamespacePair: AirbyteStreamNameNamespacePair,
   private val metricClient: MetricClient,
   private val useFileTransfer: Boolean,
+  private val totalStats: StreamStatsTotalCounters? = null,
 ) {
   val streamStats = StreamStatsCounters()
+
+  init {
+    totalStats?.streamCount?.increment()
+  }
   private val stateIds = ConcurrentHashMap.newKeySet<Int>()
   private val stagedStatsList = ConcurrentLinkedQueue<StagedStats>()
   private var emittedStats = EmittedStatsCounters()
   private var previousEmittedStats = EmittedStatsCounters()
   private var previousStateMessageReceivedAt: LocalDateTime? = null
 
-  fun updateFilteredOutRecordsStats(recordMessage: AirbyteRecordMessage) {
+  /**
+   * Bookkeeping for when a record is filtered out by a mapper.
+   *
+   * @param recordDataSize size of the record data if it is already known, e.g. measured when the
+   * record was read. It is the size of the record as the source emitted it, before the mappers ran,
+   * like the emitted bytes. The data is only serialized to measure it when this is null.
+   */
+  fun updateFilteredOutRecordsStats(
+    recordMessage: AirbyteRecordMessage,
+    recordDataSize: Long? = null,
+  ) {
     val emittedStatsToUpdate = emittedStats
-    val filteredOutByteSize = Jsons.getEstimatedByteSize(recordMessage.data).toLong()
+    val filteredOutByteSize = recordDataSize ?: getRecordSize(recordMessage)
     with(emittedStatsToUpdate) {
       filteredOutRecords.incrementAndGet()
       filteredOutBytesCount.addAndGet(filteredOutByteSize)
@@ -123,6 +162,10 @@ class StreamStatsTracker(
       filteredOutRecords.incrementAndGet()
       filteredOutBytesCount.addAndGet(filteredOutByteSize)
     }
+    totalStats?.apply {
+      filteredOutRecords.increment()
+      filteredOutBytesCount.add(filteredOutByteSize)
+    }
   }
 
   /**
@@ -131,14 +174,20 @@ class StreamStatsTracker(
    * We update emitted records count on both emittedStats and streamStats. emittedStats is the tracker
    * for what is going to become committed once the state is acked. We update the global count to
    * avoid having to traverse the map to get the global count.
+   *
+   * @param recordDataSize size of the record data if it is already known, e.g. measured when the
+   * record was read. The data is only serialized to measure it when this is null.
    */
-  fun trackRecord(recordMessage: AirbyteRecordMessage) {
+  fun trackRecord(
+    recordMessage: AirbyteRecordMessage,
+    recordDataSize: Long? = null,
+  ) {
     val estimatedBytesSize: Long =
       if (!useFileTransfer) {
-        getRecordSize(recordMessage)
+        recordDataSize ?: getRecordSize(recordMessage)
       } else {
         // Note: to get file and metadata size, use plus instead of elvis
-        getFileSize(recordMessage) ?: getRecordSize(recordMessage)
+        getFileSize(recordMessage) ?: recordDataSize ?: getRecordSize(recordMessage)
       }
 
     // Update the current emitted stats
@@ -158,6 +207,10 @@ class StreamStatsTracker(
       emittedRecordsCount.incrementAndGet()
       emittedBytesCount.addAndGet(estimatedBytesSize)
     }
+    totalStats?.apply {
+      emittedRecordsCount.increment()
+      emittedBytesCount.add(estimatedBytesSize)
+    }
   }
 
   private fun getFileSize(recordMessage: AirbyteRecordMessage): Long? =
@@ -185,6 +238,7 @@ class StreamStatsTracker(
   fun trackStateFromSource(stateMessage: AirbyteStateMessage) {
     val currentTime = LocalDateTime.now()
     streamStats.sourceStateCount.incrementAndGet()
+    totalStats?.sourceStateCount?.increment()
 
     if (streamStats.unreliableStateOperations.get()) {
       // State collision previously detected, we skip all operations that involve state tracking.
@@ -196,6 +250,7 @@ class StreamStatsTracker(
       // State collision detected, it means that state tracking is compromised for this stream.
       // Rather than reporting incorrect data, we skip all operations that involve state tracking.
       streamStats.unreliableStateOperations.set(true)
+      totalStats?.unreliableStateOperations?.set(true)
 
       // We can clear the stagedStatsList since we won't be processing it anymore.
       stagedStatsList.clear()
@@ -244,6 +299,7 @@ class StreamStatsTracker(
   fun trackStateFromDestination(stateMessage: AirbyteStateMessage) {
     val currentTime = LocalDateTime.now()
     streamStats.destinationStateCount.incrementAndGet()
+    totalStats?.destinationStateCount?.increment()
 
     if (streamStats.unreliableStateOperations.get()) {
       // State collision previously detected, we skip all operations that involve state tracking.
@@ -284,16 +340,20 @@ class StreamStatsTracker(
       stateIds.remove(stagedStats.stateId)
 
       // Increment committed stats as we are un-staging stats
-      streamStats.committedBytesCount.addAndGet(
+      val committedBytes =
         stagedStats.emittedStatsCounters.emittedBytesCount
           .get()
-          .minus(stagedStats.emittedStatsCounters.filteredOutBytesCount.get()),
-      )
-      streamStats.committedRecordsCount.addAndGet(
+          .minus(stagedStats.emittedStatsCounters.filteredOutBytesCount.get())
+      val committedRecords =
         stagedStats.emittedStatsCounters.remittedRecordsCount
           .get()
-          .minus(stagedStats.emittedStatsCounters.filteredOutBytesCount.get()),
-      )
+          .minus(stagedStats.emittedStatsCounters.filteredOutBytesCount.get())
+      streamStats.committedBytesCount.addAndGet(committedBytes)
+      streamStats.committedRecordsCount.addAndGet(committedRecords)
+      totalStats?.apply {
+        committedBytesCount.add(committedBytes)
+        committedRecordsCount.add(committedRecords)
+      }
 
       if (stagedStats.stateId == stateId) {
         break
@@ -316,11 +376,15 @@ class StreamStatsTracker(
   /**
    * Bookkeeping for when we see an estimate message.
    */
-  fun trackEstimates(msg: AirbyteEstimateTraceMessage): Unit =
-    with(streamStats) {
-      estimatedBytesCount.set(msg.byteEstimate)
-      estimatedRecordsCount.set(msg.rowEstimate)
+  fun trackEstimates(msg: AirbyteEstimateTraceMessage) {
+    // estimates replace the previous ones, the totals are moved by the difference
+    val previousBytes = streamStats.estimatedBytesCount.getAndSet(msg.byteEstimate)
+    val previousRecords = streamStats.estimatedRecordsCount.getAndSet(msg.rowEstimate)
+    totalStats?.apply {
+      estimatedBytesCount.add(msg.byteEstimate - previousBytes)
+      estimatedRecordsCount.add(msg.rowEstimate - previousRecords)
     }
+  }
 
   fun getTrackedEmittedRecordsSinceLastStateMessage(): Long = previousEmittedStats.remittedRecordsCount.get()
 
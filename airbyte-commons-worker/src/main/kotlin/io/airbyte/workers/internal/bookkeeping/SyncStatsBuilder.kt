@@ -13,27 +13,32 @@ import io.airbyte.config.SyncStats
  * Extract StreamStats from SyncStatsTracker.
  */
 fun SyncStatsTracker.getPerStreamStats(hasReplicationCompleted: Boolean): List<StreamSyncStats> {
-  // for readability purposes, avoids having to use `this@getPerStreamStats` in the map below
-  val tracker = this
+  // each map goes through every stream, get them once rather than once per stream
+  val streamToEmittedRecords = getStreamToEmittedRecords()
+  val streamToEmittedBytes = getStreamToEmittedBytes()
+  val streamToFilteredOutRecords = getStreamToFilteredOutRecords()
+  val streamToFilteredOutBytes = getStreamToFilteredOutBytes()
+  val streamToCommittedRecords = if (hasReplicationCompleted) emptyMap() else getStreamToCommittedRecords()
+  val streamToCommittedBytes = if (hasReplicationCompleted) emptyMap() else getStreamToCommittedBytes()
 
   // assume every stream with stats is in streamToEmittedRecords map
-  return getStreamToEmittedRecords()
+  return streamToEmittedRecords
     .map { (stream, records) ->
       val syncStats: SyncStats =
         SyncStats()
-          .withBytesEmitted(tracker.getStreamToEmittedBytes()[stream])
+          .withBytesEmitted(streamToEmittedBytes[stream])
           .withRecordsEmitted(records)
-          .withRecordsFilteredOut(tracker.getStreamToFilteredOutRecords()[stream])
-          .withBytesFilteredOut(tracker.getStreamToFilteredOutBytes()[stream])
+          .withRecordsFilteredOut(streamToFilteredOutRecords[stream])
+          .withBytesFilteredOut(streamToFilteredOutBytes[stream])
           .withSourceStateMessagesEmitted(null)
           .withDestinationStateMessagesEmitted(null)
           .apply {
             if (hasReplicationCompleted) {
-              bytesCommitted = tracker.getStreamToEmittedBytes()[stream]?.minus(bytesFilteredOut)
-              recordsCommitted = tracker.getStreamToEmittedRecords()[stream]?.minus(recordsFilteredOut)
+              bytesCommitted = streamToEmittedBytes[stream]?.minus(bytesFilteredOut)
+              recordsCommitted = records.minus(recordsFilteredOut)
             } else {
-              bytesCommitted = tracker.getStreamToCommittedBytes()[stream]
-              recordsCommitted = tracker.getStreamToCommittedRecords()[stream]
+              bytesCommitted = streamToCommittedBytes[stream]
+              recordsCommitted = streamToCommittedRecords[stream]
             }
           }
 
@@ -4,6 +4,8 @@
 
 package io.airbyte.workers.internal.bookkeeping
 
+import io.airbyte.config.StreamSyncStats
+import io.airbyte.config.SyncStats
 import io.airbyte.protocol.models.v0.AirbyteEstimateTraceMessage
 import io.airbyte.protocol.models.v0.AirbyteRecordMessage
 import io.airbyte.protocol.models.v0.AirbyteStateMessage
@@ -16,11 +18,28 @@ import io.airbyte.workers.context.ReplicationInputFeatureFlagReader
 interface SyncStatsTracker {
   fun updateFilteredOutRecordsStats(recordMessage: AirbyteRecordMessage)
 
+  /**
+   * Same as [updateFilteredOutRecordsStats], with the size of the record data already known.
+   */
+  fun updateFilteredOutRecordsStats(
+    recordMessage: AirbyteRecordMessage,
+    recordDataSize: Long,
+  )
+
   /**
    * Update the stats count with data from recordMessage.
    */
   fun updateStats(recordMessage: AirbyteRecordMessage)
 
+  /**
+   * Same as [updateStats], with the size of the record data already known, which avoids measuring
+   * the record again.
+   */
+  fun updateStats(
+    recordMessage: AirbyteRecordMessage,
+    recordDataSize: Long,
+  )
+
   /**
    * There are several assumptions here:
    *
@@ -163,7 +182,29 @@ interface SyncStatsTracker {
 
   fun getUnreliableStateTimingMetrics(): Boolean
 
+  /**
+   * Get the total and per stream stats of the sync at once, e.g. to persist them.
+   *
+   * @param hasReplicationCompleted defines whether the replication has completed. If so, emitted
+   * counts/bytes are used as committed counts/bytes.
+   * @return the stats of the sync, see [SyncStatsSnapshot].
+   */
+  fun getStatsSnapshot(hasReplicationCompleted: Boolean): SyncStatsSnapshot =
+    SyncStatsSnapshot(
+      totalStats = getTotalStats(hasReplicationCompleted),
+      perStreamStats = getPerStreamStats(hasReplicationCompleted),
+    )
+
   fun setReplicationFeatureFlagReader(replicationInputFeatureFlagReader: ReplicationInputFeatureFlagReader)
 
   fun endOfReplication(completedSuccessfully: Boolean)
 }
+
+/**
+ * Total and per stream stats of a sync. The emitted, filtered out and committed totals are the sums
+ * of the per stream stats, since both are read together.
+ */
+data class SyncStatsSnapshot(
+  val totalStats: SyncStats,
+  val perStreamStats: List<StreamSyncStats>,
+)
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.internal.syncpersistence
 
+import com.fasterxml.jackson.databind.JsonNode
 import datadog.trace.api.Trace
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.api.client.model.generated.AttemptStats
@@ -11,6 +12,8 @@ import io.airbyte.api.client.model.generated.AttemptStreamStats
 import io.airbyte.api.client.model.generated.ConnectionStateCreateOrUpdate
 import io.airbyte.api.client.model.generated.SaveStatsRequestBody
 import io.airbyte.commons.converters.StateConverter
+import io.airbyte.config.StateType
+import io.airbyte.config.StateWrapper
 import io.airbyte.config.SyncStats
 import io.airbyte.config.helpers.StateMessageHelper
 import io.airbyte.metrics.MetricAttribute
@@ -18,11 +21,12 @@ import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.protocol.models.v0.AirbyteEstimateTraceMessage
+import io.airbyte.protocol.models.v0.AirbyteGlobalState
 import io.airbyte.protocol.models.v0.AirbyteRecordMessage
 import io.airbyte.protocol.models.v0.AirbyteStateMessage
+import io.airbyte.protocol.models.v0.AirbyteStreamState
+import io.airbyte.protocol.models.v0.StreamDescriptor
 import io.airbyte.workers.internal.bookkeeping.SyncStatsTracker
-import io.airbyte.workers.internal.bookkeeping.getPerStreamStats
-import io.airbyte.workers.internal.bookkeeping.getTotalStats
 import io.airbyte.workers.internal.stateaggregator.StateAggregator
 import io.airbyte.workers.internal.stateaggregator.StateAggregatorFactory
 import io.github.oshai.kotlinlogging.KotlinLogging
@@ -71,6 +75,7 @@ class SyncPersistenceImpl
     private val stateAggregatorFactory: StateAggregatorFactory,
     @Named("syncPersistenceExecutorService") private val stateFlushExecutorService: ScheduledExecutorService,
     @Value("\${airbyte.worker.replication.persistence-flush-period-sec}") private val stateFlushPeriodInSeconds: Long,
+    @Value("\${airbyte.worker.replication.persistence-delta-flush-enabled:false}") private val deltaFlushEnabled: Boolean,
     private val metricClient: MetricClient,
     @param:Parameter private val syncStatsTracker: SyncStatsTracker,
     @param:Parameter private val connectionId: UUID,
@@ -86,6 +91,15 @@ class SyncPersistenceImpl
     private var statsToPersist: SaveStatsRequestBody? = null
     private var retryWithJitterConfig: RetryWithJitterConfig? = null
 
+    /**
+     * Stream states as of the last successful flush, used in delta mode to only send the streams whose state changed since then.
+     *
+     * Like [stateToFlush], this is confined to the thread flushing the states: it is only used by [doFlushState], which runs on the
+     * single thread of [stateFlushExecutorService], and by [close] once that executor has terminated.
+     */
+    private val flushedStreamStates = mutableMapOf<StreamDescriptor, JsonNode?>()
+
+    @JvmOverloads
     constructor(
       airbyteApiClient: AirbyteApiClient,
       stateAggregatorFactory: StateAggregatorFactory,
@@ -97,11 +111,13 @@ class SyncPersistenceImpl
       jobId: Long,
       attemptNumber: Int,
       metricClient: MetricClient,
+      deltaFlushEnabled: Boolean = false,
     ) : this(
       airbyteApiClient = airbyteApiClient,
       stateAggregatorFactory = stateAggregatorFactory,
       stateFlushExecutorService = scheduledExecutorService,
       stateFlushPeriodInSeconds = stateFlushPeriodInSeconds,
+      deltaFlushEnabled = deltaFlushEnabled,
       syncStatsTracker = syncStatsTracker,
       metricClient = metricClient,
       connectionId = connectionId,
@@ -276,21 +292,69 @@ class SyncPersistenceImpl
 
       metricClient.count(metric = OssMetricsRegistry.STATE_COMMIT_ATTEMPT)
 
-      val stateApiRequest =
-        ConnectionStateCreateOrUpdate(connectionId = connectionId, connectionState = StateConverter.toClient(connectionId, maybeStateWrapper))
+      // Legacy states are a single blob, there is no delta to compute for them
+      val isDelta = deltaFlushEnabled && maybeStateWrapper.stateType != StateType.LEGACY
+      val stateWrapper = if (isDelta) maybeStateWrapper.withoutFlushedStreams() else maybeStateWrapper
 
       try {
-        airbyteApiClient.stateApi.createOrUpdateState(stateApiRequest)
+        if (!isDelta) {
+          airbyteApiClient.stateApi.createOrUpdateState(
+            ConnectionStateCreateOrUpdate(connectionId = connectionId, connectionState = StateConverter.toClient(connectionId, stateWrapper)),
+          )
+        } else if (!stateWrapper.isEmptyDelta()) {
+          airbyteApiClient.stateApi.createOrUpdateStatePartial(
+            ConnectionStateCreateOrUpdate(connectionId = connectionId, connectionState = StateConverter.toClient(connectionId, stateWrapper)),
+          )
+        }
       } catch (e: Exception) {
         metricClient.count(metric = OssMetricsRegistry.STATE_COMMIT_ATTEMPT_FAILED)
         throw e
       }
 
+      if (isDelta) {
+        stateWrapper.streamStates().forEach { flushedStreamStates[it.streamDescriptor] = it.streamState }
+      }
+
       // Only reset stateToFlush if the API call was successful
       stateToFlush = null
       metricClient.count(metric = OssMetricsRegistry.STATE_COMMIT_ATTEMPT_SUCCESSFUL)
     }
 
+    /**
+     * Returns a copy of this state without the stream states that are identical to the ones of the last successful flush.
+     *
+     * Global states carry the state of every stream in each message, so this is what keeps a flush proportional to the number of
+     * streams that progressed. The shared state of a global state is always kept.
+     */
+    private fun StateWrapper.withoutFlushedStreams(): StateWrapper =
+      when (stateType) {
+        StateType.GLOBAL ->
+          StateWrapper()
+            .withStateType(StateType.GLOBAL)
+            .withGlobal(
+              AirbyteStateMessage()
+                .withType(AirbyteStateMessage.AirbyteStateType.GLOBAL)
+                .withGlobal(
+                  AirbyteGlobalState()
+                    .withSharedState(global.global.sharedState)
+                    .withStreamStates(global.global.streamStates.filterNot { it.isFlushed() }),
+                ),
+            )
+        StateType.STREAM ->
+          StateWrapper()
+            .withStateType(StateType.STREAM)
+            .withStateMessages(stateMessages.filterNot { it.stream.isFlushed() })
+        else -> this
+      }
+
+    private fun AirbyteStreamState.isFlushed(): Boolean =
+      flushedStreamStates.containsKey(streamDescriptor) && flushedStreamStates[streamDescriptor] == streamState
+
+    /**
+     * Global states are always sent for their shared state, stream states only if at least one stream changed.
+     */
+    private fun StateWrapper.isEmptyDelta(): Boolean = stateType == StateType.STREAM && stateMessages.isEmpty()
+
     private fun doFlushStats() {
       if (!hasStatsToFlush()) {
         return
@@ -318,6 +382,14 @@ class SyncPersistenceImpl
       syncStatsTracker.updateStats(recordMessage)
     }
 
+    override fun updateStats(
+      recordMessage: AirbyteRecordMessage,
+      recordDataSize: Long,
+    ) {
+      isReceivingStats = true
+      syncStatsTracker.updateStats(recordMessage, recordDataSize)
+    }
+
     override fun updateEstimates(estimate: AirbyteEstimateTraceMessage) {
       isReceivingStats = true
       syncStatsTracker.updateEstimates(estimate)
@@ -338,14 +410,20 @@ class SyncPersistenceImpl
     }
   }
 
+private fun StateWrapper.streamStates(): List<AirbyteStreamState> =
+  when (stateType) {
+    StateType.GLOBAL -> global.global.streamStates
+    StateType.STREAM -> stateMessages.map { it.stream }
+    else -> emptyList()
+  }
+
 private fun buildSaveStatsRequest(
   syncStatsTracker: SyncStatsTracker,
   jobId: Long,
   attemptNumber: Int,
   connectionId: UUID,
 ): SaveStatsRequestBody {
-  val totalSyncStats = syncStatsTracker.getTotalStats(false)
-  val streamSyncStats = syncStatsTracker.getPerStreamStats(false)
+  val (totalSyncStats, streamSyncStats) = syncStatsTracker.getStatsSnapshot(false)
 
   return SaveStatsRequestBody(
     jobId = jobId,
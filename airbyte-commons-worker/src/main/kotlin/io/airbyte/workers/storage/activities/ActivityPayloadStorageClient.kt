@@ -6,6 +6,7 @@ package io.airbyte.workers.storage.activities
 
 import io.airbyte.commons.json.JsonSerde
 import io.airbyte.commons.storage.StorageClient
+import io.airbyte.commons.storage.writeStream
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
@@ -45,8 +46,8 @@ class ActivityPayloadStorageClient(
     metricClient.count(metric = OssMetricsRegistry.ACTIVITY_PAYLOAD_READ_FROM_DOC_STORE)
 
     return storageClientRaw
-      .read(uri.id)
-      ?.let { jsonSerde.deserialize(it, target) }
+      .readStream(uri.id)
+      ?.use { jsonSerde.deserialize(it, target) }
   }
 
   /**
@@ -61,7 +62,7 @@ class ActivityPayloadStorageClient(
   ) {
     metricClient.count(metric = OssMetricsRegistry.ACTIVITY_PAYLOAD_WRITTEN_TO_DOC_STORE)
 
-    return storageClientRaw.write(uri.id, jsonSerde.serialize(payload))
+    return storageClientRaw.writeStream(uri.id) { jsonSerde.serialize(payload, it) }
   }
 
   /**
@@ -6,12 +6,15 @@ package io.airbyte.workers;
 
 import static org.junit.Assert.assertEquals;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.Jsons;
 import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteStream;
 import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import io.airbyte.workers.RecordSchemaValidator.StreamValidationErrors;
 import io.airbyte.workers.testutils.AirbyteMessageUtils;
 import io.airbyte.workers.testutils.TestConfigHelpers;
 import java.io.IOException;
@@ -24,7 +27,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import kotlin.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -39,7 +41,7 @@ class RecordSchemaValidatorTest {
   private static final AirbyteMessage INVALID_RECORD_1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, 3);
   private static final AirbyteMessage INVALID_RECORD_2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, Map.of(FIELD_NAME, true));
 
-  private ConcurrentMap<AirbyteStreamNameNamespacePair, Pair<Set<String>, Integer>> validationErrors;
+  private ConcurrentMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors;
   private ConcurrentMap<AirbyteStreamNameNamespacePair, Set<String>> uncountedValidationErrors;
 
   @BeforeEach
@@ -81,7 +83,7 @@ class RecordSchemaValidatorTest {
         validationErrors));
     executorService.awaitTermination(3, TimeUnit.SECONDS);
     assertEquals(1, validationErrors.size());
-    assertEquals(2, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getSecond());
+    assertEquals(2, validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getCount());
   }
 
   @Test
@@ -118,4 +120,31 @@ class RecordSchemaValidatorTest {
     assertEquals(0, uncountedValidationErrors.size());
   }
 
+  @Test
+  void testValidateSampledRecords() {
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        MoreExecutors.newDirectExecutorService(), new JsonSchemaValidator(), 2, 0);
+
+    List.of(INVALID_RECORD_1, INVALID_RECORD_2, INVALID_RECORD_1, INVALID_RECORD_2).forEach(message -> recordSchemaValidator.validateSchema(
+        message.getRecord(),
+        AIRBYTE_STREAM_NAME_NAMESPACE_PAIR,
+        validationErrors));
+
+    assertEquals(2, validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getCount());
+    assertEquals(1, validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getMessages().size());
+  }
+
+  @Test
+  void testValidateUpToMaxRecordsPerStream() {
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        MoreExecutors.newDirectExecutorService(), new JsonSchemaValidator(), 1, 1);
+
+    List.of(INVALID_RECORD_1, INVALID_RECORD_2).forEach(message -> recordSchemaValidator.validateSchemaWithoutCounting(
+        message.getRecord(),
+        AIRBYTE_STREAM_NAME_NAMESPACE_PAIR,
+        uncountedValidationErrors));
+
+    assertEquals(1, uncountedValidationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).size());
+  }
+
 }
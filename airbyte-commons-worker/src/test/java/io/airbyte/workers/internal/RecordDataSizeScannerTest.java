@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.workers.testutils.AirbyteMessageUtils;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RecordDataSizeScannerTest {
+
+  @Test
+  void testMatchesEstimatedByteSizeOfCompactLines() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", Map.of(
+        "name", "quote \" and brace } inside",
+        "nested", Map.of("data", List.of(1, 2, Map.of("record", "x"))),
+        "empty", Map.of()));
+
+    assertEquals(Jsons.getEstimatedByteSize(record.getRecord().getData()), RecordDataSizeScanner.dataSize(Jsons.serialize(record)));
+  }
+
+  @Test
+  void testIgnoresWhitespaceOutsideOfStrings() {
+    final String line = "{\"type\": \"RECORD\", \"record\": {\"stream\": \"s\", \"data\": {\"a\": \"x y\", \"b\": [1, 2]}, \"emitted_at\": 1}}";
+
+    assertEquals("{\"a\":\"x y\",\"b\":[1,2]}".length(), RecordDataSizeScanner.dataSize(line));
+  }
+
+  @Test
+  void testOnlyLooksAtTheRecordData() {
+    final String line = "{\"record\":{\"meta\":{\"data\":{\"ignored\":1}},\"data\":{}},\"type\":\"RECORD\"}";
+
+    assertEquals(2, RecordDataSizeScanner.dataSize(line));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "{\"type\":\"STATE\",\"state\":{\"data\":{\"a\":1}}}",
+    "{\"type\":\"RECORD\",\"record\":{\"data\":\"not an object\"}}",
+    "{\"type\":\"RECORD\",\"record\":{\"data\":{\"truncated\":"
+  })
+  void testNotFound(final String line) {
+    assertEquals(RecordDataSizeScanner.NOT_FOUND, RecordDataSizeScanner.dataSize(line));
+  }
+
+}
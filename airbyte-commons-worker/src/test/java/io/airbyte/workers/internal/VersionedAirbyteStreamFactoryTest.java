@@ -105,6 +105,31 @@ class VersionedAirbyteStreamFactoryTest {
       assertEquals(expectedStream.collect(Collectors.toList()), messageStream.collect(Collectors.toList()));
     }
 
+    @Test
+    void testRecordPassthrough() {
+      final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+      final String line = Jsons.serialize(record);
+      final InputStream inputStream = new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+      final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+      final List<AirbyteMessage> messages = VersionedAirbyteStreamFactory
+          .noMigrationVersionedAirbyteStreamFactory(
+              logger,
+              new Builder(),
+              new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(false),
+              gsonPksExtractor,
+              mock(MetricClient.class))
+          .withRecordPassthrough(true)
+          .create(bufferedReader)
+          .toList();
+
+      assertEquals(List.of(record), messages);
+      assertEquals(Optional.of(line), PassthroughAirbyteMessage.unchangedLine(messages.get(0)));
+
+      messages.get(0).getRecord().setNamespace("renamed");
+      assertEquals(Optional.empty(), PassthroughAirbyteMessage.unchangedLine(messages.get(0)));
+    }
+
     @Test
     void testLoggingLine() {
       final String invalidRecord = "invalid line";
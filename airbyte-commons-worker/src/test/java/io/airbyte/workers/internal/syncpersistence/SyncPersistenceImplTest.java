@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.internal.syncpersistence;
 
+import static io.airbyte.protocol.models.v0.AirbyteStateMessage.AirbyteStateType.GLOBAL;
 import static io.airbyte.protocol.models.v0.AirbyteStateMessage.AirbyteStateType.LEGACY;
 import static io.airbyte.protocol.models.v0.AirbyteStateMessage.AirbyteStateType.STREAM;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -13,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -30,6 +32,7 @@ import io.airbyte.api.client.model.generated.StreamState;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.metrics.MetricClient;
 import io.airbyte.protocol.models.v0.AirbyteEstimateTraceMessage;
+import io.airbyte.protocol.models.v0.AirbyteGlobalState;
 import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
 import io.airbyte.protocol.models.v0.AirbyteStateMessage;
 import io.airbyte.protocol.models.v0.AirbyteStreamState;
@@ -39,10 +42,12 @@ import io.airbyte.workers.internal.bookkeeping.SyncStatsTracker;
 import io.airbyte.workers.internal.stateaggregator.StateAggregatorFactory;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.assertj.core.api.CollectionAssert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -425,6 +430,66 @@ class SyncPersistenceImplTest {
     assertTrue(Jsons.serialize(captor.getValue()).contains("myOtherState2"));
   }
 
+  @Test
+  void testDeltaFlushOnlySendsUpdatedGlobalStreams() throws Exception {
+    syncPersistence = new SyncPersistenceImpl(airbyteApiClient, new StateAggregatorFactory(), syncStatsTracker, executorService,
+        flushPeriod, new RetryWithJitterConfig(1, 1, 4),
+        connectionId, jobId, attemptNumber, metricClient, true);
+    final ArgumentCaptor<ConnectionStateCreateOrUpdate> captor = ArgumentCaptor.forClass(ConnectionStateCreateOrUpdate.class);
+
+    syncPersistence.accept(connectionId, getGlobalState(1, 1, 1));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateStatePartial(captor.capture());
+    assertEquals(Map.of("A", 1, "B", 1), getGlobalStreamStates(captor.getValue()));
+    clearInvocations(stateApi);
+
+    // Only A moved, the shared state is always sent
+    syncPersistence.accept(connectionId, getGlobalState(2, 2, 1));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateStatePartial(captor.capture());
+    assertEquals(Map.of("A", 2), getGlobalStreamStates(captor.getValue()));
+    assertEquals(Jsons.jsonNode(2), captor.getValue().getConnectionState().getGlobalState().getSharedState());
+    clearInvocations(stateApi);
+
+    // B moved but the flush failed, it should be part of the next flush
+    doThrow(new IOException()).when(stateApi).createOrUpdateStatePartial(any());
+    syncPersistence.accept(connectionId, getGlobalState(3, 2, 2));
+    actualFlushMethod.getValue().run();
+    reset(stateApi);
+    syncPersistence.accept(connectionId, getGlobalState(4, 3, 2));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateStatePartial(captor.capture());
+    assertEquals(Map.of("A", 3, "B", 2), getGlobalStreamStates(captor.getValue()));
+    verify(stateApi, never()).createOrUpdateState(any());
+  }
+
+  @Test
+  void testDeltaFlushSkipsUnchangedStreamStates() throws Exception {
+    syncPersistence = new SyncPersistenceImpl(airbyteApiClient, new StateAggregatorFactory(), syncStatsTracker, executorService,
+        flushPeriod, new RetryWithJitterConfig(1, 1, 4),
+        connectionId, jobId, attemptNumber, metricClient, true);
+    final ArgumentCaptor<ConnectionStateCreateOrUpdate> captor = ArgumentCaptor.forClass(ConnectionStateCreateOrUpdate.class);
+
+    final AirbyteStateMessage stateA1 = getStreamState("A", 1);
+    syncPersistence.accept(connectionId, stateA1);
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateStatePartial(buildStateRequest(connectionId, List.of(stateA1)));
+    clearInvocations(stateApi);
+
+    // Same state as the one already flushed
+    syncPersistence.accept(connectionId, getStreamState("A", 1));
+    actualFlushMethod.getValue().run();
+    verify(stateApi, never()).createOrUpdateStatePartial(any());
+
+    final AirbyteStateMessage stateB1 = getStreamState("B", 1);
+    syncPersistence.accept(connectionId, getStreamState("A", 1));
+    syncPersistence.accept(connectionId, stateB1);
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateStatePartial(captor.capture());
+    assertEquals(buildStateRequest(connectionId, List.of(stateB1)), captor.getValue());
+    verify(stateApi, never()).createOrUpdateState(any());
+  }
+
   @Test
   void testSyncStatsTrackerWrapping() {
     syncStatsTracker = mock();
@@ -575,6 +640,24 @@ class SyncPersistenceImplTest {
                 .withStreamState(Jsons.jsonNode(stateValue)));
   }
 
+  private AirbyteStateMessage getGlobalState(final int sharedStateValue, final int streamAStateValue, final int streamBStateValue) {
+    return new AirbyteStateMessage().withType(GLOBAL)
+        .withGlobal(new AirbyteGlobalState()
+            .withSharedState(Jsons.jsonNode(sharedStateValue))
+            .withStreamStates(List.of(
+                new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("A"))
+                    .withStreamState(Jsons.jsonNode(streamAStateValue)),
+                new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("B"))
+                    .withStreamState(Jsons.jsonNode(streamBStateValue)))));
+  }
+
+  private Map<String, Integer> getGlobalStreamStates(final ConnectionStateCreateOrUpdate request) {
+    return request.getConnectionState().getGlobalState().getStreamStates().stream()
+        .collect(Collectors.toMap(s -> s.getStreamDescriptor().getName(), s -> s.getStreamState().asInt()));
+  }
+
   private AirbyteStateMessage getLegacyState(final String stateValue) {
     return new AirbyteStateMessage().withType(LEGACY)
         .withData(Jsons.deserialize("{\"state\":\"" + stateValue + "\"}"));
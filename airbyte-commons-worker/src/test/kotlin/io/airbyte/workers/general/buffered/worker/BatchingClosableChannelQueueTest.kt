@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.buffered.worker
+
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.async
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+@OptIn(ExperimentalCoroutinesApi::class)
+class BatchingClosableChannelQueueTest {
+  private fun createQueue(
+    capacity: Int = 100,
+    maxBatchSize: Int = 10,
+    maxBatchBytes: Long = Long.MAX_VALUE,
+    maxBatchLatency: Duration = Duration.ofHours(1),
+  ) = BatchingClosableChannelQueue<Int>(capacity, maxBatchSize, maxBatchBytes, maxBatchLatency) { it.toLong() }
+
+  private suspend fun ClosableChannelQueue<Int>.drain(): List<Int> {
+    val received = mutableListOf<Int>()
+    while (true) {
+      received.add(receive() ?: return received)
+    }
+  }
+
+  @Test
+  fun `messages are received in order`() =
+    runTest {
+      val queue = createQueue(capacity = 20, maxBatchSize = 3)
+      val consumer = async { queue.drain() }
+
+      (1..100).forEach { queue.send(it) }
+      queue.close()
+
+      assertEquals((1..100).toList(), consumer.await())
+      assertTrue(queue.isClosedForReceiving())
+    }
+
+  @Test
+  fun `pending messages are flushed on close`() =
+    runTest {
+      val queue = createQueue()
+      // The first message goes straight to the empty channel, the next ones are kept pending.
+      (1..5).forEach { queue.send(it) }
+      assertFalse(queue.isClosedForSending())
+
+      queue.close()
+
+      assertTrue(queue.isClosedForSending())
+      assertFalse(queue.isClosedForReceiving())
+      assertEquals((1..5).toList(), queue.drain())
+      assertTrue(queue.isClosedForReceiving())
+    }
+
+  @Test
+  fun `consumer takes over the pending batch when the channel is empty`() =
+    runTest {
+      val queue = createQueue()
+      (1..3).forEach { queue.send(it) }
+
+      assertEquals(1, queue.receive())
+      assertEquals(2, queue.receive())
+      assertEquals(3, queue.receive())
+      assertFalse(queue.isClosedForReceiving())
+    }
+
+  @Test
+  fun `pending batch is kept for the consumer if the channel is full on close`() =
+    runTest {
+      // The channel holds a single batch.
+      val queue = createQueue(capacity = 2, maxBatchSize = 2)
+      // 1 goes straight to the empty channel, 2 and 3 fill a batch that takes its place once consumed,
+      // and 4 is still pending when the queue gets closed.
+      queue.send(1)
+      queue.send(2)
+      assertEquals(1, queue.receive())
+      queue.send(3)
+      queue.send(4)
+
+      queue.close()
+
+      assertEquals(listOf(2, 3, 4), queue.drain())
+      assertTrue(queue.isClosedForReceiving())
+    }
+
+  @Test
+  fun `full batches wait for room in the channel`() =
+    runTest {
+      val queue = createQueue(capacity = 2, maxBatchSize = 2)
+      queue.send(1)
+      queue.send(2)
+      val producer = async { queue.send(3) }
+      runCurrent()
+      assertFalse(producer.isCompleted)
+
+      assertEquals(1, queue.receive())
+      producer.await()
+      queue.close()
+
+      assertEquals(listOf(2, 3), queue.drain())
+    }
+
+  @Test
+  fun `batches are bounded by size in bytes`() =
+    runTest {
+      val queue = createQueue(capacity = 10, maxBatchSize = 10, maxBatchBytes = 5)
+      queue.send(1)
+      // 5 reaches the byte limit, so it is sent as a batch of its own and waits for room in the channel.
+      val producer = async { queue.send(5) }
+      runCurrent()
+      assertFalse(producer.isCompleted)
+
+      assertEquals(1, queue.receive())
+      producer.await()
+      assertEquals(5, queue.receive())
+    }
+
+  @Test
+  fun `batches are sent once their latency deadline is reached`() =
+    runTest {
+      val queue = createQueue(capacity = 10, maxBatchSize = 10, maxBatchLatency = Duration.ZERO)
+      queue.send(1)
+      // The batch is already past its deadline, so it is sent and waits for room in the channel.
+      val producer = async { queue.send(2) }
+      runCurrent()
+      assertFalse(producer.isCompleted)
+
+      assertEquals(1, queue.receive())
+      producer.await()
+      assertEquals(2, queue.receive())
+    }
+
+  @Test
+  fun `receive returns null once closed and drained`() =
+    runTest {
+      val queue = createQueue()
+      queue.close()
+
+      assertNull(queue.receive())
+      assertTrue(queue.isClosedForReceiving())
+    }
+}
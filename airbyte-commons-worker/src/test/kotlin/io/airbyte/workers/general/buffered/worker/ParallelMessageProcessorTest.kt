@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.buffered.worker
+
+import io.airbyte.commons.json.Jsons
+import io.airbyte.protocol.models.v0.AirbyteMessage
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage
+import io.mockk.clearAllMocks
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.runBlocking
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.util.Optional
+
+class ParallelMessageProcessorTest {
+  private lateinit var mockReplicationWorkerState: ReplicationWorkerState
+  private lateinit var mockReplicationWorkerHelper: ReplicationWorkerHelperK
+  private lateinit var sourceQueue: ClosableChannelQueue<AirbyteMessage>
+  private lateinit var destinationQueue: ClosableChannelQueue<AirbyteMessage>
+
+  @BeforeEach
+  fun setUp() {
+    mockReplicationWorkerState = mockk(relaxed = true)
+    mockReplicationWorkerHelper = mockk(relaxed = true)
+    sourceQueue = DefaultClosableChannelQueue(10)
+    destinationQueue = DefaultClosableChannelQueue(10)
+
+    every { mockReplicationWorkerState.shouldAbort } returns false
+    every { mockReplicationWorkerHelper.trackMessageFromSource(any()) } answers { firstArg() }
+    every { mockReplicationWorkerHelper.applyMappers(any()) } returns true
+    every { mockReplicationWorkerHelper.completeMessageFromSource(any(), any()) } answers {
+      if (secondArg()) Optional.of(firstArg()) else Optional.empty()
+    }
+  }
+
+  @AfterEach
+  fun tearDown() {
+    clearAllMocks()
+  }
+
+  private fun record(
+    stream: String,
+    id: Int,
+  ) = AirbyteMessage()
+    .withType(Type.RECORD)
+    .withRecord(AirbyteRecordMessage().withStream(stream).withData(Jsons.jsonNode(mapOf("id" to id))))
+
+  private fun state() = AirbyteMessage().withType(Type.STATE)
+
+  private fun createProcessor() =
+    ParallelMessageProcessor(
+      replicationWorkerState = mockReplicationWorkerState,
+      replicationWorkerHelper = mockReplicationWorkerHelper,
+      sourceQueue = sourceQueue,
+      destinationQueue = destinationQueue,
+      parallelism = 4,
+      mapperDispatcher = Dispatchers.Default,
+    )
+
+  private fun runProcessor(messages: List<AirbyteMessage>): List<AirbyteMessage> =
+    runBlocking(Dispatchers.Default) {
+      val received =
+        async {
+          val received = mutableListOf<AirbyteMessage>()
+          while (true) {
+            received.add(destinationQueue.receive() ?: break)
+          }
+          received
+        }
+      val processor = async { createProcessor().run() }
+      messages.forEach { sourceQueue.send(it) }
+      sourceQueue.close()
+      processor.await()
+      received.await()
+    }
+
+  @Test
+  fun `messages are sent to the destination in the order they were read`() {
+    // Slow down one of the streams to make sure the other streams don't overtake it.
+    every { mockReplicationWorkerHelper.applyMappers(match { it.record?.stream == "slow" }) } answers {
+      Thread.sleep(1)
+      true
+    }
+    val messages =
+      (0 until 50).flatMap { i ->
+        listOf(record("slow", i), record("fast1", i), record("fast2", i)) + if (i % 10 == 9) listOf(state()) else emptyList()
+      }
+
+    val received = runProcessor(messages)
+
+    assertEquals(messages, received)
+  }
+
+  @Test
+  fun `filtered out records and non record messages are not sent to the destination`() {
+    val kept = record("stream", 1)
+    val filteredOut = record("stream", 2)
+    val trace = AirbyteMessage().withType(Type.TRACE)
+    val state = state()
+    every { mockReplicationWorkerHelper.applyMappers(filteredOut) } returns false
+
+    val received = runProcessor(listOf(kept, filteredOut, trace, state))
+
+    assertEquals(listOf(kept, state), received)
+    verify(exactly = 1) { mockReplicationWorkerHelper.completeMessageFromSource(filteredOut, false) }
+    verify(exactly = 1) { mockReplicationWorkerHelper.completeMessageFromSource(trace, true) }
+    verify(exactly = 0) { mockReplicationWorkerHelper.applyMappers(trace) }
+    assertTrue(destinationQueue.isClosedForReceiving())
+  }
+
+  @Test
+  fun `mapper failures are propagated`() {
+    every { mockReplicationWorkerHelper.applyMappers(any()) } throws IllegalStateException("boom")
+
+    assertThrows(IllegalStateException::class.java) {
+      runProcessor(listOf(record("stream", 1)))
+    }
+    assertTrue(sourceQueue.isClosedForSending())
+    assertTrue(destinationQueue.isClosedForSending())
+  }
+}
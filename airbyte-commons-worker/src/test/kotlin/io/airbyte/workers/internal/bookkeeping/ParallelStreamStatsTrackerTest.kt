@@ -432,6 +432,55 @@ class ParallelStreamStatsTrackerTest {
     assertEquals(2L * MESSAGE_SIZE, statsTracker.getTotalBytesCommitted())
   }
 
+  @Test
+  fun testStatsSnapshotMatchesTotalAndPerStreamStats() {
+    statsTracker.updateStats(stream1Message1)
+    statsTracker.updateStats(stream1Message2)
+    val s1State1 = createStreamState(STREAM1_NAME, 2)
+    statsTracker.updateSourceStatesStats(s1State1)
+    statsTracker.updateDestinationStateStats(s1State1)
+    statsTracker.updateStats(stream1Message3)
+    statsTracker.updateStats(stream2Message1)
+    statsTracker.updateFilteredOutRecordsStats(stream2Message2)
+    statsTracker.updateEstimates(createEstimate(STREAM2_NAME, 100L, 21L))
+
+    // the snapshot is expected to match what is built from the individual getters
+    val tracker: SyncStatsTracker = statsTracker
+    listOf(false, true).forEach { hasReplicationCompleted ->
+      val snapshot = statsTracker.getStatsSnapshot(hasReplicationCompleted)
+      assertEquals(tracker.getTotalStats(hasReplicationCompleted), snapshot.totalStats)
+      assertEquals(tracker.getPerStreamStats(hasReplicationCompleted), snapshot.perStreamStats)
+    }
+  }
+
+  @Test
+  fun testTotalsAreTheSumOfTheStreamStats() {
+    statsTracker.updateStats(stream1Message1)
+    statsTracker.updateStats(stream1Message2)
+    statsTracker.updateStats(stream2Message1)
+    statsTracker.updateFilteredOutRecordsStats(stream2Message2)
+    val s1State1 = createStreamState(STREAM1_NAME, 2)
+    statsTracker.updateSourceStatesStats(s1State1)
+    statsTracker.updateDestinationStateStats(s1State1)
+    statsTracker.updateEstimates(createEstimate(STREAM1_NAME, 10L, 1L))
+    statsTracker.updateEstimates(createEstimate(STREAM1_NAME, 30L, 3L))
+
+    listOf(false, true).forEach { hasReplicationCompleted ->
+      val streamStats = statsTracker.getAllStreamSyncStats(hasReplicationCompleted).map { it.stats }
+      val totalStats = statsTracker.getTotalStats(hasReplicationCompleted)
+      assertEquals(streamStats.sumOf { it.recordsEmitted }, totalStats.recordsEmitted)
+      assertEquals(streamStats.sumOf { it.bytesEmitted }, totalStats.bytesEmitted)
+      assertEquals(streamStats.sumOf { it.recordsFilteredOut }, totalStats.recordsFilteredOut)
+      assertEquals(streamStats.sumOf { it.bytesFilteredOut }, totalStats.bytesFilteredOut)
+      assertEquals(streamStats.sumOf { it.recordsCommitted }, totalStats.recordsCommitted)
+      assertEquals(streamStats.sumOf { it.bytesCommitted }, totalStats.bytesCommitted)
+      assertEquals(streamStats.sumOf { it.estimatedRecords }, totalStats.estimatedRecords)
+      assertEquals(streamStats.sumOf { it.estimatedBytes }, totalStats.estimatedBytes)
+    }
+    assertEquals(3L, statsTracker.getTotalRecordsEstimated())
+    assertEquals(30L, statsTracker.getTotalBytesEstimated())
+  }
+
   @Test
   fun testGettersDontCrashWhenThereIsNoData() {
     // Looking for null pointers so no exceptions means all good for most part.
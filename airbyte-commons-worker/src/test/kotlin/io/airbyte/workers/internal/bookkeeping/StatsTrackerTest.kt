@@ -77,6 +77,29 @@ class StatsTrackerTest {
     )
   }
 
+  @Test
+  internal fun `test provided record data size is used instead of measuring the record`() {
+    val streamStatsTracker =
+      StreamStatsTracker(
+        mockk(),
+        mockk(),
+        false,
+      )
+
+    val record =
+      AirbyteRecordMessage()
+        .withStream("name")
+        .withNamespace("namespace")
+        .withData(Jsons.jsonNode(mapOf("id" to 1)))
+
+    streamStatsTracker.trackRecord(record, 42L)
+    streamStatsTracker.trackRecord(record)
+    streamStatsTracker.updateFilteredOutRecordsStats(record, 42L)
+
+    assertEquals(42L + Jsons.getEstimatedByteSize(record.data), streamStatsTracker.streamStats.emittedBytesCount.get())
+    assertEquals(42L, streamStatsTracker.streamStats.filteredOutBytesCount.get())
+  }
+
   @Test
   internal fun `test file reference transfer stats`() {
     val streamStatsTracker =
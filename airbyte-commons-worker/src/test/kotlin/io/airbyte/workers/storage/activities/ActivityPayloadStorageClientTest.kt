@@ -20,6 +20,9 @@ import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.InputStream
 
 @ExtendWith(MockKExtension::class)
 class ActivityPayloadStorageClientTest {
@@ -42,9 +45,9 @@ class ActivityPayloadStorageClientTest {
 
     every { metricClient.count(metric = any(), value = any(), attributes = anyVararg()) } returns mockk<Counter>()
 
-    every { storageClientRaw.write(any(), any()) } returns Unit
+    every { storageClientRaw.writeStream(any()) } answers { ByteArrayOutputStream() }
 
-    every { storageClientRaw.read(any()) } returns ""
+    every { storageClientRaw.readStream(any()) } answers { ByteArrayInputStream(ByteArray(0)) }
   }
 
   @Test
@@ -52,24 +55,26 @@ class ActivityPayloadStorageClientTest {
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
     val refreshOutput = RefreshSchemaActivityOutput()
 
+    val syncOutputStream = ByteArrayInputStream("serialized-sync-output".toByteArray())
     every {
-      storageClientRaw.read("sync-output")
-    } returns "serialized-sync-output"
+      storageClientRaw.readStream("sync-output")
+    } returns syncOutputStream
 
     every {
-      serde.deserialize("serialized-sync-output", StandardSyncOutput::class.java)
+      serde.deserialize(syncOutputStream, StandardSyncOutput::class.java)
     } returns syncOutput
 
     val result1 = client.readJSON<StandardSyncOutput>(ActivityPayloadURI("sync-output"))
 
     Assertions.assertEquals(syncOutput, result1)
 
+    val refreshOutputStream = ByteArrayInputStream("serialized-refresh-output".toByteArray())
     every {
-      storageClientRaw.read("refresh-output")
-    } returns "serialized-refresh-output"
+      storageClientRaw.readStream("refresh-output")
+    } returns refreshOutputStream
 
     every {
-      serde.deserialize("serialized-refresh-output", RefreshSchemaActivityOutput::class.java)
+      serde.deserialize(refreshOutputStream, RefreshSchemaActivityOutput::class.java)
     } returns refreshOutput
 
     val result2 = client.readJSON<RefreshSchemaActivityOutput>(ActivityPayloadURI("refresh-output"))
@@ -80,7 +85,7 @@ class ActivityPayloadStorageClientTest {
   @Test
   fun `readJSON handles null`() {
     every {
-      storageClientRaw.read("sync-output")
+      storageClientRaw.readStream("sync-output")
     } returns null
 
     val result = client.readJSON<StandardSyncOutput>(ActivityPayloadURI("sync-output"))
@@ -92,13 +97,16 @@ class ActivityPayloadStorageClientTest {
   fun `writeJSON serializes to json and writes to a given uri`() {
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
+    val outputStream = ByteArrayOutputStream()
+    every { storageClientRaw.writeStream("sync-output") } returns outputStream
     every {
-      serde.serialize(syncOutput)
-    } returns "serialized-sync-output"
+      serde.serialize(syncOutput, outputStream)
+    } answers { outputStream.write("serialized-sync-output".toByteArray()) }
 
     client.writeJSON(ActivityPayloadURI("sync-output"), syncOutput)
 
-    verify { storageClientRaw.write("sync-output", "serialized-sync-output") }
+    verify { storageClientRaw.writeStream("sync-output") }
+    Assertions.assertEquals("serialized-sync-output", outputStream.toString(Charsets.UTF_8))
   }
 
   @Test
@@ -106,7 +114,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { serde.deserialize(any(), StandardSyncOutput::class.java) } returns syncOutput
+    every { serde.deserialize(any<InputStream>(), StandardSyncOutput::class.java) } returns syncOutput
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -121,7 +129,7 @@ class ActivityPayloadStorageClientTest {
     val syncOutput1 = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
     val syncOutput2 = StandardSyncOutput().withAdditionalProperty("some", "unique-value-2")
 
-    every { serde.deserialize(any(), StandardSyncOutput::class.java) } returns syncOutput2
+    every { serde.deserialize(any<InputStream>(), StandardSyncOutput::class.java) } returns syncOutput2
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput1, comparator, listOf())
 
@@ -135,7 +143,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { storageClientRaw.read(uri.id) } returns null
+    every { storageClientRaw.readStream(uri.id) } returns null
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -161,7 +169,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { storageClientRaw.read(uri.id) } throws RuntimeException("yikes")
+    every { storageClientRaw.readStream(uri.id) } throws RuntimeException("yikes")
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -4,6 +4,9 @@
 
 package io.airbyte.commons.json
 
+import java.io.InputStream
+import java.io.OutputStream
+
 /**
  * Serde: _Ser_ialization + _de_serialization
  *
@@ -12,8 +15,18 @@ package io.airbyte.commons.json
 class JsonSerde {
   fun <T> serialize(obj: T): String = Jsons.serialize(obj)
 
+  fun <T> serialize(
+    obj: T,
+    outputStream: OutputStream,
+  ) = Jsons.serialize(obj, outputStream)
+
   fun <T> deserialize(
     json: String,
     target: Class<T>,
   ): T? = Jsons.deserialize(json, target)
+
+  fun <T> deserialize(
+    inputStream: InputStream,
+    target: Class<T>,
+  ): T? = Jsons.deserialize(inputStream, target)
 }
@@ -7,6 +7,7 @@ package io.airbyte.commons.json;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -25,6 +26,8 @@ import com.google.common.base.Preconditions;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -150,6 +153,37 @@ public class Jsons {
     }
   }
 
+  /**
+   * Serialize an object as JSON to an output stream. The stream is not closed.
+   *
+   * @param object to serialize
+   * @param outputStream to write the JSON to
+   * @param <T> type of object
+   */
+  public static <T> void serialize(final T object, final OutputStream outputStream) {
+    try {
+      OBJECT_MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, object);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Deserialize a JSON input stream to an object with a type.
+   *
+   * @param inputStream containing JSON to deserialize
+   * @param klass of object
+   * @param <T> type of object
+   * @return deserialized stream as type declare in klass
+   */
+  public static <T> T deserialize(final InputStream inputStream, final Class<T> klass) {
+    try {
+      return OBJECT_MAPPER.readValue(inputStream, klass);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Deserialize a JSON string to a {@link JsonNode}.
    *
@@ -26,6 +26,7 @@ enum class EnvVar {
 
   CDK_ENTRYPOINT,
   CDK_PYTHON,
+  CLOUD_STORAGE_APPENDER_COMPRESSION_ENABLED,
   CLOUD_STORAGE_APPENDER_THREADS,
   CONFIG_ROOT,
   CONNECTION_ID,
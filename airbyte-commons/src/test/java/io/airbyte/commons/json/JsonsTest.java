@@ -24,6 +24,8 @@ import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.protocol.models.v0.AirbyteCatalog;
 import io.airbyte.protocol.models.v0.CatalogHelpers;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -88,6 +90,22 @@ class JsonsTest {
         Jsons.deserialize("{\"str\":\"abc\", \"num\": 999, \"numLong\": 888}", ToClass.class));
   }
 
+  @Test
+  void testSerializeToStream() {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Jsons.serialize(new ToClass(ABC, 999, 888L), outputStream);
+    outputStream.write('\n');
+
+    assertEquals(SERIALIZED_JSON + "\n", outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testDeserializeFromStream() {
+    assertEquals(
+        new ToClass(ABC, 999, 888L),
+        Jsons.deserialize(new ByteArrayInputStream(SERIALIZED_JSON.getBytes(StandardCharsets.UTF_8)), ToClass.class));
+  }
+
   @Test
   void testDeserializeToJsonNode() {
     assertEquals(
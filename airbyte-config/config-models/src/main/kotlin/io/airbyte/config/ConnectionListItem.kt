@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config
+
+import java.util.UUID
+
+/**
+ * Subset of a [StandardSync] needed to list the connections of a workspace. It is read without the catalog, the field selection data
+ * and the resource requirements of the connection, which are expensive to fetch and deserialize.
+ */
+data class ConnectionListItem(
+  val connectionId: UUID,
+  val name: String,
+  val sourceId: UUID,
+  val destinationId: UUID,
+  val status: StandardSync.Status?,
+  val scheduleType: StandardSync.ScheduleType?,
+  val scheduleData: ScheduleData?,
+  val manual: Boolean?,
+  val schedule: Schedule?,
+  val sourceCatalogId: UUID?,
+  val breakingChange: Boolean?,
+  val tags: List<Tag>,
+)
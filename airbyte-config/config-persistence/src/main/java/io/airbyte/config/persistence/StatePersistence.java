@@ -65,7 +65,7 @@ public class StatePersistence {
       return Optional.empty();
     }
 
-    return switch (getStateType(connectionId, records)) {
+    return switch (getStateType(connectionId, records.stream().map(r -> r.type).collect(Collectors.toSet()))) {
       case GLOBAL -> Optional.of(buildGlobalState(records));
       case STREAM -> Optional.of(buildStreamState(records));
       default -> Optional.of(buildLegacyState(records));
@@ -112,6 +112,65 @@ public class StatePersistence {
     });
   }
 
+  /**
+   * Create or update the states of the streams described in the StateWrapper, leaving the states of
+   * the other streams of the connection untouched. Null states will be deleted.
+   *
+   * Unlike {@link #updateOrCreateState(UUID, StateWrapper)}, this doesn't load the current state of
+   * the connection: only the stream descriptors and types of the existing rows are read, which is
+   * enough to validate the state type and to know which rows need to be inserted. Connections
+   * without a state yet, Legacy states and migrations from a Legacy state are delegated to
+   * {@link #updateOrCreateState(UUID, StateWrapper)}.
+   *
+   * @param connectionId connection id
+   * @param state states to create or update
+   * @throws IOException if there is an issue while interacting with the db.
+   */
+  public void upsertStates(final UUID connectionId, final StateWrapper state) throws IOException {
+    // The existing rows are read in the same transaction as the writes, so that the rows to insert are
+    // decided on a consistent view of the state of the connection.
+    final boolean upserted = this.database.transaction(ctx -> {
+      final List<StateKey> stateKeys = getStateKeys(ctx, connectionId);
+      if (stateKeys.isEmpty() || state.getStateType() == StateType.LEGACY) {
+        return false;
+      }
+
+      final StateType previousStateType = Enums.convertTo(
+          getStateType(connectionId, stateKeys.stream().map(StateKey::type).collect(Collectors.toSet())), StateType.class);
+      if (previousStateType == StateType.LEGACY) {
+        return false;
+      }
+      if (previousStateType != state.getStateType()) {
+        throw new IllegalStateException("Unexpected type migration from '" + previousStateType + "' to '" + state.getStateType()
+            + "'. Migration of StateType need to go through an explicit reset.");
+      }
+
+      final Set<StreamDescriptor> existingStreams = stateKeys.stream()
+          .map(key -> new StreamDescriptor().withName(key.streamName()).withNamespace(key.namespace()))
+          .collect(Collectors.toSet());
+
+      final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
+      if (state.getStateType() == StateType.GLOBAL) {
+        final AirbyteGlobalState globalState = state.getGlobal().getGlobal();
+        writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(),
+            existingStreams.contains(new StreamDescriptor()), stateUpdateBatch);
+        for (final AirbyteStreamState streamState : globalState.getStreamStates()) {
+          upsertStreamState(ctx, connectionId, StateType.GLOBAL, streamState, existingStreams, stateUpdateBatch);
+        }
+      } else {
+        for (final AirbyteStateMessage stateMessage : state.getStateMessages()) {
+          upsertStreamState(ctx, connectionId, StateType.STREAM, stateMessage.getStream(), existingStreams, stateUpdateBatch);
+        }
+      }
+      stateUpdateBatch.save(ctx);
+      return true;
+    });
+
+    if (!upserted) {
+      updateOrCreateState(connectionId, state);
+    }
+  }
+
   /**
    * Remove all states entry for a connection.
    *
@@ -202,6 +261,23 @@ public class StatePersistence {
     stateUpdateBatch.save(ctx);
   }
 
+  private static void upsertStreamState(final DSLContext ctx,
+                                        final UUID connectionId,
+                                        final StateType stateType,
+                                        final AirbyteStreamState streamState,
+                                        final Set<StreamDescriptor> existingStreams,
+                                        final StateUpdateBatch stateUpdateBatch) {
+    final StreamDescriptor streamDescriptor = ProtocolConverters.toInternal(streamState.getStreamDescriptor());
+    writeStateToDb(ctx,
+        connectionId,
+        streamDescriptor.getName(),
+        streamDescriptor.getNamespace(),
+        stateType,
+        streamState.getStreamState(),
+        existingStreams.contains(streamDescriptor),
+        stateUpdateBatch);
+  }
+
   /**
    * Performs the actual SQL operation depending on the state.
    *
@@ -214,12 +290,26 @@ public class StatePersistence {
                              final StateType stateType,
                              final JsonNode state,
                              final StateUpdateBatch stateUpdateBatch) {
-    if (state != null) {
-      final boolean hasState = ctx.fetchExists(STATE,
-          STATE.CONNECTION_ID.eq(connectionId),
-          PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-          PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace));
+    final boolean hasState = state != null && ctx.fetchExists(STATE,
+        STATE.CONNECTION_ID.eq(connectionId),
+        PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
+        PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace));
+    writeStateToDb(ctx, connectionId, streamName, namespace, stateType, state, hasState, stateUpdateBatch);
+  }
 
+  /**
+   * Same as {@link #writeStateToDb(DSLContext, UUID, String, String, StateType, JsonNode,
+   * StateUpdateBatch)} for callers that already know whether a row exists for the stream.
+   */
+  private static void writeStateToDb(final DSLContext ctx,
+                                     final UUID connectionId,
+                                     final String streamName,
+                                     final String namespace,
+                                     final StateType stateType,
+                                     final JsonNode state,
+                                     final boolean hasState,
+                                     final StateUpdateBatch stateUpdateBatch) {
+    if (state != null) {
       // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
       // the same behavior for consistency.
       final JSONB jsonbState = JSONB.valueOf(Jsons.serialize(stateType != StateType.LEGACY ? state : new State().withState(state)));
@@ -270,20 +360,18 @@ public class StatePersistence {
   }
 
   /**
-   * Get the StateType for a given list of StateRecords.
+   * Get the StateType for the types of a given list of state rows.
    *
    * @param connectionId The connectionId of the records, used to add more debugging context if an
    *        error is detected
-   * @param records The list of StateRecords to process, must not be empty
+   * @param types The types of the state rows to process, must not be empty
    * @return the StateType of the records
-   * @throws IllegalStateException If StateRecords have inconsistent types
+   * @throws IllegalStateException If the state rows have inconsistent types
    */
   @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
   private static io.airbyte.db.instance.configs.jooq.generated.enums.StateType getStateType(
                                                                                             final UUID connectionId,
-                                                                                            final List<StateRecord> records) {
-    final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types =
-        records.stream().map(r -> r.type).collect(Collectors.toSet());
+                                                                                            final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types) {
     if (types.size() == 1) {
       return types.stream().findFirst().get();
     }
@@ -307,6 +395,20 @@ public class StatePersistence {
         .stream().toList();
   }
 
+  /**
+   * Get the type and stream descriptor of the state records from the DB, without their states.
+   *
+   * @param ctx A valid DSL context to use for the query
+   * @param connectionId the ID of the connection
+   * @return The StateKeys for the connectionId
+   */
+  private static List<StateKey> getStateKeys(final DSLContext ctx, final UUID connectionId) {
+    return ctx.select(STATE.TYPE, STATE.STREAM_NAME, STATE.NAMESPACE)
+        .from(STATE)
+        .where(STATE.CONNECTION_ID.eq(connectionId))
+        .fetch(record -> new StateKey(record.value1(), record.value2(), record.value3()));
+  }
+
   /**
    * Delete all connection state records from the DB.
    *
@@ -393,4 +495,9 @@ public class StatePersistence {
                              String namespace,
                              JsonNode state) {}
 
+  private record StateKey(
+                          io.airbyte.db.instance.configs.jooq.generated.enums.StateType type,
+                          String streamName,
+                          String namespace) {}
+
 }
@@ -26,6 +26,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.ActorDefinitionVersion;
+import io.airbyte.config.ConnectionListItem;
 import io.airbyte.config.DataplaneGroup;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.DestinationOAuthParameter;
@@ -500,6 +501,32 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertSyncsMatch(expectedSyncs, actualSyncs);
   }
 
+  @Test
+  void testListWorkspaceConnectionListItems() throws IOException {
+    final UUID workspaceId = MockData.standardWorkspaces().get(0).getWorkspaceId();
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, List.of(MockData.SOURCE_ID_1), null, false);
+    final List<ConnectionListItem> expectedItems = connectionService.listWorkspaceStandardSyncs(query).stream()
+        .map(sync -> new ConnectionListItem(
+            sync.getConnectionId(),
+            sync.getName(),
+            sync.getSourceId(),
+            sync.getDestinationId(),
+            sync.getStatus(),
+            sync.getScheduleType(),
+            sync.getScheduleData(),
+            sync.getManual(),
+            sync.getSchedule(),
+            sync.getSourceCatalogId(),
+            sync.getBreakingChange(),
+            sync.getTags()))
+        .toList();
+
+    final List<ConnectionListItem> actualItems = connectionService.listWorkspaceConnectionListItems(query);
+
+    assertFalse(actualItems.isEmpty());
+    assertThat(actualItems).containsExactlyInAnyOrderElementsOf(expectedItems);
+  }
+
   @Test
   void testListWorkspaceStandardSyncExcludeDeleted() throws IOException {
     final List<StandardSync> expectedSyncs = MockData.standardSyncs().subList(0, 3)
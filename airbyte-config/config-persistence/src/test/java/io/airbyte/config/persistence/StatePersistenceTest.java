@@ -57,9 +57,11 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.jooq.JSONB;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Assertions;
@@ -609,6 +611,147 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     Assertions.assertThrows(IllegalStateException.class, () -> statePersistence.getCurrentState(connectionId));
   }
 
+  @Test
+  void testUpsertGlobalStates() throws IOException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(new AirbyteStateMessage()
+            .withType(AirbyteStateType.GLOBAL)
+            .withGlobal(new AirbyteGlobalState()
+                .withSharedState(Jsons.deserialize(GLOBAL_STATE))
+                .withStreamStates(Arrays.asList(
+                    new AirbyteStreamState()
+                        .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n2"))
+                        .withStreamState(Jsons.deserialize(STATE_ONE)),
+                    new AirbyteStreamState()
+                        .withStreamDescriptor(new StreamDescriptor().withName("s1"))
+                        .withStreamState(Jsons.deserialize(STATE_TWO))))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+
+    // Only the shared state, the updated stream and the new stream are sent
+    final StateWrapper partialUpdate = new StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(new AirbyteStateMessage()
+            .withType(AirbyteStateType.GLOBAL)
+            .withGlobal(new AirbyteGlobalState()
+                .withSharedState(Jsons.deserialize("\"updated shared state\""))
+                .withStreamStates(Arrays.asList(
+                    new AirbyteStreamState()
+                        .withStreamDescriptor(new StreamDescriptor().withName("s1"))
+                        .withStreamState(Jsons.deserialize("\"updated state2\"")),
+                    new AirbyteStreamState()
+                        .withStreamDescriptor(new StreamDescriptor().withName("s3"))
+                        .withStreamState(Jsons.deserialize("\"state3\""))))));
+    statePersistence.upsertStates(connectionId, partialUpdate);
+
+    final AirbyteGlobalState result = statePersistence.getCurrentState(connectionId).orElseThrow().getGlobal().getGlobal();
+    Assertions.assertEquals(Jsons.deserialize("\"updated shared state\""), result.getSharedState());
+    Assertions.assertEquals(
+        Map.of(
+            new StreamDescriptor().withName("s1").withNamespace("n2"), Jsons.deserialize(STATE_ONE),
+            new StreamDescriptor().withName("s1"), Jsons.deserialize("\"updated state2\""),
+            new StreamDescriptor().withName("s3"), Jsons.deserialize("\"state3\"")),
+        result.getStreamStates().stream().collect(Collectors.toMap(AirbyteStreamState::getStreamDescriptor, AirbyteStreamState::getStreamState)));
+  }
+
+  @Test
+  void testUpsertStreamStates() throws IOException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+
+    final StateWrapper partialUpdate = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(null)),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s3").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize("\"state s3.n1\"")))));
+    statePersistence.upsertStates(connectionId, partialUpdate);
+
+    final StateWrapper result = statePersistence.getCurrentState(connectionId).orElseThrow();
+    Assertions.assertEquals(StateType.STREAM, result.getStateType());
+    Assertions.assertEquals(
+        Map.of(
+            new StreamDescriptor().withName("s1").withNamespace("n1"), Jsons.deserialize(STATE_WITH_NAMESPACE),
+            new StreamDescriptor().withName("s3").withNamespace("n1"), Jsons.deserialize("\"state s3.n1\"")),
+        result.getStateMessages().stream()
+            .map(AirbyteStateMessage::getStream)
+            .collect(Collectors.toMap(AirbyteStreamState::getStreamDescriptor, AirbyteStreamState::getStreamState)));
+  }
+
+  @Test
+  void testUpsertStatesWithoutPreviousState() throws IOException {
+    final StateWrapper streamState = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(List.of(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE)))));
+    statePersistence.upsertStates(connectionId, streamState);
+
+    assertEquals(streamState, statePersistence.getCurrentState(connectionId).orElseThrow());
+  }
+
+  @Test
+  void testUpsertStatesMigratesLegacyState() throws IOException {
+    statePersistence.updateOrCreateState(connectionId, new StateWrapper()
+        .withStateType(StateType.LEGACY)
+        .withLegacyState(Jsons.deserialize("{\"woot\": \"legacy states is passthrough\"}")));
+
+    final StateWrapper streamState = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(List.of(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE)))));
+    statePersistence.upsertStates(connectionId, streamState);
+
+    assertEquals(streamState, statePersistence.getCurrentState(connectionId).orElseThrow());
+  }
+
+  @Test
+  void testUpsertStatesInconsistentType() throws IOException {
+    statePersistence.updateOrCreateState(connectionId, new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(List.of(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE))))));
+
+    final StateWrapper globalState = new StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(new AirbyteStateMessage()
+            .withType(AirbyteStateType.GLOBAL)
+            .withGlobal(new AirbyteGlobalState()
+                .withSharedState(Jsons.deserialize(GLOBAL_STATE))
+                .withStreamStates(List.of())));
+    Assertions.assertThrows(IllegalStateException.class, () -> statePersistence.upsertStates(connectionId, globalState));
+  }
+
   @Test
   void testEnumsConversion() {
     // Making sure StateType we write to the DB and the StateType from the protocols are aligned.
@@ -34,6 +34,7 @@ dependencies {
   implementation(project(":oss:airbyte-json-validation"))
   implementation(project(":oss:airbyte-metrics:metrics-lib"))
   implementation(project(":oss:airbyte-featureflag"))
+  implementation(libs.micronaut.cache.caffeine)
 
   kspTest(platform(libs.micronaut.platform))
   kspTest(libs.bundles.micronaut.test.annotation.processor)
@@ -6,24 +6,60 @@ package io.airbyte.config.secrets
 
 import com.fasterxml.jackson.databind.JsonNode
 import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.airbyte.config.secrets.SecretCoordinate.AirbyteManagedSecretCoordinate
 import io.airbyte.config.secrets.hydration.SecretsHydrator
 import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
 import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
+import java.time.Duration
 import java.util.UUID
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 
 private const val SECRET_KEY = "_secret"
 
 /**
  * This class is responsible for fetching both connectors and their secrets (from separate secrets
  * stores). All methods in this class return secrets! Use it carefully.
+ *
+ * When hydrating a config, all the secrets it references are read up front, concurrently on a pool of
+ * [hydrationParallelism] threads, before being inlined by the [SecretsHydrator]. Values of
+ * [AirbyteManagedSecretCoordinate]s are cached for [cacheTtl]: these secrets are never updated in place, a change
+ * writes a new version under a new coordinate, so a cached value can't go stale. External coordinates are not versioned
+ * and are always read from the secret store.
  */
 @Singleton
 @Requires(bean = SecretsHydrator::class)
 open class SecretsRepositoryReader(
   private val secretsHydrator: SecretsHydrator,
+  private val metricClient: MetricClient,
+  @Value("\${airbyte.secret.hydration.parallelism:8}") private val hydrationParallelism: Int,
+  @Value("\${airbyte.secret.hydration.cache.ttl:PT5M}") cacheTtl: Duration,
+  @Value("\${airbyte.secret.hydration.cache.max-size:10000}") cacheMaxSize: Long,
 ) {
+  private val secretCache: Cache<SecretCacheKey, String> =
+    Caffeine
+      .newBuilder()
+      .expireAfterWrite(cacheTtl)
+      .maximumSize(cacheMaxSize)
+      .build()
+
+  private val hydrationExecutor: ExecutorService by lazy {
+    Executors.newFixedThreadPool(
+      hydrationParallelism,
+      ThreadFactoryBuilder().setNameFormat("secret-hydration-%d").setDaemon(true).build(),
+    )
+  }
+
   /**
    * Given a secret coordinate, fetch the secret.
    *
@@ -61,7 +97,10 @@ open class SecretsRepositoryReader(
   ): JsonNode {
     val node = JsonNodeFactory.instance.objectNode()
     node.put(SECRET_KEY, secretCoordinate.fullCoordinate)
-    return secretsHydrator.hydrateSecretCoordinate(node, secretPersistence)
+    return secretsHydrator.hydrateSecretCoordinate(
+      node,
+      PrefetchedSecretPersistence(secretPersistence, emptyMap()) { readSecret(null, secretPersistence, it) },
+    )
   }
 
   /**
@@ -100,7 +139,8 @@ open class SecretsRepositoryReader(
     secretPersistence: SecretPersistence,
   ): JsonNode? =
     if (configuration != null) {
-      secretsHydrator.hydrate(configuration, secretPersistence)
+      val prefetchedPersistences = prefetchSecrets(configuration, mapOf(null to secretPersistence)) { null }
+      secretsHydrator.hydrate(configuration, prefetchedPersistences.getValue(null))
     } else {
       null
     }
@@ -110,8 +150,94 @@ open class SecretsRepositoryReader(
     secretPersistenceMap: Map<UUID?, SecretPersistence>,
   ): JsonNode? =
     if (configuration != null) {
-      secretsHydrator.hydrate(configuration, secretPersistenceMap)
+      secretsHydrator.hydrate(configuration, prefetchSecrets(configuration, secretPersistenceMap) { it.secretStorageId })
     } else {
       null
     }
+
+  /**
+   * Reads every distinct secret referenced by [configuration] from the persistence of its secret storage, and returns
+   * persistences that serve these values without going back to the store. References to a secret storage missing from
+   * [secretPersistenceMap] are left for the hydrator to report.
+   */
+  private fun prefetchSecrets(
+    configuration: ConfigWithSecretReferences,
+    secretPersistenceMap: Map<UUID?, SecretPersistence>,
+    storageIdOf: (SecretReferenceConfig) -> UUID?,
+  ): Map<UUID?, SecretPersistence> {
+    val reads =
+      configuration.referencedSecrets.values
+        .filter { secretPersistenceMap.containsKey(storageIdOf(it)) }
+        .map { storageIdOf(it) to it.secretCoordinate }
+        .distinctBy { (storageId, coordinate) -> storageId to coordinate.fullCoordinate }
+    val values =
+      readConcurrently(
+        reads.map { (storageId, coordinate) -> { readSecret(storageId, secretPersistenceMap.getValue(storageId), coordinate) } },
+      )
+    val prefetched =
+      reads
+        .zip(values)
+        .groupBy({ (read, _) -> read.first }, { (read, value) -> read.second.fullCoordinate to value })
+        .mapValues { (_, secrets) -> secrets.toMap() }
+
+    return secretPersistenceMap.mapValues { (storageId, secretPersistence) ->
+      PrefetchedSecretPersistence(secretPersistence, prefetched[storageId].orEmpty()) { readSecret(storageId, secretPersistence, it) }
+    }
+  }
+
+  private fun readConcurrently(reads: List<() -> String>): List<String> {
+    if (reads.size <= 1) {
+      return reads.map { it() }
+    }
+
+    val futures = reads.map { read -> hydrationExecutor.submit(Callable { read() }) }
+    return futures.map {
+      try {
+        it.get()
+      } catch (e: ExecutionException) {
+        // surface the failure of the secret store as if it had been read on this thread
+        throw e.cause ?: e
+      }
+    }
+  }
+
+  private fun readSecret(
+    secretStorageId: UUID?,
+    secretPersistence: SecretPersistence,
+    coordinate: SecretCoordinate,
+  ): String {
+    val cacheKey = (coordinate as? AirbyteManagedSecretCoordinate)?.let { SecretCacheKey(secretStorageId, it.fullCoordinate) }
+    val cached = cacheKey?.let { secretCache.getIfPresent(it) }
+    if (cached != null) {
+      metricClient.count(metric = OssMetricsRegistry.SECRETS_HYDRATION_CACHE_HIT)
+      return cached
+    }
+
+    metricClient.count(metric = OssMetricsRegistry.SECRETS_HYDRATION_CACHE_MISS)
+    val start = System.nanoTime()
+    val secret = secretPersistence.read(coordinate)
+    metricClient.timer(metric = OssMetricsRegistry.SECRETS_HYDRATION_FETCH_TIME_MS)?.record(Duration.ofNanos(System.nanoTime() - start))
+
+    // blank values are reported as missing secrets by the hydrator, they shouldn't stick around
+    if (cacheKey != null && secret.isNotBlank()) {
+      secretCache.put(cacheKey, secret)
+    }
+    return secret
+  }
+
+  private data class SecretCacheKey(
+    val secretStorageId: UUID?,
+    val fullCoordinate: String,
+  )
+
+  /**
+   * Serves the secrets read up front for a hydration, and reads the others through [readSecret].
+   */
+  private class PrefetchedSecretPersistence(
+    private val delegate: SecretPersistence,
+    private val prefetched: Map<String, String>,
+    private val readSecret: (SecretCoordinate) -> String,
+  ) : SecretPersistence by delegate {
+    override fun read(coordinate: SecretCoordinate): String = prefetched[coordinate.fullCoordinate] ?: readSecret(coordinate)
+  }
 }
@@ -9,11 +9,17 @@ import io.airbyte.commons.json.Jsons
 import io.airbyte.config.DestinationConnection
 import io.airbyte.config.SourceConnection
 import io.airbyte.config.secrets.SecretCoordinate.AirbyteManagedSecretCoordinate
+import io.airbyte.config.secrets.SecretCoordinate.ExternalSecretCoordinate
 import io.airbyte.config.secrets.hydration.RealSecretsHydrator
 import io.airbyte.config.secrets.hydration.SecretsHydrator
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.spyk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
+import java.time.Duration
 import java.util.UUID
 
 private val UUID1 = UUID.randomUUID()
@@ -47,9 +53,9 @@ class SecretsRepositoryReaderTest {
 
   @BeforeEach
   fun setup() {
-    secretPersistence = MemorySecretPersistence()
+    secretPersistence = spyk(MemorySecretPersistence())
     val secretsHydrator: SecretsHydrator = RealSecretsHydrator(secretPersistence)
-    secretsRepositoryReader = SecretsRepositoryReader(secretsHydrator)
+    secretsRepositoryReader = SecretsRepositoryReader(secretsHydrator, mockk(relaxed = true), 2, Duration.ofMinutes(5), 100)
   }
 
   @Test
@@ -67,4 +73,42 @@ class SecretsRepositoryReaderTest {
     Assertions.assertEquals("xyz", result.get("access_token").asText())
     Assertions.assertEquals(true, result.get("request_succeeded").asBoolean())
   }
+
+  @Test
+  fun `test hydrateConfig reads each referenced secret once and caches airbyte managed secrets`() {
+    val otherCoordinate = AirbyteManagedSecretCoordinate("airbyte_other_pointer", 1)
+    secretPersistence.write(COORDINATE, SECRET)
+    secretPersistence.write(otherCoordinate, "def")
+    val config =
+      ConfigWithSecretReferences(
+        Jsons.deserialize("""{ "username": "airbyte", "password": "", "token": "", "password_copy": "" }"""),
+        mapOf(
+          "$.password" to SecretReferenceConfig(COORDINATE),
+          "$.token" to SecretReferenceConfig(otherCoordinate),
+          "$.password_copy" to SecretReferenceConfig(COORDINATE),
+        ),
+      )
+    val expected = Jsons.deserialize("""{ "username": "airbyte", "password": "abc", "token": "def", "password_copy": "abc" }""")
+
+    Assertions.assertEquals(expected, secretsRepositoryReader.hydrateConfig(config, secretPersistence))
+    Assertions.assertEquals(expected, secretsRepositoryReader.hydrateConfig(config, mapOf(null to secretPersistence)))
+
+    verify(exactly = 1) { secretPersistence.read(COORDINATE) }
+    verify(exactly = 1) { secretPersistence.read(otherCoordinate) }
+  }
+
+  @Test
+  fun `test hydrateConfig always reads external secrets from the store`() {
+    val externalCoordinate = ExternalSecretCoordinate("my_external_secret")
+    val config =
+      ConfigWithSecretReferences(
+        Jsons.deserialize("""{ "password": "" }"""),
+        mapOf("$.password" to SecretReferenceConfig(externalCoordinate)),
+      )
+
+    every { secretPersistence.read(externalCoordinate) } returnsMany listOf("first", "second")
+
+    Assertions.assertEquals(Jsons.deserialize("""{ "password": "first" }"""), secretsRepositoryReader.hydrateConfig(config, secretPersistence))
+    Assertions.assertEquals(Jsons.deserialize("""{ "password": "second" }"""), secretsRepositoryReader.hydrateConfig(config, secretPersistence))
+  }
 }
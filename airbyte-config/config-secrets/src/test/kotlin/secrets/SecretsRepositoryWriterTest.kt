@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
+import java.time.Duration
 import java.util.UUID
 
 internal class SecretsRepositoryWriterTest {
@@ -46,7 +47,7 @@ internal class SecretsRepositoryWriterTest {
         metricClient,
       )
     secretsHydrator = RealSecretsHydrator(secretPersistence)
-    secretsRepositoryReader = SecretsRepositoryReader(secretsHydrator)
+    secretsRepositoryReader = SecretsRepositoryReader(secretsHydrator, mockk(relaxed = true), 2, Duration.ofMinutes(5), 100)
   }
 
   @Test
@@ -29,7 +29,7 @@ object ApplyDefinitionMetricsHelper {
     metricAttributes.add(MetricAttribute("outcome", outcome.toString()))
     // Don't add the docker repository or version if the outcome is that version is unchanged -
     // this blows up the number of unique metrics per hour and is not that useful
-    if (outcome != DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED) {
+    if (outcome != DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED && outcome != DefinitionProcessingSuccessOutcome.DEFINITION_UNCHANGED) {
       metricAttributes.add(MetricAttribute("docker_repository", dockerRepository))
       metricAttributes.add(MetricAttribute("docker_image_tag", dockerImageTag))
     }
@@ -45,6 +45,7 @@ object ApplyDefinitionMetricsHelper {
     DEFAULT_VERSION_UPDATED,
     REFRESH_VERSION,
     VERSION_UNCHANGED,
+    DEFINITION_UNCHANGED,
     ;
 
     override val status: String
@@ -5,6 +5,8 @@
 package io.airbyte.config.init
 
 import com.google.common.annotations.VisibleForTesting
+import com.google.common.hash.Hashing
+import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.version.AirbyteProtocolVersion
 import io.airbyte.commons.version.AirbyteProtocolVersionRange
 import io.airbyte.config.ActorDefinitionBreakingChange
@@ -33,11 +35,13 @@ import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.persistence.job.JobPersistence
 import io.airbyte.validation.json.JsonValidationException
 import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import java.io.IOException
+import java.nio.charset.StandardCharsets
 import java.util.Optional
 import java.util.UUID
 import kotlin.jvm.optionals.getOrNull
@@ -45,6 +49,12 @@ import kotlin.jvm.optionals.getOrNull
 /**
  * Helper class used to apply actor definitions from a DefinitionsProvider to the database. This is
  * here to enable easy reuse of definition application logic in bootloader and cron.
+ *
+ * When skipUnchangedDefinitions is set, the content hash of each applied definition is kept in the
+ * jobs metadata table. Definitions whose hash didn't change since the last run are not written again.
+ * The hash covers the stored definition and its default version as well, so that a definition edited
+ * outside of this flow, e.g. its resource requirements, is applied again. Its breaking changes and
+ * non-default versions are not covered: reImportVersionInUse writes every definition regardless.
  */
 @Singleton
 @Requires(bean = JobPersistence::class)
@@ -61,9 +71,11 @@ class ApplyDefinitionsHelper(
   private val actorDefinitionVersionResolver: ActorDefinitionVersionResolver,
   private val airbyteCompatibleConnectorsValidator: AirbyteCompatibleConnectorsValidator,
   private val connectorRolloutService: ConnectorRolloutService,
+  @Value("\${airbyte.connector-registry.skip-unchanged-definitions:true}") private val skipUnchangedDefinitions: Boolean,
 ) {
   private var newConnectorCount = 0
   private var changedConnectorCount = 0
+  private var unchangedConnectorCount = 0
 
   /**
    * Apply the latest definitions from the provider to the repository.
@@ -72,6 +84,7 @@ class ApplyDefinitionsHelper(
    * consider whether a definition is in use before updating the definition and default
    * version.
    * @param reImportVersionInUse - It forces the connector in use to re-import their connector definition.
+   * Unchanged definitions are not skipped in that case.
    */
   @JvmOverloads
   @Throws(
@@ -100,18 +113,46 @@ class ApplyDefinitionsHelper(
     val actorDefinitionIdsToDefaultVersionsMap =
       actorDefinitionService.actorDefinitionIdsToDefaultVersionsMap
     val actorDefinitionIdsInUse = actorDefinitionService.actorDefinitionIdsInUse
+    val definitionHashes =
+      if (skipUnchangedDefinitions && !reImportVersionInUse) {
+        DefinitionHashes(
+          jobPersistence.getMetadataByKeyPrefix(DEFINITION_HASH_KEY_PREFIX),
+          sourceService.listStandardSourceDefinitions(true).associateBy { it.sourceDefinitionId } +
+            destinationService.listStandardDestinationDefinitions(true).associateBy { it.destinationDefinitionId },
+        )
+      } else {
+        null
+      }
 
     newConnectorCount = 0
     changedConnectorCount = 0
+    unchangedConnectorCount = 0
     for (def in airbyteCompatibleSourceDefinitions) {
-      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
+      applySourceDefinition(
+        actorDefinitionIdsToDefaultVersionsMap,
+        def,
+        actorDefinitionIdsInUse,
+        updateAll,
+        reImportVersionInUse,
+        definitionHashes,
+      )
     }
     for (def in airbyteCompatibleDestinationDefinitions) {
-      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
+      applyDestinationDefinition(
+        actorDefinitionIdsToDefaultVersionsMap,
+        def,
+        actorDefinitionIdsInUse,
+        updateAll,
+        reImportVersionInUse,
+        definitionHashes,
+      )
     }
+    // only record the hashes once every definition was applied, so that a failed run is retried in full
+    definitionHashes?.let { jobPersistence.setMetadata(it.changed) }
     supportStateUpdater.updateSupportStates()
     log.info("New connectors added: {}", newConnectorCount)
     log.info("Version changes applied: {}", changedConnectorCount)
+    log.info("Unchanged connectors skipped: {}", unchangedConnectorCount)
   }
 
   @Throws(IOException::class, JsonValidationException::class, ConfigNotFoundException::class)
@@ -121,6 +162,7 @@ class ApplyDefinitionsHelper(
     actorDefinitionIdsInUse: Set<UUID>,
     updateAll: Boolean,
     reImportVersionInUse: Boolean,
+    definitionHashes: DefinitionHashes?,
   ) {
     // Skip and log if unable to parse registry entry.
     val newSourceDef: StandardSourceDefinition
@@ -152,10 +194,34 @@ class ApplyDefinitionsHelper(
       return
     }
 
-    val connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newSourceDef.sourceDefinitionId)
+    val definitionId = newSourceDef.sourceDefinitionId
+    val definitionIsInUse = actorDefinitionIdsInUse.contains(definitionId)
+    val definitionHash =
+      definitionHashes?.let {
+        hashDefinition(
+          newSourceDef,
+          newADV,
+          breakingChangesForDef,
+          rcDefinitions,
+          it.storedDefinitions[definitionId],
+          actorDefinitionIdsAndDefaultVersions[definitionId],
+          definitionIsInUse,
+          updateAll,
+        )
+      }
+    if (definitionHashes != null && definitionHash != null && definitionHashes.isUnchanged(definitionId, definitionHash)) {
+      unchangedConnectorCount++
+      trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.DEFINITION_UNCHANGED)
+      // rollouts of release candidates can be canceled in between runs, so they are always applied
+      applyReleaseCandidates(rcDefinitions)
+      return
+    }
+
+    val connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(definitionId)
     if (connectorIsNew) {
       log.info("Adding new connector {}:{}", newDef.dockerRepository, newDef.dockerImageTag)
       sourceService.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef)
+      definitionHash?.let { definitionHashes?.markApplied(definitionId, it) }
       newConnectorCount++
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED)
       return
@@ -178,6 +244,7 @@ class ApplyDefinitionsHelper(
         newADV.dockerImageTag,
       )
       sourceService.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef)
+      definitionHash?.let { definitionHashes?.markApplied(definitionId, it) }
       changedConnectorCount++
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED)
     } else if (shouldUpdateOldVersionMetadata) {
@@ -197,6 +264,7 @@ class ApplyDefinitionsHelper(
       }
     } else {
       sourceService.updateStandardSourceDefinition(newSourceDef)
+      definitionHash?.let { definitionHashes?.markApplied(definitionId, it) }
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED)
     }
 
@@ -260,6 +328,7 @@ class ApplyDefinitionsHelper(
     actorDefinitionIdsInUse: Set<UUID>,
     updateAll: Boolean,
     reImportVersionInUse: Boolean,
+    definitionHashes: DefinitionHashes?,
   ) {
     // Skip and log if unable to parse registry entry.
     val newDestinationDef: StandardDestinationDefinition
@@ -291,10 +360,34 @@ class ApplyDefinitionsHelper(
       return
     }
 
-    val connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newDestinationDef.destinationDefinitionId)
+    val definitionId = newDestinationDef.destinationDefinitionId
+    val definitionIsInUse = actorDefinitionIdsInUse.contains(definitionId)
+    val definitionHash =
+      definitionHashes?.let {
+        hashDefinition(
+          newDestinationDef,
+          newADV,
+          breakingChangesForDef,
+          rcDefinitions,
+          it.storedDefinitions[definitionId],
+          actorDefinitionIdsAndDefaultVersions[definitionId],
+          definitionIsInUse,
+          updateAll,
+        )
+      }
+    if (definitionHashes != null && definitionHash != null && definitionHashes.isUnchanged(definitionId, definitionHash)) {
+      unchangedConnectorCount++
+      trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.DEFINITION_UNCHANGED)
+      // rollouts of release candidates can be canceled in between runs, so they are always applied
+      applyReleaseCandidates(rcDefinitions)
+      return
+    }
+
+    val connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(definitionId)
     if (connectorIsNew) {
       log.info("Adding new connector {}:{}", newDef.dockerRepository, newDef.dockerImageTag)
       destinationService.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef)
+      definitionHash?.let { definitionHashes?.markApplied(definitionId, it) }
       newConnectorCount++
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED)
       return
@@ -317,6 +410,7 @@ class ApplyDefinitionsHelper(
         newADV.dockerImageTag,
       )
       destinationService.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef)
+      definitionHash?.let { definitionHashes?.markApplied(definitionId, it) }
       changedConnectorCount++
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED)
     } else if (shouldUpdateOldVersion) {
@@ -336,12 +430,47 @@ class ApplyDefinitionsHelper(
       }
     } else {
       destinationService.updateStandardDestinationDefinition(newDestinationDef)
+      definitionHash?.let { definitionHashes?.markApplied(definitionId, it) }
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED)
     }
 
     applyReleaseCandidates(rcDefinitions)
   }
 
+  /**
+   * Hash everything the outcome of applying a definition depends on, including what is stored before
+   * applying it. Once applying a definition doesn't change what is stored anymore, the hash stays the
+   * same from one run to the next and the definition is skipped.
+   */
+  private fun hashDefinition(
+    definition: Any,
+    newADV: ActorDefinitionVersion,
+    breakingChanges: List<ActorDefinitionBreakingChange>,
+    rcDefinitions: List<Any>,
+    storedDefinition: Any?,
+    storedDefaultADV: ActorDefinitionVersion?,
+    definitionIsInUse: Boolean,
+    updateAll: Boolean,
+  ): String =
+    Hashing
+      .sha256()
+      .hashString(
+        Jsons.serialize(
+          listOf(
+            definition,
+            newADV,
+            breakingChanges,
+            rcDefinitions,
+            storedDefinition,
+            storedDefaultADV,
+            definitionIsInUse,
+            updateAll,
+            seedProviderType,
+          ),
+        ),
+        StandardCharsets.UTF_8,
+      ).toString()
+
   private fun getShouldRefreshActorDefinitionDefaultVersion(
     currentDefaultADV: ActorDefinitionVersion,
     actorDefinitionIdsInUse: Set<UUID>,
@@ -468,7 +597,35 @@ class ApplyDefinitionsHelper(
     metricClient.count(metric = OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITION_PROCESSED, attributes = attributes)
   }
 
+  /**
+   * Hashes of the definitions applied by previous runs, and of the ones applied by this run that
+   * changed, along with the definitions stored before this run.
+   */
+  private class DefinitionHashes(
+    private val stored: Map<String, String>,
+    val storedDefinitions: Map<UUID, Any>,
+  ) {
+    val changed = mutableMapOf<String, String>()
+
+    fun isUnchanged(
+      definitionId: UUID,
+      hash: String,
+    ): Boolean = stored[DEFINITION_HASH_KEY_PREFIX + definitionId] == hash
+
+    fun markApplied(
+      definitionId: UUID,
+      hash: String,
+    ) {
+      if (!isUnchanged(definitionId, hash)) {
+        changed[DEFINITION_HASH_KEY_PREFIX + definitionId] = hash
+      }
+    }
+  }
+
   companion object {
     private val log: Logger = LoggerFactory.getLogger(ApplyDefinitionsHelper::class.java)
+
+    @VisibleForTesting
+    internal const val DEFINITION_HASH_KEY_PREFIX = "connector_registry_definition_hash:"
   }
 }
@@ -89,6 +89,7 @@ internal class ApplyDefinitionsHelperTest {
         actorDefinitionVersionResolver,
         airbyteCompatibleConnectorsValidator,
         connectorRolloutService,
+        false,
       )
 
     every { actorDefinitionService.actorDefinitionIdsInUse } returns emptySet()
@@ -1031,6 +1032,111 @@ internal class ApplyDefinitionsHelperTest {
     assertFalse(shouldUpdateVersion)
   }
 
+  @Test
+  fun `definitions that did not change since the last run should not be written again`() {
+    mockSeedInitialDefinitions()
+    every { definitionsProvider.sourceDefinitions } returns listOf(SOURCE_POSTGRES)
+    every { definitionsProvider.destinationDefinitions } returns listOf(DESTINATION_S3)
+    val storedHashes = mutableMapOf<String, String>()
+    every { jobPersistence.getMetadataByKeyPrefix(ApplyDefinitionsHelper.DEFINITION_HASH_KEY_PREFIX) } answers { storedHashes.toMap() }
+    every { jobPersistence.setMetadata(any()) } answers { storedHashes.putAll(firstArg<Map<String, String>>()) }
+
+    val helper = newApplyDefinitionsHelperSkippingUnchangedDefinitions()
+    helper.apply()
+    helper.apply()
+
+    assertEquals(setOf(POSTGRES_ID, S3_ID).map { ApplyDefinitionsHelper.DEFINITION_HASH_KEY_PREFIX + it }.toSet(), storedHashes.keys)
+    verify(exactly = 1) { sourceService.updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES)) }
+    verify(exactly = 1) {
+      destinationService.updateStandardDestinationDefinition(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3))
+    }
+    verify { jobPersistence.setMetadata(emptyMap()) }
+    verify(exactly = 2) {
+      metricClient.count(
+        OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
+        1,
+        MetricAttribute("status", "ok"),
+        MetricAttribute("outcome", DefinitionProcessingSuccessOutcome.DEFINITION_UNCHANGED.toString()),
+      )
+    }
+  }
+
+  @Test
+  fun `definitions that changed since the last run should be written`() {
+    mockSeedInitialDefinitions()
+    every { definitionsProvider.sourceDefinitions } returns listOf(SOURCE_POSTGRES)
+    val storedHashes = mutableMapOf<String, String>()
+    every { jobPersistence.getMetadataByKeyPrefix(ApplyDefinitionsHelper.DEFINITION_HASH_KEY_PREFIX) } answers { storedHashes.toMap() }
+    every { jobPersistence.setMetadata(any()) } answers { storedHashes.putAll(firstArg<Map<String, String>>()) }
+
+    val helper = newApplyDefinitionsHelperSkippingUnchangedDefinitions()
+    helper.apply()
+    every { definitionsProvider.sourceDefinitions } returns listOf(SOURCE_POSTGRES_2)
+    helper.apply()
+
+    verify {
+      sourceService.writeConnectorMetadata(
+        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
+        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2),
+      )
+    }
+  }
+
+  @Test
+  fun `reImport should write definitions that did not change since the last run`() {
+    mockSeedInitialDefinitions()
+    every { definitionsProvider.sourceDefinitions } returns listOf(SOURCE_POSTGRES)
+    val storedHashes = mutableMapOf<String, String>()
+    every { jobPersistence.getMetadataByKeyPrefix(ApplyDefinitionsHelper.DEFINITION_HASH_KEY_PREFIX) } answers { storedHashes.toMap() }
+    every { jobPersistence.setMetadata(any()) } answers { storedHashes.putAll(firstArg<Map<String, String>>()) }
+
+    val helper = newApplyDefinitionsHelperSkippingUnchangedDefinitions()
+    helper.apply()
+    helper.apply(reImportVersionInUse = true)
+
+    verify(exactly = 2) { sourceService.updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES)) }
+  }
+
+  @Test
+  fun `definitions edited since the last run should be written again`() {
+    mockSeedInitialDefinitions()
+    every { definitionsProvider.sourceDefinitions } returns listOf(SOURCE_POSTGRES)
+    val storedHashes = mutableMapOf<String, String>()
+    every { jobPersistence.getMetadataByKeyPrefix(ApplyDefinitionsHelper.DEFINITION_HASH_KEY_PREFIX) } answers { storedHashes.toMap() }
+    every { jobPersistence.setMetadata(any()) } answers { storedHashes.putAll(firstArg<Map<String, String>>()) }
+
+    val helper = newApplyDefinitionsHelperSkippingUnchangedDefinitions()
+    helper.apply()
+    // e.g. the config database was restored, or the definition was edited through the API
+    every { sourceService.listStandardSourceDefinitions(true) } returns
+      listOf(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES).withMaxSecondsBetweenMessages(1L))
+    helper.apply()
+
+    verify(exactly = 2) { sourceService.updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES)) }
+  }
+
+  private fun newApplyDefinitionsHelperSkippingUnchangedDefinitions(): ApplyDefinitionsHelper {
+    every { sourceService.listStandardSourceDefinitions(true) } returns
+      listOf(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES))
+    every { destinationService.listStandardDestinationDefinitions(true) } returns
+      listOf(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3))
+    return ApplyDefinitionsHelper(
+      definitionsProvider,
+      SeedDefinitionsProviderType.REMOTE,
+      jobPersistence,
+      actorDefinitionService,
+      sourceService,
+      destinationService,
+      metricClient,
+      supportStateUpdater,
+      actorDefinitionVersionResolver,
+      airbyteCompatibleConnectorsValidator,
+      connectorRolloutService,
+      true,
+    )
+  }
+
   companion object {
     private const val INITIAL_CONNECTOR_VERSION = "0.1.0"
     private const val UPDATED_CONNECTOR_VERSION = "0.2.0"
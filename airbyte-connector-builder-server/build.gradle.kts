@@ -168,6 +168,22 @@ sourceSets {
   }
 }
 
+// Runs the tests of the python worker the CDK requests are handled in, with the interpreter the CDK is installed in,
+// which needs pytest as well
+val testPython =
+  tasks.register<Exec>("testPython") {
+    group = "verification"
+    description = "Runs the tests of the python CDK worker."
+    inputs.dir("$projectDir/src/main/resources/python").withPathSensitivity(PathSensitivity.RELATIVE)
+    inputs.dir("$projectDir/src/test/python").withPathSensitivity(PathSensitivity.RELATIVE)
+    workingDir = projectDir
+    commandLine(System.getenv("CDK_PYTHON")?.ifBlank { null } ?: "python3", "-m", "pytest", "-p", "no:cacheprovider", "src/test/python")
+  }
+
+tasks.named("check") {
+  dependsOn(testPython)
+}
+
 val copyPythonDeps =
   tasks.register<Copy>("copyPythonDependencies") {
     from("$projectDir/requirements.txt")
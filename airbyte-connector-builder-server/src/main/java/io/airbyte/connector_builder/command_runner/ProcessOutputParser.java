@@ -20,10 +20,12 @@ import io.airbyte.workers.internal.AirbyteStreamFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +58,31 @@ public class ProcessOutputParser {
       throwCdkException(process, cdkCommand);
     }
 
+    return toRecord(messagesByType, () -> generateError(process, cdkCommand));
+  }
+
+  /**
+   * Extract the response from what a {@link PythonCdkWorker} printed while handling a request.
+   */
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  AirbyteRecordMessage parse(
+                             final PythonCdkWorkerResponse response,
+                             final AirbyteStreamFactory streamFactory,
+                             final String cdkCommand) {
+    final Map<Type, List<AirbyteMessage>> messagesByType =
+        streamFactory.create(new BufferedReader(new StringReader(String.join("\n", response.output()))))
+            .collect(Collectors.groupingBy(AirbyteMessage::getType));
+
+    return toRecord(messagesByType, () -> {
+      final String errorMessage = String.format(
+          "The CDK command `%s` completed but no records nor trace were found. error=%s", cdkCommand, response.errors());
+      LOGGER.error(errorMessage);
+      return new CdkUnknownException(errorMessage);
+    });
+  }
+
+  private AirbyteRecordMessage toRecord(final Map<Type, List<AirbyteMessage>> messagesByType,
+                                        final Supplier<RuntimeException> noResponseError) {
     final Optional<AirbyteRecordMessage> record = messagesByType
         .getOrDefault(Type.RECORD, new ArrayList<>()).stream()
         .map(AirbyteMessage::getRecord)
@@ -79,7 +106,7 @@ public class ProcessOutputParser {
       throw new AirbyteCdkInvalidInputException(
           String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
     }
-    throw generateError(process, cdkCommand);
+    throw noResponseError.get();
   }
 
   private void throwCdkException(final Process process, final String cdkCommand) {
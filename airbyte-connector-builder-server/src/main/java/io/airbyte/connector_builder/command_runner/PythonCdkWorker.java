@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.google.common.collect.Lists;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A long-lived CDK process handling connector builder requests one at a time, see
+ * `python/cdk_worker.py`.
+ *
+ * Requests are written to stdin as a JSON array of arguments, one per line. The worker answers with
+ * the lines the CDK printed, followed by a sentinel unique to the worker. The sentinel is printed to
+ * stderr as well, so that what the worker printed there can be attributed to the request. A worker
+ * is not thread safe: it is used by one request at a time.
+ */
+class PythonCdkWorker implements AutoCloseable {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+  // stderr is read on a thread of its own, so it can lag a little behind stdout
+  private static final Duration STDERR_TIMEOUT = Duration.ofSeconds(5);
+  private static final int MAX_STDERR_LINES = 1000;
+
+  private final Process process;
+  private final String sentinel;
+  private final BufferedWriter stdin;
+  private final BufferedReader stdout;
+  private final BlockingQueue<String> stderr = new LinkedBlockingQueue<>();
+  private final ScheduledExecutorService watchdog;
+  private int requestCount;
+  private long lastUsedNanos;
+
+  private PythonCdkWorker(final Process process, final String sentinel, final ScheduledExecutorService watchdog) {
+    this.process = process;
+    this.sentinel = sentinel;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.stdout = IOs.newBufferedReader(process.getInputStream());
+    this.watchdog = watchdog;
+    this.lastUsedNanos = System.nanoTime();
+
+    final Thread stderrReader = new Thread(() -> readStderr(process.getErrorStream()), "cdk-worker-stderr-" + process.pid());
+    stderrReader.setDaemon(true);
+    stderrReader.start();
+  }
+
+  /**
+   * Start a worker with the given command and wait for it to be ready. The sentinel of the worker is
+   * passed as the last argument of the command.
+   *
+   * @param watchdog used to kill the worker when it doesn't answer in time
+   */
+  static PythonCdkWorker start(final List<String> command,
+                               final Map<String, String> environment,
+                               final ScheduledExecutorService watchdog)
+      throws IOException {
+    final String sentinel = "CDK_WORKER_DONE_" + UUID.randomUUID();
+    final ProcessBuilder processBuilder = new ProcessBuilder(Lists.newArrayList(command));
+    processBuilder.command().add(sentinel);
+    processBuilder.environment().putAll(environment);
+
+    final PythonCdkWorker worker = new PythonCdkWorker(processBuilder.start(), sentinel, watchdog);
+    try {
+      worker.readResponse(STARTUP_TIMEOUT);
+    } catch (final IOException | RuntimeException e) {
+      worker.close();
+      throw e;
+    }
+    return worker;
+  }
+
+  /**
+   * Send a request to the worker and return what it printed in response. If the worker doesn't answer
+   * within the timeout, it is killed and can't be used anymore.
+   */
+  PythonCdkWorkerResponse execute(final List<String> args, final Duration timeout) throws IOException {
+    requestCount++;
+    return send(args, timeout);
+  }
+
+  /**
+   * Check that the worker still answers requests. Health checks don't count as requests.
+   */
+  boolean ping(final Duration timeout) {
+    try {
+      return isAlive() && send(List.of(), timeout).output().isEmpty();
+    } catch (final IOException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  int getRequestCount() {
+    return requestCount;
+  }
+
+  Duration getIdleTime() {
+    return Duration.ofNanos(System.nanoTime() - lastUsedNanos);
+  }
+
+  private PythonCdkWorkerResponse send(final List<String> args, final Duration timeout) throws IOException {
+    stdin.write(Jsons.serialize(args));
+    stdin.newLine();
+    stdin.flush();
+    final PythonCdkWorkerResponse response = readResponse(timeout);
+    lastUsedNanos = System.nanoTime();
+    return response;
+  }
+
+  private PythonCdkWorkerResponse readResponse(final Duration timeout) throws IOException {
+    final List<String> output;
+    try {
+      output = readUntilSentinel(timeout);
+    } catch (final CdkProcessException e) {
+      throw new CdkProcessException(String.format("%s error=%s", e.getMessage(), readErrors()));
+    }
+    return new PythonCdkWorkerResponse(output, readErrors());
+  }
+
+  private List<String> readUntilSentinel(final Duration timeout) throws IOException {
+    final AtomicBoolean timedOut = new AtomicBoolean(false);
+    final ScheduledFuture<?> kill = watchdog.schedule(() -> {
+      timedOut.set(true);
+      close();
+    }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+    try {
+      final List<String> output = new ArrayList<>();
+      String line;
+      while ((line = stdout.readLine()) != null) {
+        if (sentinel.equals(line)) {
+          return output;
+        }
+        output.add(line);
+      }
+    } catch (final IOException e) {
+      // killing the worker closes its stdout under our feet
+      if (!timedOut.get()) {
+        throw e;
+      }
+    } finally {
+      kill.cancel(false);
+    }
+
+    if (timedOut.get()) {
+      throw new CdkProcessException(String.format("CDK worker did not answer within %s.", timeout));
+    }
+    throw new CdkProcessException("CDK worker exited before answering the request.");
+  }
+
+  /**
+   * Collect what the worker printed to stderr up to its sentinel, keeping the last lines when it
+   * printed too much.
+   */
+  private String readErrors() {
+    final Deque<String> errors = new ArrayDeque<>();
+    final long deadline = System.nanoTime() + STDERR_TIMEOUT.toNanos();
+    try {
+      String line;
+      while ((line = stderr.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null && !sentinel.equals(line)) {
+        if (errors.size() == MAX_STDERR_LINES) {
+          errors.removeFirst();
+        }
+        errors.addLast(line);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return String.join("\n", errors);
+  }
+
+  private void readStderr(final InputStream errorStream) {
+    try (BufferedReader reader = IOs.newBufferedReader(errorStream)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        stderr.add(line);
+      }
+    } catch (final IOException e) {
+      // killing the worker closes its stderr under our feet
+    } finally {
+      // the worker won't print anything anymore, don't make a request wait for it
+      stderr.add(sentinel);
+    }
+  }
+
+  /**
+   * Stop the worker, along with the processes it started since they would keep its stdout open.
+   */
+  @Override
+  public void close() {
+    process.descendants().forEach(ProcessHandle::destroyForcibly);
+    process.destroyForcibly();
+  }
+
+}
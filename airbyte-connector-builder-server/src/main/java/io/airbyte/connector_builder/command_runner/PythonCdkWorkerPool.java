@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of pre-started {@link PythonCdkWorker}s, so that connector builder requests don't wait for a
+ * Python interpreter to start and import the CDK.
+ *
+ * At most `size` requests are handled at once. The others wait in line for up to `queueTimeout`.
+ * Workers are replaced once they handled `maxRequestsPerWorker` requests, failed a request or ran
+ * past `requestTimeout`. Workers idle for longer than `healthCheckInterval` are pinged before being
+ * handed a request.
+ */
+public class PythonCdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PythonCdkWorkerPool.class);
+  private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<String> command;
+  private final Map<String, String> environment;
+  private final int size;
+  private final int maxRequestsPerWorker;
+  private final Duration requestTimeout;
+  private final Duration queueTimeout;
+  private final Duration healthCheckInterval;
+
+  // fair, so that requests are handed workers in the order they arrived
+  private final Semaphore permits;
+  private final BlockingDeque<PythonCdkWorker> idleWorkers = new LinkedBlockingDeque<>();
+  private final ExecutorService workerStarter = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("cdk-worker-starter-%d").setDaemon(true).build());
+  private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("cdk-worker-watchdog-%d").setDaemon(true).build());
+  private volatile boolean closed;
+
+  public PythonCdkWorkerPool(final List<String> command,
+                             final Map<String, String> environment,
+                             final int size,
+                             final int maxRequestsPerWorker,
+                             final Duration requestTimeout,
+                             final Duration queueTimeout,
+                             final Duration healthCheckInterval) {
+    this.command = command;
+    this.environment = environment;
+    this.size = size;
+    this.maxRequestsPerWorker = maxRequestsPerWorker;
+    this.requestTimeout = requestTimeout;
+    this.queueTimeout = queueTimeout;
+    this.healthCheckInterval = healthCheckInterval;
+    this.permits = new Semaphore(size, true);
+
+    for (int i = 0; i < size; i++) {
+      startReplacementWorker();
+    }
+  }
+
+  /**
+   * Run a request on a worker of the pool and return what the CDK printed.
+   *
+   * @param args the arguments the CDK connector builder entrypoint would be launched with
+   */
+  public PythonCdkWorkerResponse execute(final List<String> args) throws IOException {
+    try {
+      if (!permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new CdkProcessException(String.format("No CDK worker became available within %s.", queueTimeout));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CdkProcessException("Interrupted while waiting for a CDK worker.");
+    }
+
+    PythonCdkWorker worker = null;
+    boolean reusable = false;
+    try {
+      worker = borrowWorker();
+      final PythonCdkWorkerResponse response = worker.execute(args, requestTimeout);
+      reusable = true;
+      return response;
+    } finally {
+      if (worker != null) {
+        returnWorker(worker, reusable);
+      }
+      permits.release();
+    }
+  }
+
+  private PythonCdkWorker borrowWorker() throws IOException {
+    PythonCdkWorker worker;
+    while ((worker = idleWorkers.pollFirst()) != null) {
+      if (worker.isAlive() && (worker.getIdleTime().compareTo(healthCheckInterval) < 0 || worker.ping(HEALTH_CHECK_TIMEOUT))) {
+        return worker;
+      }
+      LOGGER.warn("Discarding unhealthy CDK worker.");
+      worker.close();
+      startReplacementWorker();
+    }
+    // all the workers are still starting, don't make the request wait for them
+    return PythonCdkWorker.start(command, environment, watchdog);
+  }
+
+  private void returnWorker(final PythonCdkWorker worker, final boolean reusable) {
+    if (reusable && worker.getRequestCount() < maxRequestsPerWorker && offerIdleWorker(worker)) {
+      return;
+    }
+    worker.close();
+    startReplacementWorker();
+  }
+
+  private void startReplacementWorker() {
+    if (!closed) {
+      workerStarter.execute(this::startIdleWorker);
+    }
+  }
+
+  private void startIdleWorker() {
+    if (closed || idleWorkers.size() >= size) {
+      return;
+    }
+    try {
+      final PythonCdkWorker worker = PythonCdkWorker.start(command, environment, watchdog);
+      if (!offerIdleWorker(worker)) {
+        worker.close();
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.error("Failed to start a CDK worker.", e);
+    }
+  }
+
+  /**
+   * Keep a worker for later requests. Most recently used workers are handed out first, so that
+   * workers left idle for long get recycled by the health check.
+   */
+  private boolean offerIdleWorker(final PythonCdkWorker worker) {
+    synchronized (idleWorkers) {
+      if (closed || idleWorkers.size() >= size) {
+        return false;
+      }
+      return idleWorkers.offerFirst(worker);
+    }
+  }
+
+  @VisibleForTesting
+  int getIdleWorkerCount() {
+    return idleWorkers.size();
+  }
+
+  /**
+   * Stop all the workers.
+   */
+  @Override
+  public void close() {
+    synchronized (idleWorkers) {
+      closed = true;
+    }
+    workerStarter.shutdownNow();
+    watchdog.shutdownNow();
+    PythonCdkWorker worker;
+    while ((worker = idleWorkers.pollFirst()) != null) {
+      worker.close();
+    }
+  }
+
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import java.util.List;
+
+/**
+ * What a {@link PythonCdkWorker} printed while handling a request.
+ *
+ * @param output the lines printed to stdout
+ * @param errors what was printed to stderr
+ */
+public record PythonCdkWorkerResponse(List<String> output, String errors) {}
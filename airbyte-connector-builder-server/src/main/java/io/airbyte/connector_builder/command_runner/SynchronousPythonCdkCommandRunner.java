@@ -8,11 +8,13 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 import datadog.trace.api.Trace;
 import io.airbyte.commons.envvar.EnvVar;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.connector_builder.TracingHelper;
 import io.airbyte.connector_builder.file_writer.AirbyteArgument;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriter;
 import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
 import io.airbyte.workers.internal.AirbyteStreamFactory;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -23,10 +25,16 @@ import org.slf4j.LoggerFactory;
 /**
  * Communicates with the CDK's Connector Builder handler by launching a Python process via an
  * Airbyte `read` command.
+ *
+ * When a {@link PythonCdkWorkerPool} is given, requests are handled by its long-lived workers
+ * instead. Requests injecting custom components still get a process of their own, so that their
+ * code is never loaded in a worker shared with other requests.
  */
 @Singleton
 public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
 
+  private static final String CUSTOM_COMPONENTS_KEY = "__injected_components_py";
+
   private final AirbyteFileWriter writer;
   private final AirbyteStreamFactory streamFactory;
   private final String python;
@@ -38,9 +46,11 @@ public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandR
 
   private final Boolean enableUnsafeCodeGlobalOverride;
 
+  @Nullable
+  private final PythonCdkWorkerPool workerPool;
+
   private static final Logger LOGGER = LoggerFactory.getLogger(SynchronousPythonCdkCommandRunner.class);
 
-  @Inject
   public SynchronousPythonCdkCommandRunner(
                                            final AirbyteFileWriter writer,
                                            final AirbyteStreamFactory streamFactory,
@@ -48,12 +58,25 @@ public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandR
                                            final String cdkEntrypoint,
                                            final String pythonPath,
                                            final Boolean enableUnsafeCodeGlobalOverride) {
+    this(writer, streamFactory, python, cdkEntrypoint, pythonPath, enableUnsafeCodeGlobalOverride, null);
+  }
+
+  @Inject
+  public SynchronousPythonCdkCommandRunner(
+                                           final AirbyteFileWriter writer,
+                                           final AirbyteStreamFactory streamFactory,
+                                           final String python,
+                                           final String cdkEntrypoint,
+                                           final String pythonPath,
+                                           final Boolean enableUnsafeCodeGlobalOverride,
+                                           @Nullable final PythonCdkWorkerPool workerPool) {
     this.writer = writer;
     this.streamFactory = streamFactory;
     this.python = python; // TODO: Remove this and invoke directly
     this.cdkEntrypoint = cdkEntrypoint;
     this.pythonPath = pythonPath; // TODO: Remove this and invoke directly
     this.enableUnsafeCodeGlobalOverride = enableUnsafeCodeGlobalOverride;
+    this.workerPool = workerPool;
   }
 
   /**
@@ -68,6 +91,9 @@ public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandR
                                          final String catalogContents,
                                          final String stateContents)
       throws IOException {
+    if (this.workerPool != null && !injectsCustomComponents(configContents)) {
+      return runOnWorkerPool(cdkCommand, configContents, catalogContents, stateContents);
+    }
     try (final AirbyteCdkProcess cdkProcess = this.start(cdkCommand, configContents, catalogContents,
         stateContents)) {
       return new ProcessOutputParser().parse(cdkProcess.getProcess(), this.streamFactory, cdkCommand);
@@ -110,6 +136,36 @@ public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandR
     return cdkProcess;
   }
 
+  private AirbyteRecordMessage runOnWorkerPool(
+                                               final String cdkCommand,
+                                               final String configContents,
+                                               final String catalogContents,
+                                               final String stateContents)
+      throws IOException {
+    final AirbyteArgument catalog = this.write("catalog", catalogContents);
+    final AirbyteArgument config = this.write("config", configContents);
+    final AirbyteArgument state = this.write("state", stateContents);
+    try {
+      final PythonCdkWorkerResponse response = this.workerPool.execute(List.of(
+          "read",
+          "--config",
+          config.getFilepath(),
+          "--catalog",
+          catalog.getFilepath(),
+          "--state",
+          state.getFilepath()));
+      return new ProcessOutputParser().parse(response, this.streamFactory, cdkCommand);
+    } finally {
+      this.writer.delete(config.getFilepath());
+      this.writer.delete(catalog.getFilepath());
+      this.writer.delete(state.getFilepath());
+    }
+  }
+
+  private static boolean injectsCustomComponents(final String configContents) {
+    return Jsons.deserialize(configContents).has(CUSTOM_COMPONENTS_KEY);
+  }
+
   private AirbyteArgument write(final String name, final String contents) throws IOException {
     final AirbyteArgument arg = new AirbyteArgument(this.writer);
     arg.setUpArg(name, contents);
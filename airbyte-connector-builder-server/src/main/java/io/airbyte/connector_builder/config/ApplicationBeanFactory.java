@@ -6,21 +6,26 @@ package io.airbyte.connector_builder.config;
 
 import com.google.common.io.Resources;
 import io.airbyte.commons.envvar.EnvVar;
+import io.airbyte.connector_builder.command_runner.PythonCdkWorkerPool;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.metrics.MetricClient;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.File;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -58,7 +63,8 @@ public class ApplicationBeanFactory {
    * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(final MetricClient metricClient) {
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(final MetricClient metricClient,
+                                                                       final Optional<PythonCdkWorkerPool> workerPool) {
     return new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         // This should eventually be constructed via DI.
@@ -66,7 +72,41 @@ public class ApplicationBeanFactory {
         this.getPython(),
         this.getCdkEntrypoint(),
         this.getPythonPath(),
-        enableUnsafeCodeGlobalOverride);
+        enableUnsafeCodeGlobalOverride,
+        workerPool.orElse(null));
+  }
+
+  /**
+   * Defines the pool of long-lived CDK processes handling the requests of the
+   * SynchronousPythonCdkCommandRunner.
+   */
+  @Singleton
+  @Bean(preDestroy = "close")
+  @Requires(property = "airbyte.connector-builder-server.cdk-worker-pool.enabled", value = "true")
+  public PythonCdkWorkerPool pythonCdkWorkerPool(
+                                                 @Value("${airbyte.connector-builder-server.cdk-worker-pool.size}") final int size,
+                                                 @Value("${airbyte.connector-builder-server.cdk-worker-pool.max-requests-per-worker}") final int maxRequestsPerWorker,
+                                                 @Value("${airbyte.connector-builder-server.cdk-worker-pool.request-timeout}") final Duration requestTimeout,
+                                                 @Value("${airbyte.connector-builder-server.cdk-worker-pool.queue-timeout}") final Duration queueTimeout,
+                                                 @Value("${airbyte.connector-builder-server.cdk-worker-pool.health-check-interval}") final Duration healthCheckInterval) {
+    return new PythonCdkWorkerPool(
+        List.of(this.getPython(), "-u", "-c", getCdkWorkerScript()),
+        Map.of(
+            "PYTHONPATH", this.getPythonPath(),
+            EnvVar.AIRBYTE_ENABLE_UNSAFE_CODE.toString(), enableUnsafeCodeGlobalOverride.toString()),
+        size,
+        maxRequestsPerWorker,
+        requestTimeout,
+        queueTimeout,
+        healthCheckInterval);
+  }
+
+  private static String getCdkWorkerScript() {
+    try {
+      return Resources.toString(Resources.getResource("python/cdk_worker.py"), StandardCharsets.UTF_8);
+    } catch (final Exception e) {
+      throw new ConnectorBuilderException("Failed to load the CDK worker script", e);
+    }
   }
 
   private String getPythonPath() {
@@ -0,0 +1,111 @@
+# Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+"""
+Long-lived worker of the connector builder server, so that requests don't pay for starting an interpreter and importing
+the CDK each time.
+
+Each line of stdin is a request: the JSON array of arguments the CDK connector builder entrypoint would be launched
+with. The output of a request is followed by a line holding the sentinel the worker was started with, which is also
+printed once the worker is ready. The sentinel is printed to stderr as well, to tell which request the errors belong to.
+An empty array is a health check and only gets the sentinel back.
+
+Requests of different users are handled by the same interpreter, so the process-global state a request can leave
+behind is reset once it is handled: its HTTP responses are cached in a directory of its own which is then deleted, the
+caches of the CDK modules are cleared, and the environment and logging configuration are restored.
+"""
+
+import json
+import logging
+import os
+import shutil
+import sys
+import tempfile
+from typing import Dict, List, Tuple
+
+import orjson
+
+from airbyte_cdk.connector_builder.main import handle_request
+from airbyte_cdk.models import AirbyteMessageSerializer
+from airbyte_cdk.utils.traced_exception import AirbyteTracedException
+
+
+# where the CDK keeps the requests cache, which would otherwise be an in-memory database shared by the whole process
+REQUEST_CACHE_PATH = "REQUEST_CACHE_PATH"
+
+
+class ProcessState:
+    """
+    The environment and logging configuration of the worker, to restore them after each request.
+    """
+
+    def __init__(self) -> None:
+        self.environ = dict(os.environ)
+        self.loggers = {name: _logger_state(logger) for name, logger in _loggers().items()}
+
+    def restore(self) -> None:
+        os.environ.clear()
+        os.environ.update(self.environ)
+        for name, logger in _loggers().items():
+            level, handlers, propagate, disabled = self.loggers.get(name, (logging.NOTSET, [], True, False))
+            logger.setLevel(level)
+            logger.handlers = list(handlers)
+            logger.propagate = propagate
+            logger.disabled = disabled
+
+
+def _loggers() -> Dict[str, logging.Logger]:
+    loggers = {
+        name: logger for name, logger in logging.Logger.manager.loggerDict.items() if isinstance(logger, logging.Logger)
+    }
+    loggers[""] = logging.getLogger()
+    return loggers
+
+
+def _logger_state(logger: logging.Logger) -> Tuple[int, List[logging.Handler], bool, bool]:
+    return logger.level, list(logger.handlers), logger.propagate, logger.disabled
+
+
+def clear_module_caches() -> None:
+    """
+    Clear the functools caches of the CDK modules, which would otherwise keep values computed for earlier requests.
+    """
+    for name, module in list(sys.modules.items()):
+        if name == "airbyte_cdk" or name.startswith("airbyte_cdk."):
+            for value in list(vars(module).values()):
+                if not isinstance(value, type) and hasattr(value, "cache_info") and hasattr(value, "cache_clear"):
+                    value.cache_clear()
+
+
+def handle(args: List[str], state: ProcessState) -> None:
+    cache_dir = tempfile.mkdtemp(prefix="cdk-worker-cache-")
+    os.environ[REQUEST_CACHE_PATH] = cache_dir
+    try:
+        print(handle_request(args))
+    except Exception as exc:
+        error = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {str(exc)}")
+        print(orjson.dumps(AirbyteMessageSerializer.dump(error.as_airbyte_message())).decode())
+    finally:
+        shutil.rmtree(cache_dir, ignore_errors=True)
+        clear_module_caches()
+        state.restore()
+
+
+def done(sentinel: str) -> None:
+    print(sentinel, file=sys.stderr, flush=True)
+    print(sentinel, flush=True)
+
+
+def main(sentinel: str) -> None:
+    state = ProcessState()
+    done(sentinel)
+    while True:
+        line = sys.stdin.readline()
+        if not line:
+            return
+        args = json.loads(line)
+        if args:
+            handle(args, state)
+        done(sentinel)
+
+
+if __name__ == "__main__":
+    main(sys.argv[1])
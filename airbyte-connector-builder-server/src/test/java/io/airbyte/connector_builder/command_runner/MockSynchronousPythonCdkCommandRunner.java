@@ -38,7 +38,19 @@ public class MockSynchronousPythonCdkCommandRunner extends SynchronousPythonCdkC
                                                final InputStream inputStream,
                                                final InputStream errorStream,
                                                final OutputStream outputStream) {
-    super(writer, streamFactory, "", "", "", false);
+    this(writer, streamFactory, shouldThrow, exitCode, inputStream, errorStream, outputStream, null);
+  }
+
+  public MockSynchronousPythonCdkCommandRunner(
+                                               final AirbyteFileWriter writer,
+                                               final AirbyteStreamFactory streamFactory,
+                                               final boolean shouldThrow,
+                                               final int exitCode,
+                                               final InputStream inputStream,
+                                               final InputStream errorStream,
+                                               final OutputStream outputStream,
+                                               final PythonCdkWorkerPool workerPool) {
+    super(writer, streamFactory, "", "", "", false, workerPool);
     this.shouldThrow = shouldThrow;
     this.exitCode = exitCode;
     this.inputStream = inputStream;
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PythonCdkWorkerPoolTest {
+
+  /**
+   * Stands in for `python/cdk_worker.py`: answers a request with the request itself and the pid of
+   * the worker, hangs on requests containing `hang` and crashes on requests containing `crash`.
+   */
+  private static final String ECHO_WORKER_SCRIPT = """
+      echo "$1" >&2; echo "$1"
+      while IFS= read -r line; do
+        case "$line" in
+          '[]') ;;
+          *hang*) sleep 60 ;;
+          *crash*) echo "Traceback: $line" >&2; exit 1 ;;
+          *) echo "$line"; echo "$$"; echo "warning: $line" >&2 ;;
+        esac
+        echo "$1" >&2; echo "$1"
+      done
+      """;
+
+  private PythonCdkWorkerPool pool;
+
+  @AfterEach
+  void tearDown() {
+    pool.close();
+  }
+
+  @Test
+  void testRequestOutputIsReturned() throws IOException, InterruptedException {
+    pool = newPool(1, 10, Duration.ofSeconds(30), Duration.ofMinutes(1));
+
+    final PythonCdkWorkerResponse response = pool.execute(List.of("read", "--config", "config.json"));
+
+    assertEquals(2, response.output().size());
+    assertEquals("[\"read\",\"--config\",\"config.json\"]", response.output().get(0));
+    assertEquals("warning: [\"read\",\"--config\",\"config.json\"]", response.errors());
+  }
+
+  @Test
+  void testErrorsOfACrashedWorkerAreReported() throws InterruptedException {
+    pool = newPool(1, 10, Duration.ofSeconds(30), Duration.ofMinutes(1));
+
+    final CdkProcessException exception = assertThrows(CdkProcessException.class, () -> pool.execute(List.of("crash")));
+
+    assertTrue(exception.getMessage().contains("Traceback: [\"crash\"]"), exception.getMessage());
+  }
+
+  @Test
+  void testWorkersAreRecycledAfterMaxRequests() throws IOException, InterruptedException {
+    pool = newPool(1, 2, Duration.ofSeconds(30), Duration.ofMinutes(1));
+
+    final String firstWorker = pool.execute(List.of("read")).output().get(1);
+    final String secondWorker = pool.execute(List.of("read")).output().get(1);
+    final String thirdWorker = pool.execute(List.of("read")).output().get(1);
+
+    assertEquals(firstWorker, secondWorker);
+    assertNotEquals(secondWorker, thirdWorker);
+  }
+
+  @Test
+  void testHealthChecksDoNotCountAsRequests() throws IOException, InterruptedException {
+    // every request is preceded by a health check
+    pool = newPool(1, 3, Duration.ofSeconds(30), Duration.ZERO);
+
+    final String firstWorker = pool.execute(List.of("read")).output().get(1);
+    final String secondWorker = pool.execute(List.of("read")).output().get(1);
+    final String thirdWorker = pool.execute(List.of("read")).output().get(1);
+
+    assertEquals(firstWorker, secondWorker);
+    assertEquals(secondWorker, thirdWorker);
+  }
+
+  @Test
+  void testWorkerIsReplacedAfterTimeout() throws IOException, InterruptedException {
+    pool = newPool(1, 10, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+    final String worker = pool.execute(List.of("read")).output().get(1);
+    assertThrows(CdkProcessException.class, () -> pool.execute(List.of("hang")));
+
+    assertNotEquals(worker, pool.execute(List.of("read")).output().get(1));
+  }
+
+  /**
+   * Create a pool and wait for its workers to be started, so that requests are not served by extra
+   * workers started on the spot.
+   */
+  private static PythonCdkWorkerPool newPool(final int size,
+                                             final int maxRequestsPerWorker,
+                                             final Duration requestTimeout,
+                                             final Duration healthCheckInterval)
+      throws InterruptedException {
+    final PythonCdkWorkerPool pool = new PythonCdkWorkerPool(
+        List.of("sh", "-c", ECHO_WORKER_SCRIPT, "sh"),
+        Map.of(),
+        size,
+        maxRequestsPerWorker,
+        requestTimeout,
+        Duration.ofSeconds(30),
+        healthCheckInterval);
+    final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+    while (pool.getIdleWorkerCount() < size && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    return pool;
+  }
+
+}
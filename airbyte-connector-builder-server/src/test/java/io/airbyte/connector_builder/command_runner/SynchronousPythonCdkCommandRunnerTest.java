@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.connector_builder.file_writer.MockAirbyteFileWriterImpl;
+import io.airbyte.metrics.MetricClient;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SynchronousPythonCdkCommandRunnerTest {
+
+  private static final String POOL_RECORD = "{\"type\": \"RECORD\", \"record\": {\"stream\": \"pool\", \"data\": {}, \"emitted_at\": 1}}";
+  private static final String PROCESS_RECORD = "{\"type\": \"RECORD\", \"record\": {\"stream\": \"process\", \"data\": {}, \"emitted_at\": 1}}";
+
+  private PythonCdkWorkerPool workerPool;
+  private SynchronousPythonCdkCommandRunner runner;
+
+  @BeforeEach
+  void setup() throws IOException {
+    workerPool = mock(PythonCdkWorkerPool.class);
+    when(workerPool.execute(any())).thenReturn(new PythonCdkWorkerResponse(List.of(POOL_RECORD), ""));
+    runner = new MockSynchronousPythonCdkCommandRunner(
+        new MockAirbyteFileWriterImpl(),
+        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(mock(MetricClient.class)),
+        false,
+        0,
+        new ByteArrayInputStream(PROCESS_RECORD.getBytes(StandardCharsets.UTF_8)),
+        new ByteArrayInputStream(new byte[0]),
+        new ByteArrayOutputStream(),
+        workerPool);
+  }
+
+  @Test
+  void testRequestIsHandledByTheWorkerPool() throws IOException {
+    final AirbyteRecordMessage record = runner.runCommand("test_read", "{\"api_key\": \"key\"}", "{}", "[]");
+
+    assertEquals("pool", record.getStream());
+    verify(workerPool).execute(any());
+  }
+
+  @Test
+  void testRequestInjectingCustomComponentsGetsAProcessOfItsOwn() throws IOException {
+    final AirbyteRecordMessage record = runner.runCommand("test_read", "{\"__injected_components_py\": \"class Component: pass\"}", "{}", "[]");
+
+    assertEquals("process", record.getStream());
+    verify(workerPool, never()).execute(any());
+  }
+
+}
@@ -0,0 +1,102 @@
+# Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+import functools
+import io
+import json
+import logging
+import os
+import sys
+import types
+from pathlib import Path
+
+import pytest
+
+
+SENTINEL = "CDK_WORKER_DONE_test"
+
+
+@functools.lru_cache(maxsize=None)
+def cached_api_key(api_key):
+    return api_key
+
+
+def fake_handle_request(args):
+    """
+    Stands in for the CDK connector builder: reports what a request can see of the previous ones, then leaves its own
+    config behind in the environment, the logging configuration, the module caches and the requests cache.
+    """
+    config = json.loads(Path(args[args.index("--config") + 1]).read_text())
+    cache_dir = Path(os.environ["REQUEST_CACHE_PATH"])
+    response = {
+        "api_key": config["api_key"],
+        "leaked_env": os.environ.get("LEAKED_API_KEY"),
+        "leaked_handlers": len(logging.getLogger().handlers) + len(logging.getLogger("airbyte").handlers),
+        "leaked_cache_entries": cached_api_key.cache_info().currsize,
+        "cache_dir": str(cache_dir),
+        "cached_responses": sorted(path.name for path in cache_dir.iterdir()),
+    }
+    os.environ["LEAKED_API_KEY"] = config["api_key"]
+    logging.getLogger().addHandler(logging.NullHandler())
+    logging.getLogger("airbyte").addHandler(logging.NullHandler())
+    logging.getLogger("airbyte").setLevel(logging.DEBUG)
+    cached_api_key(config["api_key"])
+    (cache_dir / "http_cache.sqlite").write_text(config["api_key"])
+    return json.dumps(response)
+
+
+@pytest.fixture
+def cdk_worker(monkeypatch):
+    fake_modules = {
+        "airbyte_cdk": types.ModuleType("airbyte_cdk"),
+        "airbyte_cdk.connector_builder": types.ModuleType("airbyte_cdk.connector_builder"),
+        "airbyte_cdk.connector_builder.main": types.ModuleType("airbyte_cdk.connector_builder.main"),
+        "airbyte_cdk.models": types.ModuleType("airbyte_cdk.models"),
+        "airbyte_cdk.utils": types.ModuleType("airbyte_cdk.utils"),
+        "airbyte_cdk.utils.traced_exception": types.ModuleType("airbyte_cdk.utils.traced_exception"),
+    }
+    fake_modules["airbyte_cdk.connector_builder.main"].handle_request = fake_handle_request
+    fake_modules["airbyte_cdk.connector_builder.main"].cached_api_key = cached_api_key
+    fake_modules["airbyte_cdk.models"].AirbyteMessageSerializer = None
+    fake_modules["airbyte_cdk.utils.traced_exception"].AirbyteTracedException = None
+    for name, module in fake_modules.items():
+        monkeypatch.setitem(sys.modules, name, module)
+    monkeypatch.syspath_prepend(str(Path(__file__).parents[2] / "main" / "resources" / "python"))
+    monkeypatch.delitem(sys.modules, "cdk_worker", raising=False)
+
+    import cdk_worker
+
+    return cdk_worker
+
+
+def run_requests(cdk_worker, monkeypatch, capsys, requests):
+    monkeypatch.setattr(sys, "stdin", io.StringIO("".join(json.dumps(args) + "\n" for args in requests)))
+    cdk_worker.main(SENTINEL)
+    lines = capsys.readouterr().out.splitlines()
+    return [json.loads(line) for line in lines if line != SENTINEL]
+
+
+def test_requests_do_not_see_the_state_of_previous_requests(cdk_worker, monkeypatch, capsys, tmp_path):
+    first_config = tmp_path / "first_config.json"
+    first_config.write_text(json.dumps({"api_key": "first"}))
+    second_config = tmp_path / "second_config.json"
+    second_config.write_text(json.dumps({"api_key": "second"}))
+    handlers = list(logging.getLogger().handlers)
+
+    first, second = run_requests(
+        cdk_worker,
+        monkeypatch,
+        capsys,
+        [["read", "--config", str(first_config)], ["read", "--config", str(second_config)]],
+    )
+
+    assert first["api_key"] == "first"
+    assert second["api_key"] == "second"
+    assert second["leaked_env"] is None
+    assert second["leaked_handlers"] == first["leaked_handlers"]
+    assert second["leaked_cache_entries"] == 0
+    assert second["cached_responses"] == []
+    assert second["cache_dir"] != first["cache_dir"]
+    assert not Path(first["cache_dir"]).exists()
+    assert not Path(second["cache_dir"]).exists()
+    assert "LEAKED_API_KEY" not in os.environ
+    assert logging.getLogger().handlers == handlers
+    assert logging.getLogger("airbyte").level == logging.NOTSET
@@ -15,7 +15,7 @@ import io.airbyte.metrics.annotations.Instrument
 import io.airbyte.metrics.annotations.Tag
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.workload.api.client.WorkloadApiClient
-import io.airbyte.workload.api.client.model.generated.ExpiredDeadlineWorkloadListRequest
+import io.airbyte.workload.api.client.model.generated.ExpiredDeadlineWorkloadFailRequest
 import io.airbyte.workload.api.client.model.generated.LongRunningWorkloadRequest
 import io.airbyte.workload.api.client.model.generated.Workload
 import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
@@ -43,6 +43,7 @@ open class WorkloadMonitor(
   private val timeProvider: Optional<(ZoneId) -> OffsetDateTime>,
   @Property(name = "airbyte.workload.queue.deletion-batch-size") private val deletionBatchSizeLimit: Int,
   private val featureFlagClient: FeatureFlagClient,
+  @Property(name = "airbyte.workload.monitor.expired-fail-batch-size", defaultValue = "1000") private val expiredFailBatchSize: Int = 1000,
 ) {
   companion object {
     const val CHECK_CLAIMS = "workload-monitor-claim"
@@ -64,16 +65,8 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.not-started-check-rate}")
   open fun cancelNotStartedWorkloads() {
     logger.info { "Checking for not started workloads." }
-    val oldestStartedTime = timeProvider.getOrElse { DEFAULT_TIME_PROVIDER }.invoke(ZoneOffset.UTC)
-    val notStartedWorkloads =
-      workloadApiClient.workloadApi.workloadListWithExpiredDeadline(
-        ExpiredDeadlineWorkloadListRequest(
-          oldestStartedTime,
-          status = listOf(WorkloadStatus.CLAIMED),
-        ),
-      )
-    failWorkloads(
-      notStartedWorkloads.workloads,
+    failExpiredWorkloads(
+      listOf(WorkloadStatus.CLAIMED),
       "Airbyte could not start the process within time limit. The workload was claimed but never started.",
       CHECK_START,
     )
@@ -89,17 +82,8 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.claim-check-rate}")
   open fun cancelNotClaimedWorkloads() {
     logger.info { "Checking for not claimed workloads." }
-    val oldestClaimTime = timeProvider.getOrElse { DEFAULT_TIME_PROVIDER }.invoke(ZoneOffset.UTC)
-    val notClaimedWorkloads =
-      workloadApiClient.workloadApi.workloadListWithExpiredDeadline(
-        ExpiredDeadlineWorkloadListRequest(
-          oldestClaimTime,
-          status = listOf(WorkloadStatus.PENDING),
-        ),
-      )
-
-    failWorkloads(
-      notClaimedWorkloads.workloads,
+    failExpiredWorkloads(
+      listOf(WorkloadStatus.PENDING),
       "Airbyte could not start the process within time limit. The workload was never claimed.",
       CHECK_CLAIMS,
     )
@@ -115,17 +99,8 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.heartbeat-check-rate}")
   open fun cancelNotHeartbeatingWorkloads() {
     logger.info { "Checking for non heartbeating workloads." }
-    val oldestHeartbeatTime = timeProvider.getOrElse { DEFAULT_TIME_PROVIDER }.invoke(ZoneOffset.UTC)
-    val nonHeartbeatingWorkloads =
-      workloadApiClient.workloadApi.workloadListWithExpiredDeadline(
-        ExpiredDeadlineWorkloadListRequest(
-          oldestHeartbeatTime,
-          status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
-        ),
-      )
-
-    failWorkloads(
-      nonHeartbeatingWorkloads.workloads,
+    failExpiredWorkloads(
+      listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
       "Airbyte could not track the sync progress. " +
         "Sync process exited without reporting status.",
       CHECK_HEARTBEAT,
@@ -204,6 +179,66 @@ open class WorkloadMonitor(
     }
   }
 
+  /**
+   * Fails the workloads in one of [statuses] whose deadline has passed. The workload api fails them in set-based
+   * batches of [expiredFailBatchSize], so we only loop until a batch comes back short.
+   */
+  private fun failExpiredWorkloads(
+    statuses: List<WorkloadStatus>,
+    reason: String,
+    source: String,
+  ) {
+    val deadline = timeProvider.getOrElse { DEFAULT_TIME_PROVIDER }.invoke(ZoneOffset.UTC)
+    var failedCount = 0
+    try {
+      do {
+        val failedWorkloads =
+          workloadApiClient.workloadApi
+            .workloadFailWithExpiredDeadline(
+              ExpiredDeadlineWorkloadFailRequest(
+                deadline = deadline,
+                status = statuses,
+                source = source,
+                reason = reason,
+                limit = expiredFailBatchSize,
+              ),
+            ).workloads
+        failedCount += failedWorkloads.size
+        if (failedWorkloads.isNotEmpty()) {
+          logger.info { "Cancelled ${failedWorkloads.size} workloads, reason: $reason. Workload ids: ${failedWorkloads.map { it.id }}" }
+        }
+        failedWorkloads.groupingBy { it.type }.eachCount().forEach { (type, count) ->
+          metricClient.count(
+            metric = OssMetricsRegistry.WORKLOADS_CANCEL,
+            value = count.toLong(),
+            attributes =
+              arrayOf(
+                MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
+                MetricAttribute(MetricTags.STATUS, "ok"),
+                MetricAttribute(MetricTags.WORKLOAD_TYPE, type.value),
+              ),
+          )
+        }
+      } while (failedWorkloads.size >= expiredFailBatchSize)
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to cancel workloads with an expired deadline, source: $source" }
+      metricClient.count(
+        metric = OssMetricsRegistry.WORKLOADS_CANCEL,
+        attributes =
+          arrayOf(
+            MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
+            MetricAttribute(MetricTags.STATUS, "fail"),
+          ),
+      )
+    } finally {
+      metricClient.distribution(
+        OssMetricsRegistry.WORKLOAD_MONITOR_EXPIRED_WORKLOADS_FAILED,
+        failedCount.toDouble(),
+        MetricAttribute(MetricTags.CRON_TYPE, source),
+      )
+    }
+  }
+
   private fun failWorkloads(
     workloads: List<Workload>,
     reason: String,
@@ -11,12 +11,13 @@ import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.workload.api.client.WorkloadApiClient
 import io.airbyte.workload.api.client.generated.WorkloadApi
-import io.airbyte.workload.api.client.model.generated.ExpiredDeadlineWorkloadListRequest
+import io.airbyte.workload.api.client.model.generated.ExpiredDeadlineWorkloadFailResponse
 import io.airbyte.workload.api.client.model.generated.Workload
 import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.airbyte.workload.api.client.model.generated.WorkloadType
 import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.DistributionSummary
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkClass
@@ -31,6 +32,8 @@ import java.time.ZoneId
 import java.time.temporal.ChronoUnit
 import java.util.Optional
 
+private const val BATCH_SIZE = 10
+
 class WorkloadMonitorTest {
   val nonSyncTimeout = Duration.of(9, ChronoUnit.MINUTES)
   val syncTimeout = Duration.of(30, ChronoUnit.DAYS)
@@ -47,6 +50,7 @@ class WorkloadMonitorTest {
     metricClient =
       mockk<MetricClient>().also {
         every { it.count(metric = any(), value = any(), attributes = anyVararg()) } returns mockk<Counter>()
+        every { it.distribution(metric = any(), value = any(), attributes = anyVararg()) } returns mockk<DistributionSummary>()
       }
     workloadApi = mockk()
     workloadApiClient = mockk()
@@ -61,129 +65,113 @@ class WorkloadMonitorTest {
         timeProvider = Optional.of { _: ZoneId -> currentTime },
         deletionBatchSizeLimit = 100,
         featureFlagClient = featureFlagClient,
+        expiredFailBatchSize = BATCH_SIZE,
       )
   }
 
   @Test
   fun `test cancel not started workloads`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("1"), getWorkload("2"), getWorkload("3")))
     currentTime = OffsetDateTime.now()
-    every { workloadApi.workloadListWithExpiredDeadline(any()) } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadFailWithExpiredDeadline(any()) } returns
+      ExpiredDeadlineWorkloadFailResponse(workloads = listOf(getWorkload("1"), getWorkload("2", WorkloadType.CHECK), getWorkload("3")))
 
     workloadMonitor.cancelNotStartedWorkloads()
 
     verifyAll {
-      workloadApi.workloadListWithExpiredDeadline(
+      workloadApi.workloadFailWithExpiredDeadline(
         match {
-          it.status == listOf(WorkloadStatus.CLAIMED) && it.deadline == currentTime
+          it.status == listOf(WorkloadStatus.CLAIMED) &&
+            it.deadline == currentTime &&
+            it.source == "workload-monitor-start" &&
+            it.limit == BATCH_SIZE
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "1" })
-      workloadApi.workloadFailure(match { it.workloadId == "2" })
-      workloadApi.workloadFailure(match { it.workloadId == "3" })
-    }
-    verify(exactly = 2) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-start"),
-        MetricAttribute(MetricTags.STATUS, "ok"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
-    }
-    verify(exactly = 1) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-start"),
-        MetricAttribute(MetricTags.STATUS, "fail"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
     }
+    verifyCancelMetrics("workload-monitor-start", 3, mapOf(WorkloadType.SYNC to 2L, WorkloadType.CHECK to 1L))
   }
 
   @Test
   fun `test cancel not claimed workloads`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("a"), getWorkload("b"), getWorkload("c")))
     currentTime = OffsetDateTime.now()
-    every { workloadApi.workloadListWithExpiredDeadline(any()) } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } throws ServerException() andThen Unit andThen Unit
+    every { workloadApi.workloadFailWithExpiredDeadline(any()) } returns
+      ExpiredDeadlineWorkloadFailResponse(workloads = listOf(getWorkload("a"), getWorkload("b"), getWorkload("c")))
 
     workloadMonitor.cancelNotClaimedWorkloads()
 
     verifyAll {
-      workloadApi.workloadListWithExpiredDeadline(
+      workloadApi.workloadFailWithExpiredDeadline(
         match {
-          it.status == listOf(WorkloadStatus.PENDING) && it.deadline == currentTime
+          it.status == listOf(WorkloadStatus.PENDING) &&
+            it.deadline == currentTime &&
+            it.source == "workload-monitor-claim" &&
+            it.limit == BATCH_SIZE
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "a" })
-      workloadApi.workloadFailure(match { it.workloadId == "b" })
-      workloadApi.workloadFailure(match { it.workloadId == "c" })
-    }
-    verify(exactly = 2) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
-        MetricAttribute(MetricTags.STATUS, "ok"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
-    }
-    verify(exactly = 1) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
-        MetricAttribute(MetricTags.STATUS, "fail"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
     }
+    verifyCancelMetrics("workload-monitor-claim", 3)
   }
 
   @Test
   fun `test cancel not heartbeating workloads`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
     currentTime = OffsetDateTime.now()
-    every {
-      workloadApi.workloadListWithExpiredDeadline(
-        ExpiredDeadlineWorkloadListRequest(
-          deadline = currentTime,
-          status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
-        ),
-      )
-    } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadFailWithExpiredDeadline(any()) } returns
+      ExpiredDeadlineWorkloadFailResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
 
     workloadMonitor.cancelNotHeartbeatingWorkloads()
 
     verifyAll {
-      workloadApi.workloadListWithExpiredDeadline(
+      workloadApi.workloadFailWithExpiredDeadline(
         match {
-          it.status == listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED) && it.deadline == currentTime
+          it.status == listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED) &&
+            it.deadline == currentTime &&
+            it.source == "workload-monitor-heartbeat" &&
+            it.limit == BATCH_SIZE
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "3" })
-      workloadApi.workloadFailure(match { it.workloadId == "4" })
-      workloadApi.workloadFailure(match { it.workloadId == "5" })
     }
-    verify(exactly = 2) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
-        MetricAttribute(MetricTags.STATUS, "ok"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
+    verifyCancelMetrics("workload-monitor-heartbeat", 3)
+  }
+
+  @Test
+  fun `expired workloads are failed in batches until a batch comes back short`() {
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadFailWithExpiredDeadline(any()) } returns
+      ExpiredDeadlineWorkloadFailResponse(workloads = (1..BATCH_SIZE).map { getWorkload("full-1-$it") }) andThen
+      ExpiredDeadlineWorkloadFailResponse(workloads = (1..BATCH_SIZE).map { getWorkload("full-2-$it") }) andThen
+      ExpiredDeadlineWorkloadFailResponse(workloads = listOf(getWorkload("last")))
+
+    workloadMonitor.cancelNotHeartbeatingWorkloads()
+
+    verify(exactly = 3) { workloadApi.workloadFailWithExpiredDeadline(any()) }
+    verify(exactly = 1) {
+      metricClient.distribution(
+        OssMetricsRegistry.WORKLOAD_MONITOR_EXPIRED_WORKLOADS_FAILED,
+        (BATCH_SIZE * 2 + 1).toDouble(),
+        MetricAttribute(MetricTags.CRON_TYPE, "workload-monitor-heartbeat"),
       )
     }
+  }
+
+  @Test
+  fun `failing to fail expired workloads is reported`() {
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadFailWithExpiredDeadline(any()) } throws ServerException()
+
+    workloadMonitor.cancelNotClaimedWorkloads()
+
     verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
         1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
         MetricAttribute(MetricTags.STATUS, "fail"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
+      )
+    }
+    verify(exactly = 1) {
+      metricClient.distribution(
+        OssMetricsRegistry.WORKLOAD_MONITOR_EXPIRED_WORKLOADS_FAILED,
+        0.0,
+        MetricAttribute(MetricTags.CRON_TYPE, "workload-monitor-claim"),
       )
     }
   }
@@ -266,9 +254,37 @@ class WorkloadMonitorTest {
     }
   }
 
-  fun getWorkload(id: String): Workload =
+  private fun verifyCancelMetrics(
+    source: String,
+    cancelled: Long,
+    cancelledByType: Map<WorkloadType, Long> = mapOf(WorkloadType.SYNC to cancelled),
+  ) {
+    cancelledByType.forEach { (type, count) ->
+      verify(exactly = 1) {
+        metricClient.count(
+          OssMetricsRegistry.WORKLOADS_CANCEL,
+          count,
+          MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
+          MetricAttribute(MetricTags.STATUS, "ok"),
+          MetricAttribute(MetricTags.WORKLOAD_TYPE, type.value),
+        )
+      }
+    }
+    verify(exactly = 1) {
+      metricClient.distribution(
+        OssMetricsRegistry.WORKLOAD_MONITOR_EXPIRED_WORKLOADS_FAILED,
+        cancelled.toDouble(),
+        MetricAttribute(MetricTags.CRON_TYPE, source),
+      )
+    }
+  }
+
+  fun getWorkload(
+    id: String,
+    type: WorkloadType = WorkloadType.SYNC,
+  ): Workload =
     mockkClass(Workload::class).also {
       every { it.id } returns id
-      every { it.type } returns WorkloadType.SYNC
+      every { it.type } returns type
     }
 }
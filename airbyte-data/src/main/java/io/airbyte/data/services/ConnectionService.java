@@ -5,6 +5,7 @@
 package io.airbyte.data.services;
 
 import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConnectionListItem;
 import io.airbyte.config.ConnectionSummary;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StreamDescriptor;
@@ -38,6 +39,8 @@ public interface ConnectionService {
 
   List<StandardSync> listWorkspaceStandardSyncs(StandardSyncQuery standardSyncQuery) throws IOException;
 
+  List<ConnectionListItem> listWorkspaceConnectionListItems(StandardSyncQuery standardSyncQuery) throws IOException;
+
   Map<UUID, List<StandardSync>> listWorkspaceStandardSyncsPaginated(List<UUID> workspaceIds,
                                                                     List<UUID> tagIds,
                                                                     boolean includeDeleted,
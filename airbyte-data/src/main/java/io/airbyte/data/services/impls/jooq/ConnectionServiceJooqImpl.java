@@ -30,6 +30,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ConfigWithMetadata;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConnectionListItem;
 import io.airbyte.config.ConnectionSummary;
 import io.airbyte.config.JobSyncConfig;
 import io.airbyte.config.Schedule;
@@ -252,14 +253,7 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
         .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
         // join with dataplane_group to get the dataplane group name (formerly geography)
         .leftJoin(DATAPLANE_GROUP).on(CONNECTION.DATAPLANE_GROUP_ID.eq(DATAPLANE_GROUP.ID))
-        .where(ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId())
-            .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
-                : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
-            .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
-                : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
-            .and(standardSyncQuery.includeDeleted() ? noCondition()
-                : CONNECTION.STATUS.notEqual(
-                    StatusType.deprecated)))
+        .where(getWorkspaceConnectionsCondition(standardSyncQuery))
 
         // group by connection.id so that the groupConcat above works
         .groupBy(CONNECTION.ID, SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS, SCHEMA_MANAGEMENT.BACKFILL_PREFERENCE, DATAPLANE_GROUP.ID,
@@ -272,6 +266,54 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
         getTagsByConnectionIds(connectionIds));
   }
 
+  /**
+   * List connections for workspace via a query, reading only what is needed to list them. Unlike
+   * {@link #listWorkspaceStandardSyncs(StandardSyncQuery)}, the catalog and the other large columns
+   * of the connections are neither fetched nor deserialized.
+   *
+   * @param standardSyncQuery query
+   * @return list of connection list items
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  @Trace
+  public List<ConnectionListItem> listWorkspaceConnectionListItems(final StandardSyncQuery standardSyncQuery)
+      throws IOException {
+    final var connectionResult = database.query(ctx -> ctx
+        .select(CONNECTION.ID,
+            CONNECTION.NAME,
+            CONNECTION.SOURCE_ID,
+            CONNECTION.DESTINATION_ID,
+            CONNECTION.STATUS,
+            CONNECTION.SCHEDULE_TYPE,
+            CONNECTION.SCHEDULE_DATA,
+            CONNECTION.MANUAL,
+            CONNECTION.SCHEDULE,
+            CONNECTION.SOURCE_CATALOG_ID,
+            CONNECTION.BREAKING_CHANGE)
+        .from(CONNECTION)
+        // join with source actors so that we can filter by workspaceId
+        .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+        .where(getWorkspaceConnectionsCondition(standardSyncQuery))
+        .fetch());
+
+    final List<UUID> connectionIds = connectionResult.map(record -> record.get(CONNECTION.ID));
+    final Map<UUID, List<TagRecord>> tagsByConnectionId = getTagsByConnectionIds(connectionIds);
+
+    return connectionResult.map(record -> DbConverter.buildConnectionListItem(record, tagsByConnectionId.get(record.get(CONNECTION.ID))));
+  }
+
+  private static Condition getWorkspaceConnectionsCondition(final StandardSyncQuery standardSyncQuery) {
+    return ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId())
+        .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
+            : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
+        .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
+            : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
+        .and(standardSyncQuery.includeDeleted() ? noCondition()
+            : CONNECTION.STATUS.notEqual(
+                StatusType.deprecated));
+  }
+
   /**
    * List connections. Paginated.
    */
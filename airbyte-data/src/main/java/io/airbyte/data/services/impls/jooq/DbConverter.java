@@ -38,6 +38,7 @@ import io.airbyte.config.ActorDefinitionVersion.SupportState;
 import io.airbyte.config.AllowedHosts;
 import io.airbyte.config.BreakingChangeScope;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConnectionListItem;
 import io.airbyte.config.ConnectorBuilderProject;
 import io.airbyte.config.ConnectorRegistryEntryMetrics;
 import io.airbyte.config.DeclarativeManifest;
@@ -114,12 +115,6 @@ public class DbConverter {
             .getNotificationType() == NotificationType.email && notificationConfiguration.getEnabled())
         .findAny().isPresent();
 
-    final List<Tag> tags = new ArrayList<>();
-    for (final TagRecord tagRecord : tagRecords) {
-      tags.add(new Tag().withTagId(tagRecord.getId()).withWorkspaceId(tagRecord.getWorkspaceId()).withName(tagRecord.getName())
-          .withColor(tagRecord.getColor()));
-    }
-
     return new StandardSync()
         .withConnectionId(record.get(CONNECTION.ID))
         .withNamespaceDefinition(
@@ -161,7 +156,44 @@ public class DbConverter {
         .withBackfillPreference(
             Enums.toEnum(Optional.ofNullable(record.get(SCHEMA_MANAGEMENT.BACKFILL_PREFERENCE)).orElse(BackfillPreference.disabled).getLiteral(),
                 StandardSync.BackfillPreference.class).orElseThrow())
-        .withTags(tags);
+        .withTags(buildTags(tagRecords));
+  }
+
+  /**
+   * Build a connection list item from a db record that only contains the columns of the connection
+   * table needed to list connections.
+   *
+   * @param record db record.
+   * @param tagRecords tags of the connection.
+   * @return connection list item
+   */
+  public static ConnectionListItem buildConnectionListItem(final Record record, final List<TagRecord> tagRecords) {
+    return new ConnectionListItem(
+        record.get(CONNECTION.ID),
+        record.get(CONNECTION.NAME),
+        record.get(CONNECTION.SOURCE_ID),
+        record.get(CONNECTION.DESTINATION_ID),
+        record.get(CONNECTION.STATUS) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.STATUS, String.class), Status.class).orElseThrow(),
+        record.get(CONNECTION.SCHEDULE_TYPE) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.SCHEDULE_TYPE, String.class), ScheduleType.class).orElseThrow(),
+        record.get(CONNECTION.SCHEDULE_DATA) == null ? null
+            : Jsons.deserialize(record.get(CONNECTION.SCHEDULE_DATA).data(), ScheduleData.class),
+        record.get(CONNECTION.MANUAL),
+        record.get(CONNECTION.SCHEDULE) == null ? null
+            : Jsons.deserialize(record.get(CONNECTION.SCHEDULE).data(), Schedule.class),
+        record.get(CONNECTION.SOURCE_CATALOG_ID),
+        record.get(CONNECTION.BREAKING_CHANGE),
+        buildTags(tagRecords));
+  }
+
+  private static List<Tag> buildTags(final List<TagRecord> tagRecords) {
+    final List<Tag> tags = new ArrayList<>();
+    for (final TagRecord tagRecord : tagRecords) {
+      tags.add(new Tag().withTagId(tagRecord.getId()).withWorkspaceId(tagRecord.getWorkspaceId()).withName(tagRecord.getName())
+          .withColor(tagRecord.getColor()));
+    }
+    return tags;
   }
 
   private static ConfiguredAirbyteCatalog parseConfiguredAirbyteCatalog(final String configuredAirbyteCatalogString) {
@@ -7,10 +7,13 @@ package io.airbyte.featureflag.server
 import io.airbyte.featureflag.server.model.Context
 import io.airbyte.featureflag.server.model.FeatureFlag
 import io.airbyte.featureflag.server.model.Rule
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
 import io.micronaut.http.annotation.Body
 import io.micronaut.http.annotation.Consumes
 import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Header
 import io.micronaut.http.annotation.PathVariable
 import io.micronaut.http.annotation.QueryValue
 import io.micronaut.scheduling.TaskExecutors
@@ -47,6 +50,32 @@ class FeatureFlagApi(
     ffs.delete(key)
   }
 
+  @GET
+  @Path("/")
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "All the FeatureFlags, along with an ETag identifying their revision",
+        content = [Content(schema = Schema(implementation = FeatureFlag::class))],
+      ),
+      ApiResponse(
+        responseCode = "304",
+        description = "The FeatureFlags have not changed since the revision sent in If-None-Match",
+      ),
+    ],
+  )
+  fun list(
+    @Header(HttpHeaders.IF_NONE_MATCH) ifNoneMatch: String?,
+  ): HttpResponse<List<FeatureFlag>> {
+    // The revision is read before the flags, so a concurrent update can only cause an extra refresh, never a missed one.
+    val etag = "\"${ffs.revision()}\""
+    if (ifNoneMatch == etag) {
+      return HttpResponse.notModified<List<FeatureFlag>>().header(HttpHeaders.ETAG, etag)
+    }
+    return HttpResponse.ok(ffs.list()).header(HttpHeaders.ETAG, etag)
+  }
+
   @GET
   @Path("/{key}")
   @ApiResponses(
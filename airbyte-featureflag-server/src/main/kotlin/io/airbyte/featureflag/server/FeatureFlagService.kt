@@ -15,6 +15,9 @@ import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Property
 import jakarta.inject.Singleton
 import java.nio.file.Path
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
 import kotlin.io.path.exists
 import kotlin.io.path.isRegularFile
 
@@ -25,7 +28,14 @@ private val logger = KotlinLogging.logger {}
 open class FeatureFlagService(
   @Property(name = "airbyte.feature-flag.path") configPath: Path?,
 ) {
-  private val flags = mutableMapOf<String, MutableFeatureFlag>()
+  private val flags = ConcurrentHashMap<String, MutableFeatureFlag>()
+
+  /**
+   * The [instanceId] is part of the [revision] so that a client holding a revision from before a restart
+   * never mistakes the reloaded flags for the ones it already has.
+   */
+  private val instanceId = UUID.randomUUID()
+  private val version = AtomicLong()
 
   init {
     configPath?.also { path ->
@@ -41,7 +51,7 @@ open class FeatureFlagService(
   }
 
   open fun delete(key: String) {
-    flags.remove(key)
+    flags.remove(key)?.also { version.incrementAndGet() }
   }
 
   open fun eval(
@@ -68,6 +78,13 @@ open class FeatureFlagService(
 
   open fun get(key: String): FeatureFlag? = flags[key]?.toFeatureFlag()
 
+  open fun list(): List<FeatureFlag> = flags.values.map { it.toFeatureFlag() }
+
+  /**
+   * Opaque identifier of the current state of the flags, it changes every time a flag or one of its rules is modified.
+   */
+  open fun revision(): String = "$instanceId-${version.get()}"
+
   open fun addRule(
     key: String,
     rule: Rule,
@@ -78,6 +95,7 @@ open class FeatureFlagService(
       throw Exception("$key already has a rule for context ${rule.context}")
     }
     flag.rules.add(rule.toMutableRule())
+    version.incrementAndGet()
     logger.debug { "Updated $key to $flag" }
     return flag.toFeatureFlag()
   }
@@ -91,6 +109,7 @@ open class FeatureFlagService(
       .find { it.context == rule.context }
       ?.apply { value = rule.value }
       ?: throw Exception("$key does not have a rule for context ${rule.context}")
+    version.incrementAndGet()
     logger.debug { "Updated $key to $flag" }
     return flag.toFeatureFlag()
   }
@@ -100,13 +119,16 @@ open class FeatureFlagService(
     context: Context,
   ): FeatureFlag {
     val flag = flags[key] ?: throw Exception("$key not found")
-    flag.rules.removeIf { it.context == context }
+    if (flag.rules.removeIf { it.context == context }) {
+      version.incrementAndGet()
+    }
     logger.debug { "Updated $key to $flag" }
     return flag.toFeatureFlag()
   }
 
   open fun put(flag: FeatureFlag): FeatureFlag {
     flags[flag.key] = flag.toMutableFeatureFlag()
+    version.incrementAndGet()
     logger.debug { "Updated ${flag.key} to $flag" }
     return get(flag.key) ?: throw Exception("Failed to put flag $flag")
   }
@@ -10,6 +10,7 @@ import io.airbyte.featureflag.server.model.FeatureFlag
 import io.airbyte.featureflag.server.model.Rule
 import io.micronaut.context.annotation.Replaces
 import io.micronaut.context.env.Environment
+import io.micronaut.http.HttpHeaders
 import io.micronaut.http.HttpRequest
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.client.HttpClient
@@ -19,6 +20,7 @@ import io.micronaut.test.annotation.MockBean
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
@@ -82,6 +84,28 @@ class FeatureFlagApiTest(
     assertEquals(404, response.status.code)
   }
 
+  @Test
+  fun `test list returns the flags with their revision`() {
+    val flags = listOf(FeatureFlag(key = "flag1", default = "default1"), FeatureFlag(key = "flag2", default = "default2"))
+    every { ffs.revision() } returns "rev-1"
+    every { ffs.list() } returns flags
+
+    val response = call<Array<FeatureFlag>>(HttpRequest.GET("/api/v1/feature-flags/"))
+    assertEquals(200, response.status.code)
+    assertEquals("\"rev-1\"", response.header(HttpHeaders.ETAG))
+    assertEquals(flags, response.body.get().toList())
+  }
+
+  @Test
+  fun `test list is not modified when the revision matches`() {
+    every { ffs.revision() } returns "rev-1"
+
+    val response = call<String>(HttpRequest.GET<Any>("/api/v1/feature-flags/").header(HttpHeaders.IF_NONE_MATCH, "\"rev-1\""))
+    assertEquals(304, response.status.code)
+    assertEquals("\"rev-1\"", response.header(HttpHeaders.ETAG))
+    verify(exactly = 0) { ffs.list() }
+  }
+
   @Test
   fun `test put`() {
     val flag = FeatureFlag(key = "flag", default = "default", rules = listOf(Rule(context = Context(kind = "c", value = "c1"), value = "c1v")))
@@ -8,6 +8,7 @@ import io.airbyte.featureflag.server.model.Context
 import io.airbyte.featureflag.server.model.FeatureFlag
 import io.airbyte.featureflag.server.model.Rule
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
@@ -78,6 +79,47 @@ class FeatureFlagServiceTest {
     assertEquals(null, ffs.eval("no such flag", mapOf()))
   }
 
+  @Test
+  fun `list returns every flag`() {
+    val flag1 = FeatureFlag(key = "flag1", default = "flag1 default")
+    val flag2 = FeatureFlag(key = "flag2", default = "flag2 default", rules = listOf(Rule(Context(kind = "w", value = "w1"), value = "w1 value")))
+    ffs.put(flag1)
+    ffs.put(flag2)
+
+    assertEquals(setOf(flag1, flag2), ffs.list().toSet())
+  }
+
+  @Test
+  fun `revision changes only when flags are modified`() {
+    val flag = FeatureFlag(key = "flag", default = "default")
+    val rule = Rule(context = Context(kind = "w", value = "w1"), value = "w1 value")
+    val revisions = mutableListOf(ffs.revision())
+
+    ffs.put(flag)
+    revisions.add(ffs.revision())
+    ffs.get(flag.key)
+    ffs.eval(flag.key, mapOf())
+    ffs.list()
+    assertEquals(revisions.last(), ffs.revision())
+
+    ffs.addRule(flag.key, rule)
+    revisions.add(ffs.revision())
+    ffs.updateRule(flag.key, rule.copy(value = "new value"))
+    revisions.add(ffs.revision())
+    ffs.removeRule(flag.key, rule.context)
+    revisions.add(ffs.revision())
+    ffs.removeRule(flag.key, rule.context)
+    assertEquals(revisions.last(), ffs.revision())
+
+    ffs.delete(flag.key)
+    revisions.add(ffs.revision())
+    ffs.delete(flag.key)
+    assertEquals(revisions.last(), ffs.revision())
+
+    assertEquals(revisions.size, revisions.toSet().size)
+    assertNotEquals(FeatureFlagService(null).revision(), ffs.revision())
+  }
+
   @Test
   fun `key not found returns null`() {
     assertEquals(null, ffs.get("not found"))
@@ -4,6 +4,7 @@
 
 package io.airbyte.featureflag
 
+import com.fasterxml.jackson.databind.DeserializationFeature
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory
 import com.fasterxml.jackson.module.kotlin.readValue
@@ -14,6 +15,7 @@ import com.launchdarkly.sdk.server.LDClient
 import io.micronaut.context.annotation.Property
 import io.micronaut.context.annotation.Requires
 import io.micronaut.context.annotation.Secondary
+import jakarta.annotation.PreDestroy
 import jakarta.inject.Inject
 import jakarta.inject.Named
 import jakarta.inject.Singleton
@@ -24,6 +26,11 @@ import java.lang.Thread.MIN_PRIORITY
 import java.nio.file.Path
 import java.nio.file.StandardWatchEventKinds
 import java.nio.file.WatchService
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
 import java.util.concurrent.locks.ReentrantReadWriteLock
 import kotlin.concurrent.read
 import kotlin.concurrent.thread
@@ -106,6 +113,9 @@ internal const val CONFIG_FF_PATH = "airbyte.feature-flag.path"
 /** Config key to provide the base URL used by the [FeatureFlagServiceClient] */
 internal const val CONFIG_FF_BASEURL = "airbyte.feature-flag.base-url"
 
+/** Config key to provide how often the [FeatureFlagServiceClient] refreshes its copy of the flags. */
+internal const val CONFIG_FF_REFRESH_INTERVAL = "airbyte.feature-flag.refresh-interval"
+
 /**
  * Config file based feature-flag client.
  *
@@ -199,28 +209,109 @@ class LaunchDarklyClient(
   ): Int = client.intVariation(flag.key, context.toLDContext(), flag.default)
 }
 
+/**
+ * FeatureFlagService based feature-flag client.
+ *
+ * Flags are evaluated in-process against a local copy of the flags defined in the feature-flag service. The copy is
+ * refreshed every [refreshInterval] with a conditional request, which the service answers with a 304 when nothing
+ * changed. If the copy cannot be loaded, the last one loaded is kept.
+ *
+ * The first copy is loaded in the background when the client is created. Until a copy has been loaded, or if the
+ * [refreshInterval] is zero, every evaluation is a call to the feature-flag service.
+ *
+ * @param [httpClient] the client used to call the feature-flag service.
+ * @param [baseUrl] the base URL of the feature-flag service.
+ * @param [refreshInterval] how often the local copy of the flags is refreshed.
+ */
 @Singleton
 @Requires(property = CONFIG_FF_CLIENT, value = CONFIG_FF_CLIENT_VAL_FFS)
 class FeatureFlagServiceClient(
   @Named("ffsHttpClient") private val httpClient: OkHttpClient,
   @Property(name = CONFIG_FF_BASEURL) private val baseUrl: String,
+  @Property(name = CONFIG_FF_REFRESH_INTERVAL, defaultValue = "10s") refreshInterval: Duration = Duration.ofSeconds(10),
 ) : FeatureFlagClient {
   private val basePath = "/api/v1/feature-flags"
 
+  /** [snapshot] holds the last copy of the flags loaded from the feature-flag service, null until one is loaded. */
+  @Volatile
+  private var snapshot: FlagsSnapshot? = null
+
+  private val refreshExecutor: ScheduledExecutorService? =
+    if (refreshInterval > Duration.ZERO) {
+      Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, "feature-flag-refresh").apply {
+          isDaemon = true
+          priority = MIN_PRIORITY
+        }
+      }
+    } else {
+      null
+    }
+
+  /** The first load of the local copy runs in the background, so that creating the client doesn't wait for the feature-flag service. */
+  internal val initialRefresh: Future<*>? = refreshExecutor?.submit(::refresh)
+
+  init {
+    refreshExecutor?.scheduleWithFixedDelay(::refresh, refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS)
+  }
+
+  /**
+   * Stops refreshing the local copy of the flags.
+   */
+  @PreDestroy
+  fun close() {
+    refreshExecutor?.shutdownNow()
+  }
+
   override fun boolVariation(
     flag: Flag<Boolean>,
     context: Context,
-  ): Boolean = callFeatureFlagService(flag.key, context)?.toBoolean() ?: flag.default
+  ): Boolean = evaluate(flag.key, context)?.toBoolean() ?: flag.default
 
   override fun stringVariation(
     flag: Flag<String>,
     context: Context,
-  ): String = callFeatureFlagService(flag.key, context) ?: flag.default
+  ): String = evaluate(flag.key, context) ?: flag.default
 
   override fun intVariation(
     flag: Flag<Int>,
     context: Context,
-  ): Int = callFeatureFlagService(flag.key, context)?.toInt() ?: flag.default
+  ): Int = evaluate(flag.key, context)?.toInt() ?: flag.default
+
+  /**
+   * Reloads the local copy of the flags, unless the feature-flag service reports that they have not changed since
+   * the copy was loaded.
+   */
+  internal fun refresh() {
+    try {
+      val request =
+        Request
+          .Builder()
+          .url("$baseUrl$basePath/")
+          .apply { snapshot?.etag?.let { header("If-None-Match", it) } }
+          .build()
+      httpClient.newCall(request).execute().use {
+        when (it.code) {
+          200 -> {
+            val flags = jsonMapper.readValue<List<ServiceFlag>>(it.body!!.string())
+            snapshot = FlagsSnapshot(etag = it.header("ETag"), flags = flags.associateBy { flag -> flag.key })
+          }
+          304 -> Unit
+          else -> log.warn("Unable to refresh the feature-flags, the feature-flag service returned {}", it.code)
+        }
+      }
+    } catch (e: Exception) {
+      log.warn("Unable to refresh the feature-flags, the previous values will be used", e)
+    }
+  }
+
+  private fun evaluate(
+    key: String,
+    context: Context,
+  ): String? {
+    val flags = snapshot?.flags ?: return callFeatureFlagService(key, context)
+    return flags[key]?.serve(context)
+  }
 
   private fun callFeatureFlagService(
     key: String,
@@ -241,6 +332,10 @@ class FeatureFlagServiceClient(
       is Multi -> contexts.joinToString("&") { it.toQueryParams() }
       else -> "kind=$kind&value=$key"
     }
+
+  companion object {
+    private val log = LoggerFactory.getLogger(FeatureFlagServiceClient::class.java)
+  }
 }
 
 /**
@@ -360,6 +455,54 @@ private data class ConfigFileFlagContext(
   val include: List<String> = listOf(),
 )
 
+/**
+ * Copy of the flags loaded from the feature-flag service.
+ *
+ * @param [etag] identifies the revision of the [flags], sent back to the service to only reload them when they changed.
+ * @param [flags] map of flag key to flag definition.
+ */
+private data class FlagsSnapshot(
+  val etag: String?,
+  val flags: Map<String, ServiceFlag>,
+)
+
+/**
+ * Data wrapper around a flag returned by the feature-flag service.
+ */
+private data class ServiceFlag(
+  val key: String,
+  val default: String,
+  val rules: List<ServiceRule> = listOf(),
+) {
+  /**
+   * Serve returns the value of the first rule matching the [ctx], or the [default] if no rule matches.
+   * This mirrors the evaluation done by the feature-flag service.
+   */
+  fun serve(ctx: Context): String {
+    val values = ctx.toKindValues()
+    return rules.firstOrNull { values[it.context.kind] == it.context.value }?.value ?: default
+  }
+
+  private fun Context.toKindValues(): Map<String, String> =
+    when (this) {
+      is Multi -> contexts.flatMap { it.toKindValues().toList() }.toMap()
+      else -> mapOf(kind to key)
+    }
+}
+
+private data class ServiceRule(
+  val context: ServiceContext,
+  val value: String,
+)
+
+private data class ServiceContext(
+  val kind: String,
+  val value: String,
+)
+
+/** The json mapper is used for reading the flags returned by the feature-flag service. */
+private val jsonMapper = ObjectMapper().registerKotlinModule().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+
 /** The yaml mapper is used for reading the feature-flag configuration file. */
 private val yamlMapper = ObjectMapper(YAMLFactory()).registerKotlinModule()
 
@@ -157,6 +157,18 @@ object LogStateMsgs : Temporary<Boolean>(key = "platform.log-state-msgs", defaul
 
 object ReplicationBufferOverride : Temporary<Int>(key = "platform.replication-buffer-override", default = 0)
 
+object ReplicationRecordPassthrough : Temporary<Boolean>(key = "platform.replication-record-passthrough", default = false)
+
+object ReplicationBatchSize : Temporary<Int>(key = "platform.replication-batch-size", default = 0)
+
+object ReplicationMessageProcessorParallelism : Temporary<Int>(key = "platform.replication-message-processor-parallelism", default = 1)
+
+object SchemaValidationParallelism : Temporary<Int>(key = "platform.schema-validation-parallelism", default = 1)
+
+object SchemaValidationSampleRate : Temporary<Int>(key = "platform.schema-validation-sample-rate", default = 1)
+
+object SchemaValidationMaxRecordsPerStream : Temporary<Int>(key = "platform.schema-validation-max-records-per-stream", default = 0)
+
 object NodeSelectorOverride : Temporary<String>(key = "platform.node-selector-override", default = "")
 
 object ReportConnectorDiskUsage : Temporary<Boolean>(key = "platform.report-connector-disk-usage", default = false)
@@ -194,6 +206,10 @@ object LLMSyncJobFailureExplanation : Temporary<Boolean>(key = "platform.llm-syn
 
 object WorkloadPollerUsesJitter : Temporary<Boolean>(key = "platform.workload-poller-uses-jitter", default = false)
 
+object WorkloadPollerClaimsWorkloads : Temporary<Boolean>(key = "platform.workload-poller-claims-workloads", default = false)
+
+object WorkloadPollerUsesLongPoll : Temporary<Boolean>(key = "platform.workload-poller-uses-long-poll", default = false)
+
 object PersistSecretConfigsAndReferences : Temporary<Boolean>(key = "platform.persist-secret-configs-and-references", default = false)
 
 object ReadSecretReferenceIdsInConfigs : Temporary<Boolean>(key = "platform.read-secret-reference-ids-in-configs", default = false)
@@ -21,13 +21,16 @@ import jakarta.inject.Inject
 import jakarta.inject.Singleton
 import okhttp3.Call
 import okhttp3.OkHttpClient
+import okhttp3.Request
 import okhttp3.Response
 import okhttp3.ResponseBody
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import java.nio.file.Path
+import java.time.Duration
 import java.util.UUID
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 import kotlin.io.path.createTempFile
 import kotlin.io.path.writeText
@@ -326,9 +329,118 @@ class FeatureFlagServiceClientTest {
     }
   }
 
+  @Test
+  fun `verify flags are evaluated from the local copy`() {
+    val connectionId = UUID.randomUUID()
+    val workspaceId = UUID.randomUUID()
+    val flags =
+      """
+      [
+        {"key": "string-flag", "default": "default", "rules": [
+          {"context": {"kind": "workspace", "value": "$workspaceId"}, "value": "workspace-value"},
+          {"context": {"kind": "connection", "value": "$connectionId"}, "value": "connection-value"}
+        ]},
+        {"key": "bool-flag", "default": "true"},
+        {"key": "int-flag", "default": "3", "rules": [{"context": {"kind": "connection", "value": "$connectionId"}, "value": "5"}]}
+      ]
+      """.trimIndent()
+    val httpClient =
+      mockk<OkHttpClient> {
+        every { newCall(match { it.url.encodedPath == "/api/v1/feature-flags/" }) } returns mockResponse(flags, etag = "\"rev-1\"")
+      }
+    val client = FeatureFlagServiceClient(httpClient, baseUrl, refreshInterval = Duration.ofHours(1))
+    client.initialRefresh?.get()
+
+    with(client) {
+      assertEquals("connection-value", stringVariation(Temporary(key = "string-flag", default = "unused"), Connection(connectionId)))
+      assertEquals("default", stringVariation(Temporary(key = "string-flag", default = "unused"), Connection(UUID.randomUUID())))
+      assertEquals(
+        "workspace-value",
+        stringVariation(Temporary(key = "string-flag", default = "unused"), Multi(listOf(Connection(connectionId), Workspace(workspaceId)))),
+      )
+      assertEquals(true, boolVariation(Temporary(key = "bool-flag", default = false), Connection(connectionId)))
+      assertEquals(5, intVariation(Temporary(key = "int-flag", default = 0), Connection(connectionId)))
+      assertEquals(3, intVariation(Temporary(key = "int-flag", default = 0), Workspace(workspaceId)))
+      assertEquals(42, intVariation(Temporary(key = "missing-flag", default = 42), Connection(connectionId)))
+    }
+    verify(exactly = 1) { httpClient.newCall(any()) }
+  }
+
+  @Test
+  fun `verify refresh only reloads changed flags`() {
+    val requests = mutableListOf<Request>()
+    val responses =
+      ArrayDeque(
+        listOf(
+          mockResponse("""[{"key": "flag", "default": "v1"}]""", etag = "\"rev-1\""),
+          mockResponse("", statusCode = 304, etag = "\"rev-1\""),
+          mockResponse("""[{"key": "flag", "default": "v2"}]""", etag = "\"rev-2\""),
+          mockResponse("unavailable", statusCode = 503),
+        ),
+      )
+    val httpClient =
+      mockk<OkHttpClient> {
+        every { newCall(capture(requests)) } answers { responses.removeFirst() }
+      }
+    val flag = Temporary(key = "flag", default = "unused")
+    val client = FeatureFlagServiceClient(httpClient, baseUrl, refreshInterval = Duration.ofHours(1))
+    client.initialRefresh?.get()
+    assertEquals("v1", client.stringVariation(flag, Connection(UUID.randomUUID())))
+
+    client.refresh()
+    assertEquals("v1", client.stringVariation(flag, Connection(UUID.randomUUID())))
+
+    client.refresh()
+    assertEquals("v2", client.stringVariation(flag, Connection(UUID.randomUUID())))
+
+    client.refresh()
+    assertEquals("v2", client.stringVariation(flag, Connection(UUID.randomUUID())))
+
+    assertEquals(listOf(null, "\"rev-1\"", "\"rev-1\"", "\"rev-2\""), requests.map { it.header("If-None-Match") })
+  }
+
+  @Test
+  fun `verify the first refresh does not block the creation of the client`() {
+    val flag = Temporary(key = "remote-flag", default = "default")
+    val refreshStarted = CountDownLatch(1)
+    val releaseRefresh = CountDownLatch(1)
+    val httpClient =
+      mockk<OkHttpClient> {
+        every { newCall(match { it.url.encodedPath == "/api/v1/feature-flags/" }) } answers {
+          refreshStarted.countDown()
+          releaseRefresh.await()
+          mockResponse("""[{"key": "remote-flag", "default": "local"}]""")
+        }
+        every { newCall(match { it.url.encodedPath.endsWith("/${flag.key}/evaluate") }) } returns mockResponse("remote")
+      }
+    val client = FeatureFlagServiceClient(httpClient, baseUrl, refreshInterval = Duration.ofHours(1))
+
+    assertTrue(refreshStarted.await(10, TimeUnit.SECONDS))
+    assertEquals("remote", client.stringVariation(flag, Connection(UUID.randomUUID())))
+
+    releaseRefresh.countDown()
+    client.initialRefresh?.get()
+    assertEquals("local", client.stringVariation(flag, Connection(UUID.randomUUID())))
+    client.close()
+  }
+
+  @Test
+  fun `verify a zero refresh interval evaluates with the feature-flag service`() {
+    val flag = Temporary(key = "remote-flag", default = "default")
+    val httpClient =
+      mockk<OkHttpClient> {
+        every { newCall(match { it.url.encodedPath.endsWith("/${flag.key}/evaluate") }) } returns mockResponse("remote")
+      }
+    val client = FeatureFlagServiceClient(httpClient, baseUrl, refreshInterval = Duration.ZERO)
+
+    assertEquals("remote", client.stringVariation(flag, Connection(UUID.randomUUID())))
+    verify(exactly = 0) { httpClient.newCall(match { it.url.encodedPath == "/api/v1/feature-flags/" }) }
+  }
+
   private fun mockResponse(
     bodyString: String,
     statusCode: Int = 200,
+    etag: String? = null,
   ): Call =
     mockk<Call> {
       every { execute() } returns
@@ -338,6 +450,7 @@ class FeatureFlagServiceClientTest {
             mockk<ResponseBody> {
               every { string() } returns bodyString
             }
+          every { header("ETag") } returns etag
           every { close() } returns Unit
         }
     }
@@ -7,6 +7,10 @@ package io.airbyte.validation.json;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
 import com.networknt.schema.JsonMetaSchema;
 import com.networknt.schema.JsonNodePath;
 import com.networknt.schema.JsonSchema;
@@ -17,11 +21,13 @@ import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationContext;
 import com.networknt.schema.ValidationMessage;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.string.Strings;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +44,10 @@ import org.slf4j.LoggerFactory;
 public class JsonSchemaValidator {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JsonSchemaValidator.class);
+  // Maximum number of compiled schemas kept for test/validate/ensure. The server validates connector
+  // configs against a few hundred specs, so this comfortably holds the working set.
+  @VisibleForTesting
+  static final long DEFAULT_SCHEMA_CACHE_SIZE = 1000;
   // This URI just needs to point at any path in the same directory as /app/WellKnownTypes.json
   // It's required for the JsonSchema#validate method to resolve $ref correctly.
   private static final URI DEFAULT_BASE_URI;
@@ -53,6 +63,7 @@ public class JsonSchemaValidator {
   private final JsonSchemaFactory jsonSchemaFactory;
   private final URI baseUri;
   private final Map<String, JsonSchema> schemaToValidators = new HashMap<>();
+  private final Cache<String, JsonSchema> schemaCache;
 
   public JsonSchemaValidator() {
     this(DEFAULT_BASE_URI);
@@ -68,8 +79,26 @@ public class JsonSchemaValidator {
    */
   @VisibleForTesting
   public JsonSchemaValidator(final URI baseUri) {
+    this(baseUri, DEFAULT_SCHEMA_CACHE_SIZE);
+  }
+
+  @VisibleForTesting
+  JsonSchemaValidator(final URI baseUri, final long schemaCacheSize) {
     this.jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
     this.baseUri = baseUri;
+    this.schemaCache = CacheBuilder.newBuilder()
+        .maximumSize(schemaCacheSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Hit, miss and eviction counts of the cache of compiled schemas used by
+   * {@link #test(JsonNode, JsonNode)}, {@link #validate(JsonNode, JsonNode)} and
+   * {@link #ensure(JsonNode, JsonNode)}.
+   */
+  public CacheStats getSchemaCacheStats() {
+    return schemaCache.stats();
   }
 
   /**
@@ -107,17 +136,15 @@ public class JsonSchemaValidator {
   /**
    * Test if a JSON object conforms to a given JSONSchema.
    * <p>
-   * WARNING
-   * <p>
-   * The following methods perform JSON validation **by re-creating a validator each time**. This is
-   * both CPU and GC expensive, and should be used carefully.
+   * The following methods compile the schema on first use and keep the compiled validator in a
+   * bounded cache keyed by the hash of the schema content, so repeated validations against the same
+   * schema skip the compilation. The least recently used schemas are evicted once the cache is full.
    * <p>
    *
    * @param schemaJson JSONSchema to test against
    * @param objectJson object to test
    * @return true if objectJson conforms to the JSONSchema. Otherwise, false.
    */
-  // todo(davin): Rewrite this section to cache schemas.
   public boolean test(final JsonNode schemaJson, final JsonNode objectJson) {
     final Set<ValidationMessage> validationMessages = validateInternal(schemaJson, objectJson);
 
@@ -184,10 +211,25 @@ public class JsonSchemaValidator {
     Preconditions.checkNotNull(schemaJson);
     Preconditions.checkNotNull(objectJson);
 
-    final JsonSchema schema = getSchemaValidator(schemaJson);
+    final JsonSchema schema = getCachedSchemaValidator(schemaJson);
     return schema.validate(objectJson);
   }
 
+  /**
+   * Return the cached schema validator for a json schema, creating it if the schema was not seen
+   * before. Schemas are keyed by the hash of their content, so equal schemas share a validator even
+   * when they are distinct JsonNode instances.
+   */
+  private JsonSchema getCachedSchemaValidator(final JsonNode schemaJson) {
+    final String schemaHash = Hashing.sha256().hashString(Jsons.serialize(schemaJson), StandardCharsets.UTF_8).toString();
+    JsonSchema schema = schemaCache.getIfPresent(schemaHash);
+    if (schema == null) {
+      schema = getSchemaValidator(schemaJson);
+      schemaCache.put(schemaHash, schema);
+    }
+    return schema;
+  }
+
   /**
    * Return a schema validator for a json schema, defaulting to the V7 Json schema.
    */
@@ -167,4 +167,32 @@ class JsonSchemaValidatorTest {
     assert !errorMessages.isEmpty();
   }
 
+  @Test
+  void testValidateReusesCachedSchema() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final JsonNode goodJson = Jsons.deserialize("{\"host\":\"abc\"}");
+    final JsonNode badJson = Jsons.deserialize("{\"host\":1}");
+
+    assertTrue(validator.test(VALID_SCHEMA, goodJson));
+    assertFalse(validator.validate(Jsons.clone(VALID_SCHEMA), badJson).isEmpty());
+    assertThrows(JsonValidationException.class, () -> validator.ensure(VALID_SCHEMA, badJson));
+
+    assertEquals(1, validator.getSchemaCacheStats().missCount());
+    assertEquals(2, validator.getSchemaCacheStats().hitCount());
+  }
+
+  @Test
+  void testSchemaCacheEvictsWhenFull() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator(URI.create("file:///app/nonexistent_file.json"), 1);
+    final JsonNode otherSchema = Jsons.deserialize("{\"type\":\"object\"}");
+    final JsonNode json = Jsons.deserialize("{\"host\":\"abc\"}");
+
+    assertTrue(validator.test(VALID_SCHEMA, json));
+    assertTrue(validator.test(otherSchema, json));
+    assertTrue(validator.test(VALID_SCHEMA, json));
+
+    assertEquals(3, validator.getSchemaCacheStats().missCount());
+    assertEquals(2, validator.getSchemaCacheStats().evictionCount());
+  }
+
 }
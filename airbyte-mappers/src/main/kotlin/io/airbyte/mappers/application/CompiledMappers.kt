@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.mappers.application
+
+import io.airbyte.commons.timer.Stopwatch
+import io.airbyte.config.adapters.AirbyteRecord
+import io.airbyte.mappers.transformations.CompiledMapper
+import io.github.oshai.kotlinlogging.KotlinLogging
+
+private val log = KotlinLogging.logger {}
+
+/**
+ * The mappers configured for a stream, compiled by [RecordMapper.compile]. Applying them is
+ * equivalent to [RecordMapper.applyMappers] with the configuration they were compiled from.
+ */
+class CompiledMappers internal constructor(
+  private val stages: List<Stage>,
+) {
+  internal class Stage(
+    val mapper: CompiledMapper,
+    val stopwatch: Stopwatch,
+  )
+
+  fun map(record: AirbyteRecord) {
+    try {
+      for (stage in stages) {
+        stage.stopwatch.time { stage.mapper.map(record) }
+      }
+    } catch (e: Exception) {
+      log.debug { "Error applying mappers: ${e.message}" }
+    }
+  }
+}
@@ -43,6 +43,20 @@ class RecordMapper(
     }
   }
 
+  /**
+   * Prepares the mappers configured for a stream so that they can be applied to its records without
+   * resolving them, and their configuration, again for every record.
+   */
+  @Suppress("UNCHECKED_CAST")
+  fun <T : MapperConfig> compile(configuredMappers: List<T>): CompiledMappers =
+    CompiledMappers(
+      configuredMappers.mapNotNull { mapperConfig ->
+        mappersByName[mapperConfig.name()]?.let { (mapper, stopwatch) ->
+          CompiledMappers.Stage((mapper as Mapper<T>).compile(mapperConfig), stopwatch)
+        }
+      },
+    )
+
   fun collectStopwatches(): Map<String, Stopwatch> =
     mappersByName
       .filterValues { it.stopwatch.getExecutionCount() > 0 }
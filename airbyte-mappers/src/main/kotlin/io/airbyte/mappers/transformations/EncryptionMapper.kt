@@ -71,20 +71,38 @@ class EncryptionMapper : FilteredRecordsMapper<EncryptionMapperConfig>() {
     config: EncryptionMapperConfig,
     record: AirbyteRecord,
   ) {
-    if (record.has(config.config.targetField)) {
-      val outputFieldName = getOutputFieldName(config)
+    encryptField(record, config.config.targetField, getOutputFieldName(config)) { data -> createEncryptor(config.config).encrypt(data) }
+  }
+
+  override fun compileForNonDiscardedRecords(config: EncryptionMapperConfig): CompiledMapper {
+    val targetField = config.config.targetField
+    val outputFieldName = getOutputFieldName(config)
+    // Ciphers aren't thread-safe. A failure to set up the encryptor is raised again on every record,
+    // like it would be if the encryptor was set up for each record.
+    val encryptor = ThreadLocal.withInitial { createEncryptor(config.config) }
+
+    return CompiledMapper { record -> encryptField(record, targetField, outputFieldName) { data -> encryptor.get().encrypt(data) } }
+  }
+
+  private fun encryptField(
+    record: AirbyteRecord,
+    targetField: String,
+    outputFieldName: String,
+    encrypt: (ByteArray) -> String,
+  ) {
+    if (record.has(targetField)) {
       var failed = false
       try {
-        val data = record.get(config.config.targetField).asString()
-        val encryptedData = encrypt(data.toByteArray(Charsets.UTF_8), config.config)
+        val data = record.get(targetField).asString()
+        val encryptedData = encrypt(data.toByteArray(Charsets.UTF_8))
         record.set(outputFieldName, encryptedData)
       } catch (e: Exception) {
         // TODO We should use a more precise Reason once available in the protocol
         record.trackFieldError(outputFieldName, AirbyteRecord.Change.NULLED, AirbyteRecord.Reason.PLATFORM_SERIALIZATION_ERROR)
         failed = true
       } finally {
-        if (failed || outputFieldName != config.config.targetField) {
-          record.remove(config.config.targetField)
+        if (failed || outputFieldName != targetField) {
+          record.remove(targetField)
         }
       }
     }
@@ -92,19 +110,19 @@ class EncryptionMapper : FilteredRecordsMapper<EncryptionMapperConfig>() {
 
   private fun getOutputFieldName(config: EncryptionMapperConfig): String = "${config.config.targetField}${config.config.fieldNameSuffix ?: ""}"
 
-  private fun encrypt(
-    data: ByteArray,
-    config: EncryptionConfig,
-  ): String =
+  /**
+   * Resolves the cipher and parses the key, so that they can be reused for several values.
+   */
+  private fun createEncryptor(config: EncryptionConfig): Encryptor =
     when (config) {
-      is AesEncryptionConfig -> encryptAES(data, config)
-      is RsaEncryptionConfig -> encryptRSA(data, config)
+      is AesEncryptionConfig -> AesEncryptor(config)
+      is RsaEncryptionConfig -> RsaEncryptor(config)
     }
 
   private fun encryptSample(config: EncryptionConfig) {
     val sampleData = "sample data"
     try {
-      encrypt(sampleData.toByteArray(Charsets.UTF_8), config)
+      createEncryptor(config).encrypt(sampleData.toByteArray(Charsets.UTF_8))
     } catch (e: MissingSecretValueException) {
       // ignore if key is not hydrated
     } catch (e: Exception) {
@@ -123,29 +141,47 @@ class EncryptionMapper : FilteredRecordsMapper<EncryptionMapperConfig>() {
       is RsaEncryptionConfig -> Cipher.getInstance(config.algorithm)
     }
 
+  /**
+   * Encrypts values with a given config. Not thread-safe, since ciphers aren't.
+   */
+  private interface Encryptor {
+    fun encrypt(data: ByteArray): String
+  }
+
   @OptIn(ExperimentalStdlibApi::class)
-  private fun encryptAES(
-    data: ByteArray,
+  private inner class AesEncryptor(
     config: AesEncryptionConfig,
-  ): String {
-    val key = config.key as? AirbyteSecret.Hydrated ?: throw MissingSecretValueException("key hasn't been hydrated")
-    val cipher = getCipher(config)
-    val iv = ByteArray(16)
-    SecureRandom().nextBytes(iv)
-    cipher.init(Cipher.ENCRYPT_MODE, SecretKeySpec(key.value.hexToByteArray(), config.algorithm), IvParameterSpec(iv))
-    val encryptedData = cipher.doFinal(data)
-    return (iv + encryptedData).toHexString()
+  ) : Encryptor {
+    private val key: SecretKeySpec =
+      (config.key as? AirbyteSecret.Hydrated)?.let { SecretKeySpec(it.value.hexToByteArray(), config.algorithm) }
+        ?: throw MissingSecretValueException("key hasn't been hydrated")
+
+    private val cipher = getCipher(config)
+
+    override fun encrypt(data: ByteArray): String {
+      // the IV changes with every value, so the cipher is initialized every time
+      val iv = ByteArray(16)
+      secureRandom.nextBytes(iv)
+      cipher.init(Cipher.ENCRYPT_MODE, key, IvParameterSpec(iv))
+      val encryptedData = cipher.doFinal(data)
+      return (iv + encryptedData).toHexString()
+    }
   }
 
   @OptIn(ExperimentalStdlibApi::class)
-  private fun encryptRSA(
-    data: ByteArray,
+  private inner class RsaEncryptor(
     config: RsaEncryptionConfig,
-  ): String {
-    val cipher = getCipher(config)
-    val keyFactory = KeyFactory.getInstance(config.algorithm)
-    val keySpec = X509EncodedKeySpec(config.publicKey.hexToByteArray())
-    cipher.init(Cipher.ENCRYPT_MODE, keyFactory.generatePublic(keySpec))
-    return cipher.doFinal(data).toHexString()
+  ) : Encryptor {
+    private val publicKey =
+      KeyFactory.getInstance(config.algorithm).generatePublic(X509EncodedKeySpec(config.publicKey.hexToByteArray()))
+
+    // doFinal resets the cipher to its initialized state, so it only needs to be initialized once
+    private val cipher = getCipher(config).apply { init(Cipher.ENCRYPT_MODE, publicKey) }
+
+    override fun encrypt(data: ByteArray): String = cipher.doFinal(data).toHexString()
+  }
+
+  companion object {
+    private val secureRandom = SecureRandom()
   }
 }
@@ -32,6 +32,8 @@ class HashingMapper : FilteredRecordsMapper<HashingMapperConfig>() {
     const val SHA512 = "SHA-512"
 
     val supportedMethods = listOf(MD2, MD5, SHA1, SHA224, SHA256, SHA384, SHA512)
+
+    private val hexFormat = HexFormat.of()
   }
 
   private val hashingMapperSpec = HashingMapperSpec()
@@ -58,31 +60,53 @@ class HashingMapper : FilteredRecordsMapper<HashingMapperConfig>() {
   ) {
     val outputFieldName = "${config.config.targetField}${config.config.fieldNameSuffix}"
 
-    if (record.has(config.config.targetField)) {
+    hashField(record, config.config.targetField, outputFieldName) { createDigest(config.config.method.value) }
+  }
+
+  override fun compileForNonDiscardedRecords(config: HashingMapperConfig): CompiledMapper {
+    val targetField = config.config.targetField
+    val outputFieldName = "$targetField${config.config.fieldNameSuffix}"
+    // one digest per thread, digest() resets it for the next value
+    val digest = ThreadLocal.withInitial { createDigest(config.config.method.value) }
+
+    return CompiledMapper { record -> hashField(record, targetField, outputFieldName) { digest.get() } }
+  }
+
+  private fun hashField(
+    record: AirbyteRecord,
+    targetField: String,
+    outputFieldName: String,
+    digest: () -> MessageDigest,
+  ) {
+    if (record.has(targetField)) {
       try {
-        val data = record.get(config.config.targetField).asString().toByteArray()
+        val data = record.get(targetField).asString().toByteArray()
 
-        val hashedAndEncodeValue: String = hashAndEncodeData(config.config.method.value, data)
+        val hashedAndEncodeValue: String = hashAndEncodeData(digest(), data)
         record.set(outputFieldName, hashedAndEncodeValue)
       } catch (e: Exception) {
         // TODO We should use a more precise Reason once available in the protocol
         record.trackFieldError(outputFieldName, AirbyteRecord.Change.NULLED, AirbyteRecord.Reason.PLATFORM_SERIALIZATION_ERROR)
       } finally {
-        record.remove(config.config.targetField)
+        record.remove(targetField)
       }
     }
   }
 
-  private fun hashAndEncodeData(
-    method: String,
-    data: ByteArray,
-  ): String {
+  private fun createDigest(method: String): MessageDigest {
     if (supportedMethods.contains(method).not()) {
       throw MapperException(type = DestinationCatalogGenerator.MapperErrorType.INVALID_MAPPER_CONFIG, message = "Unsupported hashing method: $method")
     }
 
-    val hashedValue = MessageDigest.getInstance(method).digest(data)
+    return MessageDigest.getInstance(method)
+  }
+
+  private fun hashAndEncodeData(
+    digest: MessageDigest,
+    data: ByteArray,
+  ): String {
+    val hashedValue = digest.digest(data)
 
-    return HexFormat.of().formatHex(hashedValue)
+    return hexFormat.formatHex(hashedValue)
   }
 }
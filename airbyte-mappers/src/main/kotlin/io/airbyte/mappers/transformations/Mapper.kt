@@ -21,4 +21,18 @@ interface Mapper<T : MapperConfig> {
     config: T,
     record: AirbyteRecord,
   )
+
+  /**
+   * Binds the mapper to a configuration. Mappers override this to do the work that only depends on
+   * the configuration (resolving algorithms, parsing keys, computing field names) once per sync
+   * rather than once per record. The returned mapper may be applied concurrently.
+   */
+  fun compile(config: T): CompiledMapper = CompiledMapper { record -> map(config, record) }
+}
+
+/**
+ * A [Mapper] bound to its configuration.
+ */
+fun interface CompiledMapper {
+  fun map(record: AirbyteRecord)
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.mappers.transformations
+
+import io.airbyte.config.adapters.AirbyteRecord
+import io.airbyte.config.mapper.configs.AndOperation
+import io.airbyte.config.mapper.configs.EqualOperation
+import io.airbyte.config.mapper.configs.NotOperation
+import io.airbyte.config.mapper.configs.Operation
+import io.airbyte.config.mapper.configs.OrOperation
+
+/**
+ * Row filtering conditions compiled into a predicate that evaluates like [Operation.eval], with less
+ * work per record:
+ * - nested ANDs and ORs are flattened and constant branches are folded;
+ * - the EQUAL conditions of an OR on the same field become a single lookup in a set of values;
+ * - the operands of ANDs and ORs are evaluated cheapest first, so that expensive branches are
+ *   skipped when a cheap one already decides the result.
+ *
+ * Conditions don't have side effects, so evaluating them in a different order doesn't change the
+ * result.
+ */
+internal sealed class RowFilterPredicate {
+  /**
+   * Rough number of field lookups needed to evaluate the predicate.
+   */
+  abstract val cost: Int
+
+  abstract fun test(record: AirbyteRecord): Boolean
+
+  data object True : RowFilterPredicate() {
+    override val cost = 0
+
+    override fun test(record: AirbyteRecord): Boolean = true
+  }
+
+  data object False : RowFilterPredicate() {
+    override val cost = 0
+
+    override fun test(record: AirbyteRecord): Boolean = false
+  }
+
+  data class FieldEquals(
+    val fieldName: String,
+    val value: String,
+  ) : RowFilterPredicate() {
+    override val cost = 1
+
+    override fun test(record: AirbyteRecord): Boolean = record.has(fieldName) && record.get(fieldName).asString() == value
+  }
+
+  data class FieldIn(
+    val fieldName: String,
+    val values: Set<String>,
+  ) : RowFilterPredicate() {
+    override val cost = 1
+
+    override fun test(record: AirbyteRecord): Boolean = record.has(fieldName) && record.get(fieldName).asString() in values
+  }
+
+  data class Not(
+    val predicate: RowFilterPredicate,
+  ) : RowFilterPredicate() {
+    override val cost = predicate.cost
+
+    override fun test(record: AirbyteRecord): Boolean = !predicate.test(record)
+  }
+
+  class All(
+    predicates: List<RowFilterPredicate>,
+  ) : RowFilterPredicate() {
+    val predicates: Array<RowFilterPredicate> = predicates.sortedBy { it.cost }.toTypedArray()
+    override val cost = predicates.sumOf { it.cost }
+
+    override fun test(record: AirbyteRecord): Boolean {
+      for (predicate in predicates) {
+        if (!predicate.test(record)) {
+          return false
+        }
+      }
+      return true
+    }
+  }
+
+  class AnyOf(
+    predicates: List<RowFilterPredicate>,
+  ) : RowFilterPredicate() {
+    val predicates: Array<RowFilterPredicate> = predicates.sortedBy { it.cost }.toTypedArray()
+    override val cost = predicates.sumOf { it.cost }
+
+    override fun test(record: AirbyteRecord): Boolean {
+      for (predicate in predicates) {
+        if (predicate.test(record)) {
+          return true
+        }
+      }
+      return false
+    }
+  }
+
+  companion object {
+    fun compile(operation: Operation): RowFilterPredicate =
+      when (operation) {
+        is EqualOperation -> FieldEquals(operation.fieldName, operation.comparisonValue)
+        is AndOperation -> all(operation.conditions.map { compile(it) })
+        is OrOperation -> anyOf(operation.conditions.map { compile(it) })
+        is NotOperation -> not(anyOf(operation.conditions.map { compile(it) }))
+      }
+
+    private fun all(operands: List<RowFilterPredicate>): RowFilterPredicate {
+      val flattened = operands.flatMap { if (it is All) it.predicates.asList() else listOf(it) }
+      if (flattened.any { it == False }) {
+        return False
+      }
+      val remaining = flattened.filter { it != True }
+      return when (remaining.size) {
+        0 -> True
+        1 -> remaining.single()
+        else -> All(remaining)
+      }
+    }
+
+    private fun anyOf(operands: List<RowFilterPredicate>): RowFilterPredicate {
+      val flattened = operands.flatMap { if (it is AnyOf) it.predicates.asList() else listOf(it) }
+      if (flattened.any { it == True }) {
+        return True
+      }
+      val (lookups, others) = flattened.filter { it != False }.partition { it is FieldEquals || it is FieldIn }
+      val remaining =
+        lookups
+          .groupBy { if (it is FieldEquals) it.fieldName else (it as FieldIn).fieldName }
+          .map { (fieldName, predicates) ->
+            predicates.singleOrNull()
+              ?: FieldIn(fieldName, predicates.flatMapTo(HashSet()) { if (it is FieldEquals) listOf(it.value) else (it as FieldIn).values })
+          } + others
+      return when (remaining.size) {
+        0 -> False
+        1 -> remaining.single()
+        else -> AnyOf(remaining)
+      }
+    }
+
+    private fun not(operand: RowFilterPredicate): RowFilterPredicate =
+      when (operand) {
+        True -> False
+        False -> True
+        is Not -> operand.predicate
+        else -> Not(operand)
+      }
+  }
+}
@@ -31,4 +31,9 @@ class RowFilteringMapper : FilteredRecordsMapper<RowFilteringMapperConfig>() {
     val conditionEvalResult = config.config.conditions.eval(record)
     record.setInclude(conditionEvalResult)
   }
+
+  override fun compileForNonDiscardedRecords(config: RowFilteringMapperConfig): CompiledMapper {
+    val predicate = RowFilterPredicate.compile(config.config.conditions)
+    return CompiledMapper { record -> record.setInclude(predicate.test(record)) }
+  }
 }
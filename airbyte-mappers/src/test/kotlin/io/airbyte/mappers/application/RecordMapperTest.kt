@@ -48,6 +48,24 @@ class RecordMapperTest {
     assertEquals(expectedRecord, testRecord)
   }
 
+  @Test
+  fun testCompiledMappers() {
+    val testRecord = sampleRecord.deepCopy()
+
+    val compiledMappers =
+      recordMapper.compile(
+        listOf(
+          TestMapperConfig(TEST_MAPPER_NAME, null, null, TestConfig("field1", TestEnums.ONE, "field2")),
+          TestMapperConfig(TEST_MAPPER_NAME, null, null, TestConfig("field1_test", TestEnums.ONE, "field2")),
+        ),
+      )
+    compiledMappers.map(testRecord)
+
+    val expectedRecord = createRecord(mapOf("field1_test_test" to "value1"))
+    assertEquals(expectedRecord, testRecord)
+    assertEquals(2, recordMapper.collectStopwatches()[TEST_MAPPER_NAME]?.getExecutionCount())
+  }
+
   fun createRecord(data: Map<String, String>) =
     AirbyteJsonRecordAdapter(
       AirbyteMessage()
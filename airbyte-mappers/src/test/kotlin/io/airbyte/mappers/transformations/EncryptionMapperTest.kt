@@ -23,6 +23,7 @@ import io.airbyte.protocol.models.v0.AirbyteRecordMessageMetaChange
 import io.github.oshai.kotlinlogging.KotlinLogging
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotEquals
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -330,6 +331,79 @@ class EncryptionMapperTest {
     }
   }
 
+  @Test
+  fun `compiled rsa encryption can be reused across records`() {
+    val keyGenerator = KeyPairGenerator.getInstance("RSA")
+    keyGenerator.initialize(2048)
+    val keyPair = keyGenerator.generateKeyPair()
+    val rsaConfig =
+      RsaEncryptionConfig(
+        algorithm = "RSA",
+        targetField = "testRsa",
+        fieldNameSuffix = "_encrypted",
+        publicKey = keyPair.public.encoded.toHexString(),
+      )
+    val compiledMapper = encryptionMapper.compile(EncryptionMapperConfig(config = rsaConfig))
+
+    listOf("first", "second").forEach { value ->
+      val testRecord = createRecord("testRsa", value)
+      compiledMapper.map(testRecord)
+
+      verifyRecordInvariant(testRecord).also {
+        val decryptedValue = decryptRSA(it.get("testRsa_encrypted").asString(), rsaConfig, keyPair.private)
+        assertEquals(value, decryptedValue)
+      }
+    }
+  }
+
+  @Test
+  fun `compiled aes encryption uses a new iv for every record`() {
+    val keyFactory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+    val key = keyFactory.generateSecret(PBEKeySpec("my secret".toCharArray(), "salt".toByteArray(), 65536, 256))
+    val aesConfig =
+      AesEncryptionConfig(
+        algorithm = "AES",
+        targetField = "testField",
+        fieldNameSuffix = "_encrypted",
+        mode = AesMode.CBC,
+        padding = AesPadding.PKCS5Padding,
+        key = AirbyteSecret.Hydrated(key.encoded.toHexString()),
+      )
+    val compiledMapper = encryptionMapper.compile(EncryptionMapperConfig(config = aesConfig))
+
+    val encryptedValues =
+      (1..2).map {
+        val testRecord = createRecord("testField", "something")
+        compiledMapper.map(testRecord)
+        verifyRecordInvariant(testRecord).get("testField_encrypted").asString()
+      }
+
+    assertNotEquals(encryptedValues[0], encryptedValues[1])
+    encryptedValues.forEach { assertEquals("something", decryptAES(it, aesConfig, key)) }
+  }
+
+  @Test
+  fun `compiled encryption with a non-hydrated key nulls the field`() {
+    val aesConfig =
+      AesEncryptionConfig(
+        algorithm = "AES",
+        targetField = "testField",
+        fieldNameSuffix = "_encrypted",
+        mode = AesMode.CBC,
+        padding = AesPadding.PKCS5Padding,
+        key = AirbyteSecret.Reference("secret-ref"),
+      )
+    val compiledMapper = encryptionMapper.compile(EncryptionMapperConfig(config = aesConfig))
+
+    val testRecord = createRecord("testField", "something")
+    compiledMapper.map(testRecord)
+
+    verifyRecordInvariant(testRecord).also {
+      assertFalse(it.has("testField"))
+      assertFalse(it.has("testField_encrypted"))
+    }
+  }
+
   @Test
   fun `testing rsa encryption schema rejects config with invalid key`() {
     val rsaConfig =
@@ -102,6 +102,31 @@ class HashingMapperTest {
     assertEquals("value2", record.get("field2").asString())
   }
 
+  @Test
+  fun compiledMapperHashesLikeTheMapper() {
+    val config =
+      HashingMapperConfig(
+        MAPPER_NAME,
+        null,
+        HashingConfig(
+          "field1",
+          HashingMethods.fromValue(HashingMapper.SHA256)!!,
+          "_hashed",
+        ),
+      )
+    val compiledMapper = hashingMapper.compile(config)
+
+    listOf("value1", "value2", "value1").forEach { value ->
+      val expected = TestRecordAdapter(StreamDescriptor().withName("stream"), mapOf("field1" to value))
+      hashingMapper.map(config, expected)
+      val record = TestRecordAdapter(StreamDescriptor().withName("stream"), mapOf("field1" to value))
+      compiledMapper.map(record)
+
+      assertEquals(expected.get("field1_hashed").asString(), record.get("field1_hashed").asString())
+      assertFalse(record.has("field1"))
+    }
+  }
+
   @Test
   fun testAllMethodAreSupported() {
     val messageDigestAlgorithms = Security.getAlgorithms("MessageDigest")
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.mappers.transformations
+
+import io.airbyte.config.StreamDescriptor
+import io.airbyte.config.adapters.TestRecordAdapter
+import io.airbyte.config.mapper.configs.AndOperation
+import io.airbyte.config.mapper.configs.EqualOperation
+import io.airbyte.config.mapper.configs.NotOperation
+import io.airbyte.config.mapper.configs.Operation
+import io.airbyte.config.mapper.configs.OrOperation
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+
+class RowFilterPredicateTest {
+  private val records =
+    listOf(
+      mapOf("status" to "active", "region" to "eu", "tier" to "gold"),
+      mapOf("status" to "inactive", "region" to "us", "tier" to "silver"),
+      mapOf("status" to "active", "region" to "us"),
+      mapOf("region" to "apac", "tier" to "gold"),
+      mapOf<String, Any>(),
+    ).map { TestRecordAdapter(StreamDescriptor().withName("stream"), it) }
+
+  private fun equal(
+    fieldName: String,
+    value: String,
+  ) = EqualOperation(fieldName = fieldName, comparisonValue = value)
+
+  private fun assertSameResults(operation: Operation) {
+    val predicate = RowFilterPredicate.compile(operation)
+    records.forEach { record ->
+      assertEquals(operation.eval(record), predicate.test(record), "Mismatch for $operation on ${record.asProtocol}")
+    }
+  }
+
+  @Test
+  fun `compiled predicates evaluate like the conditions`() {
+    listOf(
+      equal("status", "active"),
+      AndOperation(
+        conditions = listOf(equal("status", "active"), OrOperation(conditions = listOf(equal("region", "eu"), equal("tier", "gold")))),
+      ),
+      OrOperation(conditions = listOf(equal("region", "eu"), equal("region", "us"), equal("tier", "gold"))),
+      NotOperation(conditions = listOf(equal("region", "eu"), equal("region", "apac"))),
+      NotOperation(conditions = listOf(NotOperation(conditions = listOf(equal("status", "active"))))),
+      AndOperation(
+        conditions = listOf(AndOperation(conditions = listOf(equal("status", "active"))), NotOperation(conditions = emptyList())),
+      ),
+      AndOperation(conditions = emptyList()),
+      OrOperation(conditions = emptyList()),
+      NotOperation(conditions = emptyList()),
+    ).forEach { assertSameResults(it) }
+  }
+
+  @Test
+  fun `equal conditions on the same field are merged in a single lookup`() {
+    val predicate =
+      RowFilterPredicate.compile(
+        OrOperation(
+          conditions =
+            listOf(
+              equal("region", "eu"),
+              OrOperation(conditions = listOf(equal("region", "us"), equal("tier", "gold"))),
+              equal("region", "apac"),
+            ),
+        ),
+      )
+
+    val operands = (predicate as RowFilterPredicate.AnyOf).predicates.toSet()
+    assertEquals(
+      setOf(
+        RowFilterPredicate.FieldIn("region", setOf("eu", "us", "apac")),
+        RowFilterPredicate.FieldEquals("tier", "gold"),
+      ),
+      operands,
+    )
+  }
+
+  @Test
+  fun `constant branches are folded`() {
+    assertEquals(RowFilterPredicate.True, RowFilterPredicate.compile(AndOperation(conditions = emptyList())))
+    assertEquals(RowFilterPredicate.False, RowFilterPredicate.compile(OrOperation(conditions = emptyList())))
+    val doubleNegation = NotOperation(conditions = listOf(NotOperation(conditions = listOf(equal("status", "active")))))
+    assertEquals(
+      RowFilterPredicate.FieldEquals("status", "active"),
+      RowFilterPredicate.compile(AndOperation(conditions = listOf(NotOperation(conditions = emptyList()), doubleNegation))),
+    )
+  }
+
+  @Test
+  fun `cheaper operands are evaluated first`() {
+    val expensive = AndOperation(conditions = listOf(equal("a", "1"), equal("b", "2"), equal("c", "3")))
+    val predicate = RowFilterPredicate.compile(OrOperation(conditions = listOf(expensive, equal("d", "4"))))
+
+    assertEquals(RowFilterPredicate.FieldEquals("d", "4"), (predicate as RowFilterPredicate.AnyOf).predicates.first())
+  }
+}
@@ -185,6 +185,14 @@ enum class OssMetricsRegistry(
     metricName = "inconsistent_activity_input",
     metricDescription = "whenever we detect a mismatch between the input and the actual config",
   ),
+  JSON_SCHEMA_VALIDATOR_CACHE_HIT(
+    metricName = "json_schema_validator_cache_hit",
+    metricDescription = "gauge of the number of JSON schema validations that reused a compiled schema from the cache",
+  ),
+  JSON_SCHEMA_VALIDATOR_CACHE_MISS(
+    metricName = "json_schema_validator_cache_miss",
+    metricDescription = "gauge of the number of JSON schema validations that had to compile their schema",
+  ),
   JOB_CANCELLED_BY_RELEASE_STAGE(
     metricName = "job_cancelled_by_release_stage",
     metricDescription = "increments when a job is cancelled. jobs are double counted as this is tagged by release stage.",
@@ -483,6 +491,10 @@ enum class OssMetricsRegistry(
     metricName = "workload_cancel",
     metricDescription = "number of workloads canceled",
   ),
+  WORKLOAD_MONITOR_EXPIRED_WORKLOADS_FAILED(
+    metricName = "workload_monitor_expired_workloads_failed",
+    metricDescription = "number of workloads with an expired deadline failed by a run of the workload_monitor",
+  ),
   WORKLOADS_SIGNAL(
     metricName = "workloads_signal",
     metricDescription = "When emitting signal from the workload-api",
@@ -639,6 +651,18 @@ enum class OssMetricsRegistry(
     metricName = "secrets_hydration_failure",
     metricDescription = "Count of secrets hydration failures.",
   ),
+  SECRETS_HYDRATION_CACHE_HIT(
+    metricName = "secrets_hydration_cache_hit",
+    metricDescription = "Count of secrets read from the hydration cache instead of the secret store.",
+  ),
+  SECRETS_HYDRATION_CACHE_MISS(
+    metricName = "secrets_hydration_cache_miss",
+    metricDescription = "Count of secrets that had to be read from the secret store during hydration.",
+  ),
+  SECRETS_HYDRATION_FETCH_TIME_MS(
+    metricName = "secrets_hydration_fetch_time_ms",
+    metricDescription = "Time to read a single secret from the secret store during hydration.",
+  ),
   WORKLOAD_HYDRATION_FETCH_FAILURE(
     metricName = "workload_hydration_fetch_failure",
     metricDescription = "Count of failures fetching workload during hydration step.",
@@ -755,6 +779,10 @@ enum class OssMetricsRegistry(
     metricName = "workload_stage_duration",
     metricDescription = "a distribution of the duration of a workload stage",
   ),
+  WORKLOAD_STAGE_QUEUE_DEPTH(
+    metricName = "workload_stage_queue_depth",
+    metricDescription = "number of workloads waiting for a thread of a launch pipeline stage",
+  ),
   WORKLOAD_TIME_TO_TRANSITION_FROM_CREATE(
     metricName = "workload_time_to_transition_from_create",
     metricDescription = "time for a workload to transition to a given state",
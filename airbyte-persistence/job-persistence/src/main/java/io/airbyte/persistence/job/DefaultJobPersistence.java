@@ -119,6 +119,35 @@ public class DefaultJobPersistence implements JobPersistence {
                                                  attempts.updated_at AS attempt_updated_at,
                                                  attempts.ended_at AS attempt_ended_at
                                                """;
+  // key of the JobConfig member that holds the configured catalog of replication jobs
+  private static final String JOB_CONFIG_CATALOG_KEY = """
+                                                       CASE CAST(jobs.config_type AS VARCHAR)
+                                                         WHEN 'sync' THEN 'sync'
+                                                         WHEN 'refresh' THEN 'refresh'
+                                                         ELSE 'resetConnection'
+                                                       END""";
+  /**
+   * Summarized job config used by the job list queries. The configured catalog of replication jobs is
+   * reduced to the stream names, namespaces and sync modes that job summaries display, so the stream
+   * schemas are neither read from the database nor deserialized. Configs without a catalog are
+   * returned as is. The full config is only fetched for a single job, see {@link #getJob(long)}.
+   */
+  private static final String JOB_CONFIG_SUMMARY_FIELD = """
+                                                         COALESCE(
+                                                           jsonb_set(jobs.config, ARRAY[%1$s, 'configuredAirbyteCatalog', 'streams'], (
+                                                             SELECT jsonb_agg(jsonb_strip_nulls(jsonb_build_object(
+                                                               'stream', jsonb_build_object(
+                                                                 'name', s.value -> 'stream' -> 'name',
+                                                                 'namespace', s.value -> 'stream' -> 'namespace',
+                                                                 'json_schema', jsonb_build_object(),
+                                                                 'supported_sync_modes',
+                                                                   COALESCE(s.value -> 'stream' -> 'supported_sync_modes', jsonb_build_array())),
+                                                               'sync_mode', s.value -> 'sync_mode',
+                                                               'destination_sync_mode', s.value -> 'destination_sync_mode')) ORDER BY s.idx)
+                                                             FROM jsonb_array_elements(jobs.config -> %1$s -> 'configuredAirbyteCatalog' -> 'streams')
+                                                               WITH ORDINALITY AS s(value, idx))),
+                                                           jobs.config) AS config,
+                                                         """.formatted(JOB_CONFIG_CATALOG_KEY);
   @VisibleForTesting
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
   private static final String ATTEMPT_SELECT =
@@ -139,11 +168,23 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static String jobSelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin("jobs.config AS config,\n", jobsSubquery);
+  }
+
+  /**
+   * Same as {@link #jobSelectAndJoin(String)} but selects a summary of the job config, see
+   * {@link #JOB_CONFIG_SUMMARY_FIELD}.
+   */
+  private static String jobSummarySelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(JOB_CONFIG_SUMMARY_FIELD, jobsSubquery);
+  }
+
+  private static String jobSelectAndJoin(final String jobConfigField, final String jobsSubquery) {
     return "SELECT\n"
         + "jobs.id AS job_id,\n"
         + "jobs.config_type AS config_type,\n"
         + "jobs.scope AS scope,\n"
-        + "jobs.config AS config,\n"
+        + jobConfigField
         + "jobs.status AS job_status,\n"
         + "jobs.started_at AS job_started_at,\n"
         + "jobs.created_at AS job_created_at,\n"
@@ -527,8 +568,9 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   /**
-   * Gets jobs from results but without catalog data for attempts. For now we can't exclude catalog
-   * data for jobs because we need sync mode from the catalog for stat aggregation.
+   * Gets jobs from results but without catalog data for attempts. The job config is expected to come
+   * from {@link #jobSummarySelectAndJoin(String)}, which keeps the sync modes needed for stat
+   * aggregation but drops the stream schemas.
    */
   private static List<Job> getJobsFromResultLight(final Result<Record> result) {
     // keeps results strictly in order so the sql query controls the sort
@@ -951,6 +993,15 @@ public class DefaultJobPersistence implements JobPersistence {
 
   public Result<Record> listJobsQuery(final Set<ConfigType> configTypes, final String configId, final int pagesize, String orderByString)
       throws IOException {
+    return listJobsQuery(configTypes, configId, pagesize, orderByString, false);
+  }
+
+  private Result<Record> listJobsQuery(final Set<ConfigType> configTypes,
+                                       final String configId,
+                                       final int pagesize,
+                                       final String orderByString,
+                                       final boolean summarizeConfig)
+      throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
@@ -960,7 +1011,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .limit(pagesize)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return ctx.fetch(jobSelectAndJoin(jobsSubquery) + orderByString);
+      return ctx.fetch((summarizeConfig ? jobSummarySelectAndJoin(jobsSubquery) : jobSelectAndJoin(jobsSubquery)) + orderByString);
     });
   }
 
@@ -995,7 +1046,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .offset(offset)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
+      final String fullQuery = jobSummarySelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
       LOGGER.debug("jobs query: {}", fullQuery);
       return ctx.fetch(fullQuery);
     });
@@ -1035,7 +1086,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .offset(offset)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
+      final String fullQuery = jobSummarySelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
       LOGGER.debug("jobs query: {}", fullQuery);
       return ctx.fetch(fullQuery);
     });
@@ -1148,13 +1199,13 @@ public class DefaultJobPersistence implements JobPersistence {
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return getJobsFromResultLight(ctx.fetch(jobSelectAndJoin(jobsSubquery)));
+      return getJobsFromResultLight(ctx.fetch(jobSummarySelectAndJoin(jobsSubquery)));
     });
   }
 
   @Override
   public List<Job> listJobsLight(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
-    return getJobsFromResultLight(listJobsQuery(configTypes, configId, pagesize, ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+    return getJobsFromResultLight(listJobsQuery(configTypes, configId, pagesize, ORDER_BY_JOB_TIME_ATTEMPT_TIME, true));
   }
 
   @Override
@@ -1332,15 +1383,12 @@ public class DefaultJobPersistence implements JobPersistence {
       return Collections.emptyList();
     }
 
-    return jobDatabase.query(ctx -> ctx
-        .fetch("SELECT DISTINCT ON (scope) id FROM jobs "
-            + WHERE + "jobs.config_type in " + toSqlInFragment(Job.SYNC_REPLICATION_TYPES)
-            + AND + scopeInList(connectionIds)
-            + AND + JOB_STATUS_IS_NON_TERMINAL
-            + "ORDER BY scope, created_at DESC")
-        .stream()
-        .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class)).stream())
-        .collect(Collectors.toList()));
+    final String jobsSubquery = "(SELECT DISTINCT ON (scope) * FROM jobs "
+        + WHERE + "jobs.config_type in " + toSqlInFragment(Job.SYNC_REPLICATION_TYPES)
+        + AND + scopeInList(connectionIds)
+        + AND + JOB_STATUS_IS_NON_TERMINAL
+        + "ORDER BY scope, created_at DESC) AS jobs";
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(jobSummarySelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME)));
   }
 
   /**
@@ -1515,6 +1563,34 @@ public class DefaultJobPersistence implements JobPersistence {
     }
   }
 
+  @Override
+  public Map<String, String> getMetadataByKeyPrefix(final String keyPrefix) throws IOException {
+    return jobDatabase.query(ctx -> ctx.select(DSL.field(METADATA_KEY_COL, String.class), DSL.field(METADATA_VAL_COL, String.class))
+        .from(AIRBYTE_METADATA_TABLE)
+        .where(DSL.field(METADATA_KEY_COL, String.class).startsWith(keyPrefix))
+        .fetchMap(DSL.field(METADATA_KEY_COL, String.class), DSL.field(METADATA_VAL_COL, String.class)));
+  }
+
+  @Override
+  public void setMetadata(final Map<String, String> entries) throws IOException {
+    if (entries.isEmpty()) {
+      return;
+    }
+    jobDatabase.query(ctx -> {
+      var insert = ctx.insertInto(DSL.table(AIRBYTE_METADATA_TABLE),
+          DSL.field(METADATA_KEY_COL, String.class),
+          DSL.field(METADATA_VAL_COL, String.class));
+      for (final Map.Entry<String, String> entry : entries.entrySet()) {
+        insert = insert.values(entry.getKey(), entry.getValue());
+      }
+      return insert
+          .onConflict(DSL.field(METADATA_KEY_COL))
+          .doUpdate()
+          .set(DSL.field(METADATA_VAL_COL, String.class), DSL.excluded(DSL.field(METADATA_VAL_COL, String.class)))
+          .execute();
+    });
+  }
+
   /**
    * Removes unsupported unicode characters (as defined by Postgresql) from the provided input string.
    *
@@ -243,7 +243,9 @@ public interface JobPersistence {
       throws IOException;
 
   /**
-   * List jobs based on job IDs, nothing more.
+   * List jobs based on job IDs, nothing more. Like the other listJobsLight methods, the returned jobs
+   * only carry a summary of their config: the configured catalog keeps stream names, namespaces and
+   * sync modes but not the stream schemas. Use {@link #getJob(long)} to load the full config.
    *
    * @param jobIds the set of Job ids to list jobs for
    * @return list of jobs
@@ -309,6 +311,10 @@ public interface JobPersistence {
 
   List<JobStatusSummary> getLastSyncJobForConnections(final List<UUID> connectionIds) throws IOException;
 
+  /**
+   * For each connection, return its most recent non-terminal sync job. The returned jobs only carry a
+   * summary of their config, see {@link #listJobsLight(Set)}.
+   */
   List<Job> getRunningSyncJobForConnections(final List<UUID> connectionIds) throws IOException;
 
   List<Job> getRunningJobForConnection(final UUID connectionId) throws IOException;
@@ -361,6 +367,21 @@ public interface JobPersistence {
    */
   void setDeployment(UUID uuid) throws IOException;
 
+  /**
+   * Get all the metadata entries whose key starts with the given prefix, in a single query.
+   *
+   * @param keyPrefix prefix of the keys to return
+   * @return the values of the matching entries by key
+   */
+  Map<String, String> getMetadataByKeyPrefix(String keyPrefix) throws IOException;
+
+  /**
+   * Insert or update the given metadata entries in a single statement.
+   *
+   * @param entries values to store by key
+   */
+  void setMetadata(Map<String, String> entries) throws IOException;
+
   // a deployment references a setup of airbyte. it is created the first time the docker compose or
   // K8s is ready.
 
@@ -28,18 +28,24 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
+import io.airbyte.config.AirbyteStream;
 import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptStatus;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.AttemptWithJobInfo;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.DestinationSyncMode;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.FailureReason.FailureOrigin;
 import io.airbyte.config.Job;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobConfigProxy;
 import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.JobOutput;
+import io.airbyte.config.JobResetConnectionConfig;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobStatusSummary;
 import io.airbyte.config.JobSyncConfig;
@@ -47,6 +53,7 @@ import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.State;
 import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMode;
 import io.airbyte.config.SyncStats;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -1088,6 +1095,24 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  class GetAndSetMetadata {
+
+    @Test
+    void testSetMetadataIsReadByKeyPrefix() throws IOException {
+      jobPersistence.setMetadata(Map.of("prefix:a", "1", "prefix:b", "2", "other:c", "3"));
+      assertEquals(Map.of("prefix:a", "1", "prefix:b", "2"), jobPersistence.getMetadataByKeyPrefix("prefix:"));
+    }
+
+    @Test
+    void testSetMetadataReplacesExistingValues() throws IOException {
+      jobPersistence.setMetadata(Map.of("prefix:a", "1", "prefix:b", "2"));
+      jobPersistence.setMetadata(Map.of("prefix:a", "3"));
+      assertEquals(Map.of("prefix:a", "3", "prefix:b", "2"), jobPersistence.getMetadataByKeyPrefix("prefix:"));
+    }
+
+  }
+
   @Nested
   @DisplayName("When cancelling job")
   class CancelJob {
@@ -2254,6 +2279,84 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When listing jobs light")
+  class ListJobsLight {
+
+    private static final ConfiguredAirbyteCatalog CATALOG = new ConfiguredAirbyteCatalog(List.of(
+        configuredStream("users", "public", SyncMode.INCREMENTAL),
+        configuredStream("orders", null, SyncMode.FULL_REFRESH)));
+
+    private static ConfiguredAirbyteStream configuredStream(final String name, final String namespace, final SyncMode syncMode) {
+      final AirbyteStream stream = new AirbyteStream(name,
+          Jsons.jsonNode(Map.of("type", "object", "properties", Map.of("id", Map.of("type", "integer")))),
+          List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL))
+          .withNamespace(namespace);
+      return new ConfiguredAirbyteStream(stream, syncMode, DestinationSyncMode.APPEND)
+          .withCursorField(List.of("id"));
+    }
+
+    private static void assertSummarizedCatalog(final Job job) {
+      final List<ConfiguredAirbyteStream> streams = new JobConfigProxy(job.getConfig()).getConfiguredCatalog().getStreams();
+      assertEquals(CATALOG.getStreams().size(), streams.size());
+      for (int i = 0; i < streams.size(); i++) {
+        final ConfiguredAirbyteStream expected = CATALOG.getStreams().get(i);
+        final ConfiguredAirbyteStream actual = streams.get(i);
+        assertEquals(expected.getStream().getName(), actual.getStream().getName());
+        assertEquals(expected.getStream().getNamespace(), actual.getStream().getNamespace());
+        assertEquals(expected.getStream().getSupportedSyncModes(), actual.getStream().getSupportedSyncModes());
+        assertEquals(expected.getSyncMode(), actual.getSyncMode());
+        assertEquals(expected.getDestinationSyncMode(), actual.getDestinationSyncMode());
+        assertEquals(Jsons.emptyObject(), actual.getStream().getJsonSchema());
+      }
+    }
+
+    @Test
+    @DisplayName("Should summarize the catalog of sync jobs and keep it whole when getting a single job")
+    void testListJobsLightSummarizesSyncCatalog() throws IOException {
+      final JobConfig syncConfig = new JobConfig()
+          .withConfigType(ConfigType.SYNC)
+          .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(CATALOG).withWorkspaceId(UUID.randomUUID()));
+      final long jobId = jobPersistence.enqueueJob(SCOPE, syncConfig, true).orElseThrow();
+      jobPersistence.createAttempt(jobId, LOG_PATH);
+
+      final List<Job> jobs = jobPersistence.listJobsLight(Set.of(ConfigType.SYNC), SCOPE, 10);
+
+      assertEquals(1, jobs.size());
+      assertEquals(1, jobs.get(0).getAttempts().size());
+      assertEquals(syncConfig.getSync().getWorkspaceId(), jobs.get(0).getConfig().getSync().getWorkspaceId());
+      assertSummarizedCatalog(jobs.get(0));
+      assertSummarizedCatalog(jobPersistence.getRunningSyncJobForConnections(List.of(CONNECTION_ID)).get(0));
+      assertEquals(syncConfig, jobPersistence.getJob(jobId).getConfig());
+    }
+
+    @Test
+    @DisplayName("Should summarize the catalog of reset jobs")
+    void testListJobsLightSummarizesResetCatalog() throws IOException {
+      final JobConfig resetConfig = new JobConfig()
+          .withConfigType(ConfigType.RESET_CONNECTION)
+          .withResetConnection(new JobResetConnectionConfig().withConfiguredAirbyteCatalog(CATALOG));
+      final long jobId = jobPersistence.enqueueJob(SCOPE, resetConfig, true).orElseThrow();
+
+      final List<Job> jobs = jobPersistence.listJobsLight(Set.of(jobId));
+
+      assertEquals(1, jobs.size());
+      assertSummarizedCatalog(jobs.get(0));
+    }
+
+    @Test
+    @DisplayName("Should keep configs without a catalog as is")
+    void testListJobsLightKeepsConfigsWithoutCatalog() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, CHECK_JOB_CONFIG, true).orElseThrow();
+
+      final List<Job> jobs = jobPersistence.listJobsLight(Set.of(jobId));
+
+      assertEquals(1, jobs.size());
+      assertEquals(CHECK_JOB_CONFIG, jobs.get(0).getConfig());
+    }
+
+  }
+
   @Nested
   @DisplayName("When resetting job")
   class ResetJob {
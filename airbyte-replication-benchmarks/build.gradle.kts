@@ -0,0 +1,47 @@
+plugins {
+  id("io.airbyte.gradle.jvm.lib")
+}
+
+/**
+ * The benchmarks live in their own source set so that their dependencies, e.g. the mocks standing in
+ * for the platform clients, stay out of the main configurations.
+ */
+val jmh: SourceSet by sourceSets.creating
+
+dependencies {
+  "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
+
+  "jmhImplementation"(libs.jmh.core)
+  "jmhImplementation"(libs.guava)
+  "jmhImplementation"(libs.bundles.jackson)
+  "jmhImplementation"(libs.bundles.mockito.inline)
+  "jmhImplementation"(libs.airbyte.protocol)
+
+  "jmhImplementation"(project(":oss:airbyte-commons"))
+  "jmhImplementation"(project(":oss:airbyte-commons-protocol"))
+  "jmhImplementation"(project(":oss:airbyte-commons-worker"))
+  "jmhImplementation"(project(":oss:airbyte-config:config-models"))
+  "jmhImplementation"(project(":oss:airbyte-mappers"))
+  "jmhImplementation"(project(":oss:airbyte-metrics:metrics-lib"))
+  "jmhImplementation"(project(":oss:airbyte-worker-models"))
+}
+
+/**
+ * Runs the benchmarks with the GC profiler so that allocations per record are reported next to the
+ * throughput. Extra JMH arguments can be passed with -PjmhArgs, e.g.
+ * ./gradlew :oss:airbyte-replication-benchmarks:jmh -PjmhArgs="RecordMapperBenchmark -p mappers=HASHING"
+ */
+tasks.register<JavaExec>("jmh") {
+  group = "benchmark"
+  description = "Runs the JMH benchmarks of the replication hot path."
+  dependsOn(tasks.named(jmh.classesTaskName))
+  classpath = jmh.runtimeClasspath
+  mainClass.set("org.openjdk.jmh.Main")
+
+  val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+  val extraArgs = (project.findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+  args = listOf("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.absolutePath) + extraArgs
+  doFirst {
+    resultFile.get().asFile.parentFile.mkdirs()
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.metrics.MetricClient;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.workers.internal.DefaultAirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of messages to the destination, as done by the destination writer. The output is
+ * discarded so that only the serialization cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BufferedWriterBenchmark {
+
+  @Param({"NARROW", "WIDE", "NESTED", "LARGE_STRINGS"})
+  public RecordCorpus.Shape shape;
+
+  @Param({"false", "true"})
+  public boolean recordPassthrough;
+
+  private RecordCorpus corpus;
+  private List<AirbyteMessage> messages;
+  private DefaultAirbyteMessageBufferedWriter writer;
+
+  @Setup
+  public void setup() {
+    corpus = new RecordCorpus(shape, 1);
+    // Read the batch back like the source reader does, so that passthrough messages keep their line.
+    final VersionedAirbyteStreamFactory<?> streamFactory =
+        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(new MetricClient(null)).withRecordPassthrough(recordPassthrough);
+    messages = streamFactory.create(new BufferedReader(new StringReader(corpus.text()))).toList();
+    writer = new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(Writer.nullWriter()));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void write(final ProcessedBytes processedBytes) throws IOException {
+    for (final AirbyteMessage message : messages) {
+      writer.write(message);
+    }
+    writer.flush();
+    processedBytes.bytes += corpus.lineBytes();
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.metrics.MetricClient;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerMetricReporter;
+import io.airbyte.workers.internal.FieldSelector;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Field selection and schema validation of the records read from the source.
+ * <p>
+ * The schema validator runs its checks on the calling thread here, instead of on its own executor,
+ * so that the cost of a validation is attributed to the record that triggered it rather than piling
+ * up in the executor queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldSelectorBenchmark {
+
+  @Param({"NARROW", "WIDE", "NESTED", "LARGE_STRINGS"})
+  public RecordCorpus.Shape shape;
+
+  @Param({"1", "100"})
+  public int streams;
+
+  private RecordCorpus corpus;
+  private List<AirbyteMessage> messages;
+  private FieldSelector fieldSelector;
+
+  @Setup
+  public void setup() {
+    corpus = new RecordCorpus(shape, streams);
+    // The selection keeps every column of the catalog, so filtering the shared messages is idempotent.
+    messages = corpus.messages();
+    final RecordSchemaValidator validator = new RecordSchemaValidator(corpus.schemas(), MoreExecutors.newDirectExecutorService());
+    fieldSelector = new FieldSelector(validator, new WorkerMetricReporter(new MetricClient(null), "airbyte/source-benchmark:0.1.0"), true, false);
+    fieldSelector.populateFields(corpus.catalog(List.of()));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void filterSelectedFields(final ProcessedBytes processedBytes) {
+    for (final AirbyteMessage message : messages) {
+      fieldSelector.filterSelectedFields(message);
+    }
+    processedBytes.bytes += corpus.dataBytes();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void validateSchema(final ProcessedBytes processedBytes) {
+    for (final AirbyteMessage message : messages) {
+      fieldSelector.validateSchema(message);
+    }
+    processedBytes.bytes += corpus.dataBytes();
+  }
+
+}
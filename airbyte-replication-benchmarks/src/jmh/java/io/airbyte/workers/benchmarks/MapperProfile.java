@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.config.MapperConfig;
+import io.airbyte.config.MapperOperationName;
+import io.airbyte.config.mapper.configs.EqualOperation;
+import io.airbyte.config.mapper.configs.HashingConfig;
+import io.airbyte.config.mapper.configs.HashingMapperConfig;
+import io.airbyte.config.mapper.configs.HashingMethods;
+import io.airbyte.config.mapper.configs.RowFilteringConfig;
+import io.airbyte.config.mapper.configs.RowFilteringMapperConfig;
+import io.airbyte.mappers.transformations.HashingMapper;
+import io.airbyte.mappers.transformations.Mapper;
+import io.airbyte.mappers.transformations.RowFilteringMapper;
+import java.util.List;
+
+/**
+ * Mappers configured on every stream of a {@link RecordCorpus}.
+ */
+public enum MapperProfile {
+
+  NONE,
+  HASHING,
+  ROW_FILTERING,
+  HASHING_AND_ROW_FILTERING;
+
+  /**
+   * Mapper implementations available to the record mapper and the destination catalog generator.
+   */
+  public static List<Mapper<? extends MapperConfig>> mappers() {
+    return List.of(new HashingMapper(), new RowFilteringMapper());
+  }
+
+  public List<MapperConfig> configs() {
+    return switch (this) {
+      case NONE -> List.of();
+      case HASHING -> List.of(hashing());
+      case ROW_FILTERING -> List.of(rowFiltering());
+      case HASHING_AND_ROW_FILTERING -> List.of(rowFiltering(), hashing());
+    };
+  }
+
+  private static MapperConfig hashing() {
+    return new HashingMapperConfig(MapperOperationName.HASHING, null, new HashingConfig("email", HashingMethods.SHA256, "_hashed"), null);
+  }
+
+  private static MapperConfig rowFiltering() {
+    return new RowFilteringMapperConfig(MapperOperationName.ROW_FILTERING, null,
+        new RowFilteringConfig(new EqualOperation("EQUAL", "status", "active")), null);
+  }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.mappers.application.RecordMapper;
+import io.airbyte.mappers.transformations.DestinationCatalogGenerator;
+import io.airbyte.metrics.MetricClient;
+import io.airbyte.persistence.job.models.ReplicationInput;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerMetricReporter;
+import io.airbyte.workers.context.ReplicationContext;
+import io.airbyte.workers.context.ReplicationInputFeatureFlagReader;
+import io.airbyte.workers.general.StateCheckSumCountEventHandler;
+import io.airbyte.workers.general.buffered.worker.ReplicationContextProvider;
+import io.airbyte.workers.general.buffered.worker.ReplicationWorkerHelperK;
+import io.airbyte.workers.general.buffered.worker.ReplicationWorkerState;
+import io.airbyte.workers.helper.StreamStatusCompletionTracker;
+import io.airbyte.workers.internal.AnalyticsMessageTracker;
+import io.airbyte.workers.internal.FieldSelector;
+import io.airbyte.workers.internal.NamespacingMapper;
+import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker;
+import io.airbyte.workers.internal.bookkeeping.ParallelStreamStatsTracker;
+import io.airbyte.workers.internal.bookkeeping.events.ReplicationAirbyteMessageEventPublishingHelper;
+import io.airbyte.workers.internal.bookkeeping.streamstatus.StreamStatusTracker;
+import io.airbyte.workers.internal.syncpersistence.SyncPersistence;
+import io.airbyte.workers.tracker.ThreadedTimeTracker;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Everything the replication worker does to a record between reading it from the source and handing
+ * it to the destination writer: field selection, schema validation, stats tracking, transformation
+ * mappers and namespace mapping.
+ * <p>
+ * Collaborators that do not see records (persistence, events, stream statuses, analytics) are
+ * stub-only mocks. Records are modified in place, so every invocation works on a fresh copy of the
+ * batch made in an unmeasured invocation-level setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessMessageFromSourceBenchmark {
+
+  private static final String SOURCE_IMAGE = "airbyte/source-benchmark:0.1.0";
+  private static final String DESTINATION_IMAGE = "airbyte/destination-benchmark:0.1.0";
+
+  @Param({"NARROW", "WIDE", "NESTED", "LARGE_STRINGS"})
+  public RecordCorpus.Shape shape;
+
+  @Param({"1", "100"})
+  public int streams;
+
+  @Param({"NONE", "HASHING_AND_ROW_FILTERING"})
+  public MapperProfile mappers;
+
+  @Param({"false", "true"})
+  public boolean fieldSelection;
+
+  /**
+   * When enabled, records are validated on the calling thread instead of on the validator executor,
+   * so that the validation cost shows up in the results.
+   */
+  @Param({"false", "true"})
+  public boolean schemaValidation;
+
+  private RecordCorpus corpus;
+  private ReplicationWorkerHelperK helper;
+  private List<AirbyteMessage> batch;
+
+  @Setup
+  public void setup() {
+    corpus = new RecordCorpus(shape, streams);
+    final MetricClient metricClient = new MetricClient(null);
+    final ConfiguredAirbyteCatalog catalog = corpus.catalog(mappers.configs());
+    final ReplicationInput replicationInput = new ReplicationInput()
+        .withCatalog(catalog)
+        .withFeatureFlags(Map.of())
+        .withNamespaceDefinition(NamespaceDefinitionType.SOURCE);
+    final ReplicationContext replicationContext = new ReplicationContext(false, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 1L, 0,
+        UUID.randomUUID(), SOURCE_IMAGE, DESTINATION_IMAGE, UUID.randomUUID(), UUID.randomUUID());
+
+    final RecordSchemaValidator validator = schemaValidation
+        ? new RecordSchemaValidator(corpus.schemas(), MoreExecutors.newDirectExecutorService())
+        : stub(RecordSchemaValidator.class);
+    final FieldSelector fieldSelector = new FieldSelector(validator, new WorkerMetricReporter(metricClient, SOURCE_IMAGE), fieldSelection, false);
+    fieldSelector.populateFields(catalog);
+
+    final ParallelStreamStatsTracker statsTracker =
+        new ParallelStreamStatsTracker(metricClient, stub(StateCheckSumCountEventHandler.class), false);
+    final AirbyteMessageTracker messageTracker =
+        new AirbyteMessageTracker(statsTracker, new ReplicationInputFeatureFlagReader(replicationInput), SOURCE_IMAGE, DESTINATION_IMAGE);
+
+    helper = new ReplicationWorkerHelperK(
+        fieldSelector,
+        new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null),
+        messageTracker,
+        stub(SyncPersistence.class),
+        stub(ReplicationAirbyteMessageEventPublishingHelper.class),
+        new ThreadedTimeTracker(),
+        stub(AnalyticsMessageTracker.class),
+        stub(StreamStatusCompletionTracker.class),
+        stub(StreamStatusTracker.class),
+        new RecordMapper(MapperProfile.mappers()),
+        new ReplicationWorkerState(),
+        new ReplicationContextProvider.Context(replicationContext, catalog, false, replicationInput),
+        new DestinationCatalogGenerator(MapperProfile.mappers()));
+  }
+
+  @Setup(Level.Invocation)
+  public void copyBatch() {
+    batch = corpus.copyMessages();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void processMessageFromSource(final ProcessedBytes processedBytes, final Blackhole blackhole) {
+    for (final AirbyteMessage message : batch) {
+      blackhole.consume(helper.processMessageFromSource(message));
+    }
+    processedBytes.bytes += corpus.dataBytes();
+  }
+
+  private static <T> T stub(final Class<T> type) {
+    return mock(type, withSettings().stubOnly());
+  }
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary JMH counter reported next to the primary records/s score as bytes/s. Benchmarks add the
+ * size of the batch they processed to {@link #bytes} on every invocation.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ProcessedBytes {
+
+  public long bytes;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    bytes = 0;
+  }
+
+}
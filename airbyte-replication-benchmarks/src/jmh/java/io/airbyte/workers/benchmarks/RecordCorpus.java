@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteStream;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.DestinationSyncMode;
+import io.airbyte.config.MapperConfig;
+import io.airbyte.config.SyncMode;
+import io.airbyte.config.helpers.FieldGenerator;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Synthetic batch of RECORD messages used by the benchmarks.
+ * <p>
+ * Records are generated from a fixed seed so that runs are comparable, and are spread round-robin
+ * over {@code streamCount} streams. Every shape has the {@code id}, {@code email} and
+ * {@code status} columns, which are the ones targeted by the mapper profiles; half of the records
+ * are {@code active}.
+ */
+public final class RecordCorpus {
+
+  /**
+   * Number of records in a batch. Benchmarks process a whole batch per invocation and declare it
+   * with {@code @OperationsPerInvocation} so that JMH reports records per second.
+   */
+  public static final int RECORDS_PER_BATCH = 1_000;
+  public static final String NAMESPACE = "public";
+
+  /**
+   * Shape of the generated records.
+   */
+  public enum Shape {
+    /** A handful of short scalar columns. */
+    NARROW,
+    /** A hundred scalar columns of mixed types. */
+    WIDE,
+    /** Nested objects and arrays a few levels deep. */
+    NESTED,
+    /** Few columns holding multi-kilobyte strings. */
+    LARGE_STRINGS
+  }
+
+  private static final int WIDE_COLUMNS = 100;
+  private static final int LARGE_STRING_LENGTH = 16 * 1024;
+  private static final int MEDIUM_STRING_LENGTH = 2 * 1024;
+  private static final long EMITTED_AT = 1_700_000_000_000L;
+  private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ";
+  private static final FieldGenerator FIELD_GENERATOR = new FieldGenerator();
+
+  private final Shape shape;
+  private final int streamCount;
+  private final List<AirbyteMessage> messages;
+  private final List<String> lines;
+  private final long dataBytes;
+  private final long lineBytes;
+
+  public RecordCorpus(final Shape shape, final int streamCount) {
+    this.shape = shape;
+    this.streamCount = streamCount;
+    final Random random = new Random(42);
+    final List<AirbyteMessage> generatedMessages = new ArrayList<>(RECORDS_PER_BATCH);
+    final List<String> generatedLines = new ArrayList<>(RECORDS_PER_BATCH);
+    long generatedDataBytes = 0;
+    long generatedLineBytes = 0;
+    for (int i = 0; i < RECORDS_PER_BATCH; i++) {
+      final JsonNode data = record(i, random);
+      final AirbyteMessage message = new AirbyteMessage()
+          .withType(AirbyteMessage.Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withStream(streamName(i % streamCount))
+              .withNamespace(NAMESPACE)
+              .withEmittedAt(EMITTED_AT + i)
+              .withData(data));
+      final String line = Jsons.serialize(message);
+      generatedMessages.add(message);
+      generatedLines.add(line);
+      generatedDataBytes += Jsons.serialize(data).getBytes(StandardCharsets.UTF_8).length;
+      generatedLineBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+    }
+    this.messages = List.copyOf(generatedMessages);
+    this.lines = List.copyOf(generatedLines);
+    this.dataBytes = generatedDataBytes;
+    this.lineBytes = generatedLineBytes;
+  }
+
+  public static String streamName(final int index) {
+    return "stream_" + index;
+  }
+
+  /**
+   * Messages of the batch. They are shared: callers that mutate messages must use
+   * {@link #copyMessages()}.
+   */
+  public List<AirbyteMessage> messages() {
+    return messages;
+  }
+
+  /**
+   * Deep copies of the messages of the batch, for code paths that modify records in place.
+   */
+  public List<AirbyteMessage> copyMessages() {
+    final List<AirbyteMessage> copies = new ArrayList<>(messages.size());
+    for (final AirbyteMessage message : messages) {
+      copies.add(Jsons.clone(message));
+    }
+    return copies;
+  }
+
+  /**
+   * The batch as newline-delimited JSON, as a connector would emit it.
+   */
+  public String text() {
+    return String.join("\n", lines) + "\n";
+  }
+
+  /**
+   * Total size of the record data of the batch, in bytes.
+   */
+  public long dataBytes() {
+    return dataBytes;
+  }
+
+  /**
+   * Total size of the serialized batch, newlines included, in bytes.
+   */
+  public long lineBytes() {
+    return lineBytes;
+  }
+
+  public ConfiguredAirbyteCatalog catalog(final List<MapperConfig> mappers) {
+    final List<ConfiguredAirbyteStream> streams = IntStream.range(0, streamCount)
+        .mapToObj(i -> {
+          final JsonNode schema = jsonSchema();
+          final AirbyteStream stream = new AirbyteStream(streamName(i), schema, List.of(SyncMode.FULL_REFRESH));
+          stream.setNamespace(NAMESPACE);
+          final ConfiguredAirbyteStream configuredStream = new ConfiguredAirbyteStream(stream, SyncMode.FULL_REFRESH, DestinationSyncMode.APPEND);
+          configuredStream.setFields(FIELD_GENERATOR.getFieldsFromSchema(schema));
+          configuredStream.setMappers(mappers);
+          return configuredStream;
+        })
+        .toList();
+    return new ConfiguredAirbyteCatalog(streams);
+  }
+
+  public Map<AirbyteStreamNameNamespacePair, JsonNode> schemas() {
+    final Map<AirbyteStreamNameNamespacePair, JsonNode> schemas = new HashMap<>();
+    for (int i = 0; i < streamCount; i++) {
+      schemas.put(new AirbyteStreamNameNamespacePair(streamName(i), NAMESPACE), jsonSchema());
+    }
+    return schemas;
+  }
+
+  private JsonNode record(final int index, final Random random) {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    data.put("id", index);
+    data.put("email", "user" + index + "@example.com");
+    data.put("status", index % 2 == 0 ? "active" : "inactive");
+    switch (shape) {
+      case NARROW -> {
+        data.put("name", randomString(random, 12));
+        data.put("updated_at", "2024-01-01T00:00:" + String.format("%02d", index % 60) + "Z");
+      }
+      case WIDE -> {
+        for (int column = 0; column < WIDE_COLUMNS; column++) {
+          final String name = wideColumnName(column);
+          switch (column % 4) {
+            case 0 -> data.put(name, random.nextInt());
+            case 1 -> data.put(name, randomString(random, 16));
+            case 2 -> data.put(name, random.nextDouble());
+            default -> data.put(name, random.nextBoolean());
+          }
+        }
+      }
+      case NESTED -> {
+        final ObjectNode profile = data.putObject("profile");
+        final ObjectNode address = profile.putObject("address");
+        address.put("street", randomString(random, 20));
+        address.put("city", randomString(random, 10));
+        final ObjectNode geo = address.putObject("geo");
+        geo.put("lat", random.nextDouble() * 180 - 90);
+        geo.put("lng", random.nextDouble() * 360 - 180);
+        final ArrayNode tags = profile.putArray("tags");
+        for (int tag = 0; tag < 3; tag++) {
+          tags.add(randomString(random, 8));
+        }
+        final ArrayNode orders = data.putArray("orders");
+        for (int order = 0; order < 3; order++) {
+          final ObjectNode orderNode = orders.addObject();
+          orderNode.put("order_id", random.nextLong());
+          orderNode.put("amount", random.nextDouble() * 1000);
+          final ArrayNode items = orderNode.putArray("items");
+          for (int item = 0; item < 2; item++) {
+            items.addObject()
+                .put("sku", randomString(random, 10))
+                .put("quantity", random.nextInt(10));
+          }
+        }
+      }
+      case LARGE_STRINGS -> {
+        data.put("body", randomString(random, LARGE_STRING_LENGTH));
+        data.put("summary", randomString(random, MEDIUM_STRING_LENGTH));
+      }
+      default -> throw new IllegalStateException("Unknown shape " + shape);
+    }
+    return data;
+  }
+
+  private JsonNode jsonSchema() {
+    final ObjectNode schema = (ObjectNode) Jsons.emptyObject();
+    schema.put("type", "object");
+    final ObjectNode properties = schema.putObject("properties");
+    properties.set("id", type("integer"));
+    properties.set("email", type("string"));
+    properties.set("status", type("string"));
+    switch (shape) {
+      case NARROW -> {
+        properties.set("name", type("string"));
+        properties.set("updated_at", type("string"));
+      }
+      case WIDE -> {
+        for (int column = 0; column < WIDE_COLUMNS; column++) {
+          final String type = switch (column % 4) {
+            case 0 -> "integer";
+            case 1 -> "string";
+            case 2 -> "number";
+            default -> "boolean";
+          };
+          properties.set(wideColumnName(column), type(type));
+        }
+      }
+      case NESTED -> {
+        properties.set("profile", type("object"));
+        properties.set("orders", type("array"));
+      }
+      case LARGE_STRINGS -> {
+        properties.set("body", type("string"));
+        properties.set("summary", type("string"));
+      }
+      default -> throw new IllegalStateException("Unknown shape " + shape);
+    }
+    return schema;
+  }
+
+  private static JsonNode type(final String type) {
+    return Jsons.jsonNode(Map.of("type", type));
+  }
+
+  private static String wideColumnName(final int column) {
+    return String.format("column_%03d", column);
+  }
+
+  private static String randomString(final Random random, final int length) {
+    final StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.config.MapperConfig;
+import io.airbyte.config.adapters.AirbyteJsonRecordAdapter;
+import io.airbyte.mappers.application.CompiledMappers;
+import io.airbyte.mappers.application.RecordMapper;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Application of the mappers configured on a stream to its records.
+ * <p>
+ * Mappers modify records in place, so every invocation works on a fresh copy of the batch. The copy
+ * is made in an invocation-level setup, which is not measured; a batch takes well over a
+ * millisecond to map, which keeps the overhead of the setup calls negligible.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordMapperBenchmark {
+
+  @Param({"NARROW", "WIDE", "NESTED", "LARGE_STRINGS"})
+  public RecordCorpus.Shape shape;
+
+  @Param({"HASHING", "ROW_FILTERING", "HASHING_AND_ROW_FILTERING"})
+  public MapperProfile mappers;
+
+  private RecordCorpus corpus;
+  private RecordMapper recordMapper;
+  private List<MapperConfig> configs;
+  private CompiledMappers compiledMappers;
+  private List<AirbyteMessage> batch;
+
+  @Setup
+  public void setup() {
+    corpus = new RecordCorpus(shape, 1);
+    recordMapper = new RecordMapper(MapperProfile.mappers());
+    configs = mappers.configs();
+    compiledMappers = recordMapper.compile(configs);
+  }
+
+  @Setup(Level.Invocation)
+  public void copyBatch() {
+    batch = corpus.copyMessages();
+  }
+
+  /**
+   * Resolves the mappers and their configuration for every record.
+   */
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void applyMappers(final ProcessedBytes processedBytes, final Blackhole blackhole) {
+    for (final AirbyteMessage message : batch) {
+      final AirbyteJsonRecordAdapter record = new AirbyteJsonRecordAdapter(message);
+      recordMapper.applyMappers(record, configs);
+      blackhole.consume(record.shouldInclude());
+    }
+    processedBytes.bytes += corpus.dataBytes();
+  }
+
+  /**
+   * Applies mappers compiled once for the stream, as the replication worker does.
+   */
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void compiledMappers(final ProcessedBytes processedBytes, final Blackhole blackhole) {
+    for (final AirbyteMessage message : batch) {
+      final AirbyteJsonRecordAdapter record = new AirbyteJsonRecordAdapter(message);
+      compiledMappers.map(record);
+      blackhole.consume(record.shouldInclude());
+    }
+    processedBytes.bytes += corpus.dataBytes();
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import io.airbyte.metrics.MetricClient;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.workers.general.StateCheckSumCountEventHandler;
+import io.airbyte.workers.internal.bookkeeping.ParallelStreamStatsTracker;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-record stats tracking across streams, and reads of the sync totals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatsTrackerBenchmark {
+
+  @Param({"1", "100", "1000"})
+  public int streams;
+
+  private RecordCorpus corpus;
+  private List<AirbyteMessage> messages;
+  private ParallelStreamStatsTracker statsTracker;
+  private long recordDataSize;
+
+  @Setup
+  public void setup() {
+    corpus = new RecordCorpus(RecordCorpus.Shape.NARROW, streams);
+    messages = corpus.messages();
+    recordDataSize = corpus.dataBytes() / RecordCorpus.RECORDS_PER_BATCH;
+    statsTracker = new ParallelStreamStatsTracker(new MetricClient(null),
+        mock(StateCheckSumCountEventHandler.class, withSettings().stubOnly()), false);
+    // Register every stream up front so that the totals benchmark sees all of them.
+    for (final AirbyteMessage message : messages) {
+      statsTracker.updateStats(message.getRecord(), 0);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void updateStats(final ProcessedBytes processedBytes) {
+    trackBatch();
+    processedBytes.bytes += corpus.dataBytes();
+  }
+
+  /**
+   * Totals are read on every state message and by the progress reporting.
+   */
+  @Benchmark
+  public long totalRecordsEmitted() {
+    return statsTracker.getTotalRecordsEmitted();
+  }
+
+  private void trackBatch() {
+    for (final AirbyteMessage message : messages) {
+      statsTracker.updateStats(message.getRecord(), recordDataSize);
+    }
+  }
+
+}
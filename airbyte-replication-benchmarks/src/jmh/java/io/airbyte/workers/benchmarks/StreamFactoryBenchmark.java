@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.benchmarks;
+
+import io.airbyte.metrics.MetricClient;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing of the lines emitted by a source into messages, as done by the source reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamFactoryBenchmark {
+
+  @Param({"NARROW", "WIDE", "NESTED", "LARGE_STRINGS"})
+  public RecordCorpus.Shape shape;
+
+  @Param({"1", "100"})
+  public int streams;
+
+  @Param({"false", "true"})
+  public boolean recordPassthrough;
+
+  private RecordCorpus corpus;
+  private String text;
+  private VersionedAirbyteStreamFactory<?> streamFactory;
+
+  @Setup
+  public void setup() {
+    corpus = new RecordCorpus(shape, streams);
+    text = corpus.text();
+    streamFactory =
+        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(new MetricClient(null)).withRecordPassthrough(recordPassthrough);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RecordCorpus.RECORDS_PER_BATCH)
+  public void parse(final ProcessedBytes processedBytes, final Blackhole blackhole) {
+    final Iterator<AirbyteMessage> messages = streamFactory.create(new BufferedReader(new StringReader(text))).iterator();
+    while (messages.hasNext()) {
+      blackhole.consume(messages.next());
+    }
+    processedBytes.bytes += corpus.lineBytes();
+  }
+
+}
@@ -12,9 +12,11 @@ import io.airbyte.commons.auth.AuthRoleConstants
 import io.airbyte.commons.server.handlers.StateHandler
 import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors
 import io.airbyte.server.apis.execute
+import io.micronaut.http.HttpStatus
 import io.micronaut.http.annotation.Body
 import io.micronaut.http.annotation.Controller
 import io.micronaut.http.annotation.Post
+import io.micronaut.http.annotation.Status
 import io.micronaut.scheduling.annotation.ExecuteOn
 import io.micronaut.security.annotation.Secured
 import io.micronaut.security.rules.SecurityRule
@@ -31,6 +33,19 @@ open class StateApiController(
     @Body connectionStateCreateOrUpdate: ConnectionStateCreateOrUpdate,
   ): ConnectionState? = execute { stateHandler.createOrUpdateState(connectionStateCreateOrUpdate) }
 
+  @Post("/create_or_update_partial")
+  @Status(HttpStatus.NO_CONTENT)
+  @Secured(AuthRoleConstants.ADMIN)
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  override fun createOrUpdateStatePartial(
+    @Body connectionStateCreateOrUpdate: ConnectionStateCreateOrUpdate,
+  ) {
+    execute<Any?> {
+      stateHandler.createOrUpdateStatePartial(connectionStateCreateOrUpdate)
+      null
+    }
+  }
+
   @Post("/create_or_update_safe")
   @Secured(AuthRoleConstants.WORKSPACE_EDITOR, AuthRoleConstants.ORGANIZATION_EDITOR)
   @ExecuteOn(AirbyteTaskExecutors.IO)
@@ -28,6 +28,7 @@ import io.airbyte.data.services.SourceService
 import io.airbyte.data.services.WorkspaceService
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.oauth.OAuthImplementationFactory
 import io.airbyte.persistence.job.DefaultJobCreator
 import io.airbyte.persistence.job.JobNotifier
@@ -187,7 +188,12 @@ class ApplicationBeanFactory {
   fun jsonSecretsProcessorWithCopy(): JsonSecretsProcessor = JsonSecretsProcessor(true)
 
   @Singleton
-  fun jsonSchemaValidator(): JsonSchemaValidator = JsonSchemaValidator()
+  fun jsonSchemaValidator(metricClient: MetricClient): JsonSchemaValidator =
+    JsonSchemaValidator().also { validator ->
+      // The cache stats are cumulative, so they are reported as gauges read from the validator.
+      metricClient.gauge(OssMetricsRegistry.JSON_SCHEMA_VALIDATOR_CACHE_HIT, validator, { it.schemaCacheStats.hitCount().toDouble() })
+      metricClient.gauge(OssMetricsRegistry.JSON_SCHEMA_VALIDATOR_CACHE_MISS, validator, { it.schemaCacheStats.missCount().toDouble() })
+    }
 
   @Singleton
   @Named("oauthHttpClient")
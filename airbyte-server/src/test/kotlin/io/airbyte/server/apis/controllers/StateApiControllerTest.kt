@@ -40,6 +40,14 @@ internal class StateApiControllerTest {
     assertStatus(HttpStatus.OK, client.status(HttpRequest.POST(path, ConnectionStateCreateOrUpdate())))
   }
 
+  @Test
+  fun testCreateOrUpdateStatePartial() {
+    every { stateHandler.createOrUpdateStatePartial(any()) } returns Unit
+
+    val path = "/api/v1/state/create_or_update_partial"
+    assertStatus(HttpStatus.NO_CONTENT, client.status(HttpRequest.POST(path, ConnectionStateCreateOrUpdate())))
+  }
+
   @Test
   fun testGetState() {
     every { stateHandler.getState(any()) } returns ConnectionState()
@@ -14,7 +14,13 @@ import io.airbyte.featureflag.LogConnectorMessages;
 import io.airbyte.featureflag.LogStateMsgs;
 import io.airbyte.featureflag.PrintLongRecordPks;
 import io.airbyte.featureflag.RemoveValidationLimit;
+import io.airbyte.featureflag.ReplicationBatchSize;
 import io.airbyte.featureflag.ReplicationBufferOverride;
+import io.airbyte.featureflag.ReplicationMessageProcessorParallelism;
+import io.airbyte.featureflag.ReplicationRecordPassthrough;
+import io.airbyte.featureflag.SchemaValidationMaxRecordsPerStream;
+import io.airbyte.featureflag.SchemaValidationParallelism;
+import io.airbyte.featureflag.SchemaValidationSampleRate;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.featureflag.SingleContainerTest;
 import io.airbyte.featureflag.WorkloadHeartbeatRate;
@@ -80,7 +86,13 @@ public class ApplicationBeanFactory {
         LogStateMsgs.INSTANCE,
         PrintLongRecordPks.INSTANCE,
         RemoveValidationLimit.INSTANCE,
+        ReplicationBatchSize.INSTANCE,
         ReplicationBufferOverride.INSTANCE,
+        ReplicationMessageProcessorParallelism.INSTANCE,
+        ReplicationRecordPassthrough.INSTANCE,
+        SchemaValidationMaxRecordsPerStream.INSTANCE,
+        SchemaValidationParallelism.INSTANCE,
+        SchemaValidationSampleRate.INSTANCE,
         ShouldFailSyncOnDestinationTimeout.INSTANCE,
         SingleContainerTest.INSTANCE,
         WorkloadHeartbeatRate.INSTANCE,
@@ -4,10 +4,13 @@
 
 package io.airbyte.workload.api
 
+import io.airbyte.config.WorkloadPriority
 import io.airbyte.config.WorkloadType
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.workload.api.domain.ClaimResponse
+import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadFailRequest
+import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadFailResponse
 import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadListRequest
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.LongRunningWorkloadRequest
@@ -21,7 +24,9 @@ import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadLaunchedRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadListResponse
+import io.airbyte.workload.api.domain.WorkloadQueueAckRequest
 import io.airbyte.workload.api.domain.WorkloadQueueCleanLimit
+import io.airbyte.workload.api.domain.WorkloadQueuePollAndClaimRequest
 import io.airbyte.workload.api.domain.WorkloadQueuePollRequest
 import io.airbyte.workload.api.domain.WorkloadQueueQueryRequest
 import io.airbyte.workload.api.domain.WorkloadQueueStatsResponse
@@ -29,6 +34,8 @@ import io.airbyte.workload.api.domain.WorkloadRunningRequest
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.handler.DefaultDeadlineValues
 import io.airbyte.workload.handler.WorkloadHandler
+import io.airbyte.workload.repository.WorkloadQueueNotifier
+import io.micronaut.context.annotation.Value
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
 import io.micronaut.http.annotation.Body
@@ -44,6 +51,7 @@ import io.swagger.v3.oas.annotations.media.Schema
 import io.swagger.v3.oas.annotations.parameters.RequestBody
 import io.swagger.v3.oas.annotations.responses.ApiResponse
 import io.swagger.v3.oas.annotations.responses.ApiResponses
+import jakarta.inject.Named
 import jakarta.ws.rs.Consumes
 import jakarta.ws.rs.GET
 import jakarta.ws.rs.POST
@@ -51,7 +59,12 @@ import jakarta.ws.rs.PUT
 import jakarta.ws.rs.Path
 import jakarta.ws.rs.PathParam
 import jakarta.ws.rs.Produces
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import java.time.Duration
 import java.util.UUID
+import java.util.concurrent.ExecutorService
 
 @Controller("/api/v1/workload")
 @Secured(SecurityRule.IS_AUTHENTICATED)
@@ -60,7 +73,12 @@ open class WorkloadApi(
   private val workloadHandler: WorkloadHandler,
   private val workloadQueueService: WorkloadQueueService,
   private val defaultDeadlineValues: DefaultDeadlineValues,
+  private val workloadQueueNotifier: WorkloadQueueNotifier,
+  @Named(TaskExecutors.IO) ioExecutor: ExecutorService,
+  @Value("\${airbyte.workload-api.queue.max-poll-wait:PT30S}") private val maxPollWait: Duration,
 ) {
+  private val ioScheduler: Scheduler = Schedulers.fromExecutorService(ioExecutor)
+
   @POST
   @Path("/create")
   @Status(HttpStatus.NO_CONTENT)
@@ -458,6 +476,38 @@ open class WorkloadApi(
         expiredDeadlineWorkloadListRequest.dataplane,
         expiredDeadlineWorkloadListRequest.status,
         expiredDeadlineWorkloadListRequest.deadline,
+        expiredDeadlineWorkloadListRequest.limit,
+        expiredDeadlineWorkloadListRequest.afterId,
+      ),
+    )
+
+  @POST
+  @Path("/expired_deadline_fail")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Fail active workloads with an expired deadline, up to a limit.", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "The workloads that were failed",
+        content = [Content(schema = Schema(implementation = ExpiredDeadlineWorkloadFailResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadFailWithExpiredDeadline(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = ExpiredDeadlineWorkloadFailRequest::class))],
+    ) @Body req: ExpiredDeadlineWorkloadFailRequest,
+  ): ExpiredDeadlineWorkloadFailResponse =
+    ExpiredDeadlineWorkloadFailResponse(
+      workloadHandler.failWorkloadsWithExpiredDeadline(
+        req.dataplane,
+        req.status,
+        req.deadline,
+        req.source,
+        req.reason,
+        req.limit,
       ),
     )
 
@@ -533,14 +583,72 @@ open class WorkloadApi(
     @RequestBody(
       content = [Content(schema = Schema(implementation = WorkloadQueuePollRequest::class))],
     ) @Body req: WorkloadQueuePollRequest,
-  ): WorkloadListResponse {
+  ): Mono<WorkloadListResponse> {
+    ApmTraceUtils.addTagsToTrace(
+      mutableMapOf<String, Any?>(
+        MetricTags.DATA_PLANE_GROUP_TAG to req.dataplaneGroup,
+      ),
+    )
+    return pollWithWait(req.dataplaneGroup, req.priority, req.waitSeconds) {
+      workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, req.quantity)
+    }.map { WorkloadListResponse(it) }
+  }
+
+  @POST
+  @Path("/queue/poll-and-claim")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Poll for workloads to process and claim them for a dataplane", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "The workloads that were claimed for the dataplane",
+        content = [Content(schema = Schema(implementation = WorkloadListResponse::class))],
+      ),
+    ],
+  )
+  open fun pollAndClaimWorkloadQueue(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadQueuePollAndClaimRequest::class))],
+    ) @Body req: WorkloadQueuePollAndClaimRequest,
+  ): Mono<WorkloadListResponse> {
     ApmTraceUtils.addTagsToTrace(
       mutableMapOf<String, Any?>(
         MetricTags.DATA_PLANE_GROUP_TAG to req.dataplaneGroup,
+        MetricTags.DATA_PLANE_ID_TAG to req.dataplaneId,
       ),
     )
-    val workloads = workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, req.quantity)
-    return WorkloadListResponse(workloads)
+    return pollWithWait(req.dataplaneGroup, req.priority, req.waitSeconds) {
+      workloadHandler.pollAndClaimWorkloadQueue(
+        req.dataplaneGroup,
+        req.priority,
+        req.quantity,
+        req.dataplaneId,
+        req.deadline ?: defaultDeadlineValues.claimStepDeadline(),
+      )
+    }.map { WorkloadListResponse(it) }
+  }
+
+  @POST
+  @Path("/queue/ack")
+  @Status(HttpStatus.NO_CONTENT)
+  @Consumes("application/json")
+  @Operation(summary = "Acknowledge the queue items of workloads so they are not delivered again", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "204",
+        description = "Success",
+      ),
+    ],
+  )
+  open fun ackWorkloadQueueItems(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadQueueAckRequest::class))],
+    ) @Body req: WorkloadQueueAckRequest,
+  ) {
+    workloadHandler.ackWorkloadQueueItems(req.workloadIds)
   }
 
   @POST
@@ -609,4 +717,44 @@ open class WorkloadApi(
   ) {
     workloadHandler.cleanWorkloadQueue(req.limit)
   }
+
+  /**
+   * Long-polls the queue. While [poll] comes back empty, waits for a workload to be enqueued for [dataplaneGroup] and
+   * [priority] before polling again, for up to [waitSeconds] (capped at [maxPollWait]). The wait does not hold on to a
+   * thread; polls run on the IO executor.
+   */
+  private fun <T> pollWithWait(
+    dataplaneGroup: String?,
+    priority: WorkloadPriority?,
+    waitSeconds: Int?,
+    poll: () -> List<T>,
+  ): Mono<List<T>> {
+    val wait = Duration.ofSeconds(waitSeconds?.toLong() ?: 0).coerceAtMost(maxPollWait)
+    if (wait <= Duration.ZERO) {
+      return Mono.just(poll())
+    }
+    val deadline = System.nanoTime() + wait.toNanos()
+
+    fun attempt(): Mono<List<T>> {
+      // subscribe before polling so a workload enqueued in between still wakes us up
+      val subscription = workloadQueueNotifier.subscribe(dataplaneGroup, priority?.toInt())
+      return Mono
+        .fromCallable(poll)
+        .subscribeOn(ioScheduler)
+        .flatMap { workloads ->
+          val remaining = Duration.ofNanos(deadline - System.nanoTime())
+          if (workloads.isNotEmpty() || remaining <= Duration.ZERO) {
+            Mono.just(workloads)
+          } else {
+            // polls one last time once the wait is over, in case a notification was lost
+            Mono
+              .fromFuture(subscription.enqueued)
+              .timeout(remaining, Mono.just(Unit))
+              .flatMap { attempt() }
+          }
+        }.doFinally { subscription.close() }
+    }
+
+    return attempt()
+  }
 }
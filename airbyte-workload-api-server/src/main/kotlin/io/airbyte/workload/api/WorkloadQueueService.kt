@@ -12,6 +12,7 @@ import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workload.repository.WorkloadQueueNotifier
 import io.airbyte.workload.repository.WorkloadQueueRepository
 import jakarta.inject.Singleton
 import java.util.UUID
@@ -24,6 +25,7 @@ import java.util.UUID
 open class WorkloadQueueService(
   private val metricClient: MetricClient,
   private val workloadQueueRepository: WorkloadQueueRepository,
+  private val workloadQueueNotifier: WorkloadQueueNotifier,
 ) {
   companion object {
     const val WORKLOAD_PUBLISHER_OPERATION_NAME: String = "workload_publisher"
@@ -46,6 +48,8 @@ open class WorkloadQueueService(
     // TODO dataplaneGroup should not be nullable
     if (dataplaneGroup != null) {
       workloadQueueRepository.enqueueWorkload(dataplaneGroup = dataplaneGroup, priority = priority.toInt(), workloadId = workloadId)
+      // wakes up the long polls waiting on this queue
+      workloadQueueNotifier.notifyEnqueued(dataplaneGroup = dataplaneGroup, priority = priority.toInt())
 
       metricClient.count(
         metric = OssMetricsRegistry.WORKLOAD_MESSAGE_PUBLISHED,
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api.domain
+
+import java.time.OffsetDateTime
+
+data class ExpiredDeadlineWorkloadFailRequest(
+  var dataplane: List<String>? = null,
+  var status: List<WorkloadStatus>? = null,
+  var deadline: OffsetDateTime,
+  var source: String? = null,
+  var reason: String? = null,
+  var limit: Int = 1000,
+)
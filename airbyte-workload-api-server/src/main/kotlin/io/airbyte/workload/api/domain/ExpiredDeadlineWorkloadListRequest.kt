@@ -10,4 +10,7 @@ data class ExpiredDeadlineWorkloadListRequest(
   var dataplane: List<String>? = null,
   var status: List<WorkloadStatus>? = null,
   var deadline: OffsetDateTime,
+  // pages through the results, ordered by workload id
+  var limit: Int? = null,
+  var afterId: String? = null,
 )
@@ -0,0 +1,9 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api.domain
+
+data class WorkloadQueueAckRequest(
+  var workloadIds: List<String> = listOf(),
+)
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api.domain
+
+import io.airbyte.config.WorkloadPriority
+import io.swagger.v3.oas.annotations.media.Schema
+import java.time.OffsetDateTime
+
+data class WorkloadQueuePollAndClaimRequest(
+  var dataplaneGroup: String? = null,
+  var priority: WorkloadPriority? = null,
+  var quantity: Int,
+  @Schema(required = true)
+  var dataplaneId: String = "",
+  var deadline: OffsetDateTime? = null,
+  // how long to wait for a workload to be enqueued when the queue is empty
+  var waitSeconds: Int? = null,
+)
@@ -10,4 +10,6 @@ data class WorkloadQueuePollRequest(
   var dataplaneGroup: String? = null,
   var priority: WorkloadPriority? = null,
   var quantity: Int,
+  // how long to wait for a workload to be enqueued when the queue is empty
+  var waitSeconds: Int? = null,
 )
@@ -31,6 +31,23 @@ interface WorkloadHandler {
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     deadline: OffsetDateTime,
+    limit: Int?,
+    afterId: String?,
+  ): List<Workload>
+
+  /**
+   * Fails up to [limit] active workloads whose deadline expired before [deadline] and returns them.
+   *
+   * Runs outside of a transaction so the failing update commits, and releases its row locks, before the workflows get signaled.
+   */
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
+  fun failWorkloadsWithExpiredDeadline(
+    dataplaneId: List<String>?,
+    workloadStatus: List<ApiWorkloadStatus>?,
+    deadline: OffsetDateTime,
+    source: String?,
+    reason: String?,
+    limit: Int,
   ): List<Workload>
 
   fun workloadAlreadyExists(workloadId: String): Boolean
@@ -96,6 +113,20 @@ interface WorkloadHandler {
     quantity: Int,
   ): List<Workload>
 
+  /**
+   * Polls up to [quantity] workloads from the queue and claims them for the [dataplaneId] in the same transaction.
+   * Returns the workloads that were claimed.
+   */
+  fun pollAndClaimWorkloadQueue(
+    dataplaneGroup: String?,
+    priority: WorkloadPriority?,
+    quantity: Int,
+    dataplaneId: String,
+    deadline: OffsetDateTime,
+  ): List<Workload>
+
+  fun ackWorkloadQueueItems(workloadIds: List<String>)
+
   fun countWorkloadQueueDepth(
     dataplaneGroup: String?,
     priority: WorkloadPriority?,
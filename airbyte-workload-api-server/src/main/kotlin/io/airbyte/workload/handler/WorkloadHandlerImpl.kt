@@ -328,6 +328,32 @@ class WorkloadHandlerImpl(
     return domainWorkloads.map { it.toApi() }
   }
 
+  override fun pollAndClaimWorkloadQueue(
+    dataplaneGroup: String?,
+    priority: WorkloadPriority?,
+    quantity: Int,
+    dataplaneId: String,
+    deadline: OffsetDateTime,
+  ): List<Workload> {
+    val domainWorkloads =
+      workloadQueueRepository.pollAndClaimWorkloadQueue(
+        dataplaneGroup,
+        priority?.toInt(),
+        quantity,
+        dataplaneId,
+        deadline,
+      )
+    domainWorkloads.forEach { emitTimeToTransitionMetric(it, WorkloadStatus.CLAIMED) }
+
+    return domainWorkloads.map { it.toApi() }
+  }
+
+  override fun ackWorkloadQueueItems(workloadIds: List<String>) {
+    if (workloadIds.isNotEmpty()) {
+      workloadQueueRepository.ackWorkloadQueueItems(workloadIds)
+    }
+  }
+
   override fun countWorkloadQueueDepth(
     dataplaneGroup: String?,
     priority: WorkloadPriority?,
@@ -348,17 +374,45 @@ class WorkloadHandlerImpl(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     deadline: OffsetDateTime,
+    limit: Int?,
+    afterId: String?,
   ): List<Workload> {
     val domainWorkloads =
       workloadRepository.searchForExpiredWorkloads(
         dataplaneId,
         workloadStatus?.map { it.toDomain() },
         deadline,
+        limit,
+        afterId,
       )
 
     return domainWorkloads.map { it.toApi() }
   }
 
+  override fun failWorkloadsWithExpiredDeadline(
+    dataplaneId: List<String>?,
+    workloadStatus: List<ApiWorkloadStatus>?,
+    deadline: OffsetDateTime,
+    source: String?,
+    reason: String?,
+    limit: Int,
+  ): List<Workload> {
+    val failedWorkloads =
+      workloadRepository.failExpiredWorkloads(
+        dataplaneId,
+        workloadStatus?.map { it.toDomain() } ?: ACTIVE_STATUSES,
+        deadline,
+        source,
+        reason,
+        limit,
+      )
+    val workloadIds = failedWorkloads.map { it.id }
+    ackWorkloadQueueItems(workloadIds)
+
+    failedWorkloads.forEach { sendSignal(it.type, it.signalInput) }
+    return failedWorkloads.map { it.toApi() }
+  }
+
   private fun emitTimeToTransitionMetric(
     workload: DomainWorkload,
     status: WorkloadStatus,
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.repository
+
+import com.zaxxer.hikari.HikariDataSource
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import org.postgresql.PGConnection
+import java.sql.Connection
+import java.sql.DriverManager
+import java.sql.SQLException
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
+import javax.sql.DataSource
+import kotlin.concurrent.thread
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Wakes up long polls of the workload queue when workloads are enqueued, using Postgres LISTEN/NOTIFY.
+ *
+ * [notifyEnqueued] publishes the dataplane group and priority of an enqueued workload on [CHANNEL]. On the first call to
+ * [subscribe], the server starts listening on the channel from a dedicated connection and completes the matching
+ * [Subscription]s of every notification it receives.
+ *
+ * Notifications are best effort. The ones sent while the listening connection is down are lost, so subscribers should
+ * always bound their wait and poll again.
+ */
+@Singleton
+open class WorkloadQueueNotifier(
+  dataSource: DataSource,
+) {
+  companion object {
+    const val CHANNEL = "workload_queue"
+    private const val LISTEN_TIMEOUT_MS = 10_000
+    private val RECONNECT_DELAY: Duration = Duration.ofSeconds(5)
+  }
+
+  // removes the micronaut transactional wrapper, which requires a connection to be bound to the current context
+  private val dataSource: DataSource = (dataSource as? DelegatingDataSource)?.targetDataSource ?: dataSource
+  private val subscriptions = ConcurrentHashMap.newKeySet<Subscription>()
+  private val listening = AtomicBoolean(false)
+
+  @Volatile
+  private var running = true
+
+  /**
+   * Signals the subscribers polling for [dataplaneGroup] and [priority] that a workload was enqueued. Failures are only
+   * logged, since subscribers poll again once their wait is over.
+   */
+  open fun notifyEnqueued(
+    dataplaneGroup: String,
+    priority: Int,
+  ) {
+    try {
+      dataSource.connection.use { connection ->
+        connection.prepareStatement("SELECT pg_notify(?, ?)").use {
+          it.setString(1, CHANNEL)
+          it.setString(2, "$dataplaneGroup:$priority")
+          it.execute()
+        }
+      }
+    } catch (e: SQLException) {
+      logger.warn(e) { "Failed to notify that a workload was enqueued for $dataplaneGroup and priority $priority." }
+    }
+  }
+
+  /**
+   * Registers interest in the workloads enqueued for [dataplaneGroup] and [priority] from now on. A null value matches
+   * any group or priority. The subscription must be closed once the caller stops waiting.
+   */
+  open fun subscribe(
+    dataplaneGroup: String?,
+    priority: Int?,
+  ): Subscription {
+    if (listening.compareAndSet(false, true)) {
+      thread(isDaemon = true, name = "workload-queue-listener") { listen() }
+    }
+    return Subscription(dataplaneGroup, priority) { subscriptions.remove(it) }.also { subscriptions.add(it) }
+  }
+
+  @PreDestroy
+  fun close() {
+    running = false
+  }
+
+  private fun listen() {
+    while (running) {
+      try {
+        openListenConnection().use { connection ->
+          connection.createStatement().use { it.execute("LISTEN $CHANNEL") }
+          // Notifications sent while we were not listening are lost. Wake everyone up so they poll again.
+          subscriptions.forEach { it.enqueued.complete(Unit) }
+
+          val pgConnection = connection.unwrap(PGConnection::class.java)
+          while (running) {
+            pgConnection.getNotifications(LISTEN_TIMEOUT_MS)?.forEach { onNotification(it.parameter) }
+          }
+        }
+      } catch (e: SQLException) {
+        logger.warn(e) { "Lost the workload queue notification connection. Reconnecting in $RECONNECT_DELAY." }
+        Thread.sleep(RECONNECT_DELAY.toMillis())
+      }
+    }
+  }
+
+  /**
+   * Listening holds on to its connection for good, so it is opened outside of the pool to leave the pool to requests.
+   */
+  private fun openListenConnection(): Connection =
+    when (dataSource) {
+      is HikariDataSource -> DriverManager.getConnection(dataSource.jdbcUrl, dataSource.username, dataSource.password)
+      else -> dataSource.connection
+    }
+
+  private fun onNotification(payload: String) {
+    val separator = payload.lastIndexOf(':')
+    val priority = payload.substring(separator + 1).toIntOrNull()
+    if (separator < 0 || priority == null) {
+      logger.warn { "Ignoring malformed workload queue notification: $payload" }
+      return
+    }
+    val dataplaneGroup = payload.substring(0, separator)
+    subscriptions
+      .filter { it.matches(dataplaneGroup, priority) }
+      .forEach { it.enqueued.complete(Unit) }
+  }
+
+  /**
+   * Interest in the workloads enqueued for [dataplaneGroup] and [priority]. [enqueued] completes on the first matching
+   * notification.
+   */
+  class Subscription internal constructor(
+    val dataplaneGroup: String?,
+    val priority: Int?,
+    private val onClose: (Subscription) -> Unit,
+  ) : AutoCloseable {
+    val enqueued = CompletableFuture<Unit>()
+
+    internal fun matches(
+      dataplaneGroup: String,
+      priority: Int,
+    ): Boolean = (this.dataplaneGroup == null || this.dataplaneGroup == dataplaneGroup) && (this.priority == null || this.priority == priority)
+
+    override fun close() {
+      onClose(this)
+    }
+  }
+}
@@ -8,11 +8,13 @@ import io.airbyte.commons.annotation.InternalForTesting
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadQueueItem
 import io.airbyte.workload.repository.domain.WorkloadQueueStats
+import io.micronaut.data.annotation.Expandable
 import io.micronaut.data.annotation.Join
 import io.micronaut.data.annotation.Query
 import io.micronaut.data.jdbc.annotation.JdbcRepository
 import io.micronaut.data.model.query.builder.sql.Dialect
 import io.micronaut.data.repository.PageableRepository
+import java.time.OffsetDateTime
 import java.util.UUID
 
 @JdbcRepository(dialect = Dialect.POSTGRES)
@@ -93,6 +95,71 @@ interface WorkloadQueueRepository : PageableRepository<WorkloadQueueItem, UUID>
     redeliveryWindowSecs: Int = 300,
   ): List<Workload>
 
+  /**
+   * Polls the queue and claims the polled workloads for the [dataplaneId] in a single statement.
+   *
+   * `polled_q` locks the next enqueued items the same way [pollWorkloadQueue] does. `claimed` then claims the
+   * workloads of these items that are still pending. This is the same transition as [WorkloadRepository.claim],
+   * applied to the whole batch. `acked` acks every polled item. A workload that could not be claimed has already
+   * been claimed, cancelled or failed, and does not need to be delivered again.
+   *
+   * Only the workloads that were claimed are returned.
+   */
+  @Join(value = "workloadLabels")
+  @Query(
+    """
+      WITH polled_q AS MATERIALIZED (
+         SELECT id, workload_id FROM workload_queue
+            WHERE
+              (:dataplaneGroup IS NULL OR dataplane_group = :dataplaneGroup)
+            AND
+              (:priority IS NULL OR priority = :priority)
+            AND
+              acked_at IS NULL
+            AND
+              now() > poll_deadline
+         ORDER BY created_at ASC
+         LIMIT :quantity
+         FOR UPDATE SKIP LOCKED
+      ),
+      claimed AS (
+        UPDATE workload AS w
+           SET
+              dataplane_id = :dataplaneId,
+              status = 'claimed',
+              deadline = :deadline,
+              updated_at = now()
+        FROM polled_q
+              WHERE w.id = polled_q.workload_id
+              AND w.status = 'pending'
+        RETURNING
+           w.*
+      ),
+      acked AS (
+        UPDATE workload_queue
+           SET
+              acked_at = now(),
+              updated_at = now()
+        WHERE id IN (SELECT id FROM polled_q)
+      )
+    SELECT
+        claimed.*,
+        l.id AS workload_labels_id,
+        l.key AS workload_labels_key,
+        l.value AS workload_labels_value
+    FROM claimed
+        LEFT JOIN workload_label l
+            ON l.workload_id = claimed.id;
+    """,
+  )
+  fun pollAndClaimWorkloadQueue(
+    dataplaneGroup: String?,
+    priority: Int?,
+    quantity: Int,
+    dataplaneId: String,
+    deadline: OffsetDateTime,
+  ): List<Workload>
+
   @Query(
     """
     INSERT INTO workload_queue (
@@ -121,6 +188,15 @@ interface WorkloadQueueRepository : PageableRepository<WorkloadQueueItem, UUID>
   )
   fun ackWorkloadQueueItem(workloadId: String)
 
+  @Query(
+    """
+    UPDATE workload_queue SET acked_at = now(), updated_at = now() WHERE workload_id IN (:workloadIds) AND acked_at IS NULL
+  """,
+  )
+  fun ackWorkloadQueueItems(
+    @Expandable workloadIds: List<String>,
+  )
+
   @Query(
     """
     SELECT count(*) FROM workload_queue
@@ -38,18 +38,64 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     updatedBefore: OffsetDateTime?,
   ): List<Workload>
 
+  /**
+   * Workloads with an expired deadline, ordered by id. [limit] and [afterId] page through the results: a null [limit]
+   * returns all of them, and the next page starts after the last id of the previous one.
+   */
   @Query(
     """
       SELECT * FROM workload
       WHERE ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
       AND ((:statuses) IS NULL OR status = ANY(CAST(ARRAY[:statuses] AS workload_status[])))
       AND (deadline < CAST(:deadline AS timestamptz))
+      AND (CAST(:afterId AS varchar) IS NULL OR id > CAST(:afterId AS varchar))
+      ORDER BY id
+      LIMIT :limit
       """,
   )
   fun searchForExpiredWorkloads(
     @Expandable dataplaneIds: List<String>?,
     @Expandable statuses: List<WorkloadStatus>?,
     deadline: OffsetDateTime,
+    limit: Int? = null,
+    afterId: String? = null,
+  ): List<Workload>
+
+  /**
+   * Fails up to [limit] active workloads with an expired deadline in a single statement, oldest deadline first, and
+   * returns them. Rows locked by a concurrent transition are skipped and picked up by the next call.
+   */
+  @Query(
+    """
+      WITH expired AS (
+        SELECT id FROM workload
+        WHERE ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
+        AND status = ANY(CAST(ARRAY[:statuses] AS workload_status[]))
+        AND status IN ('pending', 'claimed', 'launched', 'running')
+        AND deadline < CAST(:deadline AS timestamptz)
+        ORDER BY deadline
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+      )
+      UPDATE workload AS w
+      SET
+       status = 'failure',
+       termination_source = :terminationSource,
+       termination_reason = :terminationReason,
+       deadline = NULL,
+       updated_at = now()
+      FROM expired
+      WHERE w.id = expired.id
+      RETURNING w.*
+    """,
+  )
+  fun failExpiredWorkloads(
+    @Expandable dataplaneIds: List<String>?,
+    @Expandable statuses: List<WorkloadStatus>,
+    deadline: OffsetDateTime,
+    terminationSource: String?,
+    terminationReason: String?,
+    limit: Int,
   ): List<Workload>
 
   fun searchByMutexKeyAndStatusInList(
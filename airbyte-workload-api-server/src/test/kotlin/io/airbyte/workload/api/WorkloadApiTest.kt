@@ -7,6 +7,9 @@ package io.airbyte.workload.api
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.commons.json.Jsons
 import io.airbyte.config.WorkloadPriority
+import io.airbyte.config.WorkloadType
+import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadFailRequest
+import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadFailResponse
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
@@ -14,15 +17,20 @@ import io.airbyte.workload.api.domain.WorkloadCreateRequest
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
+import io.airbyte.workload.api.domain.WorkloadListResponse
+import io.airbyte.workload.api.domain.WorkloadQueueAckRequest
+import io.airbyte.workload.api.domain.WorkloadQueuePollAndClaimRequest
 import io.airbyte.workload.api.domain.WorkloadQueuePollRequest
 import io.airbyte.workload.api.domain.WorkloadQueueQueryRequest
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
+import io.airbyte.workload.api.domain.WorkloadStatus
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
 import io.airbyte.workload.handler.ApiWorkload
 import io.airbyte.workload.handler.WorkloadHandler
 import io.airbyte.workload.handler.WorkloadHandlerImpl
+import io.airbyte.workload.repository.WorkloadQueueNotifier
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import io.micronaut.context.annotation.Property
@@ -44,6 +52,7 @@ import jakarta.inject.Singleton
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
+import java.time.OffsetDateTime
 
 @Property(name = "airbyte.workload-api.workload-redelivery-window", value = "PT30M")
 @MicronautTest(environments = [Environment.TEST])
@@ -65,6 +74,12 @@ class WorkloadApiTest(
   @Replaces(WorkloadHandler::class)
   fun workloadHandler(): WorkloadHandler = workloadHandler
 
+  private val workloadQueueNotifier = mockk<WorkloadQueueNotifier>()
+
+  @MockBean(WorkloadQueueNotifier::class)
+  @Replaces(WorkloadQueueNotifier::class)
+  fun workloadQueueNotifier(): WorkloadQueueNotifier = workloadQueueNotifier
+
   private val airbyteApiClient: AirbyteApiClient = mockk()
 
   @MockBean(AirbyteApiClient::class)
@@ -281,6 +296,27 @@ class WorkloadApiTest(
     )
   }
 
+  @Test
+  fun `fail workloads with expired deadline happy path`() {
+    val req =
+      ExpiredDeadlineWorkloadFailRequest(
+        status = listOf(WorkloadStatus.RUNNING),
+        deadline = OffsetDateTime.now(),
+        source = "source",
+        reason = "reason",
+        limit = 10,
+      )
+
+    every { workloadHandler.failWorkloadsWithExpiredDeadline(null, req.status, any(), "source", "reason", 10) } returns
+      listOf(ApiWorkload(id = "workload-1", type = WorkloadType.CHECK))
+
+    val response =
+      client.toBlocking().retrieve(HttpRequest.POST("/api/v1/workload/expired_deadline_fail", req), ExpiredDeadlineWorkloadFailResponse::class.java)
+
+    assertEquals(listOf("workload-1"), response.workloads.map { it.id })
+    assertEquals(listOf(WorkloadType.CHECK), response.workloads.map { it.type })
+  }
+
   @Test
   fun `poll workloads happy path`() {
     val req =
@@ -294,6 +330,69 @@ class WorkloadApiTest(
     testEndpointStatus(HttpRequest.POST("/api/v1/workload/queue/poll", req), HttpStatus.OK)
   }
 
+  @Test
+  fun `poll workloads waits for a workload to be enqueued when the queue is empty`() {
+    val req =
+      WorkloadQueuePollRequest(
+        dataplaneGroup = "dataplane-group-1",
+        priority = WorkloadPriority.DEFAULT,
+        quantity = 10,
+        waitSeconds = 10,
+      )
+    val subscription = WorkloadQueueNotifier.Subscription("dataplane-group-1", 0) {}
+    subscription.enqueued.complete(Unit)
+
+    every { workloadQueueNotifier.subscribe("dataplane-group-1", 0) } returns subscription
+    every { workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, 10) } returns emptyList() andThen listOf(ApiWorkload(id = "workload-1"))
+
+    val response = client.toBlocking().retrieve(HttpRequest.POST("/api/v1/workload/queue/poll", req), WorkloadListResponse::class.java)
+
+    assertEquals(listOf("workload-1"), response.workloads.map { it.id })
+    verify(exactly = 2) { workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, 10) }
+  }
+
+  @Test
+  fun `poll workloads returns an empty list once the wait is over`() {
+    val req =
+      WorkloadQueuePollRequest(
+        dataplaneGroup = "dataplane-group-1",
+        priority = WorkloadPriority.DEFAULT,
+        quantity = 10,
+        waitSeconds = 1,
+      )
+
+    every { workloadQueueNotifier.subscribe("dataplane-group-1", 0) } answers { WorkloadQueueNotifier.Subscription("dataplane-group-1", 0) {} }
+    every { workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, 10) } returns emptyList()
+
+    val response = client.toBlocking().retrieve(HttpRequest.POST("/api/v1/workload/queue/poll", req), WorkloadListResponse::class.java)
+
+    assertEquals(emptyList<ApiWorkload>(), response.workloads)
+    // once when the request comes in, once when the wait is over
+    verify(exactly = 2) { workloadHandler.pollWorkloadQueue(req.dataplaneGroup, req.priority, 10) }
+  }
+
+  @Test
+  fun `poll and claim workloads happy path`() {
+    val req =
+      WorkloadQueuePollAndClaimRequest(
+        dataplaneGroup = "dataplane-group-1",
+        priority = WorkloadPriority.DEFAULT,
+        quantity = 10,
+        dataplaneId = "dataplane-1",
+      )
+
+    every { workloadHandler.pollAndClaimWorkloadQueue(req.dataplaneGroup, req.priority, 10, "dataplane-1", any()) }.returns(emptyList())
+    testEndpointStatus(HttpRequest.POST("/api/v1/workload/queue/poll-and-claim", req), HttpStatus.OK)
+  }
+
+  @Test
+  fun `ack workload queue items happy path`() {
+    val req = WorkloadQueueAckRequest(workloadIds = listOf("workload-1", "workload-2"))
+
+    every { workloadHandler.ackWorkloadQueueItems(listOf("workload-1", "workload-2")) } just Runs
+    testEndpointStatus(HttpRequest.POST("/api/v1/workload/queue/ack", req), HttpStatus.NO_CONTENT)
+  }
+
   @Test
   fun `count queue depth happy path`() {
     val req =
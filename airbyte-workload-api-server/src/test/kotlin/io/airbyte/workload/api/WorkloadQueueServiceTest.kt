@@ -8,6 +8,7 @@ import io.airbyte.config.WorkloadPriority
 import io.airbyte.config.WorkloadType
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
+import io.airbyte.workload.repository.WorkloadQueueNotifier
 import io.airbyte.workload.repository.WorkloadQueueRepository
 import io.airbyte.workload.repository.domain.WorkloadQueueItem
 import io.micrometer.core.instrument.Counter
@@ -25,6 +26,7 @@ import java.util.stream.Stream
 class WorkloadQueueServiceTest {
   private val metricClient: MetricClient = mockk()
   private val workloadQueueRepository: WorkloadQueueRepository = mockk()
+  private val workloadQueueNotifier: WorkloadQueueNotifier = mockk(relaxed = true)
 
   private val workloadId = "workloadIdea"
   private val workloadInput = "{}"
@@ -53,11 +55,12 @@ class WorkloadQueueServiceTest {
         workloadId = workloadId,
         pollDeadline = null,
       )
-    val workloadQueueService = WorkloadQueueService(metricClient, workloadQueueRepository)
+    val workloadQueueService = WorkloadQueueService(metricClient, workloadQueueRepository, workloadQueueNotifier)
 
     workloadQueueService.create(workloadId, workloadInput, labels, logPath, mutexKey, workloadType, autoId, priority, expectedQueue)
 
     verify { workloadQueueRepository.enqueueWorkload(expectedQueue, priority.toInt(), workloadId) }
+    verify { workloadQueueNotifier.notifyEnqueued(expectedQueue, priority.toInt()) }
   }
 
   companion object {
@@ -328,6 +328,64 @@ class WorkloadHandlerImplTest {
     verify(exactly = 0) { workloadQueueRepository.ackWorkloadQueueItem(WORKLOAD_ID) }
   }
 
+  @Test
+  fun `test poll and claim returns the claimed workloads`() {
+    every { workloadQueueRepository.pollAndClaimWorkloadQueue("group-1", 0, 10, DATAPLANE_ID, now) }.returns(
+      listOf(
+        Fixtures.workload(
+          id = WORKLOAD_ID,
+          dataplaneId = DATAPLANE_ID,
+          status = WorkloadStatus.CLAIMED,
+        ),
+      ),
+    )
+    val result = workloadHandler.pollAndClaimWorkloadQueue("group-1", WorkloadPriority.DEFAULT, 10, DATAPLANE_ID, now)
+    assertEquals(listOf(WORKLOAD_ID), result.map { it.id })
+  }
+
+  @Test
+  fun `test acking workload queue items`() {
+    every { workloadQueueRepository.ackWorkloadQueueItems(listOf(WORKLOAD_ID)) } just Runs
+    workloadHandler.ackWorkloadQueueItems(listOf(WORKLOAD_ID))
+    verify(exactly = 1) { workloadQueueRepository.ackWorkloadQueueItems(listOf(WORKLOAD_ID)) }
+
+    workloadHandler.ackWorkloadQueueItems(listOf())
+    verify(exactly = 1) { workloadQueueRepository.ackWorkloadQueueItems(any()) }
+  }
+
+  @Test
+  fun `test failing workloads with an expired deadline signals and acks the failed workloads`() {
+    every {
+      workloadRepository.failExpiredWorkloads(null, listOf(WorkloadStatus.RUNNING), now, "test", "expired", 100)
+    } returns
+      listOf(
+        Fixtures.workload(
+          id = WORKLOAD_ID,
+          status = WorkloadStatus.FAILURE,
+          signalPayload = Jsons.serialize(Fixtures.configSignalInput),
+        ),
+      )
+    every { workloadQueueRepository.ackWorkloadQueueItems(listOf(WORKLOAD_ID)) } just Runs
+    mockApi()
+
+    val result =
+      workloadHandler.failWorkloadsWithExpiredDeadline(null, listOf(ApiWorkloadStatus.RUNNING), now, "test", "expired", 100)
+
+    assertEquals(listOf(WORKLOAD_ID), result.map { it.id })
+    verify(exactly = 1) { workloadQueueRepository.ackWorkloadQueueItems(listOf(WORKLOAD_ID)) }
+    verifyApi()
+  }
+
+  @Test
+  fun `test failing workloads with an expired deadline defaults to the active statuses`() {
+    every { workloadRepository.failExpiredWorkloads(null, WorkloadHandlerImpl.ACTIVE_STATUSES, now, null, null, 100) } returns listOf()
+
+    val result = workloadHandler.failWorkloadsWithExpiredDeadline(null, null, now, null, null, 100)
+
+    assertEquals(listOf<String>(), result.map { it.id })
+    verify(exactly = 0) { workloadQueueRepository.ackWorkloadQueueItems(any()) }
+  }
+
   @Test
   fun `test workload not found when cancelling workload`() {
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
@@ -29,6 +29,7 @@ import org.testcontainers.containers.PostgreSQLContainer
 import java.time.OffsetDateTime
 import java.time.temporal.ChronoUnit
 import java.util.UUID
+import java.util.concurrent.TimeUnit
 import javax.sql.DataSource
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -144,6 +145,108 @@ class WorkloadQueueTableTests {
     assertWorkloadsEqual(unAcked, result, "only un-acked workloads are delivered")
   }
 
+  @ParameterizedTest
+  @MethodSource("pendingWorkloadMatrix")
+  fun `poll and claim claims the polled workloads and acks their queue items`(
+    group: String,
+    priority: Int,
+    workloads: List<Workload>,
+  ) {
+    workloads.forEach {
+      workloadRepo.save(it)
+      workloadQueueRepo.enqueueWorkload(group, priority, it.id)
+    }
+    val dataplaneId = "dataplane-1"
+    val deadline = Fixtures.newTimestamp().plusMinutes(10)
+
+    val result = workloadQueueRepo.pollAndClaimWorkloadQueue(group, priority, quantity = 10, dataplaneId = dataplaneId, deadline = deadline)
+
+    Assertions.assertEquals(workloads.map { it.id }.toSet(), result.map { it.id }.toSet())
+    result.forEach {
+      Assertions.assertEquals(WorkloadStatus.CLAIMED, it.status)
+      Assertions.assertEquals(dataplaneId, it.dataplaneId)
+      Assertions.assertEquals(deadline.toInstant(), it.deadline?.toInstant())
+      Assertions.assertEquals(
+        workloads.first { w -> w.id == it.id }.workloadLabels?.map { l -> l.key to l.value }?.toSet(),
+        it.workloadLabels?.map { l -> l.key to l.value }?.toSet(),
+      )
+    }
+    workloads.forEach { Assertions.assertEquals(WorkloadStatus.CLAIMED, workloadRepo.findById(it.id).get().status) }
+
+    // the queue items were acked, so the workloads are not delivered again, even once the poll deadline expires
+    Assertions.assertEquals(0, workloadQueueRepo.countEnqueuedWorkloads(group, priority))
+    assertWorkloadsEqual(listOf(), workloadQueueRepo.pollWorkloadQueue(group, priority, quantity = 10))
+  }
+
+  @Test
+  fun `poll and claim does not return workloads that are no longer pending`() {
+    val group = "group-1"
+    val priority = 0
+    val pending = Fixtures.workload(dataplaneGroup = group, priority = priority)
+    val claimedElsewhere = Fixtures.workload(dataplaneGroup = group, priority = priority, status = WorkloadStatus.CLAIMED, dataplaneId = "other")
+    val cancelled = Fixtures.workload(dataplaneGroup = group, priority = priority, status = WorkloadStatus.CANCELLED)
+    listOf(pending, claimedElsewhere, cancelled).forEach {
+      workloadRepo.save(it)
+      workloadQueueRepo.enqueueWorkload(group, priority, it.id)
+    }
+
+    val result = workloadQueueRepo.pollAndClaimWorkloadQueue(group, priority, quantity = 10, dataplaneId = "dataplane-1", deadline = Fixtures.newTimestamp())
+
+    Assertions.assertEquals(listOf(pending.id), result.map { it.id })
+    Assertions.assertEquals("other", workloadRepo.findById(claimedElsewhere.id).get().dataplaneId)
+    Assertions.assertEquals(WorkloadStatus.CANCELLED, workloadRepo.findById(cancelled.id).get().status)
+    Assertions.assertEquals(0, workloadQueueRepo.countEnqueuedWorkloads(group, priority))
+  }
+
+  @Test
+  fun `poll and claim only claims up to the requested quantity`() {
+    val group = "group-1"
+    val priority = 0
+    val workloads = (1..5).map { Fixtures.workload(dataplaneGroup = group, priority = priority) }
+    workloads.forEach {
+      workloadRepo.save(it)
+      workloadQueueRepo.enqueueWorkload(group, priority, it.id)
+    }
+
+    val result1 = workloadQueueRepo.pollAndClaimWorkloadQueue(group, priority, quantity = 3, dataplaneId = "dataplane-1", deadline = Fixtures.newTimestamp())
+    val result2 = workloadQueueRepo.pollAndClaimWorkloadQueue(group, priority, quantity = 3, dataplaneId = "dataplane-2", deadline = Fixtures.newTimestamp())
+
+    Assertions.assertEquals(3, result1.size)
+    Assertions.assertEquals(2, result2.size)
+    Assertions.assertEquals(workloads.map { it.id }.toSet(), (result1 + result2).map { it.id }.toSet())
+  }
+
+  @Test
+  fun `acking many workloads acks all their queue items`() {
+    val group = "group-1"
+    val priority = 0
+    val workloads = (1..4).map { Fixtures.workload(dataplaneGroup = group, priority = priority) }
+    workloads.forEach {
+      workloadRepo.save(it)
+      workloadQueueRepo.enqueueWorkload(group, priority, it.id)
+    }
+
+    workloadQueueRepo.ackWorkloadQueueItems(workloads.take(3).map { it.id })
+
+    val result = workloadQueueRepo.pollWorkloadQueue(group, priority, quantity = 10)
+    assertWorkloadsEqual(listOf(workloads.last()), result)
+  }
+
+  @Test
+  fun `enqueue notifications wake up the matching subscriptions`() {
+    // the first subscription starts listening and is woken up once the listening connection is up
+    workloadQueueNotifier.subscribe(null, null).use { it.enqueued.get(10, TimeUnit.SECONDS) }
+
+    workloadQueueNotifier.subscribe("group-1", 0).use { matching ->
+      workloadQueueNotifier.subscribe("group-2", 0).use { other ->
+        workloadQueueNotifier.notifyEnqueued("group-1", 0)
+
+        matching.enqueued.get(10, TimeUnit.SECONDS)
+        Assertions.assertFalse(other.enqueued.isDone)
+      }
+    }
+  }
+
   private fun pendingWorkloadMatrix(): List<Arguments> =
     listOf(
       Arguments.of(
@@ -327,6 +430,7 @@ class WorkloadQueueTableTests {
     lateinit var workloadRepo: WorkloadRepository
     lateinit var workloadLabelRepo: WorkloadLabelRepository
     lateinit var workloadQueueRepo: WorkloadQueueRepository
+    lateinit var workloadQueueNotifier: WorkloadQueueNotifier
     private lateinit var jooqDslContext: DSLContext
 
     // we run against an actual database to ensure micronaut data and jooq properly integrate
@@ -366,6 +470,7 @@ class WorkloadQueueTableTests {
       workloadRepo = context.getBean(WorkloadRepository::class.java)
       workloadLabelRepo = context.getBean(WorkloadLabelRepository::class.java)
       workloadQueueRepo = context.getBean(WorkloadQueueRepository::class.java)
+      workloadQueueNotifier = context.getBean(WorkloadQueueNotifier::class.java)
     }
 
     @AfterAll
@@ -476,6 +476,65 @@ class WorkloadRepositoryTest {
     assertEquals(workload2.id, resultSearch[1].id)
   }
 
+  @Test
+  fun `expired workloads can be paged through`() {
+    val deadline: OffsetDateTime = Fixtures.newTimestamp()
+    val workloads = (1..5).map { Fixtures.workload(id = "$it-${Fixtures.newWorkloadId()}", status = WorkloadStatus.RUNNING, deadline = deadline) }
+    workloads.forEach { workloadRepo.save(it) }
+
+    val page1 = workloadRepo.searchForExpiredWorkloads(null, null, deadline.plusDays(1), limit = 2)
+    val page2 = workloadRepo.searchForExpiredWorkloads(null, null, deadline.plusDays(1), limit = 2, afterId = page1.last().id)
+    val page3 = workloadRepo.searchForExpiredWorkloads(null, null, deadline.plusDays(1), limit = 2, afterId = page2.last().id)
+
+    assertEquals(listOf(workloads[0].id, workloads[1].id), page1.map { it.id })
+    assertEquals(listOf(workloads[2].id, workloads[3].id), page2.map { it.id })
+    assertEquals(listOf(workloads[4].id), page3.map { it.id })
+  }
+
+  @Test
+  fun `failing expired workloads only fails active workloads past their deadline`() {
+    val deadline: OffsetDateTime = Fixtures.newTimestamp()
+    val expiredRunning = Fixtures.workload(status = WorkloadStatus.RUNNING, deadline = deadline.minusMinutes(2))
+    val expiredClaimed = Fixtures.workload(status = WorkloadStatus.CLAIMED, deadline = deadline.minusMinutes(1))
+    val notExpired = Fixtures.workload(status = WorkloadStatus.RUNNING, deadline = deadline.plusMinutes(1))
+    val expiredPending = Fixtures.workload(status = WorkloadStatus.PENDING, deadline = deadline.minusMinutes(1))
+    val expiredSucceeded = Fixtures.workload(status = WorkloadStatus.SUCCESS, deadline = deadline.minusMinutes(1))
+    listOf(expiredRunning, expiredClaimed, notExpired, expiredPending, expiredSucceeded).forEach { workloadRepo.save(it) }
+
+    val failed =
+      workloadRepo.failExpiredWorkloads(
+        dataplaneIds = null,
+        statuses = listOf(WorkloadStatus.CLAIMED, WorkloadStatus.RUNNING, WorkloadStatus.SUCCESS),
+        deadline = deadline,
+        terminationSource = "source",
+        terminationReason = "reason",
+        limit = 10,
+      )
+
+    assertEquals(setOf(expiredRunning.id, expiredClaimed.id), failed.map { it.id }.toSet())
+    failed.forEach {
+      assertEquals(WorkloadStatus.FAILURE, it.status)
+      assertEquals("source", it.terminationSource)
+      assertEquals("reason", it.terminationReason)
+      assertEquals(null, it.deadline)
+    }
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById(notExpired.id).get().status)
+    assertEquals(WorkloadStatus.PENDING, workloadRepo.findById(expiredPending.id).get().status)
+    assertEquals(WorkloadStatus.SUCCESS, workloadRepo.findById(expiredSucceeded.id).get().status)
+  }
+
+  @Test
+  fun `failing expired workloads fails the oldest deadlines first up to the limit`() {
+    val deadline: OffsetDateTime = Fixtures.newTimestamp()
+    val workloads = (1..3).map { Fixtures.workload(status = WorkloadStatus.RUNNING, deadline = deadline.minusMinutes(it.toLong())) }
+    workloads.forEach { workloadRepo.save(it) }
+
+    val failed = workloadRepo.failExpiredWorkloads(null, listOf(WorkloadStatus.RUNNING), deadline, null, null, limit = 2)
+
+    assertEquals(setOf(workloads[2].id, workloads[1].id), failed.map { it.id }.toSet())
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById(workloads[0].id).get().status)
+  }
+
   object Fixtures {
     fun newWorkloadId() = "${UUID.randomUUID()}_test"
 
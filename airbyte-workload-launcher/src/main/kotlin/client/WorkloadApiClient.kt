@@ -11,6 +11,7 @@ import io.airbyte.workload.api.client.model.generated.WorkloadClaimRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadLaunchedRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadPriority
+import io.airbyte.workload.api.client.model.generated.WorkloadQueuePollAndClaimRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadQueuePollRequest
 import io.airbyte.workload.launcher.authn.DataplaneIdentityService
 import io.github.oshai.kotlinlogging.KotlinLogging
@@ -88,15 +89,44 @@ class WorkloadApiClient(
     return result
   }
 
+  /**
+   * Polls the queue. With [waitSeconds], the call waits up to that long for a workload to be enqueued when the queue
+   * is empty.
+   */
   fun pollQueue(
     groupId: String?,
     priority: WorkloadPriority?,
     pollSizeItems: Int,
+    waitSeconds: Int? = null,
   ): List<Workload> {
-    val req = WorkloadQueuePollRequest(pollSizeItems, groupId, priority)
+    val req = WorkloadQueuePollRequest(quantity = pollSizeItems, dataplaneGroup = groupId, priority = priority, waitSeconds = waitSeconds)
 
     val resp = workloadApiClient.workloadApi.pollWorkloadQueue(req)
 
     return resp.workloads
   }
+
+  /**
+   * Polls the queue and claims the polled workloads for this dataplane in a single call. Only the workloads that were
+   * claimed are returned. [waitSeconds] works the same as for [pollQueue].
+   */
+  fun pollAndClaimQueue(
+    groupId: String?,
+    priority: WorkloadPriority?,
+    pollSizeItems: Int,
+    waitSeconds: Int? = null,
+  ): List<Workload> {
+    val req =
+      WorkloadQueuePollAndClaimRequest(
+        quantity = pollSizeItems,
+        dataplaneId = identityService.getDataplaneId(),
+        dataplaneGroup = groupId,
+        priority = priority,
+        waitSeconds = waitSeconds,
+      )
+
+    val resp = workloadApiClient.workloadApi.pollAndClaimWorkloadQueue(req)
+
+    return resp.workloads
+  }
 }
@@ -4,6 +4,7 @@
 
 package io.airbyte.workload.launcher.config
 
+import io.airbyte.commons.envvar.EnvVar.CLOUD_STORAGE_APPENDER_COMPRESSION_ENABLED
 import io.airbyte.commons.envvar.EnvVar.CLOUD_STORAGE_APPENDER_THREADS
 import io.airbyte.commons.envvar.EnvVar.LOG_LEVEL
 import io.airbyte.commons.envvar.EnvVar.S3_PATH_STYLE_ACCESS
@@ -164,8 +165,10 @@ class EnvVarConfigBeanFactory {
   fun loggingEnvVars(
     @Value("\${airbyte.logging.log-level}") logLevel: String,
     @Value("\${airbyte.logging.s3-path-style-access}") s3PathStyleAccess: String,
+    @Value("\${airbyte.logging.compression-enabled:false}") compressionEnabled: Boolean,
   ): Map<String, String> =
     mapOf(
+      CLOUD_STORAGE_APPENDER_COMPRESSION_ENABLED.name to compressionEnabled.toString(),
       CLOUD_STORAGE_APPENDER_THREADS.name to "1",
       LOG_LEVEL.name to logLevel,
       S3_PATH_STYLE_ACCESS.name to s3PathStyleAccess,
@@ -24,6 +24,7 @@ class WorkloadApiQueueBeanFactory {
     featureFlagClient: FeatureFlagClient,
     @Value("\${airbyte.workload-launcher.consumer.high-priority-queue.poll-size-items}") pollSizeItems: Int,
     @Value("\${airbyte.workload-launcher.consumer.high-priority-queue.poll-interval-seconds}") pollIntervalSeconds: Long,
+    @Value("\${airbyte.workload-launcher.consumer.long-poll-wait-seconds:20}") longPollWaitSeconds: Int,
   ): WorkloadApiQueuePoller =
     WorkloadApiQueuePoller(
       workloadApiClient,
@@ -32,6 +33,7 @@ class WorkloadApiQueueBeanFactory {
       pollSizeItems,
       pollIntervalSeconds,
       WorkloadPriority.HIGH,
+      longPollWaitSeconds,
     )
 
   @Singleton
@@ -42,6 +44,7 @@ class WorkloadApiQueueBeanFactory {
     featureFlagClient: FeatureFlagClient,
     @Value("\${airbyte.workload-launcher.consumer.default-queue.poll-size-items}") pollSizeItems: Int,
     @Value("\${airbyte.workload-launcher.consumer.default-queue.poll-interval-seconds}") pollIntervalSeconds: Long,
+    @Value("\${airbyte.workload-launcher.consumer.long-poll-wait-seconds:20}") longPollWaitSeconds: Int,
   ): WorkloadApiQueuePoller =
     WorkloadApiQueuePoller(
       workloadApiClient,
@@ -50,5 +53,6 @@ class WorkloadApiQueueBeanFactory {
       pollSizeItems,
       pollIntervalSeconds,
       WorkloadPriority.DEFAULT,
+      longPollWaitSeconds,
     )
 }
@@ -18,7 +18,7 @@ fun OpenApiWorkloadType.toInternalApi(): io.airbyte.config.WorkloadType =
     OpenApiWorkloadType.SYNC -> InternalApiWorkloadType.SYNC
   }
 
-fun OpenApiWorkload.toLauncherInput(): LauncherInput =
+fun OpenApiWorkload.toLauncherInput(claimed: Boolean = false): LauncherInput =
   LauncherInput(
     workloadId = this.id,
     workloadInput = this.inputPayload,
@@ -27,4 +27,5 @@ fun OpenApiWorkload.toLauncherInput(): LauncherInput =
     mutexKey = this.mutexKey,
     workloadType = this.type.toInternalApi(),
     autoId = this.autoId,
+    claimed = claimed,
   )
@@ -5,39 +5,52 @@
 package io.airbyte.workload.launcher.pipeline
 
 import datadog.trace.api.Trace
+import io.airbyte.metrics.MetricClient
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.LAUNCH_PIPELINE_OPERATION_NAME
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
 import io.airbyte.workload.launcher.pipeline.handlers.FailureHandler
 import io.airbyte.workload.launcher.pipeline.handlers.SuccessHandler
 import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStage
 import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
 
+/**
+ * The claim, check, mutex and launch stages make blocking calls to the workload api and kubernetes, so each of them runs
+ * on its own [ScheduledStage] with its own concurrency limit. The build stage, which also blocks to fetch the workload
+ * input, runs on the thread that received the workload, e.g. a rail of the queue consumer. The load shed stage runs on
+ * the thread of the claim stage.
+ */
 @Singleton
 class LaunchPipeline(
   @Named("build") private val build: LaunchStage,
   @Named("loadShed") private val loadShed: LaunchStage,
-  @Named("claim") private val claim: LaunchStage,
-  @Named("check") private val check: LaunchStage,
-  @Named("mutex") private val mutex: LaunchStage,
-  @Named("launch") private val launch: LaunchStage,
+  @Named("claim") claim: LaunchStage,
+  @Named("check") check: LaunchStage,
+  @Named("mutex") mutex: LaunchStage,
+  @Named("launch") launch: LaunchStage,
   private val successHandler: SuccessHandler,
   private val failureHandler: FailureHandler,
   private val ingressAdapter: PipelineIngressAdapter,
+  metricClient: MetricClient,
+  @Value("\${airbyte.workload-launcher.parallelism.stages.claim:20}") claimConcurrency: Int = 20,
+  @Value("\${airbyte.workload-launcher.parallelism.stages.check:20}") checkConcurrency: Int = 20,
+  @Value("\${airbyte.workload-launcher.parallelism.stages.mutex:20}") mutexConcurrency: Int = 20,
+  @Value("\${airbyte.workload-launcher.parallelism.stages.launch:20}") launchConcurrency: Int = 20,
 ) {
+  private val claim = ScheduledStage(claim, claimConcurrency, metricClient)
+  private val check = ScheduledStage(check, checkConcurrency, metricClient)
+  private val mutex = ScheduledStage(mutex, mutexConcurrency, metricClient)
+  private val launch = ScheduledStage(launch, launchConcurrency, metricClient)
+
   @Trace(operationName = LAUNCH_PIPELINE_OPERATION_NAME)
   fun accept(input: LauncherInput) {
-    val disposable =
-      buildPipeline(input)
-        .subscribeOn(Schedulers.immediate())
-        .subscribe()
-
-    disposable.dispose()
+    // The scheduled stages complete asynchronously, so the subscription must not be disposed here.
+    buildPipeline(input).subscribe()
   }
 
   /*
@@ -59,17 +72,25 @@ class LaunchPipeline(
   }
 
   /*
-   * Applies the pipeline to a stream of inputs.
+   * Applies the pipeline to a stream of inputs. Inputs go through the scheduled stages concurrently, so they may be
+   * emitted in a different order than they were received.
    */
   fun apply(publisher: Flux<LauncherInput>): Flux<LaunchStageIO> =
     publisher
       .map(ingressAdapter::apply)
       .flatMap(build)
-      .flatMap(claim)
+      .through(claim)
       .flatMap(loadShed)
-      .flatMap(check)
-      .flatMap(mutex)
-      .flatMap(launch)
+      .through(check)
+      .through(mutex)
+      .through(launch)
       .onErrorContinue(failureHandler::accept)
       .doOnNext(successHandler::accept)
+
+  /*
+   * Errors of a scheduled stage are raised on the stage's thread, where onErrorContinue no longer knows which input
+   * failed, so they are handed to the failure handler here.
+   */
+  private fun Flux<LaunchStageIO>.through(stage: ScheduledStage): Flux<LaunchStageIO> =
+    flatMap({ io -> stage.apply(io).onErrorResume { e -> failureHandler.accept(e, io) } }, stage.concurrency)
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStage
+import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
+import io.airbyte.workload.launcher.pipeline.stages.model.StageFunction
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+private const val STAGE_THREAD_TTL_SECONDS = 60
+
+/**
+ * Runs a blocking [LaunchStage] on a scheduler of its own, which caps the number of workloads going through the stage
+ * at [concurrency]. A slow stage then only holds up the workloads waiting on it, instead of the thread that polled them.
+ *
+ * The number of workloads waiting for a thread of the stage is reported as [OssMetricsRegistry.WORKLOAD_STAGE_QUEUE_DEPTH].
+ */
+class ScheduledStage(
+  private val stage: LaunchStage,
+  val concurrency: Int,
+  metricClient: MetricClient,
+) : StageFunction<LaunchStageIO> {
+  private val scheduler: Scheduler =
+    Schedulers.newBoundedElastic(
+      concurrency,
+      Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+      "launch-stage-${stage.getStageName().name.lowercase()}",
+      STAGE_THREAD_TTL_SECONDS,
+      true,
+    )
+
+  private val queueDepth =
+    AtomicInteger().also {
+      metricClient.gauge(
+        OssMetricsRegistry.WORKLOAD_STAGE_QUEUE_DEPTH,
+        it,
+        { depth -> depth.toDouble() },
+        MetricAttribute(MetricTags.STAGE_NAME_TAG, stage.getStageName().toString()),
+      )
+    }
+
+  override fun apply(input: LaunchStageIO): Mono<LaunchStageIO> =
+    Mono.defer {
+      queueDepth.incrementAndGet()
+      // dequeued is set once the workload leaves the queue, whether it was picked up by a thread, rejected or cancelled
+      val dequeued = AtomicBoolean(false)
+      Mono
+        .defer {
+          if (dequeued.compareAndSet(false, true)) {
+            queueDepth.decrementAndGet()
+          }
+          stage.apply(input)
+        }.subscribeOn(scheduler)
+        .doFinally {
+          if (dequeued.compareAndSet(false, true)) {
+            queueDepth.decrementAndGet()
+          }
+        }
+    }
+
+  /** Number of workloads currently waiting for a thread of this stage. */
+  fun queueDepth(): Int = queueDepth.get()
+}
@@ -16,4 +16,6 @@ data class LauncherInput(
   val workloadType: WorkloadType,
   val startTimeMs: Long? = null,
   val autoId: UUID,
+  /** Whether the workload was already claimed for this dataplane when it was polled. */
+  val claimed: Boolean = false,
 )
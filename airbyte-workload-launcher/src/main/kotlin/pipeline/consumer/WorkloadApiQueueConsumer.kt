@@ -28,11 +28,16 @@ class WorkloadApiQueueConsumer(
   @Value("\${airbyte.workload-launcher.parallelism.default-queue}") private val defaultPriorityParallelism: Int,
   @Value("\${airbyte.workload-launcher.parallelism.high-priority-queue}") private val highPriorityParallelism: Int,
   @Value("\${airbyte.workload-launcher.consumer.queue-task-cap}") private val queueTaskCap: Int,
+  @Value("\${airbyte.workload-launcher.consumer.max-in-flight-per-rail}") private val maxInFlightPerRail: Int,
 ) {
   companion object {
     const val QUEUE_CONSUMER_METRIC_PREFIX = "workload_queue_consumer"
     const val DEFAULT_PRIORITY_NAME = "default"
     const val HIGH_PRIORITY_NAME = "high"
+
+    // Workloads each rail requests ahead of the ones it is processing. Kept minimal so that the pollers only poll, and
+    // claim, workloads that the pipeline has room for.
+    const val RAIL_PREFETCH = 1
   }
 
   fun initialize(dataplaneGroupId: String) {
@@ -59,22 +64,24 @@ class WorkloadApiQueueConsumer(
       defaultPriorityQueuePoller
         .initialize(dataplaneGroupId)
         .flux
-        .parallel(defaultPriorityParallelism)
-        .runOn(defaultPriorityThreadPool)
+        .parallel(defaultPriorityParallelism, RAIL_PREFETCH)
+        .runOn(defaultPriorityThreadPool, RAIL_PREFETCH)
 
     val highPriorityQueuePollerFlux =
       highPriorityQueuePoller
         .initialize(dataplaneGroupId)
         .flux
-        .parallel(highPriorityParallelism)
-        .runOn(highPriorityThreadPool)
+        .parallel(highPriorityParallelism, RAIL_PREFETCH)
+        .runOn(highPriorityThreadPool, RAIL_PREFETCH)
 
+    // The launch stages complete asynchronously, so each rail caps the workloads it has in the pipeline. Once the stages
+    // are saturated, the rails stop requesting workloads and the pollers stop polling.
     highPriorityQueuePollerFlux
-      .flatMap(pipeline::buildPipeline)
+      .flatMap(pipeline::buildPipeline, false, maxInFlightPerRail)
       .subscribe()
 
     defaultPriorityQueuePollerFlux
-      .flatMap(pipeline::buildPipeline)
+      .flatMap(pipeline::buildPipeline, false, maxInFlightPerRail)
       .subscribe()
   }
 
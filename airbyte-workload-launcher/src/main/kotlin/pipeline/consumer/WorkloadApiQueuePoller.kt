@@ -6,18 +6,20 @@ package io.airbyte.workload.launcher.pipeline.consumer
 
 import io.airbyte.featureflag.DataplaneGroup
 import io.airbyte.featureflag.FeatureFlagClient
+import io.airbyte.featureflag.WorkloadPollerClaimsWorkloads
 import io.airbyte.featureflag.WorkloadPollerUsesJitter
+import io.airbyte.featureflag.WorkloadPollerUsesLongPoll
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
-import io.airbyte.workload.api.client.model.generated.Workload
 import io.airbyte.workload.api.client.model.generated.WorkloadPriority
 import io.airbyte.workload.launcher.client.WorkloadApiClient
 import io.airbyte.workload.launcher.model.toLauncherInput
 import io.github.oshai.kotlinlogging.KotlinLogging
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
 import java.time.Duration
 import kotlin.concurrent.Volatile
 import kotlin.random.Random
@@ -30,6 +32,9 @@ private val logger = KotlinLogging.logger {}
  * Polls the workload api backed queue with given configuration.
  * Emits a Flux<LauncherInput> for consumption by the pipeline.
  *
+ * Polls on a fixed interval, or back to back with long polls when [WorkloadPollerUsesLongPoll] is enabled. Either way,
+ * it only polls when the consumer of the flux has requested more workloads.
+ *
  * Starts in a suspended state until #resumePolling is called.
  */
 class WorkloadApiQueuePoller(
@@ -39,6 +44,7 @@ class WorkloadApiQueuePoller(
   private val pollSizeItems: Int,
   private val pollIntervalSeconds: Long,
   private val priority: WorkloadPriority,
+  private val longPollWaitSeconds: Int = 20,
 ) {
   @Volatile
   private var suspended = true
@@ -71,7 +77,9 @@ class WorkloadApiQueuePoller(
 
   fun isSuspended(): Boolean = suspended
 
-  private fun buildInputFlux(): Flux<LauncherInput> {
+  private fun buildInputFlux(): Flux<LauncherInput> = if (useLongPoll()) buildLongPollFlux() else buildIntervalFlux()
+
+  private fun buildIntervalFlux(): Flux<LauncherInput> {
     val interval =
       if (useJitter()) {
         Flux
@@ -82,28 +90,60 @@ class WorkloadApiQueuePoller(
         Flux.interval(Duration.ofSeconds(pollIntervalSeconds)).onBackpressureDrop()
       }
 
-    val pollFlux: Flux<Workload> =
-      Flux.create { sink ->
-        val results = workloadApiClient.pollQueue(groupId, priority, pollSizeItems)
-        metricClient.count(
-          OssMetricsRegistry.WORKLOAD_QUEUE_MESSAGES_POLLED,
-          results.size.toLong(),
-          MetricAttribute(MetricTags.DATA_PLANE_GROUP_TAG, groupId),
-          MetricAttribute(MetricTags.PRIORITY_TAG, priority.toString()),
-        )
-        results.forEach(sink::next)
-        sink.complete()
-      }
-
+    // One poll at a time: the next poll only starts once the workloads of the previous one have been requested
+    // downstream, and ticks are dropped meanwhile.
     return interval
       .filter { !isSuspended() }
-      .flatMap { pollFlux }
-      .map(Workload::toLauncherInput)
+      .flatMap({ poll(waitSeconds = null) }, 1)
       .onErrorContinue(this::handlePollError)
   }
 
+  /**
+   * Polls again as soon as the previous poll returns. Each poll waits on the workload api for up to
+   * [longPollWaitSeconds] for a workload to be enqueued, so workloads are emitted as soon as they are enqueued rather than
+   * on the next tick of the poll interval. While suspended, or after a failed poll, waits for the poll interval instead.
+   */
+  private fun buildLongPollFlux(): Flux<LauncherInput> {
+    val pollInterval = Duration.ofSeconds(pollIntervalSeconds)
+    return Flux
+      .defer {
+        if (isSuspended()) {
+          Mono.delay(pollInterval).thenMany(Flux.empty<LauncherInput>())
+        } else {
+          poll(waitSeconds = longPollWaitSeconds)
+            // long polls block their thread for up to the wait
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume { e -> handlePollError(e, null).then(Mono.delay(pollInterval)).thenMany(Flux.empty<LauncherInput>()) }
+        }
+      }.repeat()
+  }
+
+  private fun poll(waitSeconds: Int?): Flux<LauncherInput> =
+    Flux.create { sink ->
+      // Workloads claimed on poll skip the claim call of the launch pipeline.
+      val claimOnPoll = claimOnPoll()
+      val results =
+        if (claimOnPoll) {
+          workloadApiClient.pollAndClaimQueue(groupId, priority, pollSizeItems, waitSeconds)
+        } else {
+          workloadApiClient.pollQueue(groupId, priority, pollSizeItems, waitSeconds)
+        }
+      metricClient.count(
+        OssMetricsRegistry.WORKLOAD_QUEUE_MESSAGES_POLLED,
+        results.size.toLong(),
+        MetricAttribute(MetricTags.DATA_PLANE_GROUP_TAG, groupId),
+        MetricAttribute(MetricTags.PRIORITY_TAG, priority.toString()),
+      )
+      results.forEach { sink.next(it.toLauncherInput(claimed = claimOnPoll)) }
+      sink.complete()
+    }
+
   private fun useJitter(): Boolean = featureFlagClient.boolVariation(WorkloadPollerUsesJitter, DataplaneGroup(groupId))
 
+  private fun useLongPoll(): Boolean = featureFlagClient.boolVariation(WorkloadPollerUsesLongPoll, DataplaneGroup(groupId))
+
+  private fun claimOnPoll(): Boolean = featureFlagClient.boolVariation(WorkloadPollerClaimsWorkloads, DataplaneGroup(groupId))
+
   private fun handlePollError(
     e: Throwable,
     _input: Any?,
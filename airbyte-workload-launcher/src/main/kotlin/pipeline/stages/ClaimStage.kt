@@ -26,6 +26,8 @@ private val logger = KotlinLogging.logger {}
  * Calls the workload broker to try and claim ownership of the workload. If we
  * successfully claim the workload we continue, otherwise we no-op to the end of
  * the pipeline.
+ *
+ * Workloads that were claimed when they were polled are not claimed again.
  */
 @Singleton
 @Named("claim")
@@ -42,7 +44,7 @@ open class ClaimStage(
   override fun apply(input: LaunchStageIO): Mono<LaunchStageIO> = super.apply(input)
 
   override fun applyStage(input: LaunchStageIO): LaunchStageIO {
-    val claimed = apiClient.claim(input.msg.workloadId)
+    val claimed = input.msg.claimed || apiClient.claim(input.msg.workloadId)
 
     if (!claimed) {
       metricClient.count(
@@ -17,12 +17,17 @@ import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.mockk
 import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
 import reactor.test.StepVerifier
 import java.lang.RuntimeException
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
 
 @ExtendWith(MockKExtension::class)
 class LaunchPipelineTest {
@@ -40,6 +45,7 @@ class LaunchPipelineTest {
   @BeforeEach
   fun setup() {
     every { ingressAdapter.apply(any()) } answers { LaunchStageIO(msg = firstArg()) }
+    every { failureHandler.accept(any(), any()) } returns Mono.empty()
 
     pipeline =
       LaunchPipeline(
@@ -52,6 +58,7 @@ class LaunchPipelineTest {
         successHandler = successHandler,
         failureHandler = failureHandler,
         ingressAdapter = ingressAdapter,
+        metricClient = mockk(relaxed = true),
       )
   }
 
@@ -72,10 +79,11 @@ class LaunchPipelineTest {
 
     StepVerifier
       .create(appliedPipe)
-      .expectNext(LaunchStageIO(msg = workload1))
-      .expectNext(LaunchStageIO(msg = workload2))
-      .expectNext(LaunchStageIO(msg = workload3))
-      .verifyComplete()
+      .recordWith { mutableListOf() }
+      .expectNextCount(3)
+      .consumeRecordedWith {
+        assertEquals(setOf(LaunchStageIO(msg = workload1), LaunchStageIO(msg = workload2), LaunchStageIO(msg = workload3)), it.toSet())
+      }.verifyComplete()
 
     verify { successHandler.accept(LaunchStageIO(msg = workload1)) }
     verify { successHandler.accept(LaunchStageIO(msg = workload2)) }
@@ -109,21 +117,62 @@ class LaunchPipelineTest {
         successHandler = successHandler,
         failureHandler = failureHandler,
         ingressAdapter = ingressAdapter,
+        metricClient = mockk(relaxed = true),
       )
 
     val appliedPipe = pipeline.apply(inputFlux)
 
     StepVerifier
       .create(appliedPipe)
-      .expectNext(LaunchStageIO(msg = workload1))
-      .expectNext(LaunchStageIO(msg = workload3))
-      .verifyComplete()
+      .recordWith { mutableListOf() }
+      .expectNextCount(2)
+      .consumeRecordedWith {
+        assertEquals(setOf(LaunchStageIO(msg = workload1), LaunchStageIO(msg = workload3)), it.toSet())
+      }.verifyComplete()
 
     verify { successHandler.accept(LaunchStageIO(msg = workload1)) }
     verify { failureHandler.accept(any(), LaunchStageIO(msg = workload2)) }
     verify { successHandler.accept(LaunchStageIO(msg = workload3)) }
   }
 
+  @Test
+  fun `workloads go through the scheduled stages concurrently`() {
+    val workload1 = launcherInput("workload-1")
+    val workload2 = launcherInput("workload-2")
+
+    // each launch waits for the other one to have started, which only completes if they run concurrently
+    val launching = CountDownLatch(2)
+    pipeline =
+      LaunchPipeline(
+        build = MockStage(StageName.BUILD),
+        claim = MockStage(StageName.CLAIM),
+        loadShed = MockStage(StageName.LOAD_SHED),
+        check = MockStage(StageName.CHECK_STATUS),
+        mutex = MockStage(StageName.MUTEX),
+        launch =
+          MockStage(StageName.LAUNCH) {
+            launching.countDown()
+            if (!launching.await(10, TimeUnit.SECONDS)) throw RuntimeException("launches did not overlap")
+            it
+          },
+        successHandler = successHandler,
+        failureHandler = failureHandler,
+        ingressAdapter = ingressAdapter,
+        metricClient = mockk(relaxed = true),
+        launchConcurrency = 2,
+      )
+
+    StepVerifier
+      .create(pipeline.apply(Flux.just(workload1, workload2)))
+      .expectNextCount(2)
+      .expectComplete()
+      .verify(Duration.ofSeconds(30))
+
+    verify { successHandler.accept(LaunchStageIO(msg = workload1)) }
+    verify { successHandler.accept(LaunchStageIO(msg = workload2)) }
+    verify(exactly = 0) { failureHandler.accept(any(), any()) }
+  }
+
   // Manually mock as using mockk w/ inheritance and Reactor gets complicated
   class MockStage(
     val name: StageName,
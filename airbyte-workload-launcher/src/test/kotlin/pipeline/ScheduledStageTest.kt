@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package pipeline
+
+import fixtures.RecordFixtures.launcherInput
+import io.airbyte.workload.launcher.pipeline.ScheduledStage
+import io.airbyte.workload.launcher.pipeline.stages.StageName
+import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
+import io.airbyte.workload.launcher.pipeline.stages.model.StageError
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import pipeline.LaunchPipelineTest.MockStage
+import reactor.test.StepVerifier
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class ScheduledStageTest {
+  @Test
+  fun `workloads wait for a thread of the stage once the concurrency limit is reached`() {
+    val started = CountDownLatch(1)
+    val release = CountDownLatch(1)
+    val stage =
+      ScheduledStage(
+        stage =
+          MockStage(StageName.LAUNCH) {
+            started.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            it
+          },
+        concurrency = 1,
+        metricClient = mockk(relaxed = true),
+      )
+
+    val first = stage.apply(LaunchStageIO(msg = launcherInput("workload-1"))).toFuture()
+    assertTrue(started.await(10, TimeUnit.SECONDS))
+    val second = stage.apply(LaunchStageIO(msg = launcherInput("workload-2"))).toFuture()
+
+    assertEquals(1, stage.queueDepth())
+
+    release.countDown()
+    assertEquals("workload-1", first.get(10, TimeUnit.SECONDS).workloadId)
+    assertEquals("workload-2", second.get(10, TimeUnit.SECONDS).workloadId)
+    assertEquals(0, stage.queueDepth())
+  }
+
+  @Test
+  fun `stage errors are propagated`() {
+    val stage =
+      ScheduledStage(
+        stage = MockStage(StageName.CLAIM) { throw RuntimeException("api unavailable") },
+        concurrency = 1,
+        metricClient = mockk(relaxed = true),
+      )
+
+    StepVerifier
+      .create(stage.apply(LaunchStageIO(msg = launcherInput("workload-1"))))
+      .expectErrorMatches { it is StageError && it.stageName == StageName.CLAIM }
+      .verify(Duration.ofSeconds(10))
+
+    assertEquals(0, stage.queueDepth())
+  }
+}
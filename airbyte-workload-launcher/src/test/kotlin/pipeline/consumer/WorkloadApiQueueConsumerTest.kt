@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline.consumer
+
+import io.airbyte.featureflag.FeatureFlagClient
+import io.airbyte.featureflag.WorkloadPollerUsesLongPoll
+import io.airbyte.workload.api.client.model.generated.WorkloadPriority
+import io.airbyte.workload.launcher.client.WorkloadApiClient
+import io.airbyte.workload.launcher.metrics.ReactorMetricsWrapper
+import io.airbyte.workload.launcher.pipeline.LaunchPipeline
+import io.airbyte.workload.launcher.pipeline.consumer.WorkloadApiQueuePollerTest.Fixtures.groupId
+import io.airbyte.workload.launcher.pipeline.consumer.WorkloadApiQueuePollerTest.Fixtures.workload
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
+import java.util.concurrent.atomic.AtomicInteger
+
+private const val PARALLELISM = 2
+private const val MAX_IN_FLIGHT_PER_RAIL = 1
+
+class WorkloadApiQueueConsumerTest {
+  @Test
+  fun `stops polling once the pipeline is saturated`() {
+    val polls = AtomicInteger()
+    val workloadApiClient =
+      mockk<WorkloadApiClient> {
+        every { pollQueue(any(), any(), any(), any()) } answers { listOf(workload("workload-${polls.incrementAndGet()}")) }
+      }
+    val featureFlagClient =
+      mockk<FeatureFlagClient>(relaxed = true) {
+        // long polls go back to back, so polling only stops if nothing requests more workloads
+        every { boolVariation(WorkloadPollerUsesLongPoll, any()) } returns true
+      }
+    // the launch stages never complete, as if they were all busy
+    val pipeline =
+      mockk<LaunchPipeline> {
+        every { buildPipeline(any()) } returns Mono.never()
+      }
+
+    val consumer =
+      WorkloadApiQueueConsumer(
+        reactorMetricsWrapper = ReactorMetricsWrapper(null),
+        pipeline = pipeline,
+        highPriorityQueuePoller = poller(workloadApiClient, featureFlagClient, WorkloadPriority.HIGH),
+        defaultPriorityQueuePoller = poller(workloadApiClient, featureFlagClient, WorkloadPriority.DEFAULT),
+        defaultPriorityParallelism = PARALLELISM,
+        highPriorityParallelism = PARALLELISM,
+        queueTaskCap = 5,
+        maxInFlightPerRail = MAX_IN_FLIGHT_PER_RAIL,
+      )
+    consumer.initialize(groupId)
+    consumer.resumePolling()
+
+    Thread.sleep(1000)
+    val pollsWhenSaturated = polls.get()
+    Thread.sleep(1000)
+    consumer.suspendPolling()
+
+    assertEquals(pollsWhenSaturated, polls.get())
+    // a poller can only get ahead of the pipeline by the workloads prefetched by the rails and its last poll
+    assertTrue(pollsWhenSaturated <= 2 * (PARALLELISM * (MAX_IN_FLIGHT_PER_RAIL + 1) + 2), "polled $pollsWhenSaturated times")
+    verify(exactly = 2 * PARALLELISM * MAX_IN_FLIGHT_PER_RAIL) { pipeline.buildPipeline(any()) }
+  }
+
+  private fun poller(
+    workloadApiClient: WorkloadApiClient,
+    featureFlagClient: FeatureFlagClient,
+    priority: WorkloadPriority,
+  ): WorkloadApiQueuePoller =
+    WorkloadApiQueuePoller(
+      workloadApiClient = workloadApiClient,
+      metricClient = mockk(relaxed = true),
+      featureFlagClient = featureFlagClient,
+      pollSizeItems = 1,
+      pollIntervalSeconds = 1,
+      priority = priority,
+    )
+}
@@ -5,6 +5,8 @@
 package io.airbyte.workload.launcher.pipeline.consumer
 
 import io.airbyte.featureflag.FeatureFlagClient
+import io.airbyte.featureflag.WorkloadPollerClaimsWorkloads
+import io.airbyte.featureflag.WorkloadPollerUsesLongPoll
 import io.airbyte.metrics.MetricClient
 import io.airbyte.workload.api.client.model.generated.Workload
 import io.airbyte.workload.api.client.model.generated.WorkloadLabel
@@ -12,6 +14,7 @@ import io.airbyte.workload.api.client.model.generated.WorkloadPriority
 import io.airbyte.workload.api.client.model.generated.WorkloadType
 import io.airbyte.workload.launcher.client.WorkloadApiClient
 import io.airbyte.workload.launcher.model.toLauncherInput
+import io.airbyte.workload.launcher.pipeline.consumer.WorkloadApiQueuePollerTest.Fixtures.LONG_POLL_WAIT_SECONDS
 import io.airbyte.workload.launcher.pipeline.consumer.WorkloadApiQueuePollerTest.Fixtures.groupId
 import io.airbyte.workload.launcher.pipeline.consumer.WorkloadApiQueuePollerTest.Fixtures.workload1
 import io.airbyte.workload.launcher.pipeline.consumer.WorkloadApiQueuePollerTest.Fixtures.workload2
@@ -156,7 +159,59 @@ class WorkloadApiQueuePollerTest {
     verify(exactly = 3) { workloadApiClient.pollQueue(groupId, priority, pollSizeItems) }
   }
 
+  @Test
+  fun `claims workloads when polling if enabled`() {
+    every { featureFlagClient.boolVariation(WorkloadPollerClaimsWorkloads, any()) } returns true
+    every { workloadApiClient.pollAndClaimQueue(groupId, priority, pollSizeItems) } returns listOf(workload1, workload2)
+
+    StepVerifier
+      .withVirtualTime {
+        poller.initialize(groupId)
+        poller.resumePolling()
+        poller.flux.take(2)
+      }.thenAwait(Duration.ofSeconds(pollIntervalSeconds))
+      .expectNext(workload1.toLauncherInput(claimed = true))
+      .expectNext(workload2.toLauncherInput(claimed = true))
+      .verifyComplete()
+
+    verify(exactly = 1) { workloadApiClient.pollAndClaimQueue(groupId, priority, pollSizeItems) }
+    verify(exactly = 0) { workloadApiClient.pollQueue(any(), any(), any()) }
+  }
+
+  @Test
+  fun `long polls back to back without waiting for the poll interval if enabled`() {
+    every { featureFlagClient.boolVariation(WorkloadPollerUsesLongPoll, any()) } returns true
+    every { workloadApiClient.pollQueue(groupId, priority, pollSizeItems, LONG_POLL_WAIT_SECONDS) } returns
+      listOf(workload1) andThen listOf(workload2, workload3)
+
+    poller =
+      WorkloadApiQueuePoller(
+        workloadApiClient,
+        metricClient,
+        featureFlagClient,
+        pollSizeItems,
+        pollIntervalSeconds,
+        priority,
+        LONG_POLL_WAIT_SECONDS,
+      )
+    poller.initialize(groupId)
+    poller.resumePolling()
+
+    // the poll interval is 5s, so a poll per interval could not get the 3 workloads in time
+    StepVerifier
+      .create(poller.flux.take(3))
+      .expectNext(workload1.toLauncherInput())
+      .expectNext(workload2.toLauncherInput())
+      .expectNext(workload3.toLauncherInput())
+      .expectComplete()
+      .verify(Duration.ofSeconds(pollIntervalSeconds))
+
+    verify(exactly = 0) { workloadApiClient.pollQueue(groupId, priority, pollSizeItems, null) }
+  }
+
   object Fixtures {
+    const val LONG_POLL_WAIT_SECONDS = 30
+
     val groupId = "dataplane-group-1"
 
     val workload1 = workload("workload-1")